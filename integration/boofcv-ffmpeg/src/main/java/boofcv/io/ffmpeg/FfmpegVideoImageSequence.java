@@ -18,27 +18,36 @@
 
 package boofcv.io.ffmpeg;
 
+import boofcv.core.image.GConvertImage;
 import boofcv.io.UtilIO;
 import boofcv.io.image.ConvertBufferedImage;
+import boofcv.io.image.ConvertByteBuffer;
 import boofcv.io.image.SimpleImageSequence;
-import boofcv.struct.image.ImageBase;
-import boofcv.struct.image.ImageType;
+import boofcv.struct.image.*;
 import org.bytedeco.copiedstuff.FFmpegFrameGrabber;
 import org.bytedeco.copiedstuff.Frame;
 import org.bytedeco.copiedstuff.FrameGrabber;
-import org.bytedeco.copiedstuff.Java2DFrameConverter;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
 
 import static org.bytedeco.javacpp.avutil.AV_LOG_ERROR;
 import static org.bytedeco.javacpp.avutil.av_log_set_level;
 
 /**
+ * <p>
  * Uses JavaCV, which uses FFMPEG, to read in a video.
+ * </p>
+ *
+ * <p>
+ * Decoded frames are read directly from the frame's pixel buffer into the BoofCV image, without first being
+ * converted into a {@link BufferedImage}. Images are recycled between frames. A {@link BufferedImage} is only
+ * created if {@link #getGuiImage()} is called.
+ * </p>
  *
  * @author Peter Abeles
  */
@@ -48,22 +57,40 @@ public class FfmpegVideoImageSequence<T extends ImageBase<T>> implements SimpleI
 	FFmpegFrameGrabber frameGrabber;
 	ImageType<T> imageType;
 
-	Java2DFrameConverter converter;
-
 	boolean finished = false;
 
-	BufferedImage current;
-	BufferedImage next;
-	T currentBoof;
+	// The most recent image returned by next() and the frame after it, which is decoded in advance
+	T current;
+	T next;
 	int frameNumber;
 
+	// Number of channels in frames. Gray images are requested from FFMPEG when the output is gray
+	int frameChannels;
+	// Used when the output image type can't be read directly from the frame's buffer
+	ImageBase frameU8;
+
+	// Only converted when requested
+	BufferedImage guiImage;
+	boolean guiImageStale;
+
 	public FfmpegVideoImageSequence(String filename, ImageType<T> imageType ) {
 		// Turn off that super annoying error message!
 		av_log_set_level(AV_LOG_ERROR);
 
 		this.filename = filename;
 		this.imageType = imageType;
-		converter = new Java2DFrameConverter();
+
+		if( imageType.getFamily() == ImageType.Family.GRAY ) {
+			frameChannels = 1;
+			if( imageType.getDataType() != ImageDataType.U8 )
+				frameU8 = new GrayU8(1,1);
+		} else {
+			frameChannels = 3;
+			boolean direct = imageType.getDataType() == ImageDataType.U8 && imageType.getNumBands() == 3;
+			if( !direct )
+				frameU8 = new Planar<>(GrayU8.class,1,1,3);
+		}
+
 		reset();
 		if( finished )
 			throw new RuntimeException("FFMPEG failed to open file. "+filename);
@@ -71,12 +98,12 @@ public class FfmpegVideoImageSequence<T extends ImageBase<T>> implements SimpleI
 
 	@Override
 	public int getWidth() {
-		return next.getWidth();
+		return current.getWidth();
 	}
 
 	@Override
 	public int getHeight() {
-		return next.getHeight();
+		return current.getHeight();
 	}
 
 	@Override
@@ -89,27 +116,74 @@ public class FfmpegVideoImageSequence<T extends ImageBase<T>> implements SimpleI
 		if( finished)
 			return null;
 
-		current.createGraphics().drawImage(next,0,0,null);
+		// the look ahead image becomes the current image and its storage is recycled
+		T tmp = current;
+		current = next;
+		next = tmp;
+		guiImageStale = true;
+
 		try {
-			next = converter.convert(frameGrabber.grab());
-			frameNumber++;
+			if( grabFrame(next) )
+				frameNumber++;
+			else
+				finished = true;
 		} catch (FrameGrabber.Exception e) {
 			finished = true;
 		}
 		if( frameNumber >= frameGrabber.getLengthInFrames() )
 			finished = true;
-		ConvertBufferedImage.convertFrom(current,currentBoof,true);
-		return currentBoof;
+		return current;
+	}
+
+	/**
+	 * Decodes the next video frame and copies it from the frame's pixel buffer into the image.
+	 *
+	 * @return true if a frame was read
+	 */
+	boolean grabFrame( T output ) throws FrameGrabber.Exception {
+		Frame frame = frameGrabber.grabImage();
+		if( frame == null || frame.image == null || frame.image[0] == null )
+			return false;
+
+		ByteBuffer buffer = (ByteBuffer)frame.image[0];
+		output.reshape(frame.imageWidth, frame.imageHeight);
+
+		if( frameU8 == null ) {
+			ConvertByteBuffer.convertFrom(buffer, 0, frame.imageStride, frameChannels, true, output);
+		} else {
+			frameU8.reshape(frame.imageWidth, frame.imageHeight);
+			ConvertByteBuffer.convertFrom(buffer, 0, frame.imageStride, frameChannels, true, frameU8);
+			GConvertImage.convert(frameU8, output);
+		}
+		return true;
 	}
 
 	@Override
 	public T getImage() {
-		return currentBoof;
+		return current;
 	}
 
 	@Override
 	public <InternalImage> InternalImage getGuiImage() {
-		return (InternalImage)current;
+		if( guiImage == null || guiImage.getWidth() != current.width || guiImage.getHeight() != current.height ) {
+			int type = frameChannels == 1 ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB;
+			guiImage = new BufferedImage(current.width, current.height, type);
+			guiImageStale = true;
+		}
+		if( guiImageStale ) {
+			ConvertBufferedImage.convertTo(frameU8 == null ? current : convertedU8(), guiImage, true);
+			guiImageStale = false;
+		}
+		return (InternalImage)guiImage;
+	}
+
+	/**
+	 * The current image as an 8-bit image, used for visualization when the output type isn't 8-bit
+	 */
+	private ImageBase convertedU8() {
+		frameU8.reshape(current.width, current.height);
+		GConvertImage.convert(current, frameU8);
+		return frameU8;
 	}
 
 	@Override
@@ -172,9 +246,12 @@ public class FfmpegVideoImageSequence<T extends ImageBase<T>> implements SimpleI
 		}
 
 		this.frameGrabber = new FFmpegFrameGrabber(filename);
+		// let FFMPEG convert into the format that's closest to the output
+		frameGrabber.setImageMode(frameChannels == 1 ? FrameGrabber.ImageMode.GRAY : FrameGrabber.ImageMode.COLOR);
 		try {
 			frameNumber = 0;
 			finished = false;
+			guiImageStale = true;
 			frameGrabber.start();
 		} catch (FrameGrabber.Exception e) {
 //			e.printStackTrace();
@@ -183,10 +260,16 @@ public class FfmpegVideoImageSequence<T extends ImageBase<T>> implements SimpleI
 		}
 
 		try {
-			Frame frame = frameGrabber.grab();
-			next = converter.convert(frame);
-			current = new BufferedImage(next.getWidth(),next.getHeight(),next.getType());
-			currentBoof = imageType.createImage(next.getWidth(),next.getHeight());
+			if( next == null )
+				next = imageType.createImage(1,1);
+			if( !grabFrame(next) ) {
+				finished = true;
+				return;
+			}
+			if( current == null )
+				current = imageType.createImage(next.width,next.height);
+			else
+				current.reshape(next.width,next.height);
 		} catch (FrameGrabber.Exception e) {
 			finished = true;
 		}
@@ -21,6 +21,7 @@ package boofcv.javacv;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.*;
 
+import javax.annotation.Nullable;
 import java.nio.*;
 
 import static org.bytedeco.javacpp.opencv_core.*;
@@ -114,6 +115,21 @@ public class ConvertIplImage {
 		return output;
 	}
 
+	/**
+	 * Describes the IplImage's memory as an {@link ImageByteBuffer} without copying it. The image must not be
+	 * released while the returned object is in use.
+	 */
+	public static <T extends ImageBase<T>> ImageByteBuffer<T> wrap( IplImage input , @Nullable ImageByteBuffer<T> output ) {
+		ImageDataType dataType = depthToBoofType(input.depth());
+		ImageType<T> type = input.nChannels() == 1 ?
+				(ImageType)ImageType.single(dataType) : (ImageType)ImageType.il(input.nChannels(),dataType);
+
+		if( output == null || !output.getImageType().isSameType(type) )
+			output = new ImageByteBuffer<>(type);
+
+		return output.wrap(input.getByteBuffer(),input.width(),input.height(),0,input.widthStep());
+	}
+
 	private static void convertFrom_G( IplImage input , GrayI8 output ) {
 		ByteBuffer buffer = input.createBuffer();
 
@@ -23,6 +23,7 @@ import boofcv.struct.image.*;
 import org.bytedeco.javacv.Frame;
 import org.ddogleg.struct.GrowQueue_I8;
 
+import javax.annotation.Nullable;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 
@@ -67,4 +68,20 @@ public class ConvertOpenCvFrame {
 		}
 	}
 
+	/**
+	 * Describes an 8-bit frame as an {@link ImageByteBuffer} without copying it. The frame must not be reused by
+	 * the grabber while the returned object is in use.
+	 */
+	public static ImageByteBuffer<?> wrap( Frame input , @Nullable ImageByteBuffer<?> output ) {
+		if( input.imageDepth != Frame.DEPTH_UBYTE || !(input.image[0] instanceof ByteBuffer) )
+			throw new IllegalArgumentException("Only 8-bit frames are supported");
+
+		ImageType<?> type = input.imageChannels == 1 ?
+				ImageType.SB_U8 : ImageType.il(input.imageChannels,InterleavedU8.class);
+
+		if( output == null || !output.getImageType().isSameType(type) )
+			output = new ImageByteBuffer(type);
+
+		return output.wrap((ByteBuffer)input.image[0],input.imageWidth,input.imageHeight,0,input.imageStride);
+	}
 }
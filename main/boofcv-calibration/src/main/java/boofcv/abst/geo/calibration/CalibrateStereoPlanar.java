@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -20,6 +20,7 @@ package boofcv.abst.geo.calibration;
 
 import boofcv.abst.geo.bundle.SceneStructureMetric;
 import boofcv.alg.geo.calibration.CalibrationObservation;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.calib.CameraPinholeBrown;
 import boofcv.struct.calib.StereoParameters;
 import georegression.fitting.se.FitSpecialEuclideanOps_F64;
@@ -30,6 +31,7 @@ import georegression.transform.se.SePointOps_F64;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 /**
  * <p>
@@ -119,8 +121,30 @@ public class CalibrateStereoPlanar {
 	public StereoParameters process() {
 
 		// calibrate left and right cameras
-		CameraPinholeBrown leftParam = calibrateMono(calibLeft,viewLeft);
-		CameraPinholeBrown rightParam = calibrateMono(calibRight,viewRight);
+		CameraPinholeBrown leftParam;
+		CameraPinholeBrown rightParam;
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			// The two cameras are independent of each other and can be calibrated at the same time
+			CameraPinholeBrown[] found = new CameraPinholeBrown[2];
+			try {
+				BoofConcurrency.loopBlocks(0,2,(idx0,idx1)->{
+					for (int i = idx0; i < idx1; i++) {
+						if( i == 0 )
+							found[0] = calibrateMono(calibLeft,viewLeft);
+						else
+							found[1] = calibrateMono(calibRight,viewRight);
+					}
+				});
+			} catch( RuntimeException e ) {
+				throw unwrapFailure(e);
+			}
+			leftParam = found[0];
+			rightParam = found[1];
+		} else {
+			leftParam = calibrateMono(calibLeft,viewLeft);
+			rightParam = calibrateMono(calibRight,viewRight);
+		}
 
 		// fit motion from right to left
 		Se3_F64 rightToLeft = computeRightToLeft();
@@ -128,6 +152,21 @@ public class CalibrateStereoPlanar {
 		return new StereoParameters(leftParam,rightParam,rightToLeft);
 	}
 
+	/**
+	 * The thread pool wraps exceptions inside of an ExecutionException. Extracts the exception thrown by the
+	 * calibration so that the caller sees the same exception as it would when single threaded.
+	 */
+	private static RuntimeException unwrapFailure( RuntimeException e ) {
+		if( !(e.getCause() instanceof ExecutionException) )
+			return e;
+		Throwable cause = e.getCause().getCause();
+		if( cause instanceof RuntimeException )
+			return (RuntimeException)cause;
+		if( cause instanceof Error )
+			throw (Error)cause;
+		return e;
+	}
+
 	/**
 	 * Compute intrinsic calibration for one of the cameras
 	 */
@@ -23,8 +23,10 @@ import boofcv.abst.geo.bundle.SceneObservations;
 import boofcv.abst.geo.bundle.SceneStructureMetric;
 import boofcv.abst.geo.calibration.ImageResults;
 import boofcv.alg.geo.bundle.BundleAdjustmentMetricResidualFunction;
+import boofcv.alg.geo.bundle.BundleAdjustmentMetricResidualFunction_MT;
 import boofcv.alg.geo.bundle.CodecSceneStructureMetric;
 import boofcv.alg.geo.calibration.cameras.Zhang99Camera;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.geo.ConfigBundleAdjustment;
 import boofcv.factory.geo.FactoryMultiView;
 import boofcv.struct.calib.CameraModel;
@@ -32,6 +34,7 @@ import boofcv.struct.geo.PointIndex2D_F64;
 import georegression.struct.point.Point2D_F64;
 import georegression.struct.se.Se3_F64;
 import org.ddogleg.optimization.lm.ConfigLevenbergMarquardt;
+import org.ddogleg.struct.FastQueue;
 import org.ejml.data.DMatrixRMaj;
 
 import java.io.PrintStream;
@@ -74,6 +77,10 @@ public class CalibrationPlanarGridZhang99 {
 	private RadialDistortionEstimateLinear computeRadial;
 	private Zhang99DecomposeHomography decomposeH = new Zhang99DecomposeHomography();
 
+	// Used when homographies are computed and decomposed concurrently. One for each block of images
+	private FastQueue<Zhang99ComputeTargetHomography> computeHomographyWorkers;
+	private FastQueue<Zhang99DecomposeHomography> decomposeWorkers = new FastQueue<>(Zhang99DecomposeHomography::new);
+
 	// contains found parameters
 	public SceneStructureMetric structure;
 	public SceneObservations observations;
@@ -99,6 +106,7 @@ public class CalibrationPlanarGridZhang99 {
 		this.cameraGenerator = cameraGenerator;
 		this.layout = layout;
 		computeHomography = new Zhang99ComputeTargetHomography(layout);
+		computeHomographyWorkers = new FastQueue<>(()->new Zhang99ComputeTargetHomography(layout));
 		computeK = new Zhang99CalibrationMatrixFromHomographies(cameraGenerator.isZeroSkew());
 		computeRadial = new RadialDistortionEstimateLinear(layout,cameraGenerator.numRadial());
 	}
@@ -142,13 +150,18 @@ public class CalibrationPlanarGridZhang99 {
 		List<DMatrixRMaj> homographies = new ArrayList<>();
 		List<Se3_F64> motions = new ArrayList<>();
 
-		for( CalibrationObservation obs : observations ) {
-			if( !computeHomography.computeHomography(obs) )
+		if( BoofConcurrency.isUseConcurrent() ) {
+			if( !computeHomographiesConcurrent(observations, homographies) )
 				return false;
+		} else {
+			for( CalibrationObservation obs : observations ) {
+				if( !computeHomography.computeHomography(obs) )
+					return false;
 
-			DMatrixRMaj H = computeHomography.getHomography();
+				DMatrixRMaj H = computeHomography.getHomography();
 
-			homographies.add(H);
+				homographies.add(H);
+			}
 		}
 
 		status("Estimating Calibration Matrix");
@@ -156,9 +169,13 @@ public class CalibrationPlanarGridZhang99 {
 
 		DMatrixRMaj K = computeK.getCalibrationMatrix();
 
-		decomposeH.setCalibrationMatrix(K);
-		for( DMatrixRMaj H : homographies ) {
-			motions.add(decomposeH.decompose(H));
+		if( BoofConcurrency.isUseConcurrent() ) {
+			decomposeConcurrent(K, homographies, motions);
+		} else {
+			decomposeH.setCalibrationMatrix(K);
+			for( DMatrixRMaj H : homographies ) {
+				motions.add(decomposeH.decompose(H));
+			}
 		}
 
 		status("Estimating Radial Distortion");
@@ -170,6 +187,51 @@ public class CalibrationPlanarGridZhang99 {
 		return true;
 	}
 
+	/**
+	 * Computes the homography for each image using multiple threads. The order of the homographies will
+	 * match the order of the observations.
+	 *
+	 * @return true if a homography was found for every image
+	 */
+	private boolean computeHomographiesConcurrent( List<CalibrationObservation> observations,
+												   List<DMatrixRMaj> homographies ) {
+		final int N = observations.size();
+		final DMatrixRMaj[] found = new DMatrixRMaj[N];
+
+		BoofConcurrency.loopBlocks(0,N,computeHomographyWorkers,(alg,idx0,idx1)->{
+			for (int i = idx0; i < idx1; i++) {
+				if( alg.computeHomography(observations.get(i)) )
+					found[i] = alg.getHomography();
+			}
+		});
+
+		for (int i = 0; i < N; i++) {
+			if( found[i] == null )
+				return false;
+			homographies.add(found[i]);
+		}
+		return true;
+	}
+
+	/**
+	 * Decomposes each homography into a rigid body motion using multiple threads
+	 */
+	private void decomposeConcurrent( DMatrixRMaj K, List<DMatrixRMaj> homographies, List<Se3_F64> motions ) {
+		final int N = homographies.size();
+		final Se3_F64[] found = new Se3_F64[N];
+
+		BoofConcurrency.loopBlocks(0,N,decomposeWorkers,(alg,idx0,idx1)->{
+			alg.setCalibrationMatrix(K);
+			for (int i = idx0; i < idx1; i++) {
+				found[i] = alg.decompose(homographies.get(i));
+			}
+		});
+
+		for (int i = 0; i < N; i++) {
+			motions.add(found[i]);
+		}
+	}
+
 	private void status( String message ) {
 		if( listener != null ) {
 			if( !listener.zhangUpdate(message) )
@@ -251,7 +313,8 @@ public class CalibrationPlanarGridZhang99 {
 		CodecSceneStructureMetric codec = new CodecSceneStructureMetric();
 		codec.encode(structure,parameters);
 
-		BundleAdjustmentMetricResidualFunction function = new BundleAdjustmentMetricResidualFunction();
+		BundleAdjustmentMetricResidualFunction function = BoofConcurrency.isUseConcurrent() ?
+				new BundleAdjustmentMetricResidualFunction_MT() : new BundleAdjustmentMetricResidualFunction();
 		function.configure(structure,observations);
 		function.process(parameters,residuals);
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -20,6 +20,7 @@ package boofcv.abst.geo.calibration;
 
 import boofcv.abst.fiducial.calib.CalibrationDetectorSquareGrid;
 import boofcv.alg.geo.calibration.CalibrationObservation;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.distort.LensDistortionFactory;
 import boofcv.struct.calib.CameraPinholeBrown;
 import boofcv.struct.calib.StereoParameters;
@@ -92,6 +93,49 @@ public class TestCalibrateStereoPlanar {
 		assertTrue(MatrixFeatures_DDRM.isIdentity(rightToLeft.getR(), 2e-3));
 	}
 
+	/**
+	 * The concurrent and single threaded code should produce the same results
+	 */
+	@Test
+	public void compareConcurrentToSingle() {
+		StereoParameters expected, found;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			expected = processStereo();
+			BoofConcurrency.USE_CONCURRENT = true;
+			found = processStereo();
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = true;
+		}
+
+		checkIdentical(expected.left,found.left);
+		checkIdentical(expected.right,found.right);
+		assertEquals(0,expected.getRightToLeft().T.distance(found.getRightToLeft().T),1e-6);
+		assertTrue(MatrixFeatures_DDRM.isIdentical(expected.getRightToLeft().R,found.getRightToLeft().R,1e-6));
+	}
+
+	private StereoParameters processStereo() {
+		CalibrateStereoPlanar alg = new CalibrateStereoPlanar(layout);
+		alg.configure(true, 2, true);
+
+		for (int i = 0; i < targetToLeft.size(); i++) {
+			alg.addPair(createFakeObservations(i,true),createFakeObservations(i,false));
+		}
+
+		return alg.process();
+	}
+
+	private void checkIdentical(CameraPinholeBrown expected , CameraPinholeBrown found) {
+		assertEquals(expected.fx,found.fx,1e-6);
+		assertEquals(expected.fy,found.fy,1e-6);
+		assertEquals(expected.cx,found.cx,1e-6);
+		assertEquals(expected.cy,found.cy,1e-6);
+		assertEquals(expected.radial[0],found.radial[0],1e-6);
+		assertEquals(expected.radial[1],found.radial[1],1e-6);
+		assertEquals(expected.t1,found.t1,1e-6);
+		assertEquals(expected.t2,found.t2,1e-6);
+	}
+
 	private void checkIntrinsic(CameraPinholeBrown found) {
 		assertEquals(intrinsic.fx,found.fx,intrinsic.width*1e-3);
 		assertEquals(intrinsic.fy,found.fy,intrinsic.width*1e-3);
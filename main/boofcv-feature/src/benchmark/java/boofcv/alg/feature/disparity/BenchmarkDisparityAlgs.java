@@ -1,140 +1,118 @@
-///*
-// * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
-// *
-// * This file is part of BoofCV (http://boofcv.org).
-// *
-// * Licensed under the Apache License, Version 2.0 (the "License");
-// * you may not use this file except in compliance with the License.
-// * You may obtain a copy of the License at
-// *
-// *   http://www.apache.org/licenses/LICENSE-2.0
-// *
-// * Unless required by applicable law or agreed to in writing, software
-// * distributed under the License is distributed on an "AS IS" BASIS,
-// * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
-// * See the License for the specific language governing permissions and
-// * limitations under the License.
-// */
-//
-//package boofcv.alg.feature.disparity;
-//
-//import boofcv.alg.feature.disparity.impl.*;
-//import boofcv.alg.misc.GImageMiscOps;
-//import boofcv.core.image.GConvertImage;
-//import boofcv.misc.PerformerBase;
-//import boofcv.misc.ProfileOperation;
-//import boofcv.struct.image.GrayF32;
-//import boofcv.struct.image.GrayU8;
-//
-//import java.util.Random;
-//
-///**
-// * @author Peter Abeles
-// */
-//public class BenchmarkDisparityAlgs {
-//	static final long TEST_TIME = 1000;
-//	static final Random rand = new Random(234234);
-//
-//	static final int width=640;
-//	static final int height=480;
-//	static final int min=0;
-//	static final int max=20;
-//	static final int radiusX=2;
-//	static final int radiusY=2;
-//
-//	static final GrayU8 left = new GrayU8(width,height);
-//	static final GrayU8 right = new GrayU8(width,height);
-//
-//	static final GrayF32 left_F32 = new GrayF32(width,height);
-//	static final GrayF32 right_F32 = new GrayF32(width,height);
-//
-//	static final GrayU8 outU8 = new GrayU8(width,height);
-//	static final GrayF32 out_F32 = new GrayF32(width,height);
-//
-//	public static class Naive extends PerformerBase {
-//
-//		StereoDisparityWtoNaive<GrayU8> alg =
-//				new StereoDisparityWtoNaive<>(0, max, radiusX, radiusY);
-//
-//		@Override
-//		public void process() {
-//			alg.process(left,right,out_F32);
-//		}
-//	}
-//
-//	public static class EfficientSad_U8 extends PerformerBase {
-//
-////		DisparitySelect<int[],GrayU8> compDisp =
-////				new ImplSelectRectBasicWta_S32_U8();
-//		DisparitySelect<int[],GrayU8> compDisp =
-//				new ImplSelectRectStandard_S32_U8(250,2,0.1);
-//		ImplDisparityScoreBM_S32<GrayU8> alg =
-//				new ImplDisparityScoreBM_S32<>(min,max,radiusX,radiusY,compDisp);
-//
-//		@Override
-//		public void process() {
-//			alg.process(left,right, outU8);
-//		}
-//	}
-//
-//	public static class EfficientSad_F32 extends PerformerBase {
-//
-//		//		DisparitySelect<int[],GrayU8> compDisp =
-////				new ImplSelectRectBasicWta_S32_U8();
-//		DisparitySelect<float[],GrayU8> compDisp =
-//				new ImplSelectRectStandard_F32_U8(250,2,0.1);
-//		ImplDisparityScoreBM_F32<GrayU8> alg =
-//				new ImplDisparityScoreBM_F32<>(min,max,radiusX,radiusY,compDisp);
-//
-//		@Override
-//		public void process() {
-//			alg.process(left_F32,right_F32, outU8);
-//		}
-//	}
-//
-//	public static class EfficientSubpixelSad extends PerformerBase {
-//
-//		DisparitySelect<int[],GrayF32> compDisp =
-//				new SelectRectSubpixel.S32_F32(250,2,0.1);
-//		ImplDisparityScoreBM_S32<GrayF32> alg =
-//				new ImplDisparityScoreBM_S32<>(min,max,radiusX,radiusY,compDisp);
-//
-//		@Override
-//		public void process() {
-//			alg.process(left,right, out_F32);
-//		}
-//	}
-//
-//	public static class EfficientSadFive_U8 extends PerformerBase {
-//
-//		//		DisparitySelect<int[],GrayU8> compDisp =
-////				new ImplSelectRectBasicWta_S32_U8();
-//		DisparitySelect<int[],GrayU8> compDisp =
-//				new ImplSelectRectStandard_S32_U8(250,2,0.1);
-//		ImplDisparityScoreBMBestFive_SAD_U8<GrayU8> alg =
-//				new ImplDisparityScoreBMBestFive_SAD_U8<>(min,max,radiusX,radiusY,compDisp);
-//
-//		@Override
-//		public void process() {
-//			alg.process(left,right, outU8);
-//		}
-//	}
-//
-//	public static void main( String argsp[ ] ) {
-//		System.out.println("=========  Image Size "+ width +" "+height+"  disparity "+max);
-//		System.out.println();
-//
-//		GImageMiscOps.fillUniform(left, rand, 0, 30);
-//		GImageMiscOps.fillUniform(right, rand, 0, 30);
-//		GConvertImage.convert(left, left_F32);
-//		GConvertImage.convert(right,right_F32);
-//
-//		// the "fastest" seems to always be the first one tested
-//		ProfileOperation.printOpsPerSec(new EfficientSad_U8(),TEST_TIME);
-//		ProfileOperation.printOpsPerSec(new EfficientSadFive_U8(),TEST_TIME);
-//		ProfileOperation.printOpsPerSec(new EfficientSad_F32(),TEST_TIME);
-//		ProfileOperation.printOpsPerSec(new EfficientSubpixelSad(),TEST_TIME);
-//		ProfileOperation.printOpsPerSec(new Naive(), TEST_TIME);
-//
-//	}
-//}
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.abst.feature.disparity.StereoDisparity;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.disparity.*;
+import boofcv.factory.transform.census.CensusVariants;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks dense stereo disparity algorithms. The different census variants are included since they
+ * are encoded using different image types.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkDisparityAlgs {
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	// 8-bit, 32-bit, and 64-bit census descriptors
+	@Param({"BLOCK_3_3","BLOCK_5_5","BLOCK_7_7"})
+	public String censusVariant;
+
+	static final int width=640;
+	static final int height=480;
+	static final int disparityRange=60;
+
+	GrayU8 left = new GrayU8(width,height);
+	GrayU8 right = new GrayU8(width,height);
+
+	StereoDisparity<GrayU8,GrayU8> blockSad;
+	StereoDisparity<GrayU8,GrayU8> blockCensus;
+	StereoDisparity<GrayU8,GrayU8> sgmCensus;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		Random rand = new Random(234);
+		ImageMiscOps.fillUniform(left, rand, 0, 200);
+		ImageMiscOps.copy(10,0,0,0,width-10,height,left,right);
+
+		CensusVariants variant = CensusVariants.valueOf(censusVariant);
+
+		ConfigDisparityBM configBM = new ConfigDisparityBM();
+		configBM.disparityRange = disparityRange;
+		configBM.subpixel = false;
+		configBM.errorType = DisparityError.SAD;
+		blockSad = FactoryStereoDisparity.blockMatch(configBM, GrayU8.class, GrayU8.class);
+
+		configBM.errorType = DisparityError.CENSUS;
+		configBM.configCensus.variant = variant;
+		blockCensus = FactoryStereoDisparity.blockMatch(configBM, GrayU8.class, GrayU8.class);
+
+		ConfigDisparitySGM configSGM = new ConfigDisparitySGM();
+		configSGM.disparityRange = disparityRange;
+		configSGM.subpixel = false;
+		configSGM.errorType = DisparitySgmError.CENSUS;
+		configSGM.configCensus.variant = variant;
+		sgmCensus = FactoryStereoDisparity.sgm(configSGM, GrayU8.class, GrayU8.class);
+	}
+
+	@Benchmark
+	public void blockMatchSad() {
+		blockSad.process(left,right);
+	}
+
+	@Benchmark
+	public void blockMatchCensus() {
+		blockCensus.process(left,right);
+	}
+
+	@Benchmark
+	public void sgmCensus() {
+		sgmCensus.process(left,right);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkDisparityAlgs.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
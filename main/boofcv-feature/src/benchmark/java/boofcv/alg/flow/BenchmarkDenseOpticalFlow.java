@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.flow;
+
+import boofcv.abst.flow.DenseOpticalFlow;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.flow.FactoryDenseOpticalFlow;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks dense optical flow algorithms
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkDenseOpticalFlow {
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"640"})
+	public int width;
+
+	GrayF32 image1 = new GrayF32(1,1);
+	GrayF32 image2 = new GrayF32(1,1);
+	ImageFlow flow = new ImageFlow(1,1);
+
+	DenseOpticalFlow<GrayF32> hornSchunck;
+	DenseOpticalFlow<GrayF32> hornSchunckPyramid;
+	DenseOpticalFlow<GrayF32> brox;
+	DenseOpticalFlow<GrayF32> klt;
+	DenseOpticalFlow<GrayF32> region;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		int height = width*3/4;
+		Random rand = new Random(234);
+
+		image1.reshape(width,height);
+		image2.reshape(width,height);
+		flow.reshape(width,height);
+
+		// textured image which has been shifted by a few pixels
+		ImageMiscOps.fillUniform(image1,rand,0,200);
+		ImageMiscOps.fill(image2,0);
+		ImageMiscOps.copy(0,0,3,2,width-3,height-2,image1,image2);
+
+		hornSchunck = FactoryDenseOpticalFlow.hornSchunck(null, GrayF32.class);
+		hornSchunckPyramid = FactoryDenseOpticalFlow.hornSchunckPyramid(null, GrayF32.class);
+		brox = FactoryDenseOpticalFlow.broxWarping(null, GrayF32.class);
+		klt = FactoryDenseOpticalFlow.flowKlt(null, 6, GrayF32.class, null);
+		region = FactoryDenseOpticalFlow.region(null, GrayF32.class);
+	}
+
+	@Benchmark
+	public void hornSchunck() {
+		hornSchunck.process(image1,image2,flow);
+	}
+
+	@Benchmark
+	public void hornSchunckPyramid() {
+		hornSchunckPyramid.process(image1,image2,flow);
+	}
+
+	@Benchmark
+	public void broxWarping() {
+		brox.process(image1,image2,flow);
+	}
+
+	@Benchmark
+	public void klt() {
+		klt.process(image1,image2,flow);
+	}
+
+	@Benchmark
+	public void region() {
+		region.process(image1,image2,flow);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkDenseOpticalFlow.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -93,7 +93,7 @@ public class GenerateGradientToEdgeFeatures extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(derivX,derivY);\n" +
 				"\t\tintensity.reshape(derivX.width,derivX.height);\n" +
 				"\n" +
-				"\t\tif(BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif(BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplGradientToEdgeFeatures_MT.intensityE(derivX,derivY,intensity);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplGradientToEdgeFeatures.intensityE(derivX,derivY,intensity);\n" +
@@ -112,7 +112,7 @@ public class GenerateGradientToEdgeFeatures extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(derivX,derivY);\n" +
 				"\t\tintensity.reshape(derivX.width,derivX.height);\n" +
 				"\n" +
-				"\t\tif(BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif(BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplGradientToEdgeFeatures_MT.intensityAbs(derivX,derivY,intensity);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplGradientToEdgeFeatures.intensityAbs(derivX,derivY,intensity);\n" +
@@ -131,7 +131,7 @@ public class GenerateGradientToEdgeFeatures extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(derivX,derivY);\n" +
 				"\t\tangle.reshape(derivX.width,derivX.height);\n" +
 				"\n" +
-				"\t\tif(BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif(BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplGradientToEdgeFeatures_MT.direction(derivX,derivY,angle);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplGradientToEdgeFeatures.direction(derivX,derivY,angle);\n" +
@@ -150,7 +150,7 @@ public class GenerateGradientToEdgeFeatures extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(derivX,derivY);\n" +
 				"\t\tangle.reshape(derivX.width,derivX.height);\n" +
 				"\n" +
-				"\t\tif(BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif(BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplGradientToEdgeFeatures_MT.direction2(derivX,derivY,angle);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplGradientToEdgeFeatures.direction2(derivX,derivY,angle);\n" +
@@ -175,7 +175,7 @@ public class GenerateGradientToEdgeFeatures extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(intensity,derivX,derivY);\n" +
 				"\t\toutput = InputSanityCheck.checkDeclare(intensity,output);\n" +
 				"\n" +
-				"\t\tif(BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif(BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplEdgeNonMaxSuppressionCrude_MT.inner4(intensity, derivX, derivY, output);\n" +
 				"\t\t\tImplEdgeNonMaxSuppressionCrude_MT.border4(intensity, derivX, derivY, output);\n" +
 				"\t\t} else {\n" +
@@ -291,7 +291,7 @@ public class GenerateGradientToEdgeFeatures extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(intensity,direction);\n" +
 				"\t\toutput = InputSanityCheck.checkDeclare(intensity,output);\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplEdgeNonMaxSuppression_MT.inner4(intensity, direction, output);\n" +
 				"\t\t\tImplEdgeNonMaxSuppression_MT.border4(intensity, direction, output);\n" +
 				"\t\t} else {\n" +
@@ -318,7 +318,7 @@ public class GenerateGradientToEdgeFeatures extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(intensity,direction);\n" +
 				"\t\toutput = InputSanityCheck.checkDeclare(intensity,output);\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplEdgeNonMaxSuppression_MT.inner8(intensity, direction, output);\n" +
 				"\t\t\tImplEdgeNonMaxSuppression_MT.border8(intensity, direction, output);\n" +
 				"\t\t} else {\n" +
@@ -21,6 +21,7 @@ package boofcv.abst.feature.detdesc;
 import boofcv.abst.feature.describe.DescribeRegionPoint;
 import boofcv.abst.feature.detect.interest.InterestPointDetector;
 import boofcv.abst.feature.orientation.OrientationImage;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageGray;
 import georegression.struct.point.Point2D_F64;
@@ -57,6 +58,10 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 	private GrowQueue_F64 featureAngles = new GrowQueue_F64(10);
 	private FastArray<Point2D_F64> location = new FastArray<>(Point2D_F64.class);
 
+	// orientation and description are interleaved per feature, so they are timed as one stage
+	private StageProfiler profiler = StageProfiler.NONE;
+	private int stageDetect, stageDescribe;
+
 	/**
 	 * Configures the algorithm.
 	 *
@@ -97,13 +102,15 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 		featureAngles.reset();
 		location.reset();
 
+		long time = profiler.start();
+		detector.detect(input);
+		time = profiler.lap(stageDetect,time);
+
 		if( orientation != null ) {
 			orientation.setImage(input);
 		}
 		describe.setImage(input);
 
-		detector.detect(input);
-
 		int N = detector.getNumberOfFeatures();
 
 		for( int i = 0; i < N; i++ ) {
@@ -124,6 +131,14 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 				descs.removeTail();
 			}
 		}
+		profiler.lap(stageDescribe,time);
+	}
+
+	@Override
+	public void setStageProfiler( StageProfiler profiler ) {
+		this.profiler = profiler;
+		stageDetect = profiler.stage("detect");
+		stageDescribe = profiler.stage("describe");
 	}
 
 	@Override
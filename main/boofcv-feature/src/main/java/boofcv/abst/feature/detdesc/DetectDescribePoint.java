@@ -20,6 +20,7 @@ package boofcv.abst.feature.detdesc;
 
 import boofcv.abst.feature.describe.DescriptorInfo;
 import boofcv.abst.feature.detect.interest.InterestPointDetector;
+import boofcv.misc.ProfileStages;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageBase;
 
@@ -30,7 +31,7 @@ import boofcv.struct.image.ImageBase;
  * @author Peter Abeles
  */
 public interface DetectDescribePoint<T extends ImageBase<T>, Desc extends TupleDesc>
-		extends InterestPointDetector<T>, DescriptorInfo<Desc>
+		extends InterestPointDetector<T>, DescriptorInfo<Desc>, ProfileStages
 {
 	/**
 	 * <p>Returns the feature descriptor at the specified index.</p>
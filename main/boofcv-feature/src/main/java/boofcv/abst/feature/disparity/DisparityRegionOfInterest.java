@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.disparity;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.ImageRectangle;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImageType;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Computes the disparity only inside of the specified regions of interest (ROI) by wrapping another
+ * {@link StereoDisparity}. This is useful when only a band of rows or a few boxes inside of the image
+ * are needed, since the computational cost will then scale with the area of the ROI and not the whole image.
+ * If no regions are specified then the entire image is processed.
+ * </p>
+ *
+ * <p>
+ * For each region, a crop of the left and right images is processed. The crop is expanded so that every
+ * pixel inside the ROI sees the same set of disparities. It's also expanded by the user specified margin.
+ * For block matching the margin should be the block's radius plus the radius of any image transform, e.g. census,
+ * and the output will then be identical to processing the whole image. For SGM the margin should be large
+ * enough for the path costs to converge, and the results will be approximately the same. All pixels outside
+ * of the regions are marked as invalid.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DisparityRegionOfInterest<Image extends ImageBase<Image>, DI extends ImageGray<DI>>
+		implements StereoDisparity<Image, DI>
+{
+	// Algorithm which computes the disparity
+	StereoDisparity<Image, DI> alg;
+
+	// Margin around each region along the x and y axis
+	int marginX, marginY;
+
+	// Regions which the disparity will be computed inside of
+	FastQueue<ImageRectangle> regions = new FastQueue<>(ImageRectangle::new);
+
+	// Storage for the cropped input images
+	Image cropLeft, cropRight;
+
+	// Storage for the output disparity when ROI are used
+	DI disparity;
+	// Which image contains the most recently computed disparity
+	DI output;
+
+	/**
+	 * Specifies the algorithm and margins
+	 *
+	 * @param alg Algorithm which computes the disparity
+	 * @param marginX Number of pixels the crop around each ROI is expanded by along x-axis, e.g. block radius
+	 * @param marginY Number of pixels the crop around each ROI is expanded by along y-axis, e.g. block radius
+	 */
+	public DisparityRegionOfInterest(StereoDisparity<Image, DI> alg, int marginX, int marginY) {
+		this.alg = alg;
+		this.marginX = marginX;
+		this.marginY = marginY;
+
+		cropLeft = alg.getInputType().createImage(1,1);
+		cropRight = alg.getInputType().createImage(1,1);
+		disparity = GeneralizedImageOps.createSingleBand(alg.getDisparityType(),1,1);
+	}
+
+	/**
+	 * Adds a region to the list of regions which the disparity will be computed inside of
+	 *
+	 * @param x0 lower extent, x-axis, inclusive
+	 * @param y0 lower extent, y-axis, inclusive
+	 * @param x1 upper extent, x-axis, exclusive
+	 * @param y1 upper extent, y-axis, exclusive
+	 */
+	public void addRegion( int x0 , int y0 , int x1 , int y1 ) {
+		regions.grow().set(x0,y0,x1,y1);
+	}
+
+	/**
+	 * Removes all regions. The entire image will be processed.
+	 */
+	public void clearRegions() {
+		regions.reset();
+	}
+
+	@Override
+	public void process(Image imageLeft, Image imageRight) {
+		if( regions.size == 0 ) {
+			alg.process(imageLeft, imageRight);
+			output = alg.getDisparity();
+			return;
+		}
+
+		disparity.reshape(imageLeft.width, imageLeft.height);
+		GImageMiscOps.fill(disparity, alg.getInvalidValue());
+		output = disparity;
+
+		// Pixels inside the crop need to be able to see every disparity value in both directions
+		// for left to right validation
+		int maxDisparity = alg.getDisparityMin() + alg.getDisparityRange();
+		int expandX = maxDisparity + marginX;
+
+		for (int i = 0; i < regions.size; i++) {
+			ImageRectangle r = regions.get(i);
+
+			// Region of interest which is inside the image
+			int roiX0 = Math.max(0, r.x0), roiX1 = Math.min(imageLeft.width, r.x1);
+			int roiY0 = Math.max(0, r.y0), roiY1 = Math.min(imageLeft.height, r.y1);
+			if( roiX0 >= roiX1 || roiY0 >= roiY1 )
+				continue;
+
+			// Region which is cropped
+			int cropX0 = Math.max(0, roiX0 - expandX), cropX1 = Math.min(imageLeft.width, roiX1 + expandX);
+			int cropY0 = Math.max(0, roiY0 - marginY), cropY1 = Math.min(imageLeft.height, roiY1 + marginY);
+			int cropWidth = cropX1 - cropX0;
+			int cropHeight = cropY1 - cropY0;
+
+			cropLeft.reshape(cropWidth, cropHeight);
+			cropRight.reshape(cropWidth, cropHeight);
+			GImageMiscOps.copy(cropX0, cropY0, 0, 0, cropWidth, cropHeight, imageLeft, cropLeft);
+			GImageMiscOps.copy(cropX0, cropY0, 0, 0, cropWidth, cropHeight, imageRight, cropRight);
+
+			alg.process(cropLeft, cropRight);
+
+			GImageMiscOps.copy(roiX0 - cropX0, roiY0 - cropY0, roiX0, roiY0,
+					roiX1 - roiX0, roiY1 - roiY0, alg.getDisparity(), disparity);
+		}
+	}
+
+	@Override
+	public DI getDisparity() {
+		return output;
+	}
+
+	@Override
+	public int getDisparityMin() {
+		return alg.getDisparityMin();
+	}
+
+	@Override
+	public int getDisparityRange() {
+		return alg.getDisparityRange();
+	}
+
+	@Override
+	public int getInvalidValue() {
+		return alg.getInvalidValue();
+	}
+
+	@Override
+	public int getBorderX() {
+		return alg.getBorderX();
+	}
+
+	@Override
+	public int getBorderY() {
+		return alg.getBorderY();
+	}
+
+	@Override
+	public ImageType<Image> getInputType() {
+		return alg.getInputType();
+	}
+
+	@Override
+	public Class<DI> getDisparityType() {
+		return alg.getDisparityType();
+	}
+
+	public FastQueue<ImageRectangle> getRegions() {
+		return regions;
+	}
+
+	public StereoDisparity<Image, DI> getAlgorithm() {
+		return alg;
+	}
+}
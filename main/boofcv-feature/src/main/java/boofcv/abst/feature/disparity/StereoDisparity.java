@@ -18,6 +18,7 @@
 
 package boofcv.abst.feature.disparity;
 
+import boofcv.misc.ProfileStages;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
@@ -42,7 +43,9 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public interface StereoDisparity<Image extends ImageBase<Image>, Disparity extends ImageGray<Disparity>> {
+public interface StereoDisparity<Image extends ImageBase<Image>, Disparity extends ImageGray<Disparity>>
+		extends ProfileStages
+{
 
 	/**
 	 * Computes stereo disparity.
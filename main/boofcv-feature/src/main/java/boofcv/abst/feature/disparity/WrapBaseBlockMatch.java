@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -21,6 +21,7 @@ package boofcv.abst.feature.disparity;
 import boofcv.alg.feature.disparity.DisparityBlockMatchRowFormat;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.core.image.GeneralizedImageOps;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.image.ImageGray;
 
 /**
@@ -35,6 +36,9 @@ public abstract class WrapBaseBlockMatch <In extends ImageGray<In>, T extends Im
 
 	DI disparity;
 
+	StageProfiler profiler = StageProfiler.NONE;
+	int stageDisparity;
+
 	public WrapBaseBlockMatch(DisparityBlockMatchRowFormat<T,DI> alg) {
 		this.alg = alg;
 	}
@@ -42,15 +46,26 @@ public abstract class WrapBaseBlockMatch <In extends ImageGray<In>, T extends Im
 	@Override
 	public void process(In imageLeft, In imageRight) {
 		if( disparity == null || disparity.width != imageLeft.width || disparity.height != imageLeft.height )  {
-			// make sure the image borders are marked as invalid
-			disparity = GeneralizedImageOps.createSingleBand(alg.getDisparityType(),imageLeft.width,imageLeft.height);
+			// make sure the image borders are marked as invalid. Memory is recycled if the shape changes,
+			// which happens when processing regions of interest
+			if( disparity == null )
+				disparity = GeneralizedImageOps.createSingleBand(alg.getDisparityType(),imageLeft.width,imageLeft.height);
+			else
+				disparity.reshape(imageLeft.width,imageLeft.height);
 			GImageMiscOps.fill(disparity, getInvalidValue() );
 			// TODO move this outside and run it every time. Need to fill border
 			//      left border will be radius + min disparity
 		}
 
-		disparity.reshape(imageLeft);
+		long time = profiler.start();
 		_process(imageLeft,imageRight);
+		profiler.lap(stageDisparity,time);
+	}
+
+	@Override
+	public void setStageProfiler( StageProfiler profiler ) {
+		this.profiler = profiler;
+		stageDisparity = profiler.stage("disparity.block");
 	}
 
 	protected abstract void _process(In imageLeft, In imageRight );
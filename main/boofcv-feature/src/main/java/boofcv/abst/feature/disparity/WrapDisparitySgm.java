@@ -19,6 +19,7 @@
 package boofcv.abst.feature.disparity;
 
 import boofcv.alg.feature.disparity.sgm.SgmStereoDisparity;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
@@ -29,6 +30,9 @@ public class WrapDisparitySgm<DI extends ImageGray<DI>> implements StereoDispari
 	SgmStereoDisparity<GrayU8,?> sgm;
 	GrayF32 subpixel;
 
+	StageProfiler profiler = StageProfiler.NONE;
+	int stageCost, stageSubpixel;
+
 	public WrapDisparitySgm( SgmStereoDisparity<GrayU8,?> sgm, boolean subPixel) {
 		this.sgm = sgm;
 		this.subpixel = subPixel ? new GrayF32(1,1) : null;
@@ -36,12 +40,22 @@ public class WrapDisparitySgm<DI extends ImageGray<DI>> implements StereoDispari
 
 	@Override
 	public void process(GrayU8 imageLeft, GrayU8 imageRight) {
+		long time = profiler.start();
 		sgm.process(imageLeft,imageRight);
+		time = profiler.lap(stageCost,time);
 		if( subpixel != null ) {
 			sgm.subpixel(sgm.getDisparity(), subpixel);
+			profiler.lap(stageSubpixel,time);
 		}
 	}
 
+	@Override
+	public void setStageProfiler( StageProfiler profiler ) {
+		this.profiler = profiler;
+		stageCost = profiler.stage("disparity.sgm");
+		stageSubpixel = profiler.stage("disparity.subpixel");
+	}
+
 	@Override
 	public DI getDisparity() {
 		if( subpixel != null ) {
@@ -83,7 +97,7 @@ public class WrapDisparitySgm<DI extends ImageGray<DI>> implements StereoDispari
 
 	@Override
 	public Class<DI> getDisparityType() {
-		return (Class)(subpixel == null ? GrayF32.class : GrayU8.class);
+		return (Class)(subpixel == null ? GrayU8.class : GrayF32.class);
 	}
 
 	public SgmStereoDisparity<GrayU8,?> getAlgorithm() {
@@ -18,6 +18,7 @@
 
 package boofcv.abst.tracker;
 
+import boofcv.misc.ProfileStages;
 import boofcv.struct.image.ImageBase;
 
 import java.util.List;
@@ -57,7 +58,7 @@ import java.util.List;
  *
  * @author Peter Abeles
  */
-public interface PointTracker<T extends ImageBase<T>> {
+public interface PointTracker<T extends ImageBase<T>> extends ProfileStages {
 
 	/**
 	 * Process input image and perform tracking.
@@ -24,6 +24,7 @@ import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.PruneCloseTracks;
 import boofcv.alg.tracker.klt.*;
 import boofcv.alg.transform.pyramid.PyramidOps;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
@@ -90,6 +91,10 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 	PruneCloseTracks<PyramidKltFeature> pruneClose;
 	List<PyramidKltFeature> closeDropped = new ArrayList<>();
 
+	// Profiling of internal stages
+	StageProfiler profiler = StageProfiler.NONE;
+	int stagePyramid, stageTrack, stageSpawn;
+
 	/**
 	 * Constructor which specified the KLT track manager and how the image pyramids are computed.
 	 *  @param config KLT tracker configuration
@@ -203,6 +208,7 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 
 	@Override
 	public void spawnTracks() {
+		long time = profiler.start();
 		spawned.clear();
 
 		tracker.setImage(currPyr.basePyramid,currPyr.derivX,currPyr.derivY);
@@ -254,6 +260,7 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 				unused.add(t);
 			}
 		}
+		profiler.lap(stageSpawn,time);
 	}
 
 	/**
@@ -287,7 +294,9 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		dropped.clear();
 
 		// update image pyramids
+		long time = profiler.start();
 		currPyr.update(image);
+		time = profiler.lap(stagePyramid,time);
 
 		// track features
 		tracker.setImage(currPyr.basePyramid,currPyr.derivX,currPyr.derivY);
@@ -326,6 +335,15 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		if( pruneClose != null ) {
 			pruneCloseTracks();
 		}
+		profiler.lap(stageTrack,time);
+	}
+
+	@Override
+	public void setStageProfiler( StageProfiler profiler ) {
+		this.profiler = profiler;
+		stagePyramid = profiler.stage("klt.pyramid");
+		stageTrack = profiler.stage("klt.track");
+		stageSpawn = profiler.stage("klt.spawn");
 	}
 
 	/**
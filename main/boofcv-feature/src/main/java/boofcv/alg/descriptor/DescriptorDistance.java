@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -205,21 +205,20 @@ public class DescriptorDistance {
 	/**
 	 * <p>Computes the hamming distance.  A bit = 0 is a match and 1 is not match<p>
 	 *
-	 * Based on code snippet from <a href="http://graphics.stanford.edu/~seander/bithacks.html">Sean Eron Anderson Bit Twiddling Hacks</a>.
+	 * Uses {@link Integer#bitCount(int)}, which the JVM replaces with a popcount instruction on hardware that
+	 * supports it.
 	 *
 	 * @param val Hamming encoding
 	 * @return The hamming distance
 	 */
 	public static int hamming( int val ) {
-		int c;
-		int v = val;
-		v = v - ((v >> 1) & 0x55555555);
-		v = (v & 0x33333333) + ((v >> 2) & 0x33333333);
-		c = ((v + (v >> 4) & 0xF0F0F0F) * 0x1010101) >> 24;
-		return c;
+		return Integer.bitCount(val);
 	}
 
+	/**
+	 * Computes the hamming distance for a 64-bit encoding. See {@link #hamming(int)}.
+	 */
 	public static int hamming( long val ) {
-		return hamming((int)val) + hamming((int)(val>>32));
+		return Long.bitCount(val);
 	}
 }
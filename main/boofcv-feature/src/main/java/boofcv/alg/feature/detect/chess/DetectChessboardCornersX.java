@@ -21,20 +21,18 @@ package boofcv.alg.feature.detect.chess;
 import boofcv.abst.feature.detect.extract.ConfigExtract;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.feature.detect.peak.SearchLocalPeak;
-import boofcv.abst.filter.blur.BlurFilter;
 import boofcv.alg.feature.detect.intensity.XCornerAbeles2019Intensity;
 import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
-import boofcv.alg.filter.convolve.ConvolveImageMean;
+import boofcv.alg.filter.convolve.ConvolveImageNormalized;
 import boofcv.alg.interpolate.ImageLineIntegral;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.ImageStatistics;
-import boofcv.concurrency.FWorkArrays;
 import boofcv.core.image.FactoryGImageGray;
 import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.factory.feature.detect.peak.ConfigMeanShiftSearch;
 import boofcv.factory.feature.detect.peak.FactorySearchLocalPeak;
-import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.misc.DiscretizedCircle;
@@ -42,6 +40,7 @@ import boofcv.struct.QueueCorner;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.border.ImageBorder;
 import boofcv.struct.border.ImageBorder_F32;
+import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_F64;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageType;
@@ -106,7 +105,9 @@ public class DetectChessboardCornersX {
 	float nonmaxThreshold;
 
 	@Getter GrayF32 blurred = new GrayF32(1,1);
-	BlurFilter<GrayF32> blurFilter;
+	// Kernels are declared once so that no memory is allocated when an image is processed
+	Kernel1D_F32 kernelBlur;
+	Kernel1D_F32 kernelMean = FactoryKernel.table1D_F32(0,2,true);
 
 	SearchLocalPeak<GrayF32> meanShift;
 
@@ -158,7 +159,6 @@ public class DetectChessboardCornersX {
 
 	// Workspace
 	GrayF32 tmp = new GrayF32(1,1);
-	FWorkArrays fwork = new FWorkArrays();
 
 
 	/**
@@ -175,7 +175,7 @@ public class DetectChessboardCornersX {
 			nonmax = FactoryFeatureExtractor.nonmax(config);
 		}
 
-		blurFilter = FactoryBlurFilter.gaussian(ImageType.SB_F32,-1,blurRadius);
+		kernelBlur = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,blurRadius);
 
 		// just give it something. this will be changed later
 		borderInput.setImage(new GrayF32(1,1));
@@ -210,12 +210,13 @@ public class DetectChessboardCornersX {
 		inputInterp.setImage(input);
 
 		// The x-corner detector requires a little bit of blur to be applied ot the input image
-		blurFilter.process(input,blurred);
+		ConvolveImageNormalized.horizontal(kernelBlur,input,tmp);
+		ConvolveImageNormalized.vertical(kernelBlur,tmp,blurred);
 		XCornerAbeles2019Intensity.process(blurred, intensityRaw);
 		// x-corner intensity is results in a symmetric 2x2 region under ideal conditions. Applying a 2x2 mean filter
 		// breaks the symmetry. There will be a single unique optimal value, but it will be biased by 0.5 of a pixel.
-		ConvolveImageMean.horizontal(intensityRaw,tmp,0,2);
-		ConvolveImageMean.vertical(tmp,intensity2x2,0,2,fwork);
+		ConvolveImageNormalized.horizontal(kernelMean,intensityRaw,tmp);
+		ConvolveImageNormalized.vertical(kernelMean,tmp,intensity2x2);
 
 		// NOTE: There's a small improvement if raw is used after detection. That's why everything is so funky
 		//       the small performance improvement might be a result of over fitting to test set
@@ -48,6 +48,8 @@ public class DetectChessboardCornersXPyramid<T extends ImageGray<T>> {
 
 	// List of layers in the pyramid
 	List<GrayF32> pyramid = new ArrayList<>();
+	// Storage for pyramid layers. Layers are recycled when the number of layers changes
+	List<GrayF32> layerStorage = new ArrayList<>();
 
 	// search radius when checking to see if the same feature has been detected at multiple scales
 	int radius = 7;
@@ -65,6 +67,8 @@ public class DetectChessboardCornersXPyramid<T extends ImageGray<T>> {
 	NearestNeighbor<ChessboardCorner> nn = FactoryNearestNeighbor.kdtree(new ChessboardCornerDistance());
 	NearestNeighbor.Search<ChessboardCorner> nnSearch = nn.createSearch();
 	FastQueue<NnData<ChessboardCorner>> nnResults = new FastQueue(NnData::new);
+	// Used to pass corners to the NN search without creating a new list
+	List<ChessboardCorner> nnPoints = new ArrayList<>();
 
 	ImageType<T> imageType;
 
@@ -159,7 +163,11 @@ public class DetectChessboardCornersXPyramid<T extends ImageGray<T>> {
 	}
 
 	void markSeenAsFalse(FastQueue<ChessboardCorner> corners0 , FastQueue<ChessboardCorner> corners1, double scale ) {
-		nn.setPoints(corners1.toList(),false);
+		nnPoints.clear();
+		for (int i = 0; i < corners1.size; i++) {
+			nnPoints.add(corners1.get(i));
+		}
+		nn.setPoints(nnPoints,false);
 
 		double searchRadius = radius*scale;
 		for (int i = 0; i < corners0.size; i++) {
@@ -241,7 +249,11 @@ public class DetectChessboardCornersXPyramid<T extends ImageGray<T>> {
 				break;
 			GrayF32 level;
 			if( pyramid.size() <= levelIndex ) {
-				level = new GrayF32(width,height);
+				if( layerStorage.size() < levelIndex ) {
+					layerStorage.add(new GrayF32(width,height));
+				}
+				level = layerStorage.get(levelIndex-1);
+				level.reshape(width,height);
 				pyramid.add(level);
 			} else {
 				level = pyramid.get(levelIndex);
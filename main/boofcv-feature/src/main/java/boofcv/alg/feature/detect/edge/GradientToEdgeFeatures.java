@@ -63,7 +63,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX,derivY);
 		intensity.reshape(derivX.width,derivX.height);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplGradientToEdgeFeatures_MT.intensityE(derivX,derivY,intensity);
 		} else {
 			ImplGradientToEdgeFeatures.intensityE(derivX,derivY,intensity);
@@ -82,7 +82,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX,derivY);
 		intensity.reshape(derivX.width,derivX.height);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplGradientToEdgeFeatures_MT.intensityAbs(derivX,derivY,intensity);
 		} else {
 			ImplGradientToEdgeFeatures.intensityAbs(derivX,derivY,intensity);
@@ -101,7 +101,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX,derivY);
 		angle.reshape(derivX.width,derivX.height);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplGradientToEdgeFeatures_MT.direction(derivX,derivY,angle);
 		} else {
 			ImplGradientToEdgeFeatures.direction(derivX,derivY,angle);
@@ -120,7 +120,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX,derivY);
 		angle.reshape(derivX.width,derivX.height);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplGradientToEdgeFeatures_MT.direction2(derivX,derivY,angle);
 		} else {
 			ImplGradientToEdgeFeatures.direction2(derivX,derivY,angle);
@@ -145,7 +145,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(intensity,derivX,derivY);
 		output = InputSanityCheck.checkDeclare(intensity,output);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplEdgeNonMaxSuppressionCrude_MT.inner4(intensity, derivX, derivY, output);
 			ImplEdgeNonMaxSuppressionCrude_MT.border4(intensity, derivX, derivY, output);
 		} else {
@@ -168,7 +168,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX,derivY);
 		intensity.reshape(derivX.width,derivX.height);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplGradientToEdgeFeatures_MT.intensityE(derivX,derivY,intensity);
 		} else {
 			ImplGradientToEdgeFeatures.intensityE(derivX,derivY,intensity);
@@ -187,7 +187,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX,derivY);
 		intensity.reshape(derivX.width,derivX.height);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplGradientToEdgeFeatures_MT.intensityAbs(derivX,derivY,intensity);
 		} else {
 			ImplGradientToEdgeFeatures.intensityAbs(derivX,derivY,intensity);
@@ -206,7 +206,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX,derivY);
 		angle.reshape(derivX.width,derivX.height);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplGradientToEdgeFeatures_MT.direction(derivX,derivY,angle);
 		} else {
 			ImplGradientToEdgeFeatures.direction(derivX,derivY,angle);
@@ -225,7 +225,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX,derivY);
 		angle.reshape(derivX.width,derivX.height);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplGradientToEdgeFeatures_MT.direction2(derivX,derivY,angle);
 		} else {
 			ImplGradientToEdgeFeatures.direction2(derivX,derivY,angle);
@@ -250,7 +250,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(intensity,derivX,derivY);
 		output = InputSanityCheck.checkDeclare(intensity,output);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplEdgeNonMaxSuppressionCrude_MT.inner4(intensity, derivX, derivY, output);
 			ImplEdgeNonMaxSuppressionCrude_MT.border4(intensity, derivX, derivY, output);
 		} else {
@@ -273,7 +273,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX,derivY);
 		intensity.reshape(derivX.width,derivX.height);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplGradientToEdgeFeatures_MT.intensityE(derivX,derivY,intensity);
 		} else {
 			ImplGradientToEdgeFeatures.intensityE(derivX,derivY,intensity);
@@ -292,7 +292,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX,derivY);
 		intensity.reshape(derivX.width,derivX.height);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplGradientToEdgeFeatures_MT.intensityAbs(derivX,derivY,intensity);
 		} else {
 			ImplGradientToEdgeFeatures.intensityAbs(derivX,derivY,intensity);
@@ -311,7 +311,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX,derivY);
 		angle.reshape(derivX.width,derivX.height);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplGradientToEdgeFeatures_MT.direction(derivX,derivY,angle);
 		} else {
 			ImplGradientToEdgeFeatures.direction(derivX,derivY,angle);
@@ -330,7 +330,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX,derivY);
 		angle.reshape(derivX.width,derivX.height);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplGradientToEdgeFeatures_MT.direction2(derivX,derivY,angle);
 		} else {
 			ImplGradientToEdgeFeatures.direction2(derivX,derivY,angle);
@@ -355,7 +355,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(intensity,derivX,derivY);
 		output = InputSanityCheck.checkDeclare(intensity,output);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplEdgeNonMaxSuppressionCrude_MT.inner4(intensity, derivX, derivY, output);
 			ImplEdgeNonMaxSuppressionCrude_MT.border4(intensity, derivX, derivY, output);
 		} else {
@@ -469,7 +469,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(intensity,direction);
 		output = InputSanityCheck.checkDeclare(intensity,output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplEdgeNonMaxSuppression_MT.inner4(intensity, direction, output);
 			ImplEdgeNonMaxSuppression_MT.border4(intensity, direction, output);
 		} else {
@@ -496,7 +496,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(intensity,direction);
 		output = InputSanityCheck.checkDeclare(intensity,output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplEdgeNonMaxSuppression_MT.inner8(intensity, direction, output);
 			ImplEdgeNonMaxSuppression_MT.border8(intensity, direction, output);
 		} else {
@@ -46,7 +46,7 @@ public class IntegralImageFeatureIntensity {
 		// todo check size with skip
 //		InputSanityCheck.checkSameShape(integral,intensity);
 
-		if( BoofConcurrency.USE_CONCURRENT) {
+		if( BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageFeatureIntensity_MT.hessianBorder(integral, skip, size, intensity);
 			ImplIntegralImageFeatureIntensity_MT.hessianInner(integral, skip, size, intensity);
 		} else {
@@ -69,7 +69,7 @@ public class IntegralImageFeatureIntensity {
 		// todo check size with skip
 //		InputSanityCheck.checkSameShape(integral,intensity);
 
-		if( BoofConcurrency.USE_CONCURRENT) {
+		if( BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageFeatureIntensity_MT.hessianBorder(integral, skip, size, intensity);
 			ImplIntegralImageFeatureIntensity_MT.hessianInner(integral, skip, size, intensity);
 		} else {
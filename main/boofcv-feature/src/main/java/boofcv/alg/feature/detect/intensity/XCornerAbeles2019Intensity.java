@@ -40,7 +40,7 @@ public class XCornerAbeles2019Intensity {
 	public static void process(GrayF32 input, GrayF32 intensity) {
 		intensity.reshape(input);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplXCornerAbeles2019Intensity_MT.process(input, intensity);
 		} else {
 			ImplXCornerAbeles2019Intensity.process(input,intensity);
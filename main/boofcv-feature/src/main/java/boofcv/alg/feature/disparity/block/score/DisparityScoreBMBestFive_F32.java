@@ -83,7 +83,7 @@ public class DisparityScoreBMBestFive_F32<DI extends ImageGray<DI>>
 		this.disparity = disparity;
 		scoreRows.setInput(left,right);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			BoofConcurrency.loopBlocks(0,left.height,regionHeight,workspace,computeBlock);
 		} else {
 			computeBlock.accept((WorkSpace)workspace.get(0),0,left.height);
@@ -93,7 +93,7 @@ public class DisparityScoreBMBestFive_S32<T extends ImageBase<T>,DI extends Imag
 		this.disparity = disparity;
 		scoreRows.setInput(left,right);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			BoofConcurrency.loopBlocks(0,left.height,regionHeight,workspace,computeBlock);
 		} else {
 			computeBlock.accept((WorkSpace)workspace.get(0),0,left.height);
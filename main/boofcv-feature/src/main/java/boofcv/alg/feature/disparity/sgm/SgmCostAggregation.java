@@ -193,7 +193,7 @@ public class SgmCostAggregation {
 			}
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			BoofConcurrency.loopBlocks(0,trajectories.size,1,workspace,computeBlock);
 		} else {
 			WorkSpace w= workspace.get(0);
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.flow;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link BroxWarpingSpacial}. The inner portion of each SOR iteration is
+ * split across threads using a red-black (checkerboard) ordering. The update only depends on the 4-connect
+ * neighbors of a pixel, so all the red pixels can be updated at the same time followed by all the black
+ * pixels. Each task processes a single row. Image borders are processed in a single thread, same as the original.
+ * </p>
+ *
+ * <p>
+ * The update order differs from the lexicographic order in {@link BroxWarpingSpacial}, so the results
+ * will be slightly different. Convergence behavior is essentially the same.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BroxWarpingSpacial_MT<T extends ImageGray<T>> extends BroxWarpingSpacial<T> {
+
+	public BroxWarpingSpacial_MT(ConfigBroxWarping config, InterpolatePixelS<GrayF32> interp) {
+		super(config, interp);
+	}
+
+	@Override
+	protected float iterationSorInner(GrayF32 image1, GrayF32 deriv1X, GrayF32 deriv1Y) {
+		final int width = image1.width;
+		final int height = image1.height;
+		final int stride = image1.stride;
+
+		if( height < 3 )
+			return 0;
+
+		float error = 0;
+		for (int color = 0; color < 2; color++) {
+			final int _color = color;
+			error += BoofConcurrency.sum(1,height-1,float.class,y->{
+				// first pixel in the row where (x+y)%2 == color
+				int x0 = (1+y)%2 == _color ? 1 : 2;
+				int i = y*width + x0;
+				float rowError = 0;
+				for (int x = x0; x < width - 1; x += 2, i += 2) {
+					rowError += iterationSor(image1, deriv1X, deriv1Y, i, i + 1, i - 1, i + stride, i - stride);
+				}
+				return rowError;
+			}).floatValue();
+		}
+		return error;
+	}
+}
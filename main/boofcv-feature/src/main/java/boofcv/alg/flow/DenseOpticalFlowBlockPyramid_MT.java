@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.flow;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.pyramid.ImagePyramid;
+import org.ddogleg.struct.Factory;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link DenseOpticalFlowBlockPyramid}. Each thread is given its own instance of the
+ * single threaded algorithm, which provides storage for the template and the image type specific operations.
+ * The output is identical to the single threaded version.
+ * </p>
+ *
+ * <p>
+ * Each layer is processed in two steps. First the best flow for the region around every pixel is found and saved.
+ * Then for each pixel the regions which overlap it are examined in the same order as the single threaded version
+ * would have, which allows the rows to be split between threads without any writes to shared pixels.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DenseOpticalFlowBlockPyramid_MT<T extends ImageGray<T>> extends DenseOpticalFlowBlockPyramid<T> {
+
+	// Status of the search for a region
+	private static final byte SKIPPED = 0;
+	private static final byte VALID = 1;
+	private static final byte INVALID = 2;
+
+	// Used to extract the template and compute the error in the main thread
+	private final DenseOpticalFlowBlockPyramid<T> prototype;
+
+	// Storage for each thread
+	private final FastQueue<DenseOpticalFlowBlockPyramid<T>> workers;
+
+	// Results from the search around each pixel
+	private ImageFlow regionFlow = new ImageFlow(1,1);
+	private float[] regionScore = new float[0];
+	private byte[] regionStatus = new byte[0];
+
+	/**
+	 * Creates the concurrent algorithm.
+	 *
+	 * @param factory Creates new instances of the single threaded algorithm.
+	 */
+	public DenseOpticalFlowBlockPyramid_MT( Factory<DenseOpticalFlowBlockPyramid<T>> factory ) {
+		this(factory, factory.newInstance());
+	}
+
+	private DenseOpticalFlowBlockPyramid_MT( Factory<DenseOpticalFlowBlockPyramid<T>> factory,
+											 DenseOpticalFlowBlockPyramid<T> prototype ) {
+		super(prototype.searchRadius, prototype.regionRadius, 0,
+				prototype.template.getImageType().getImageClass());
+		this.maxError = prototype.maxError;
+		this.prototype = prototype;
+		this.prototype.template = this.template;
+		this.workers = new FastQueue<>(factory);
+	}
+
+	@Override
+	public void process( ImagePyramid<T> pyramidPrev , ImagePyramid<T> pyramidCurr ) {
+
+		InputSanityCheck.checkSameShape(pyramidPrev, pyramidCurr);
+
+		int numLayers = pyramidPrev.getNumLayers();
+
+		for( int i = numLayers-1; i >= 0; i-- ) {
+
+			T prev = pyramidPrev.getLayer(i);
+			T curr = pyramidCurr.getLayer(i);
+
+			flowCurrLayer.reshape(prev.width, prev.height);
+			regionFlow.reshape(prev.width, prev.height);
+
+			int N = prev.width*prev.height;
+			if( scores.length < N ) {
+				scores = new float[N];
+				regionScore = new float[N];
+				regionStatus = new byte[N];
+			}
+
+			final boolean topLayer = i == numLayers-1;
+			final double scale = topLayer ? 1.0 : pyramidPrev.getScale(i+1)/pyramidPrev.getScale(i);
+
+			// search for the best flow of the region around each pixel
+			BoofConcurrency.loopBlocks(0,prev.height,workers,(worker,y0,y1)->{
+				for( int y = y0; y < y1; y++ ) {
+					for( int x = 0; x < prev.width; x++ ) {
+						searchRegion(worker, x, y, prev, curr, topLayer, scale);
+					}
+				}
+			});
+
+			// assign the flow to each pixel using the regions which overlap it
+			BoofConcurrency.loopBlocks(0,prev.height,(y0,y1)->{
+				for( int y = y0; y < y1; y++ ) {
+					for( int x = 0; x < prev.width; x++ ) {
+						selectFlow(x, y, prev.width, prev.height);
+					}
+				}
+			});
+
+			// swap the flow images
+			ImageFlow tmp = flowPrevLayer;
+			flowPrevLayer = flowCurrLayer;
+			flowCurrLayer = tmp;
+		}
+	}
+
+	/**
+	 * Searches for the flow of the region centered at (x,y) and saves the results. Same as what's done
+	 * inside of the single threaded process() for a single pixel.
+	 */
+	private void searchRegion( DenseOpticalFlowBlockPyramid<T> worker , int x , int y ,
+							   T prev , T curr , boolean topLayer , double scale ) {
+		int index = y*prev.width + x;
+		regionStatus[index] = SKIPPED;
+
+		if( x < regionRadius || x >= prev.width-regionRadius || y < regionRadius || y >= prev.height-regionRadius )
+			return;
+
+		ImageFlow.D found = worker.tmp;
+		float score;
+
+		if( topLayer ) {
+			// the top most layer in the pyramid has no hint
+			worker.extractTemplate(x,y,prev);
+			score = worker.findFlow(x,y,curr,found);
+		} else {
+			// grab the flow in higher level pyramid
+			ImageFlow.D p = flowPrevLayer.get((int)(x/scale),(int)(y/scale));
+			if( !p.isValid() )
+				return;
+
+			worker.extractTemplate(x,y,prev);
+
+			// add the flow from the higher layer (adjusting for scale and rounding) as the start of this search
+			int deltaX = (int)(p.x*scale+0.5);
+			int deltaY = (int)(p.y*scale+0.5);
+
+			score = worker.findFlow(x + deltaX,y + deltaY,curr,found);
+
+			// find flow only does it relative to the starting point
+			found.x += deltaX;
+			found.y += deltaY;
+		}
+
+		if( found.isValid() ) {
+			regionStatus[index] = VALID;
+			regionScore[index] = score;
+			regionFlow.data[index].set(found);
+		} else {
+			regionStatus[index] = INVALID;
+		}
+	}
+
+	/**
+	 * Goes through the regions which overlap the pixel in the same order they are processed in the single
+	 * threaded implementation
+	 */
+	private void selectFlow( int x , int y , int width , int height ) {
+		int index = y*width + x;
+		ImageFlow.D f = flowCurrLayer.data[index];
+		scores[index] = Float.MAX_VALUE;
+
+		// only pixels which are not along the border are the center of a region
+		int x0 = Math.max(regionRadius,x-regionRadius);
+		int x1 = Math.min(width-regionRadius, x + regionRadius + 1);
+		int y0 = Math.max(regionRadius,y-regionRadius);
+		int y1 = Math.min(height-regionRadius, y + regionRadius + 1);
+
+		for( int i = y0; i < y1; i++ ) {
+			int indexRegion = width*i + x0;
+			for( int j = x0; j < x1; j++ , indexRegion++ ) {
+				switch( regionStatus[indexRegion] ) {
+					case VALID: {
+						float score = regionScore[indexRegion];
+						ImageFlow.D flow = regionFlow.data[indexRegion];
+						float s = scores[index];
+						if( s > score ) {
+							f.set(flow);
+							scores[index] = score;
+						} else if( s == score ) {
+							// Pick solution with the least motion when ambiguous
+							float m0 = f.x*f.x + f.y*f.y;
+							float m1 = flow.x*flow.x + flow.y*flow.y;
+							if( m1 < m0 ) {
+								f.set(flow);
+								scores[index] = score;
+							}
+						}
+					} break;
+
+					case INVALID:
+						if( indexRegion == index )
+							f.markInvalid();
+						break;
+
+					default:
+						break;
+				}
+			}
+		}
+	}
+
+	@Override
+	protected void extractTemplate(int cx, int cy, T prev) {
+		prototype.extractTemplate(cx, cy, prev);
+	}
+
+	@Override
+	protected float computeError(int cx, int cy, T curr) {
+		return prototype.computeError(cx, cy, curr);
+	}
+}
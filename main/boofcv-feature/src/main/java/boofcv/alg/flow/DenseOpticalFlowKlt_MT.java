@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.flow;
+
+import boofcv.alg.tracker.klt.KltTrackFault;
+import boofcv.alg.tracker.klt.PyramidKltFeature;
+import boofcv.alg.tracker.klt.PyramidKltTracker;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.pyramid.ImagePyramid;
+import org.ddogleg.struct.Factory;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link DenseOpticalFlowKlt}. Each thread has its own tracker. The output is
+ * identical to the single threaded version.
+ * </p>
+ *
+ * <p>
+ * Processing is done in two steps. First every pixel's template is tracked and the results saved. Then for
+ * each pixel the tracks which overlap it are examined in the same order as the single threaded version would
+ * have, which allows the rows to be split between threads without any writes to shared pixels.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DenseOpticalFlowKlt_MT<I extends ImageGray<I>, D extends ImageGray<D>>
+		extends DenseOpticalFlowKlt<I,D>
+{
+	// Storage for each thread
+	private final FastQueue<Worker> workers;
+
+	// Results from tracking each pixel. Score is NaN if it failed
+	private ImageFlow trackFlow = new ImageFlow(1,1);
+	private float[] trackScore = new float[1];
+
+	public DenseOpticalFlowKlt_MT(Factory<PyramidKltTracker<I, D>> factoryTracker , int radius ) {
+		super(factoryTracker.newInstance(), radius);
+		workers = new FastQueue<>(()->new Worker(factoryTracker.newInstance()));
+	}
+
+	@Override
+	public void process( ImagePyramid<I> prev, D[] prevDerivX, D[] prevDerivY,
+						 ImagePyramid<I> curr , ImageFlow output ) {
+		this.width = output.width;
+		this.height = output.height;
+
+		int N = width*height;
+		if( scores.length < N )
+			scores = new float[N];
+		if( trackScore.length < N )
+			trackScore = new float[N];
+		trackFlow.reshape(width,height);
+
+		// Track the template around every pixel
+		BoofConcurrency.loopBlocks(0,height,workers,(worker,y0,y1)->{
+			PyramidKltTracker<I,D> tracker = worker.tracker;
+			if( worker.feature == null )
+				worker.feature = new PyramidKltFeature(prev.getNumLayers(),regionRadius);
+			PyramidKltFeature feature = worker.feature;
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = y*width;
+				for( int x = 0; x < width; x++, index++ ) {
+					trackScore[index] = Float.NaN;
+
+					tracker.setImage(prev,prevDerivX,prevDerivY);
+					feature.setPosition(x,y);
+
+					if( !tracker.setDescription(feature) )
+						continue;
+					tracker.setImage(curr);
+					if( tracker.track(feature) != KltTrackFault.SUCCESS )
+						continue;
+					trackScore[index] = tracker.getError();
+					trackFlow.data[index].set(feature.x-x,feature.y-y);
+				}
+			}
+		});
+
+		// Select the best flow for each pixel from the tracks which overlap it
+		BoofConcurrency.loopBlocks(0,height,(y0,y1)->{
+			for( int y = y0; y < y1; y++ ) {
+				int index = y*width;
+				Arrays.fill(scores,index,index+width,Float.MAX_VALUE);
+				for( int x = 0; x < width; x++, index++ ) {
+					output.data[index].markInvalid();
+					selectFlow(x, y, index, output);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Goes through the tracks which overlap the pixel in the same order they are processed in the single
+	 * threaded implementation
+	 */
+	private void selectFlow( int x , int y , int index , ImageFlow output ) {
+		ImageFlow.D f = output.data[index];
+
+		int x0 = Math.max(0,x-regionRadius);
+		int x1 = Math.min(width, x + regionRadius + 1);
+		int y0 = Math.max(0,y-regionRadius);
+		int y1 = Math.min(height, y + regionRadius + 1);
+
+		for( int i = y0; i < y1; i++ ) {
+			int indexTrack = width*i + x0;
+			for( int j = x0; j < x1; j++ , indexTrack++ ) {
+				float score = trackScore[indexTrack];
+				if( Float.isNaN(score) )
+					continue;
+				ImageFlow.D flow = trackFlow.data[indexTrack];
+
+				if( indexTrack == index ) {
+					// bias the result to prefer the central template
+					scores[index] = score*MAGIC_ADJUSTMENT;
+					f.set(flow);
+				}
+
+				float s = scores[index];
+				if( s > score ) {
+					f.set(flow);
+					scores[index] = score;
+				} else if( s == score ) {
+					// Pick solution with the least motion when ambiguous
+					float m0 = f.x*f.x + f.y*f.y;
+					float m1 = flow.x*flow.x + flow.y*flow.y;
+					if( m1 < m0 ) {
+						f.set(flow);
+						scores[index] = score;
+					}
+				}
+			}
+		}
+	}
+
+	private class Worker {
+		PyramidKltTracker<I,D> tracker;
+		PyramidKltFeature feature;
+
+		public Worker(PyramidKltTracker<I, D> tracker) {
+			this.tracker = tracker;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -220,9 +220,6 @@ public class HornSchunckPyramid<T extends ImageGray<T>>
 	 */
 	protected void processLayer(GrayF32 image1 , GrayF32 image2 , GrayF32 derivX2 , GrayF32 derivY2) {
 
-		float w = SOR_RELAXATION;
-		float uf,vf;
-
 		// outer Taylor expansion iterations
 		for( int warp = 0; warp < numWarps; warp++ ) {
 
@@ -238,34 +235,8 @@ public class HornSchunckPyramid<T extends ImageGray<T>>
 
 			do {
 				// inner SOR iteration.
-				error = 0;
-
 				// inner portion
-				for( int y = 1; y < image1.height-1; y++ ) {
-					int pixelIndex = y*image1.width+1;
-					for (int x = 1; x < image1.width-1; x++, pixelIndex++ ) {
-						// could speed this up a bit more by precomputing the constant portion before the do-while loop
-						float ui = initFlowX.data[pixelIndex];
-						float vi = initFlowY.data[pixelIndex];
-
-						float u = flowX.data[pixelIndex];
-						float v = flowY.data[pixelIndex];
-
-						float I1 = image1.data[pixelIndex];
-						float I2 = warpImage2.data[pixelIndex];
-
-						float I2x = warpDeriv2X.data[pixelIndex];
-						float I2y = warpDeriv2Y.data[pixelIndex];
-
-						float AU = A(x,y,flowX);
-						float AV = A(x,y,flowY);
-
-						flowX.data[pixelIndex] = uf = (1-w)*u + w*((I1-I2+I2x*ui - I2y*(v-vi))*I2x + alpha2*AU)/(I2x*I2x + alpha2);
-						flowY.data[pixelIndex] = vf = (1-w)*v + w*((I1-I2+I2y*vi - I2x*(uf-ui))*I2y + alpha2*AV)/(I2y*I2y + alpha2);
-
-						error += (uf - u)*(uf - u) + (vf - v)*(vf - v);
-					}
-				}
+				error = iterationSorInner(image1);
 
 				// border regions require special treatment
 				int pixelIndex0 = 0;
@@ -289,6 +260,53 @@ public class HornSchunckPyramid<T extends ImageGray<T>>
 		}
 	}
 
+	/**
+	 * Performs a single SOR iteration across the inner portion of the image, i.e. all pixels
+	 * which are not along the image border.
+	 *
+	 * @return Sum of the squared change in flow
+	 */
+	protected float iterationSorInner(GrayF32 image1) {
+		float error = 0;
+		for( int y = 1; y < image1.height-1; y++ ) {
+			int pixelIndex = y*image1.width+1;
+			for (int x = 1; x < image1.width-1; x++, pixelIndex++ ) {
+				error += iterationSorUnsafe(image1,x,y,pixelIndex);
+			}
+		}
+		return error;
+	}
+
+	/**
+	 * SOR iteration for a pixel which is not along the image border
+	 */
+	protected final float iterationSorUnsafe(GrayF32 image1, int x, int y, int pixelIndex) {
+		float w = SOR_RELAXATION;
+
+		float uf;
+		float vf;
+		// could speed this up a bit more by precomputing the constant portion before the do-while loop
+		float ui = initFlowX.data[pixelIndex];
+		float vi = initFlowY.data[pixelIndex];
+
+		float u = flowX.data[pixelIndex];
+		float v = flowY.data[pixelIndex];
+
+		float I1 = image1.data[pixelIndex];
+		float I2 = warpImage2.data[pixelIndex];
+
+		float I2x = warpDeriv2X.data[pixelIndex];
+		float I2y = warpDeriv2Y.data[pixelIndex];
+
+		float AU = A(x,y,flowX);
+		float AV = A(x,y,flowY);
+
+		flowX.data[pixelIndex] = uf = (1-w)*u + w*((I1-I2+I2x*ui - I2y*(v-vi))*I2x + alpha2*AU)/(I2x*I2x + alpha2);
+		flowY.data[pixelIndex] = vf = (1-w)*v + w*((I1-I2+I2y*vi - I2x*(uf-ui))*I2y + alpha2*AV)/(I2y*I2y + alpha2);
+
+		return (uf - u)*(uf - u) + (vf - v)*(vf - v);
+	}
+
 	/**
 	 * SOR iteration for border pixels
 	 */
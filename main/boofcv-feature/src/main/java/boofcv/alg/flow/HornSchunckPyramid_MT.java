@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.flow;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.flow.ConfigHornSchunckPyramid;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link HornSchunckPyramid}. The inner portion of each SOR iteration is
+ * split across threads using a multi-color ordering. Equation 25 averages the full 3x3 neighborhood, so a
+ * plain red-black ordering would have threads read diagonal neighbors which are being written to. Instead
+ * pixels are assigned one of four colors based on the parity of their x and y coordinates.
+ * Pixels with the same color never share a neighborhood and can be updated in any order, which is
+ * done one row per task. Image borders are processed in a single thread, same as the original.
+ * </p>
+ *
+ * <p>
+ * The update order differs from the lexicographic order in {@link HornSchunckPyramid}, so the results
+ * will be slightly different. Convergence behavior is essentially the same.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class HornSchunckPyramid_MT<T extends ImageGray<T>> extends HornSchunckPyramid<T> {
+
+	public HornSchunckPyramid_MT(ConfigHornSchunckPyramid config, InterpolatePixelS<GrayF32> interp) {
+		super(config, interp);
+	}
+
+	@Override
+	protected float iterationSorInner(GrayF32 image1) {
+		final int width = image1.width;
+		final int height = image1.height;
+
+		float error = 0;
+		for (int color = 0; color < 4; color++) {
+			// first row and column in the inner image with this color
+			final int x0 = (color%2) == 1 ? 1 : 2;
+			final int y0 = (color/2) == 1 ? 1 : 2;
+			final int numRows = Math.max(0,(height-y0)/2);
+
+			if( numRows == 0 )
+				continue;
+
+			error += BoofConcurrency.sum(0,numRows,float.class,row->{
+				int y = y0 + row*2;
+				int pixelIndex = y*width + x0;
+				float rowError = 0;
+				for (int x = x0; x < width-1; x += 2, pixelIndex += 2) {
+					rowError += iterationSorUnsafe(image1,x,y,pixelIndex);
+				}
+				return rowError;
+			}).floatValue();
+		}
+		return error;
+	}
+}
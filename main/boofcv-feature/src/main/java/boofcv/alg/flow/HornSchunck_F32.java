@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -18,6 +18,7 @@
 
 package boofcv.alg.flow;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.flow.ImageFlow;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageType;
@@ -154,23 +155,36 @@ public class HornSchunck_F32 extends HornSchunck<GrayF32,GrayF32> {
 		for( int iter = 0; iter < numIterations; iter++ ) {
 
 			borderAverageFlow(output,averageFlow);
-			innerAverageFlow(output,averageFlow);
-
-			for( int i = 0; i < N; i++ ) {
-				float dx = derivX.data[i];
-				float dy = derivY.data[i];
-				float dt = derivT.data[i];
-
-				ImageFlow.D aveFlow = averageFlow.data[i];
-
-				float u = aveFlow.x;
-				float v = aveFlow.y;
-
-				ImageFlow.D flow = output.data[i];
-				float r = (dx*u + dy*v + dt)/(alpha2 + dx*dx + dy*dy);
-				flow.x = u - dx*r;
-				flow.y = v - dy*r;
+			if( BoofConcurrency.isUseConcurrent() ) {
+				innerAverageFlow_MT(output,averageFlow);
+				// each pixel only depends on the average flow, which isn't modified here
+				BoofConcurrency.loopBlocks(0,N,(i0,i1)->updateFlow(derivX,derivY,derivT,output,i0,i1));
+			} else {
+				innerAverageFlow(output,averageFlow);
+				updateFlow(derivX,derivY,derivT,output,0,N);
 			}
 		}
 	}
+
+	/**
+	 * Updates the flow estimate for pixels from i0 to i1-1 using the average flow
+	 */
+	protected void updateFlow(GrayF32 derivX , GrayF32 derivY ,
+							  GrayF32 derivT , ImageFlow output , int i0 , int i1 ) {
+		for( int i = i0; i < i1; i++ ) {
+			float dx = derivX.data[i];
+			float dy = derivY.data[i];
+			float dt = derivT.data[i];
+
+			ImageFlow.D aveFlow = averageFlow.data[i];
+
+			float u = aveFlow.x;
+			float v = aveFlow.y;
+
+			ImageFlow.D flow = output.data[i];
+			float r = (dx*u + dy*v + dt)/(alpha2 + dx*dx + dy*dy);
+			flow.x = u - dx*r;
+			flow.y = v - dy*r;
+		}
+	}
 }
@@ -51,7 +51,7 @@ public class FactoryAssociation {
 	{
 		AssociateGreedyBase<D> alg;
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			alg = new AssociateGreedy_MT<>(score, config.forwardsBackwards);
 		} else {
 			alg = new AssociateGreedy<>(score, config.forwardsBackwards);
@@ -118,7 +118,7 @@ public class FactoryAssociation {
 		config.checkValidity();
 
 		AssociateNearestNeighbor<TupleDesc_F64> assoc;
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			assoc = new AssociateNearestNeighbor_MT<>(nn);
 		} else {
 			assoc = new AssociateNearestNeighbor_ST<>(nn);
@@ -127,7 +127,7 @@ public class FactoryDetectDescribe {
 		DescribePointSurf<II> describe = FactoryDescribePointAlgs.surfSpeed(configDesc, integralType);
 		OrientationIntegral<II> orientation = FactoryOrientationAlgs.average_ii(configOrientation, integralType);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			return new WrapDetectDescribeSurf_MT<>(detector, orientation, describe);
 		} else {
 			return new WrapDetectDescribeSurf<>(detector, orientation, describe);
@@ -177,7 +177,7 @@ public class FactoryDetectDescribe {
 
 	protected static <II extends ImageGray<II>> DetectDescribeSurfPlanar<II> createDescribeSurfPlanar(FastHessianFeatureDetector<II> detector, OrientationIntegral<II> orientation, DescribePointSurfPlanar<II> describeMulti) {
 		DetectDescribeSurfPlanar<II> detectDesc;
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			detectDesc = new DetectDescribeSurfPlanar_MT<>(detector, orientation, describeMulti);
 		} else {
 			detectDesc = new DetectDescribeSurfPlanar<>(detector, orientation, describeMulti);
@@ -218,7 +218,7 @@ public class FactoryDetectDescribe {
 		DescribePointSurfMod<II> describe = FactoryDescribePointAlgs.surfStability(configDescribe, integralType);
 		OrientationIntegral<II> orientation = FactoryOrientationAlgs.sliding_ii(configOrientation, integralType);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			return new WrapDetectDescribeSurf_MT<>(detector, orientation, describe);
 		} else {
 			return new WrapDetectDescribeSurf<>(detector, orientation, describe);
@@ -90,7 +90,7 @@ public class FactoryFeatureExtractor {
 		}
 
 		// See if the user wants to use threaded code or not
-		NonMaxBlock alg = BoofConcurrency.USE_CONCURRENT ?
+		NonMaxBlock alg = BoofConcurrency.isUseConcurrent() ?
 				new NonMaxBlock_MT(search) : new NonMaxBlock(search);
 
 		alg.setSearchRadius(config.radius);
@@ -127,7 +127,7 @@ public class FactoryFeatureExtractor {
 		}
 
 		// See if the user wants to use threaded code or not
-		NonMaxCandidate extractor = BoofConcurrency.USE_CONCURRENT?
+		NonMaxCandidate extractor = BoofConcurrency.isUseConcurrent()?
 				new NonMaxCandidate_MT(search):new NonMaxCandidate(search);
 
 		WrapperNonMaxCandidate ret = new WrapperNonMaxCandidate(extractor,false,true);
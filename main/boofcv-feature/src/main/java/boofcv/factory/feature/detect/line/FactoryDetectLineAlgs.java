@@ -122,7 +122,7 @@ public class FactoryDetectLineAlgs {
 				new ConfigExtract(configHough.localMaxRadius, configHough.minCounts, 0, true));
 
 		HoughTransformGradient<D> hough;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			hough = new HoughTransformGradient_MT<>(extractor, param, derivType);
 		} else {
 			hough = new HoughTransformGradient<>(extractor, param, derivType);
@@ -145,7 +145,7 @@ public class FactoryDetectLineAlgs {
 				new ConfigExtract(configHough.localMaxRadius, configHough.minCounts, 0, true));
 
 		HoughTransformGradient<D> hough;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			hough = new HoughTransformGradient_MT<>(extractor, param, derivType);
 		} else {
 			hough = new HoughTransformGradient<>(extractor, param, derivType);
@@ -166,7 +166,7 @@ public class FactoryDetectLineAlgs {
 				new ConfigExtract(configHough.localMaxRadius, 0, 0, false));
 
 		HoughTransformBinary hough;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			hough = new HoughTransformBinary_MT(extractor,param);
 		} else {
 			hough = new HoughTransformBinary(extractor,param);
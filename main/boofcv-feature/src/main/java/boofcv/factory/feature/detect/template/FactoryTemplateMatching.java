@@ -88,7 +88,7 @@ public class FactoryTemplateMatching {
 				throw new IllegalArgumentException("Unknown");
 		}
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			return new TemplateIntensityImage_MT<>(method);
 		} else {
 			return new TemplateIntensityImage<>(method);
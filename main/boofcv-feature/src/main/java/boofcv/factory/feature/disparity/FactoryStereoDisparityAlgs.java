@@ -55,7 +55,7 @@ public class FactoryStereoDisparityAlgs {
 
 		int maxError = config.maxError < 0 ? Integer.MAX_VALUE : config.maxError;
 
-		SgmDisparitySelector selector = BoofConcurrency.USE_CONCURRENT ?
+		SgmDisparitySelector selector = BoofConcurrency.isUseConcurrent() ?
 				new SgmDisparitySelector_MT() : new SgmDisparitySelector();
 		selector.setRightToLeftTolerance(config.validateRtoL);
 		selector.setMaxError(maxError);
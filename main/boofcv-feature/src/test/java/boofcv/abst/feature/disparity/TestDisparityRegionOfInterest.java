@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.disparity;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.feature.disparity.ConfigDisparityBM;
+import boofcv.factory.feature.disparity.ConfigDisparitySGM;
+import boofcv.factory.feature.disparity.DisparityError;
+import boofcv.factory.feature.disparity.DisparitySgmError;
+import boofcv.factory.feature.disparity.FactoryStereoDisparity;
+import boofcv.struct.ImageRectangle;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestDisparityRegionOfInterest {
+	Random rand = new Random(234);
+
+	int width = 120;
+	int height = 80;
+
+	GrayU8 left = new GrayU8(width,height);
+	GrayU8 right = new GrayU8(width,height);
+
+	TestDisparityRegionOfInterest() {
+		// Randomly fill images, but the right should have a constant offset of 8
+		ImageMiscOps.fillUniform(left,rand,0,255);
+		ImageMiscOps.copy(8,0,0,0,width-8,height,left,right);
+	}
+
+	ConfigDisparityBM createConfigBM() {
+		ConfigDisparityBM config = new ConfigDisparityBM();
+		config.errorType = DisparityError.SAD;
+		config.subpixel = false;
+		config.disparityMin = 2;
+		config.disparityRange = 20;
+		return config;
+	}
+
+	/**
+	 * With the appropriate margin the results should be identical to processing the whole image
+	 */
+	@Test
+	void blockMatch_SameAsWholeImage() {
+		ConfigDisparityBM config = createConfigBM();
+
+		StereoDisparity<GrayU8,GrayU8> full = FactoryStereoDisparity.blockMatch(config,GrayU8.class,GrayU8.class);
+		DisparityRegionOfInterest<GrayU8,GrayU8> alg = new DisparityRegionOfInterest<>(
+				FactoryStereoDisparity.blockMatch(config,GrayU8.class,GrayU8.class),
+				config.regionRadiusX,config.regionRadiusY);
+
+		// a band of rows and two boxes, one of which touches the image border
+		alg.addRegion(0,30,width,36);
+		alg.addRegion(50,5,70,20);
+		alg.addRegion(100,60,width+10,height);
+
+		full.process(left,right);
+		alg.process(left,right);
+
+		GrayU8 expected = full.getDisparity();
+		GrayU8 found = alg.getDisparity();
+		assertEquals(width, found.width);
+		assertEquals(height, found.height);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if( inside(alg,x,y) ) {
+					assertEquals(expected.get(x,y), found.get(x,y));
+				} else {
+					assertEquals(alg.getInvalidValue(), found.get(x,y));
+				}
+			}
+		}
+
+		// removing the regions should result in the whole image being processed
+		alg.clearRegions();
+		alg.process(left,right);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(expected.get(x,y), alg.getDisparity().get(x,y));
+			}
+		}
+	}
+
+	/**
+	 * SGM paths are truncated so results will only be approximately the same
+	 */
+	@Test
+	void sgm() {
+		ConfigDisparitySGM config = new ConfigDisparitySGM();
+		config.errorType = DisparitySgmError.ABSOLUTE_DIFFERENCE;
+		config.subpixel = false;
+		config.disparityMin = 2;
+		config.disparityRange = 20;
+
+		DisparityRegionOfInterest<GrayU8,GrayU8> alg = new DisparityRegionOfInterest<>(
+				FactoryStereoDisparity.sgm(config,GrayU8.class,GrayU8.class),20,20);
+		alg.addRegion(40,30,80,50);
+		alg.process(left,right);
+
+		GrayU8 found = alg.getDisparity();
+		int total = 0, correct = 0;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if( inside(alg,x,y) ) {
+					total++;
+					// value is relative to disparityMin
+					if( found.get(x,y) == 8-config.disparityMin )
+						correct++;
+				} else {
+					assertEquals(alg.getInvalidValue(), found.get(x,y));
+				}
+			}
+		}
+		assertTrue(correct >= total*0.9);
+	}
+
+	private static boolean inside( DisparityRegionOfInterest<?,?> alg , int x , int y ) {
+		for (int i = 0; i < alg.getRegions().size; i++) {
+			ImageRectangle r = alg.getRegions().get(i);
+			if( x >= r.x0 && x < r.x1 && y >= r.y0 && y < r.y1 )
+				return true;
+		}
+		return false;
+	}
+
+	@Nested
+	class NoRegions extends GenericStereoDisparityChecks<GrayU8,GrayU8> {
+		public NoRegions() {
+			super(ImageType.SB_U8, ImageType.SB_U8);
+		}
+
+		@Override
+		public StereoDisparity<GrayU8, GrayU8> createAlg(int disparityMin, int disparityRange) {
+			ConfigDisparityBM config = createConfigBM();
+			config.disparityMin = disparityMin;
+			config.disparityRange = disparityRange;
+			return new DisparityRegionOfInterest<>(
+					FactoryStereoDisparity.blockMatch(config,GrayU8.class,GrayU8.class),
+					config.regionRadiusX,config.regionRadiusY);
+		}
+	}
+}
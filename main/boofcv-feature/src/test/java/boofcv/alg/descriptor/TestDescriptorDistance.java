@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -185,6 +185,15 @@ public class TestDescriptorDistance {
 		assertEquals(2,DescriptorDistance.hamming(0x0101));
 		assertEquals(4,DescriptorDistance.hamming(0x000F));
 		assertEquals(8,DescriptorDistance.hamming(0xF000000F));
+		assertEquals(32,DescriptorDistance.hamming(0xFFFFFFFF));
+	}
+
+	@Test
+	public void hamming_long() {
+		assertEquals(0,DescriptorDistance.hamming(0L));
+		assertEquals(1,DescriptorDistance.hamming(0x0000000100000000L));
+		assertEquals(8,DescriptorDistance.hamming(0xF00000000000000FL));
+		assertEquals(64,DescriptorDistance.hamming(0xFFFFFFFFFFFFFFFFL));
 	}
 
 	private int hamming( TupleDesc_B a, TupleDesc_B b) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -18,11 +18,18 @@
 
 package boofcv.alg.feature.detect.chess;
 
+import boofcv.alg.filter.misc.AverageDownSampleOps;
+import boofcv.gui.RenderCalibrationTargetsGraphics2D;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageType;
+import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 /**
  * @author Peter Abeles
  */
@@ -35,4 +42,38 @@ class TestDetectChessboardCornersXPyramid extends GenericChessboardCornersChecks
 		alg.process(image);
 		return alg.getCorners().toList();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Process images of different sizes so that the number of layers changes. Recycled layers should
+	 * not change the results
+	 */
+	@Test
+	void recycleLayers() {
+		this.w = 50;
+		RenderCalibrationTargetsGraphics2D renderer = new RenderCalibrationTargetsGraphics2D(p,1);
+		renderer.chessboard(rows,cols,w);
+		GrayF32 large = renderer.getGrayF32();
+		GrayF32 small = new GrayF32(large.width/2,large.height/2);
+		AverageDownSampleOps.down(large,2,small);
+
+		DetectChessboardCornersXPyramid<GrayF32> alg = new DetectChessboardCornersXPyramid<>(ImageType.SB_F32);
+		alg.setPyramidTopSize(50);
+
+		alg.process(large);
+		int expectedLevels = alg.getNumberOfLevels();
+		int expectedCorners = alg.getCorners().size;
+		List<GrayF32> layers = new ArrayList<>(alg.pyramid);
+
+		alg.process(small);
+		assertEquals(expectedLevels-1, alg.getNumberOfLevels());
+
+		alg.process(large);
+		assertEquals(expectedLevels, alg.getNumberOfLevels());
+		assertEquals(expectedCorners, alg.getCorners().size);
+
+		// The same layers should have been used again. The first layer is the normalized input
+		for (int i = 1; i < expectedLevels; i++) {
+			assertSame(layers.get(i), alg.pyramid.get(i));
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -19,6 +19,7 @@
 package boofcv.alg.flow;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.flow.ImageFlow;
 import boofcv.struct.image.GrayF32;
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -74,6 +76,44 @@ public abstract class ChecksHornSchunck<T extends ImageGray<T>, D extends ImageG
 		}
 	}
 
+	/**
+	 * The concurrent implementation should produce identical results since the flow is updated using
+	 * the average from the previous iteration
+	 */
+	@Test
+	public void compareConcurrentToSingle() {
+		T image1 = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		T image2 = GeneralizedImageOps.createSingleBand(imageType,width,height);
+
+		GImageMiscOps.fillUniform(image1, rand, 0, 100);
+		GImageMiscOps.fillUniform(image2, rand, 0, 100);
+
+		ImageFlow expected = new ImageFlow(width,height);
+		ImageFlow found = new ImageFlow(width,height);
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			HornSchunck<T,D> alg = createAlg();
+			alg.setNumIterations(20);
+			alg.process(image1, image2, expected);
+
+			BoofConcurrency.USE_CONCURRENT = true;
+			alg = createAlg();
+			alg.setNumIterations(20);
+			alg.process(image1, image2, found);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				assertEquals(expected.get(x,y).x, found.get(x,y).x);
+				assertEquals(expected.get(x,y).y, found.get(x,y).y);
+			}
+		}
+	}
+
 	@Test
 	public void computeDerivX() {
 		Point[] samples = new Point[8];
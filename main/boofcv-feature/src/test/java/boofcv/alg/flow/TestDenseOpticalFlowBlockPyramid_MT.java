@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.flow;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.transform.pyramid.FactoryPyramid;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.pyramid.ConfigDiscreteLevels;
+import boofcv.struct.pyramid.ImagePyramid;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDenseOpticalFlowBlockPyramid_MT extends ChecksDenseOpticalFlowBlockPyramid<GrayU8> {
+
+	public TestDenseOpticalFlowBlockPyramid_MT() {
+		super(GrayU8.class);
+	}
+
+	@Override
+	public DenseOpticalFlowBlockPyramid<GrayU8> createAlg(int searchRadius, int regionRadius, int maxPerPixelError) {
+		return new DenseOpticalFlowBlockPyramid_MT<>(
+				()->new DenseOpticalFlowBlockPyramid.U8(searchRadius,regionRadius,maxPerPixelError));
+	}
+
+	/**
+	 * The output should be identical to the single threaded implementation
+	 */
+	@Test
+	public void compareToSingleThread() {
+		// textured image with a flat region and a large motion so that some regions are invalid
+		GrayU8 image0 = new GrayU8(40,50);
+		GrayU8 image1 = new GrayU8(40,50);
+		ImageMiscOps.fillUniform(image0,rand,0,200);
+		ImageMiscOps.fillRectangle(image0,50,10,12,8,10);
+		ImageMiscOps.fillUniform(image1,rand,0,200);
+		ImageMiscOps.copy(0,0,2,1,30,40,image0,image1);
+
+		ImagePyramid<GrayU8> pyr0 = FactoryPyramid.discreteGaussian(
+				ConfigDiscreteLevels.levels(3),0,2,false, ImageType.single(GrayU8.class));
+		ImagePyramid<GrayU8> pyr1 = FactoryPyramid.discreteGaussian(
+				ConfigDiscreteLevels.levels(3),0,2,false, ImageType.single(GrayU8.class));
+		pyr0.process(image0);
+		pyr1.process(image1);
+
+		DenseOpticalFlowBlockPyramid<GrayU8> single = new DenseOpticalFlowBlockPyramid.U8(2,3,10);
+		DenseOpticalFlowBlockPyramid<GrayU8> concurrent = createAlg(2,3,10);
+
+		single.process(pyr0,pyr1);
+		concurrent.process(pyr0,pyr1);
+
+		ImageFlow expected = single.getOpticalFlow();
+		ImageFlow found = concurrent.getOpticalFlow();
+
+		for( int y = 0; y < expected.height; y++ ) {
+			for( int x = 0; x < expected.width; x++ ) {
+				ImageFlow.D e = expected.get(x,y);
+				ImageFlow.D f = found.get(x,y);
+				assertEquals(e.isValid(),f.isValid());
+				if( e.isValid() ) {
+					assertEquals(e.x,f.x);
+					assertEquals(e.y,f.y);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.flow;
+
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.tracker.klt.ConfigPKlt;
+import boofcv.alg.transform.pyramid.PyramidOps;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.factory.tracker.FactoryTrackerAlg;
+import boofcv.factory.transform.pyramid.FactoryPyramid;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.pyramid.ConfigDiscreteLevels;
+import boofcv.struct.pyramid.ImagePyramid;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestDenseOpticalFlowKlt_MT {
+	Random rand = new Random(234);
+
+	GrayF32 image0 = new GrayF32(30,40);
+	GrayF32 image1 = new GrayF32(30,40);
+
+	ConfigPKlt config = new ConfigPKlt();
+
+	@Test
+	void compareToSingleThread() {
+		config.pyramidLevels = ConfigDiscreteLevels.levels(2);
+		config.config.maxPerPixelError = 15;
+
+		// textured image with a few flat regions so that some tracks fail
+		ImageMiscOps.fillUniform(image0,rand,0,100);
+		ImageMiscOps.fillRectangle(image0,50,5,5,8,10);
+		ImageMiscOps.fill(image1,0);
+		ImageMiscOps.copy(0,0,1,2,image0.width-1,image0.height-2,image0,image1);
+
+		ImagePyramid<GrayF32> prev = FactoryPyramid.discreteGaussian(config.pyramidLevels, -1, 2, true, ImageType.single(GrayF32.class));
+		ImagePyramid<GrayF32> curr = FactoryPyramid.discreteGaussian(config.pyramidLevels, -1, 2, true, ImageType.single(GrayF32.class));
+		prev.process(image0);
+		curr.process(image1);
+
+		ImageGradient<GrayF32, GrayF32> gradient = FactoryDerivative.sobel(GrayF32.class, GrayF32.class);
+		GrayF32[] prevDerivX = PyramidOps.declareOutput(prev,ImageType.SB_F32);
+		GrayF32[] prevDerivY = PyramidOps.declareOutput(prev,ImageType.SB_F32);
+		PyramidOps.gradient(prev, gradient, prevDerivX,prevDerivY);
+
+		DenseOpticalFlowKlt<GrayF32,GrayF32> single = new DenseOpticalFlowKlt<>(
+				FactoryTrackerAlg.kltPyramid(config.config, GrayF32.class, GrayF32.class), 3);
+		DenseOpticalFlowKlt<GrayF32,GrayF32> concurrent = new DenseOpticalFlowKlt_MT<>(
+				()->FactoryTrackerAlg.kltPyramid(config.config, GrayF32.class, GrayF32.class), 3);
+
+		ImageFlow expected = new ImageFlow(image0.width,image0.height);
+		ImageFlow found = new ImageFlow(image0.width,image0.height);
+
+		single.process(prev,prevDerivX,prevDerivY,curr,expected);
+		concurrent.process(prev,prevDerivX,prevDerivY,curr,found);
+
+		for( int y = 0; y < image0.height; y++ ) {
+			for( int x = 0; x < image0.width; x++ ) {
+				ImageFlow.D e = expected.get(x,y);
+				ImageFlow.D f = found.get(x,y);
+				assertEquals(e.isValid(),f.isValid());
+				if( e.isValid() ) {
+					assertEquals(e.x,f.x);
+					assertEquals(e.y,f.y);
+				}
+			}
+		}
+	}
+}
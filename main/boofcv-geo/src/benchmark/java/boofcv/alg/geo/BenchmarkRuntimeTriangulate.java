@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -20,11 +20,19 @@ package boofcv.alg.geo;
 
 import boofcv.alg.geo.triangulate.PixelDepthLinearMetric;
 import boofcv.alg.geo.triangulate.Triangulate2ViewsGeometricMetric;
+import boofcv.alg.geo.triangulate.TriangulateMetricBatch;
 import boofcv.alg.geo.triangulate.TriangulateMetricLinearDLT;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
+import boofcv.struct.geo.PackedTriangulationObservations;
 import georegression.struct.point.Point3D_F64;
 import georegression.struct.point.Point4D_F64;
+import georegression.struct.se.Se3_F64;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author Peter Abeles
@@ -66,6 +74,30 @@ public class BenchmarkRuntimeTriangulate extends ArtificialStereoScene {
 		}
 	}
 
+	public class DLT2Batch extends PerformerBase {
+
+		TriangulateMetricBatch alg = new TriangulateMetricBatch();
+		PackedTriangulationObservations packed = new PackedTriangulationObservations();
+		List<Se3_F64> worldToView = new ArrayList<>();
+		GrowQueue_F64 found = new GrowQueue_F64();
+		GrowQueue_B success = new GrowQueue_B();
+
+		public DLT2Batch() {
+			worldToView.add(new Se3_F64());
+			worldToView.add(motion);
+			for( int i = 0; i < NUM_POINTS; i++ ) {
+				packed.startPoint();
+				packed.addObservation(0,pairs.get(i).p1.x,pairs.get(i).p1.y);
+				packed.addObservation(1,pairs.get(i).p2.x,pairs.get(i).p2.y);
+			}
+		}
+
+		@Override
+		public void process() {
+			alg.triangulate(packed,worldToView,found,success);
+		}
+	}
+
 	public class PixelDepth extends PerformerBase {
 
 		PixelDepthLinearMetric alg;
@@ -89,6 +121,7 @@ public class BenchmarkRuntimeTriangulate extends ArtificialStereoScene {
 		init(NUM_POINTS,FUNDAMENTAL,false);
 
 		ProfileOperation.printOpsPerSec(new DLT2(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new DLT2Batch(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Geo2(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new PixelDepth(), TEST_TIME);
 
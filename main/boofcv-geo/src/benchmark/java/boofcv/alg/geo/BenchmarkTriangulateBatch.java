@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo;
+
+import boofcv.alg.geo.triangulate.Triangulate2ViewsGeometricMetric;
+import boofcv.alg.geo.triangulate.TriangulateMetricBatch;
+import boofcv.alg.geo.triangulate.TriangulateMetricLinearDLT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.geo.AssociatedPair;
+import boofcv.struct.geo.PackedTriangulationObservations;
+import georegression.struct.point.Point2D_F64;
+import georegression.struct.point.Point3D_F64;
+import georegression.struct.point.Point4D_F64;
+import georegression.struct.se.Se3_F64;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares triangulating points one at a time against the batch API. Uses the same scene as
+ * {@link BenchmarkRuntimeTriangulate}.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkTriangulateBatch extends ArtificialStereoScene {
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"500","20000"})
+	public int numPoints;
+
+	// Observations in the format each API expects
+	PackedTriangulationObservations packed = new PackedTriangulationObservations();
+	GrowQueue_F64 packedPairs = new GrowQueue_F64();
+	List<Se3_F64> worldToView = new ArrayList<>();
+
+	TriangulateMetricLinearDLT dlt = new TriangulateMetricLinearDLT();
+	Triangulate2ViewsGeometricMetric geometric = new Triangulate2ViewsGeometricMetric();
+	TriangulateMetricBatch batch = new TriangulateMetricBatch();
+
+	Point4D_F64 found4 = new Point4D_F64();
+	Point3D_F64 found3 = new Point3D_F64();
+	GrowQueue_F64 foundPacked = new GrowQueue_F64();
+	GrowQueue_B success = new GrowQueue_B();
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		init(numPoints,false,false);
+
+		worldToView.clear();
+		worldToView.add(new Se3_F64());
+		worldToView.add(motion);
+
+		packed.reset();
+		packedPairs.reset();
+		for (int i = 0; i < pairs.size(); i++) {
+			AssociatedPair p = pairs.get(i);
+			packed.startPoint();
+			packed.addObservation(0,p.p1.x,p.p1.y);
+			packed.addObservation(1,p.p2.x,p.p2.y);
+			packedPairs.add(p.p1.x);
+			packedPairs.add(p.p1.y);
+			packedPairs.add(p.p2.x);
+			packedPairs.add(p.p2.y);
+		}
+	}
+
+	/**
+	 * How the N-view API is typically used. Lists are created for every point.
+	 */
+	@Benchmark
+	public void dlt_lists() {
+		for (int i = 0; i < pairs.size(); i++) {
+			AssociatedPair p = pairs.get(i);
+			List<Point2D_F64> obs = new ArrayList<>();
+			obs.add(p.p1);
+			obs.add(p.p2);
+			dlt.triangulate(obs,worldToView,found4);
+		}
+	}
+
+	@Benchmark
+	public void dlt_packed_single() {
+		for (int i = 0; i < pairs.size(); i++) {
+			dlt.triangulate(packed,i,worldToView,found4);
+		}
+	}
+
+	@Benchmark
+	public void dlt_batch() {
+		batch.triangulate(packed,worldToView,foundPacked,success);
+	}
+
+	@Benchmark
+	public void geometric_single() {
+		for (int i = 0; i < pairs.size(); i++) {
+			AssociatedPair p = pairs.get(i);
+			geometric.triangulate(p.p1,p.p2,motion,found3);
+		}
+	}
+
+	@Benchmark
+	public void geometric_batch() {
+		batch.triangulate(packedPairs,motion,foundPacked);
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -27,6 +27,9 @@ import javax.annotation.Nullable;
  * Generalized camera model for bundle adjustment. By implementing this function you can swap in and out
  * arbitrary camera models.
  *
+ * The concurrent residual and Jacobian implementations will invoke {@link #project} and {@link #jacobian} from
+ * multiple threads at once. Implementations should not modify internal state inside of those two functions.
+ *
  * @author Peter Abeles
  */
 public interface BundleAdjustmentCamera {
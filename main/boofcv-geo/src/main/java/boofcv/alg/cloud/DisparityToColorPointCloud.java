@@ -18,6 +18,7 @@
 
 package boofcv.alg.cloud;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.distort.Point2Transform2_F64;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
@@ -26,6 +27,7 @@ import georegression.geometry.GeometryMath_F32;
 import georegression.struct.point.Point2D_F64;
 import georegression.struct.point.Point3D_F32;
 import georegression.struct.shapes.Rectangle2D_I32;
+import org.ddogleg.struct.FastQueue;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.data.FMatrixRMaj;
 import org.ejml.ops.ConvertMatrixData;
@@ -73,6 +75,9 @@ public class DisparityToColorPointCloud {
 	// region of interest
 	Rectangle2D_I32 roi = new Rectangle2D_I32();
 
+	// workspace for each thread when accumulating into a voxel grid
+	FastQueue<VoxelWorker> workers = new FastQueue<>(VoxelWorker::new);
+
 	/**
 	 * Stereo and intrinsic camera parameters
 	 * @param baseline Stereo baseline (world units)
@@ -123,11 +128,17 @@ public class DisparityToColorPointCloud {
 	 * @param output (Output) destination for the colorized point cloud
 	 */
 	private void process(GrayU8 disparity , ColorImage color , PointCloudWriter output ) {
+		process(disparity,color,output,Math.max(roi.y0,0),Math.min(roi.y1,disparity.height),p,colorPt,rectifiedToColor);
+	}
+
+	/**
+	 * Converts rows y0 to y1 (exclusive) of the disparity image into a color point cloud.
+	 */
+	private void process(GrayU8 disparity , ColorImage color , PointCloudWriter output , int y0 , int y1 ,
+						 Point3D_F32 p , Point2D_F64 colorPt , Point2Transform2_F64 rectifiedToColor ) {
 
 		final int x0 = Math.max(roi.x0,0);
-		final int y0 = Math.max(roi.y0,0);
 		final int x1 = Math.min(roi.x1,disparity.width);
-		final int y1 = Math.min(roi.y1,disparity.height);
 
 		for( int pixelY = y0; pixelY < y1; pixelY++ ) {
 			int index = disparity.startIndex + disparity.stride*pixelY + x0;
@@ -153,7 +164,7 @@ public class DisparityToColorPointCloud {
 				// Bring it back into left camera frame
 				GeometryMath_F32.multTran(rectifiedR,p,p);
 
-				output.add(p.x,p.y,p.z,getColor(color, pixelX, pixelY));
+				output.add(p.x,p.y,p.z,getColor(color, pixelX, pixelY, colorPt, rectifiedToColor));
 			}
 		}
 	}
@@ -165,11 +176,17 @@ public class DisparityToColorPointCloud {
 	 * @param output (Output) destination for the colorized point cloud
 	 */
 	private void process(GrayF32 disparity , ColorImage color , PointCloudWriter output) {
+		process(disparity,color,output,Math.max(roi.y0,0),Math.min(roi.y1,disparity.height),p,colorPt,rectifiedToColor);
+	}
+
+	/**
+	 * Converts rows y0 to y1 (exclusive) of the disparity image into a color point cloud.
+	 */
+	private void process(GrayF32 disparity , ColorImage color , PointCloudWriter output , int y0 , int y1 ,
+						 Point3D_F32 p , Point2D_F64 colorPt , Point2Transform2_F64 rectifiedToColor ) {
 
 		final int x0 = Math.max(roi.x0,0);
-		final int y0 = Math.max(roi.y0,0);
 		final int x1 = Math.min(roi.x1,disparity.width);
-		final int y1 = Math.min(roi.y1,disparity.height);
 
 		for( int pixelY = y0; pixelY < y1; pixelY++ ) {
 			int index = disparity.startIndex + disparity.stride*pixelY + x0;
@@ -194,18 +211,59 @@ public class DisparityToColorPointCloud {
 				// Bring it back into left camera frame
 				GeometryMath_F32.multTran(rectifiedR,p,p);
 
-				output.add(p.x,p.y,p.z,getColor(color, pixelX, pixelY));
+				output.add(p.x,p.y,p.z,getColor(color, pixelX, pixelY, colorPt, rectifiedToColor));
 			}
 		}
 	}
 
+	/**
+	 * Streaming version of {@link #process(ImageGray, ColorImage, PointCloudWriter)}. Instead of writing out every
+	 * valid pixel the points are accumulated directly into a voxel grid, so a sequence of disparity images can be
+	 * fused into a cloud with a bounded size. The grid is not reset. If concurrency is turned on then the image is
+	 * split into bands of rows, each band is accumulated into its own grid, and the grids are then merged into
+	 * the output.
+	 *
+	 * @param disparity (Input) Disparity image
+	 * @param color (Input) Color image
+	 * @param output (Output) voxel grid that the points are added to
+	 */
+	public void processVoxels(ImageGray<?> disparity , ColorImage color , VoxelGridPointCloud output ) {
+		if( !(disparity instanceof GrayU8 || disparity instanceof GrayF32) )
+			throw new IllegalArgumentException("Unsupported image type "+disparity.getClass().getSimpleName());
+
+		if( !BoofConcurrency.isUseConcurrent() ) {
+			process(disparity,color,output);
+			return;
+		}
+
+		final int y0 = Math.max(roi.y0,0);
+		final int y1 = Math.min(roi.y1,disparity.height);
+		if( y1 <= y0 )
+			return;
+
+		// have each thread accumulate into its own grid then merge them together
+		workers.reset();
+		BoofConcurrency.loopBlocks(y0,y1,workers,(worker,row0,row1)->{
+			worker.init(output.getVoxelSize());
+			if( disparity instanceof GrayU8 )
+				process((GrayU8)disparity,color,worker.grid,row0,row1,worker.p,worker.colorPt,worker.rectifiedToColor);
+			else
+				process((GrayF32)disparity,color,worker.grid,row0,row1,worker.p,worker.colorPt,worker.rectifiedToColor);
+		});
+
+		for (int i = 0; i < workers.size; i++) {
+			output.merge(workers.get(i).grid);
+		}
+	}
+
 	/**
 	 * @param color color image
 	 * @param x coordinate in disparity image
 	 * @param y coordinate in disparity image
 	 * @return RGB
 	 */
-	private int getColor(ColorImage color, int x, int y ) {
+	private static int getColor(ColorImage color, int x, int y,
+								Point2D_F64 colorPt, Point2Transform2_F64 rectifiedToColor ) {
 		rectifiedToColor.compute(x,y,colorPt);
 		int xx = (int)colorPt.getX();
 		int yy = (int)colorPt.getY();
@@ -235,6 +293,24 @@ public class DisparityToColorPointCloud {
 		roi.set(-1,-1,Integer.MAX_VALUE,Integer.MAX_VALUE);
 	}
 
+	/**
+	 * Workspace for a single thread
+	 */
+	class VoxelWorker {
+		VoxelGridPointCloud grid = new VoxelGridPointCloud(1.0);
+		Point3D_F32 p = new Point3D_F32();
+		Point2D_F64 colorPt = new Point2D_F64();
+		Point2Transform2_F64 rectifiedToColor;
+
+		void init( double voxelSize ) {
+			if( grid.getVoxelSize() != voxelSize )
+				grid.setVoxelSize(voxelSize);
+			else
+				grid.reset();
+			rectifiedToColor = DisparityToColorPointCloud.this.rectifiedToColor.copyConcurrent();
+		}
+	}
+
 	/**
 	 * Interface for accessing RGB values inside an image
 	 */
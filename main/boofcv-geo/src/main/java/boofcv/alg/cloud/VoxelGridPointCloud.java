@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.cloud;
+
+import georegression.struct.point.Point3D_F64;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Point cloud writer which accumulates points into a voxel grid on the fly instead of saving every point. Each
+ * occupied voxel stores the sum of the position and color of all the points which fell inside of it and the
+ * number of points. When read the mean position and mean color is returned. This allows a stream of very dense
+ * point clouds to be fused into a cloud whose size is bounded by the number of occupied voxels.
+ * </p>
+ *
+ * <p>
+ * Voxels are looked up using an open addressing hash table keyed by the voxel's packed integer coordinate. All
+ * storage is in primitive arrays which are recycled when {@link #reset()} is called. Voxel coordinates are packed
+ * into 21-bits each, which limits the cloud to 2<sup>20</sup> voxels from the origin along each axis. Points
+ * outside of that range are ignored.
+ * </p>
+ *
+ * <p>
+ * {@link #init(int)} does nothing, allowing the same grid to accumulate the output of multiple calls to a
+ * producer. Call {@link #reset()} to discard previously accumulated points.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class VoxelGridPointCloud implements PointCloudWriter {
+	// Largest magnitude of a voxel coordinate along any single axis
+	public static final int MAX_COORDINATE = (1 << 20) - 1;
+	// Indicates that an element in the hash table is empty
+	private static final int EMPTY = -1;
+
+	// Length of each side of a voxel
+	double voxelSize;
+
+	// Sum of x,y,z,r,g,b for each voxel
+	final GrowQueue_F64 sums = new GrowQueue_F64();
+	// Number of points inside each voxel
+	final GrowQueue_I32 counts = new GrowQueue_I32();
+	// Packed voxel coordinate for each voxel
+	long[] voxelKeys = new long[0];
+
+	// Hash table. Each element references a voxel index or is EMPTY
+	int[] table;
+
+	/**
+	 * Creates a voxel grid
+	 *
+	 * @param voxelSize Length of each side of a voxel. World units.
+	 */
+	public VoxelGridPointCloud( double voxelSize ) {
+		setVoxelSize(voxelSize);
+		table = new int[1024];
+		Arrays.fill(table, EMPTY);
+	}
+
+	/**
+	 * Changes the voxel size and discards all accumulated points
+	 */
+	public void setVoxelSize( double voxelSize ) {
+		if (voxelSize <= 0)
+			throw new IllegalArgumentException("Voxel size must be greater than zero");
+		this.voxelSize = voxelSize;
+		reset();
+	}
+
+	public double getVoxelSize() {
+		return voxelSize;
+	}
+
+	/**
+	 * Discards all accumulated points while keeping the allocated memory
+	 */
+	public void reset() {
+		if (table != null && counts.size > 0)
+			Arrays.fill(table, EMPTY);
+		sums.reset();
+		counts.reset();
+	}
+
+	@Override
+	public void init( int estimatedSize ) {}
+
+	@Override
+	public void add( double x, double y, double z ) {
+		add(x, y, z, 0);
+	}
+
+	@Override
+	public void add( double x, double y, double z, int rgb ) {
+		long key = key(x, y, z);
+		if (key < 0)
+			return;
+		int voxel = lookup(key);
+		counts.data[voxel]++;
+		int idx = voxel*6;
+		double[] s = sums.data;
+		s[idx    ] += x;
+		s[idx + 1] += y;
+		s[idx + 2] += z;
+		s[idx + 3] += (rgb >> 16) & 0xFF;
+		s[idx + 4] += (rgb >> 8) & 0xFF;
+		s[idx + 5] += rgb & 0xFF;
+	}
+
+	/**
+	 * Adds all the voxels from 'src' into this grid. Both grids must have the same voxel size.
+	 */
+	public void merge( VoxelGridPointCloud src ) {
+		if (src.voxelSize != voxelSize)
+			throw new IllegalArgumentException("Voxel sizes must be the same");
+
+		for (int i = 0; i < src.counts.size; i++) {
+			int voxel = lookup(src.voxelKeys[i]);
+			counts.data[voxel] += src.counts.data[i];
+			int idxDst = voxel*6;
+			int idxSrc = i*6;
+			for (int j = 0; j < 6; j++) {
+				sums.data[idxDst + j] += src.sums.data[idxSrc + j];
+			}
+		}
+	}
+
+	/**
+	 * Number of occupied voxels
+	 */
+	public int size() {
+		return counts.size;
+	}
+
+	/**
+	 * Number of points which were accumulated inside the specified voxel
+	 */
+	public int getCount( int voxel ) {
+		return counts.get(voxel);
+	}
+
+	/**
+	 * Mean location of points inside the specified voxel
+	 */
+	public void getPoint( int voxel, Point3D_F64 p ) {
+		int idx = voxel*6;
+		double n = counts.get(voxel);
+		p.x = sums.data[idx]/n;
+		p.y = sums.data[idx + 1]/n;
+		p.z = sums.data[idx + 2]/n;
+	}
+
+	/**
+	 * Mean color of points inside the specified voxel
+	 */
+	public int getRGB( int voxel ) {
+		int idx = voxel*6;
+		double n = counts.get(voxel);
+		int r = (int)(sums.data[idx + 3]/n + 0.5);
+		int g = (int)(sums.data[idx + 4]/n + 0.5);
+		int b = (int)(sums.data[idx + 5]/n + 0.5);
+		return r << 16 | g << 8 | b;
+	}
+
+	/**
+	 * Writes the mean point and color of every occupied voxel
+	 */
+	public void writeTo( PointCloudWriter output ) {
+		output.init(counts.size);
+		for (int voxel = 0; voxel < counts.size; voxel++) {
+			int idx = voxel*6;
+			double n = counts.data[voxel];
+			output.add(sums.data[idx]/n, sums.data[idx + 1]/n, sums.data[idx + 2]/n, getRGB(voxel));
+		}
+	}
+
+	/**
+	 * Computes the packed coordinate of the voxel which contains the point. Returns -1 if the voxel can't be
+	 * represented.
+	 */
+	long key( double x, double y, double z ) {
+		double vx = Math.floor(x/voxelSize);
+		double vy = Math.floor(y/voxelSize);
+		double vz = Math.floor(z/voxelSize);
+
+		// This will also reject NaN
+		if (!(Math.abs(vx) <= MAX_COORDINATE && Math.abs(vy) <= MAX_COORDINATE && Math.abs(vz) <= MAX_COORDINATE))
+			return -1;
+
+		long ix = (long)vx + MAX_COORDINATE;
+		long iy = (long)vy + MAX_COORDINATE;
+		long iz = (long)vz + MAX_COORDINATE;
+
+		return (ix << 42) | (iy << 21) | iz;
+	}
+
+	/**
+	 * Returns the index of the voxel with the specified key, creating the voxel if it doesn't exist
+	 */
+	int lookup( long key ) {
+		int mask = table.length - 1;
+		int slot = hash(key) & mask;
+		while (true) {
+			int voxel = table[slot];
+			if (voxel == EMPTY)
+				break;
+			if (voxelKeys[voxel] == key)
+				return voxel;
+			slot = (slot + 1) & mask;
+		}
+
+		// create a new voxel
+		int voxel = counts.size;
+		counts.add(0);
+		sums.extend(sums.size + 6);
+		Arrays.fill(sums.data, voxel*6, voxel*6 + 6, 0.0);
+		if (voxelKeys.length <= voxel)
+			voxelKeys = Arrays.copyOf(voxelKeys, Math.max(16, voxel*2));
+		voxelKeys[voxel] = key;
+		table[slot] = voxel;
+
+		// keep the load factor below 0.5
+		if (counts.size*2 > table.length)
+			growTable();
+
+		return voxel;
+	}
+
+	/**
+	 * Doubles the size of the hash table and reinserts all the voxels
+	 */
+	private void growTable() {
+		table = new int[table.length*2];
+		Arrays.fill(table, EMPTY);
+		int mask = table.length - 1;
+		for (int voxel = 0; voxel < counts.size; voxel++) {
+			int slot = hash(voxelKeys[voxel]) & mask;
+			while (table[slot] != EMPTY)
+				slot = (slot + 1) & mask;
+			table[slot] = voxel;
+		}
+	}
+
+	private static int hash( long key ) {
+		key *= 0x9E3779B97F4A7C15L;
+		return (int)(key ^ (key >>> 32));
+	}
+}
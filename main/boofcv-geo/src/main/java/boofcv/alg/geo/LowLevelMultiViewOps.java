@@ -74,6 +74,46 @@ public class LowLevelMultiViewOps {
 		normalize.stdY = Math.sqrt(stdY/points.size());
 	}
 
+	/**
+	 * Same as {@link #computeNormalization(List, NormalizationPoint2D)} but the points are packed into an array
+	 * as (x,y) pairs.
+	 *
+	 * @param pixels Input: Array of interleaved x,y coordinates. Not modified.
+	 * @param idx0 Index of the first point. Inclusive.
+	 * @param idx1 Index of the last point. Exclusive.
+	 * @param normalize Output: 3x3 normalization matrix for the points. Modified.
+	 */
+	public static void computeNormalization( double[] pixels, int idx0, int idx1, NormalizationPoint2D normalize )
+	{
+		final int N = idx1-idx0;
+		double meanX = 0;
+		double meanY = 0;
+
+		for( int i = idx0; i < idx1; i++ ) {
+			meanX += pixels[i*2];
+			meanY += pixels[i*2+1];
+		}
+
+		meanX /= N;
+		meanY /= N;
+
+		double stdX = 0;
+		double stdY = 0;
+
+		for( int i = idx0; i < idx1; i++ ) {
+			double dx = pixels[i*2]   - meanX;
+			double dy = pixels[i*2+1] - meanY;
+			stdX += dx*dx;
+			stdY += dy*dy;
+		}
+
+		normalize.meanX = meanX;
+		normalize.meanY = meanY;
+
+		normalize.stdX = Math.sqrt(stdX/N);
+		normalize.stdY = Math.sqrt(stdY/N);
+	}
+
 	/**
 	 * Computes normalization when points are contained in a list of lists
 	 * @param points Input: List of observed points. Not modified.
@@ -47,30 +47,23 @@ public class BundleAdjustmentMetricResidualFunction
 		implements BundleAdjustmentSchur_DSCC.FunctionResiduals<SceneStructureMetric>
 
 {
-	private SceneStructureMetric structure;
-	private SceneObservations observations;
-
-	// feature location in world coordinates
-	private Point3D_F64 worldPt = new Point3D_F64();
+	protected SceneStructureMetric structure;
+	protected SceneObservations observations;
 
 	// number of parameters being optimised
 	private int numParameters;
 	// number of observations.  2 for each point in each view
 	private int numObservations;
 
-	// local variable which stores the predicted location of the feature in the camera frame
-	private Point3D_F64 cameraPt = new Point3D_F64();
+	// index of the first observation in each view
+	protected int[] viewFirstObservation = new int[0];
 
-	// Storage for rendered output
-	private Point2D_F64 predictedPixel = new Point2D_F64();
-	private PointIndex2D_F64 observedPixel = new PointIndex2D_F64();
+	// Storage for intermediate results when projecting points
+	private Workspace workspace = new Workspace();
 
 	// Used to write the "unknown" paramters into the scene
 	CodecSceneStructureMetric codec = new CodecSceneStructureMetric();
 
-	Point3D_F64 p3 = new Point3D_F64();
-	Point4D_F64 p4 = new Point4D_F64();
-
 	/**
 	 * Specifies the scenes structure and observed feature locations
 	 */
@@ -84,6 +77,17 @@ public class BundleAdjustmentMetricResidualFunction
 		numObservations = observations.getObservationCount();
 		numParameters = structure.getParameterCount();
 		structure.assignIDsToRigidPoints();
+
+		// Pre-compute where each view's observations start in the output vector
+		if( viewFirstObservation.length < structure.views.size )
+			viewFirstObservation = new int[structure.views.size];
+		int total = 0;
+		for( int viewIndex = 0; viewIndex < structure.views.size; viewIndex++ ) {
+			viewFirstObservation[viewIndex] = total;
+			total += observations.views.get(viewIndex).size();
+			if( observations.hasRigid() )
+				total += observations.viewsRigid.get(viewIndex).size();
+		}
 	}
 
 	@Override
@@ -103,69 +107,86 @@ public class BundleAdjustmentMetricResidualFunction
 		codec.decode(input,structure);
 
 		// Project the general scene now
-		if( structure.homogenous )
-			project4(output);
-		else
-			project3(output);
+		projectViews(0,structure.views.size,output,workspace);
+	}
+
+	/**
+	 * Computes the residuals for all observations in the specified range of views
+	 *
+	 * @param viewStart First view, inclusive
+	 * @param viewEnd Last view, exclusive
+	 * @param output Residual vector
+	 * @param work Storage for intermediate results
+	 */
+	protected void projectViews( int viewStart , int viewEnd , double[] output , Workspace work ) {
+		for( int viewIndex = viewStart; viewIndex < viewEnd; viewIndex++ ) {
+			if( structure.homogenous )
+				project4(viewIndex,output,work);
+			else
+				project3(viewIndex,output,work);
+		}
 	}
 
 	/**
 	 * projection from 3D coordinates
 	 */
-	private void project3(double[] output) {
-		int observationIndex = 0;
-		for( int viewIndex = 0; viewIndex < structure.views.size; viewIndex++ ) {
-			SceneStructureMetric.View view = structure.views.get(viewIndex);
-			SceneStructureMetric.Camera camera = structure.cameras.get(view.camera);
-
-			//=========== Project General Points in this View
-			{
-				SceneObservations.View obsView = observations.views.get(viewIndex);
-				for (int i = 0; i < obsView.size(); i++) {
-					obsView.get(i, observedPixel);
-					SceneStructureMetric.Point worldPt = structure.points.data[observedPixel.index];
-					worldPt.get(p3);
-
-					SePointOps_F64.transform(view.worldToView, p3, cameraPt);
-
-					camera.model.project(cameraPt.x, cameraPt.y, cameraPt.z, predictedPixel);
-
-					int outputIndex = observationIndex * 2;
-					output[outputIndex] = predictedPixel.x - observedPixel.x;
-					output[outputIndex + 1] = predictedPixel.y - observedPixel.y;
-					observationIndex++;
-				}
+	private void project3( int viewIndex , double[] output , Workspace work ) {
+		final PointIndex2D_F64 observedPixel = work.observedPixel;
+		final Point2D_F64 predictedPixel = work.predictedPixel;
+		final Point3D_F64 cameraPt = work.cameraPt;
+		final Point3D_F64 p3 = work.p3;
+
+		int observationIndex = viewFirstObservation[viewIndex];
+		SceneStructureMetric.View view = structure.views.get(viewIndex);
+		SceneStructureMetric.Camera camera = structure.cameras.get(view.camera);
+
+		//=========== Project General Points in this View
+		{
+			SceneObservations.View obsView = observations.views.get(viewIndex);
+			for (int i = 0; i < obsView.size(); i++) {
+				obsView.get(i, observedPixel);
+				SceneStructureMetric.Point worldPt = structure.points.data[observedPixel.index];
+				worldPt.get(p3);
+
+				SePointOps_F64.transform(view.worldToView, p3, cameraPt);
+
+				camera.model.project(cameraPt.x, cameraPt.y, cameraPt.z, predictedPixel);
+
+				int outputIndex = observationIndex * 2;
+				output[outputIndex] = predictedPixel.x - observedPixel.x;
+				output[outputIndex + 1] = predictedPixel.y - observedPixel.y;
+				observationIndex++;
 			}
+		}
 
-			//=========== Project Rigid Object Points in this View
-			if( observations.hasRigid() )
-			{
-				SceneObservations.View obsView = observations.viewsRigid.get(viewIndex);
-				for (int i = 0; i < obsView.size(); i++) {
-					obsView.get(i,observedPixel);
-
-					// Use lookup table to figure out which rigid object it belongs to
-					int rigidIndex = structure.lookupRigid[observedPixel.index];
-					SceneStructureMetric.Rigid rigid = structure.rigids.get(rigidIndex);
-					// Compute the point's index on the rigid object
-					int pointIndex = observedPixel.index - rigid.indexFirst;
-
-					// Load the 3D location of point on the rigid body
-					SceneStructureMetric.Point objectPt = rigid.points[pointIndex];
-					objectPt.get(p3);
-
-					// Tranform to world frame and from world to camera
-					SePointOps_F64.transform(rigid.objectToWorld,p3, worldPt);
-					SePointOps_F64.transform(view.worldToView,worldPt, cameraPt);
-
-					// Project and compute residual
-					camera.model.project(cameraPt.x, cameraPt.y, cameraPt.z, predictedPixel);
-
-					int outputIndex = observationIndex*2;
-					output[outputIndex  ] = predictedPixel.x - observedPixel.x;
-					output[outputIndex+1] = predictedPixel.y - observedPixel.y;
-					observationIndex++;
-				}
+		//=========== Project Rigid Object Points in this View
+		if( observations.hasRigid() )
+		{
+			SceneObservations.View obsView = observations.viewsRigid.get(viewIndex);
+			for (int i = 0; i < obsView.size(); i++) {
+				obsView.get(i,observedPixel);
+
+				// Use lookup table to figure out which rigid object it belongs to
+				int rigidIndex = structure.lookupRigid[observedPixel.index];
+				SceneStructureMetric.Rigid rigid = structure.rigids.get(rigidIndex);
+				// Compute the point's index on the rigid object
+				int pointIndex = observedPixel.index - rigid.indexFirst;
+
+				// Load the 3D location of point on the rigid body
+				SceneStructureMetric.Point objectPt = rigid.points[pointIndex];
+				objectPt.get(p3);
+
+				// Tranform to world frame and from world to camera
+				SePointOps_F64.transform(rigid.objectToWorld,p3, work.worldPt);
+				SePointOps_F64.transform(view.worldToView,work.worldPt, cameraPt);
+
+				// Project and compute residual
+				camera.model.project(cameraPt.x, cameraPt.y, cameraPt.z, predictedPixel);
+
+				int outputIndex = observationIndex*2;
+				output[outputIndex  ] = predictedPixel.x - observedPixel.x;
+				output[outputIndex+1] = predictedPixel.y - observedPixel.y;
+				observationIndex++;
 			}
 		}
 	}
@@ -173,64 +194,83 @@ public class BundleAdjustmentMetricResidualFunction
 	/**
 	 * projection from homogenous coordinates
 	 */
-	private void project4(double[] output) {
-		int observationIndex = 0;
-		for( int viewIndex = 0; viewIndex < structure.views.size; viewIndex++ ) {
-			SceneStructureMetric.View view = structure.views.get(viewIndex);
-			SceneStructureMetric.Camera camera = structure.cameras.get(view.camera);
-
-			//=========== Project General Points in this View
-			{
-				SceneObservations.View obsView = observations.views.get(viewIndex);
-
-				for (int i = 0; i < obsView.size(); i++) {
-					obsView.get(i, observedPixel);
-					SceneStructureMetric.Point worldPt = structure.points.data[observedPixel.index];
-					worldPt.get(p4);
-
-					// TODO Explain why this is correct. The last row is omited when converted to 3D
-					SePointOps_F64.transformV(view.worldToView, p4, cameraPt);
-
-					camera.model.project(cameraPt.x, cameraPt.y, cameraPt.z, predictedPixel);
-
-					int outputIndex = observationIndex * 2;
-					output[outputIndex] = predictedPixel.x - observedPixel.x;
-					output[outputIndex + 1] = predictedPixel.y - observedPixel.y;
-					observationIndex++;
-				}
+	private void project4( int viewIndex , double[] output , Workspace work ) {
+		final PointIndex2D_F64 observedPixel = work.observedPixel;
+		final Point2D_F64 predictedPixel = work.predictedPixel;
+		final Point3D_F64 cameraPt = work.cameraPt;
+		final Point4D_F64 p4 = work.p4;
+
+		int observationIndex = viewFirstObservation[viewIndex];
+		SceneStructureMetric.View view = structure.views.get(viewIndex);
+		SceneStructureMetric.Camera camera = structure.cameras.get(view.camera);
+
+		//=========== Project General Points in this View
+		{
+			SceneObservations.View obsView = observations.views.get(viewIndex);
+
+			for (int i = 0; i < obsView.size(); i++) {
+				obsView.get(i, observedPixel);
+				SceneStructureMetric.Point worldPt = structure.points.data[observedPixel.index];
+				worldPt.get(p4);
+
+				// TODO Explain why this is correct. The last row is omited when converted to 3D
+				SePointOps_F64.transformV(view.worldToView, p4, cameraPt);
+
+				camera.model.project(cameraPt.x, cameraPt.y, cameraPt.z, predictedPixel);
+
+				int outputIndex = observationIndex * 2;
+				output[outputIndex] = predictedPixel.x - observedPixel.x;
+				output[outputIndex + 1] = predictedPixel.y - observedPixel.y;
+				observationIndex++;
 			}
+		}
 
-			//=========== Project Rigid Object Points in this View
-			if( observations.hasRigid() )
-			{
-				SceneObservations.View obsView = observations.viewsRigid.get(viewIndex);
+		//=========== Project Rigid Object Points in this View
+		if( observations.hasRigid() )
+		{
+			SceneObservations.View obsView = observations.viewsRigid.get(viewIndex);
 
-				for (int i = 0; i < obsView.size(); i++) {
-					obsView.get(i,observedPixel);
+			for (int i = 0; i < obsView.size(); i++) {
+				obsView.get(i,observedPixel);
 
-					// Use lookup table to figure out which rigid object it belongs to
-					int rigidIndex = structure.lookupRigid[observedPixel.index];
-					SceneStructureMetric.Rigid rigid = structure.rigids.get(rigidIndex);
-					// Compute the point's index on the rigid object
-					int pointIndex = observedPixel.index - rigid.indexFirst;
+				// Use lookup table to figure out which rigid object it belongs to
+				int rigidIndex = structure.lookupRigid[observedPixel.index];
+				SceneStructureMetric.Rigid rigid = structure.rigids.get(rigidIndex);
+				// Compute the point's index on the rigid object
+				int pointIndex = observedPixel.index - rigid.indexFirst;
 
-					// Load the 3D location of point on the rigid body
-					SceneStructureMetric.Point objectPt = rigid.points[pointIndex];
-					objectPt.get(p4);
+				// Load the 3D location of point on the rigid body
+				SceneStructureMetric.Point objectPt = rigid.points[pointIndex];
+				objectPt.get(p4);
 
-					// Tranform to world frame and from world to camera
-					SePointOps_F64.transformV(rigid.objectToWorld,p4, worldPt);
-					SePointOps_F64.transform(view.worldToView,worldPt, cameraPt);
+				// Tranform to world frame and from world to camera
+				SePointOps_F64.transformV(rigid.objectToWorld,p4, work.worldPt);
+				SePointOps_F64.transform(view.worldToView,work.worldPt, cameraPt);
 
-					camera.model.project(cameraPt.x, cameraPt.y, cameraPt.z, predictedPixel);
+				camera.model.project(cameraPt.x, cameraPt.y, cameraPt.z, predictedPixel);
 
-					int outputIndex = observationIndex*2;
-					output[outputIndex  ] = predictedPixel.x - observedPixel.x;
-					output[outputIndex+1] = predictedPixel.y - observedPixel.y;
-					observationIndex++;
-				}
+				int outputIndex = observationIndex*2;
+				output[outputIndex  ] = predictedPixel.x - observedPixel.x;
+				output[outputIndex+1] = predictedPixel.y - observedPixel.y;
+				observationIndex++;
 			}
 		}
 	}
 
+	/**
+	 * Storage for intermediate results. One is needed for each thread.
+	 */
+	protected static class Workspace {
+		// feature location in world coordinates
+		Point3D_F64 worldPt = new Point3D_F64();
+		// local variable which stores the predicted location of the feature in the camera frame
+		Point3D_F64 cameraPt = new Point3D_F64();
+
+		// Storage for rendered output
+		Point2D_F64 predictedPixel = new Point2D_F64();
+		PointIndex2D_F64 observedPixel = new PointIndex2D_F64();
+
+		Point3D_F64 p3 = new Point3D_F64();
+		Point4D_F64 p4 = new Point4D_F64();
+	}
 }
@@ -42,8 +42,8 @@ import org.ejml.dense.row.CommonOps_DDRM;
 public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 		implements BundleAdjustmentSchur.Jacobian<SceneStructureMetric,M>
 {
-	private SceneStructureMetric structure;
-	private SceneObservations observations;
+	SceneStructureMetric structure;
+	SceneObservations observations;
 
 	// number of views with parameters that are going to be adjusted
 	private int numViewsUnknown;
@@ -84,6 +84,8 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 	private int viewParameterIndexes[];
 	// first index in input/parameters vector for each camera. Right side
 	private int cameraParameterIndexes[];
+	// index of the first observation in each view
+	private int viewFirstObservation[];
 
 	// Jacobian matrix index of x and y partial
 	private int jacRowX,jacRowY;
@@ -155,6 +157,15 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 
 		calibGradX = new double[largestCameraSize];
 		calibGradY = new double[largestCameraSize];
+
+		// pre-compute the first observation in each view so that views can be processed independently
+		viewFirstObservation = new int[structure.views.size];
+		for (int viewIndex = 0, total = 0; viewIndex < structure.views.size; viewIndex++) {
+			viewFirstObservation[viewIndex] = total;
+			total += observations.views.get(viewIndex).size();
+			if( observations.hasRigid() )
+				total += observations.viewsRigid.get(viewIndex).size();
+		}
 	}
 
 	@Override
@@ -229,6 +240,16 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 	 * @param rightView Storage for right Jacobian
 	 */
 	public void internalProcess( double[] input, DMatrix leftPoint, DMatrix rightView) {
+		reshapeJacobian(leftPoint,rightView);
+		decodeRigid(input);
+		decodeCameras(input);
+		processViews(input,leftPoint,rightView,0,structure.views.size);
+	}
+
+	/**
+	 * Reshapes the left and right Jacobian to their expected size and sets all elements to zero
+	 */
+	protected void reshapeJacobian( DMatrix leftPoint, DMatrix rightView ) {
 		int numRows = getNumOfOutputsM();
 		// number of parameters on left. All points
 		int numPointParam = structure.points.size*lengthPoint + numRigidUnknown*lengthSE3;
@@ -239,17 +260,40 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 		((ReshapeMatrix)rightView).reshape(numRows,numViewParam);
 		leftPoint.zero();
 		rightView.zero();
+	}
 
-		// parse parameters for rigid bodies. the translation + rotation is the same for all views
+	/**
+	 * Parse parameters for rigid bodies. the translation + rotation is the same for all views
+	 */
+	protected void decodeRigid( double[] input ) {
 		for (int rigidIndex = 0; rigidIndex < structure.rigids.size; rigidIndex++) {
 			if( !structure.rigids.get(rigidIndex).known ) {
 				jacRigidS03[rigidIndex].setParameters(input,indexFirstRigid+rigidParameterIndexes[rigidIndex]);
 			}
 		}
+	}
+
+	/**
+	 * Writes the intrinsic parameters into each camera model which is being optimized
+	 */
+	protected void decodeCameras( double[] input ) {
+		for (int cameraIndex = 0; cameraIndex < structure.cameras.size; cameraIndex++) {
+			SceneStructureMetric.Camera camera = structure.cameras.data[cameraIndex];
+			if( !camera.known ) {
+				camera.model.setIntrinsic(input,indexLastView+cameraParameterIndexes[cameraIndex]);
+			}
+		}
+	}
 
-		int observationIndex = 0;
-		// first decode the transformation
-		for( int viewIndex = 0; viewIndex < structure.views.size; viewIndex++ ) {
+	/**
+	 * Computes the Jacobian for all observations in the specified range of views. Rows which are not part of
+	 * these views are not modified. {@link #decodeRigid} and {@link #decodeCameras} must be called first.
+	 *
+	 * @param viewStart First view, inclusive
+	 * @param viewEnd Last view, exclusive
+	 */
+	protected void processViews( double[] input, DMatrix leftPoint, DMatrix rightView, int viewStart , int viewEnd ) {
+		for( int viewIndex = viewStart; viewIndex < viewEnd; viewIndex++ ) {
 			SceneStructureMetric.View view = structure.views.data[viewIndex];
 			SceneStructureMetric.Camera camera = structure.cameras.data[view.camera];
 
@@ -267,13 +311,11 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 				worldToView.set(view.worldToView);
 			}
 			int cameraParamStartIndex = cameraParameterIndexes[view.camera];
-			if( !camera.known ) {
-				camera.model.setIntrinsic(input,indexLastView+cameraParamStartIndex);
-			}
 
+			int observationIndex = viewFirstObservation[viewIndex];
 			observationIndex = computeGeneralPoints(leftPoint,rightView, input, observationIndex, viewIndex, view, camera, cameraParamStartIndex);
 			if( observations.hasRigid() )
-				observationIndex = computeRigidPoints(leftPoint,rightView,observationIndex, viewIndex, view, camera, cameraParamStartIndex);
+				computeRigidPoints(leftPoint,rightView,observationIndex, viewIndex, view, camera, cameraParamStartIndex);
 		}
 	}
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.bundle;
+
+import boofcv.abst.geo.bundle.SceneObservations;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import boofcv.concurrency.BoofConcurrency;
+import org.ddogleg.struct.FastQueue;
+import org.ejml.data.DMatrixRMaj;
+
+/**
+ * Concurrent implementation of {@link BundleAdjustmentMetricSchurJacobian_DDRM}. Views are split into blocks
+ * and each block is processed by its own worker. Observations in different views are written to different
+ * rows in the Jacobian, so the workers can write directly into the dense output matrices.
+ *
+ * @author Peter Abeles
+ */
+public class BundleAdjustmentMetricSchurJacobian_DDRM_MT extends BundleAdjustmentMetricSchurJacobian_DDRM {
+
+	// Each worker has its own internal workspace
+	FastQueue<Worker> workers = new FastQueue<>(Worker::new);
+
+	// Incremented each time configure is called. Workers with an older value need to be configured again
+	int configureCount = 0;
+
+	/**
+	 * The same structure and observations can be passed in again after being modified, so every worker is
+	 * configured again even if the references haven't changed
+	 */
+	@Override
+	public void configure(SceneStructureMetric structure, SceneObservations observations) {
+		super.configure(structure, observations);
+		configureCount++;
+	}
+
+	@Override
+	public void process(double[] input, DMatrixRMaj left, DMatrixRMaj right) {
+		reshapeJacobian(left,right);
+		// camera models are shared by all the workers and are decoded once
+		decodeCameras(input);
+
+		BoofConcurrency.loopBlocks(0,structure.views.size,workers,(worker,idx0,idx1)->{
+			if( worker.configureCount != configureCount ) {
+				worker.configure(structure,observations);
+				worker.configureCount = configureCount;
+			}
+			worker.decodeRigid(input);
+			worker.processViews(input,left,right,idx0,idx1);
+		});
+	}
+
+	static class Worker extends BundleAdjustmentMetricSchurJacobian_DDRM {
+		// value of configureCount when it was last configured
+		int configureCount = -1;
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.bundle;
+
+import boofcv.abst.geo.bundle.SceneObservations;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import boofcv.concurrency.BoofConcurrency;
+import org.ddogleg.struct.FastQueue;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.ops.ConvertDMatrixStruct;
+import org.ejml.sparse.csc.CommonOps_DSCC;
+
+/**
+ * Concurrent implementation of {@link BundleAdjustmentMetricSchurJacobian_DSCC}. Views are split into blocks
+ * and each block is processed by its own worker, which builds a sparse Jacobian that only contains the rows
+ * for its views. Since the rows do not overlap the final Jacobian is found by adding the partial Jacobians.
+ *
+ * @author Peter Abeles
+ */
+public class BundleAdjustmentMetricSchurJacobian_DSCC_MT extends BundleAdjustmentMetricSchurJacobian_DSCC {
+
+	// Each worker has its own internal workspace and partial Jacobian
+	FastQueue<Worker> workers = new FastQueue<>(Worker::new);
+
+	// storage for combining partial Jacobians
+	DMatrixSparseCSC work = new DMatrixSparseCSC(1,1,1);
+
+	// Incremented each time configure is called. Workers with an older value need to be configured again
+	int configureCount = 0;
+
+	/**
+	 * The same structure and observations can be passed in again after being modified, so every worker is
+	 * configured again even if the references haven't changed
+	 */
+	@Override
+	public void configure(SceneStructureMetric structure, SceneObservations observations) {
+		super.configure(structure, observations);
+		configureCount++;
+	}
+
+	@Override
+	public void process(double[] input, DMatrixSparseCSC left, DMatrixSparseCSC right) {
+		if( structure.views.size == 0 ) {
+			reshapeJacobian(left,right);
+			return;
+		}
+
+		// camera models are shared by all the workers and are decoded once
+		decodeCameras(input);
+
+		BoofConcurrency.loopBlocks(0,structure.views.size,workers,(worker,idx0,idx1)->{
+			if( worker.configureCount != configureCount ) {
+				worker.configure(structure,observations);
+				worker.configureCount = configureCount;
+			}
+			worker.reshapeJacobian(worker.leftTriplet,worker.rightTriplet);
+			worker.decodeRigid(input);
+			worker.processViews(input,worker.leftTriplet,worker.rightTriplet,idx0,idx1);
+
+			ConvertDMatrixStruct.convert(worker.leftTriplet,worker.left);
+			ConvertDMatrixStruct.convert(worker.rightTriplet,worker.right);
+		});
+
+		// Combine the results. Each worker filled in different rows
+		left.set(workers.get(0).left);
+		right.set(workers.get(0).right);
+		for (int i = 1; i < workers.size; i++) {
+			Worker w = workers.get(i);
+			CommonOps_DSCC.add(1.0,left,1.0,w.left,work,null,null);
+			left.set(work);
+			CommonOps_DSCC.add(1.0,right,1.0,w.right,work,null,null);
+			right.set(work);
+		}
+	}
+
+	static class Worker extends BundleAdjustmentMetricSchurJacobian_DSCC {
+		DMatrixSparseCSC left = new DMatrixSparseCSC(1,1,1);
+		DMatrixSparseCSC right = new DMatrixSparseCSC(1,1,1);
+		// value of configureCount when it was last configured
+		int configureCount = -1;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -52,6 +52,17 @@ public class Triangulate2ViewsGeometricMetric {
 	public void triangulate( Point2D_F64 a , Point2D_F64 b ,
 							 Se3_F64 a_to_b ,
 							 Point3D_F64 foundInA )
+	{
+		triangulate(a.x,a.y,b.x,b.y,a_to_b,foundInA);
+	}
+
+	/**
+	 * Same as {@link #triangulate(Point2D_F64, Point2D_F64, Se3_F64, Point3D_F64)} but with the observations
+	 * passed in as primitives.
+	 */
+	public void triangulate( double ax , double ay , double bx , double by ,
+							 Se3_F64 a_to_b ,
+							 Point3D_F64 foundInA )
 	{
 		// b_to_a = R'*(X_b-T)=X_a
 		// rayB should start at origin of B so X_b = 0
@@ -63,9 +74,10 @@ public class Triangulate2ViewsGeometricMetric {
 
 		// rotate observation in B into camera A's view
 		GeometryMath_F64.multTran(a_to_b.getR(),rayB.p,rayB.p);
-		GeometryMath_F64.multTran(a_to_b.getR(),b,rayB.slope);
+		rayB.slope.set(bx,by,1);
+		GeometryMath_F64.multTran(a_to_b.getR(),rayB.slope,rayB.slope);
 
-		rayA.slope.set(a.x,a.y,1);
+		rayA.slope.set(ax,ay,1);
 
 		ClosestPoint3D_F64.closestPoint(rayA,rayB,foundInA);
 	}
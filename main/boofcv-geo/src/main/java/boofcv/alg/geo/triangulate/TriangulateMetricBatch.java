@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.triangulate;
+
+import boofcv.alg.geo.GeometricResult;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.geo.PackedTriangulationObservations;
+import georegression.struct.point.Point3D_F64;
+import georegression.struct.point.Point4D_F64;
+import georegression.struct.se.Se3_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.List;
+
+/**
+ * Triangulates a large number of points at once for calibrated cameras. Observations and results are stored
+ * in packed arrays, so no memory is declared for each point, and after the first call no memory is declared at all
+ * if the number of points does not increase. If {@link BoofConcurrency#isUseConcurrent()} is true then points are
+ * split into blocks which are processed in parallel.
+ *
+ * @see TriangulateMetricLinearDLT
+ * @see Triangulate2ViewsGeometricMetric
+ *
+ * @author Peter Abeles
+ */
+public class TriangulateMetricBatch {
+
+	/**
+	 * Minimum number of points processed by a thread. Below this the overhead of threading isn't worth it.
+	 */
+	public int minBlock = 50;
+
+	/**
+	 * Singular value threshold used by {@link TriangulateMetricLinearDLT}
+	 */
+	public double singularThreshold = 1;
+
+	// Each block of points gets its own triangulation algorithm
+	FastQueue<WorkerDLT> workersDLT = new FastQueue<>(WorkerDLT::new);
+	FastQueue<WorkerGeometric> workersGeometric = new FastQueue<>(WorkerGeometric::new);
+
+	/**
+	 * Triangulates every point in the observations using {@link TriangulateMetricLinearDLT}.
+	 *
+	 * @param observations (Input) Observations in normalized image coordinates.
+	 * @param worldToView (Input) Transform from world to each view
+	 * @param found (Output) Found points in homogenous coordinates. x,y,z,w for each point.
+	 * @param success (Output) true if {@link GeometricResult#SUCCESS} was returned for the point.
+	 */
+	public void triangulate( PackedTriangulationObservations observations ,
+							 List<Se3_F64> worldToView ,
+							 GrowQueue_F64 found , GrowQueue_B success ) {
+		final int numPoints = observations.getPointCount();
+		found.resize(numPoints*4);
+		success.resize(numPoints);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			BoofConcurrency.loopBlocks(0,numPoints,minBlock,workersDLT,(worker,idx0,idx1)->
+					worker.process(observations,worldToView,idx0,idx1,found,success));
+		} else {
+			workersDLT.resize(1);
+			workersDLT.get(0).process(observations,worldToView,0,numPoints,found,success);
+		}
+	}
+
+	/**
+	 * Triangulates points observed in two views using {@link Triangulate2ViewsGeometricMetric}.
+	 *
+	 * @param pairs (Input) Observations in normalized image coordinates. ax,ay,bx,by for each point.
+	 * @param a_to_b (Input) Transform from view 'a' to view 'b'
+	 * @param found (Output) Found points in view 'a' reference frame. x,y,z for each point.
+	 */
+	public void triangulate( GrowQueue_F64 pairs , Se3_F64 a_to_b , GrowQueue_F64 found ) {
+		if( pairs.size % 4 != 0 )
+			throw new IllegalArgumentException("Each pair must have 4 values. ax,ay,bx,by");
+		final int numPoints = pairs.size/4;
+		found.resize(numPoints*3);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			BoofConcurrency.loopBlocks(0,numPoints,minBlock,workersGeometric,(worker,idx0,idx1)->
+					worker.process(pairs,a_to_b,idx0,idx1,found));
+		} else {
+			workersGeometric.resize(1);
+			workersGeometric.get(0).process(pairs,a_to_b,0,numPoints,found);
+		}
+	}
+
+	class WorkerDLT {
+		TriangulateMetricLinearDLT alg = new TriangulateMetricLinearDLT();
+		Point4D_F64 X = new Point4D_F64();
+
+		void process( PackedTriangulationObservations observations , List<Se3_F64> worldToView ,
+					  int idx0 , int idx1 , GrowQueue_F64 found , GrowQueue_B success ) {
+			alg.setSingularThreshold(singularThreshold);
+			for (int i = idx0; i < idx1; i++) {
+				boolean good = alg.triangulate(observations,i,worldToView,X) == GeometricResult.SUCCESS;
+				success.data[i] = good;
+				int index = i*4;
+				found.data[index  ] = X.x;
+				found.data[index+1] = X.y;
+				found.data[index+2] = X.z;
+				found.data[index+3] = X.w;
+			}
+		}
+	}
+
+	static class WorkerGeometric {
+		Triangulate2ViewsGeometricMetric alg = new Triangulate2ViewsGeometricMetric();
+		Point3D_F64 X = new Point3D_F64();
+
+		void process( GrowQueue_F64 pairs , Se3_F64 a_to_b , int idx0 , int idx1 , GrowQueue_F64 found ) {
+			final double[] p = pairs.data;
+			for (int i = idx0; i < idx1; i++) {
+				int index = i*4;
+				alg.triangulate(p[index],p[index+1],p[index+2],p[index+3],a_to_b,X);
+				index = i*3;
+				found.data[index  ] = X.x;
+				found.data[index+1] = X.y;
+				found.data[index+2] = X.z;
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -20,6 +20,7 @@ package boofcv.alg.geo.triangulate;
 
 import boofcv.alg.geo.GeometricResult;
 import boofcv.alg.geo.NormalizationPoint2D;
+import boofcv.struct.geo.PackedTriangulationObservations;
 import georegression.struct.point.Point2D_F64;
 import georegression.struct.point.Point4D_F64;
 import georegression.struct.point.Vector3D_F64;
@@ -81,7 +82,38 @@ public class TriangulateMetricLinearDLT {
 		int index = 0;
 		
 		for( int i = 0; i < N; i++ ) {
-			index = addView(worldToView.get(i),observations.get(i),index);
+			Point2D_F64 p = observations.get(i);
+			index = addView(worldToView.get(i),p.x,p.y,index);
+		}
+
+		return finishSolving(found);
+	}
+
+	/**
+	 * <p>
+	 * Triangulates a single point from packed observations. Same as {@link #triangulate(List, List, Point4D_F64)}
+	 * but no memory is declared and the observations do not need to be copied into lists first.
+	 * </p>
+	 *
+	 * @param observations Packed observations in normalized image coordinates. Not modified.
+	 * @param point Index of the point in observations which is to be triangulated
+	 * @param worldToView Transformations from world to each view. Indexed using the view index of each observation.
+	 * @param found (Output) 3D point in homogenous coordinates.  Modified.
+	 */
+	public GeometricResult triangulate( PackedTriangulationObservations observations , int point ,
+										List<Se3_F64> worldToView ,
+										Point4D_F64 found ) {
+		final int idx0 = observations.pointStart.data[point];
+		final int idx1 = observations.pointStart.data[point+1];
+
+		A.reshape(2*(idx1-idx0),4,false);
+
+		final int[] views = observations.views.data;
+		final double[] pixels = observations.pixels.data;
+
+		int index = 0;
+		for( int i = idx0; i < idx1; i++ ) {
+			index = addView(worldToView.get(views[i]),pixels[i*2],pixels[i*2+1],index);
 		}
 
 		return finishSolving(found);
@@ -106,7 +138,7 @@ public class TriangulateMetricLinearDLT {
 										Point4D_F64 foundInA ) {
 		A.reshape(4, 4);
 
-		int index = addView(fromAtoB,b,0);
+		int index = addView(fromAtoB,b.x,b.y,0);
 
 		// third row
 		A.data[index++] = -1;
@@ -142,7 +174,7 @@ public class TriangulateMetricLinearDLT {
 		return GeometricResult.SUCCESS;
 	}
 
-	private int addView( Se3_F64 motion , Point2D_F64 a , int index ) {
+	private int addView( Se3_F64 motion , double x , double y , int index ) {
 
 		final double sx = stats.stdX, sy = stats.stdY;
 //		final double cx = stats.meanX, cy = stats.meanY;
@@ -158,16 +190,16 @@ public class TriangulateMetricLinearDLT {
 		// more comments are in the projective code
 
 		// first row
-		A.data[index++] = (a.x*r31-r11)/sx;
-		A.data[index++] = (a.x*r32-r12)/sx;
-		A.data[index++] = (a.x*r33-r13)/sx;
-		A.data[index++] = (a.x*T.z-T.x)/sx;
+		A.data[index++] = (x*r31-r11)/sx;
+		A.data[index++] = (x*r32-r12)/sx;
+		A.data[index++] = (x*r33-r13)/sx;
+		A.data[index++] = (x*T.z-T.x)/sx;
 
 		// second row
-		A.data[index++] = (a.y*r31-r21)/sy;
-		A.data[index++] = (a.y*r32-r22)/sy;
-		A.data[index++] = (a.y*r33-r23)/sy;
-		A.data[index++] = (a.y*T.z-T.y)/sy;
+		A.data[index++] = (y*r31-r21)/sy;
+		A.data[index++] = (y*r32-r22)/sy;
+		A.data[index++] = (y*r33-r23)/sy;
+		A.data[index++] = (y*T.z-T.y)/sy;
 		
 		return index;
 	}
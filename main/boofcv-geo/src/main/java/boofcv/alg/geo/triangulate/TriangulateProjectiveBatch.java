@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.triangulate;
+
+import boofcv.alg.geo.GeometricResult;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.geo.PackedTriangulationObservations;
+import georegression.struct.point.Point4D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ejml.data.DMatrixRMaj;
+
+import java.util.List;
+
+/**
+ * Triangulates a large number of points at once for uncalibrated cameras using
+ * {@link TriangulateProjectiveLinearDLT}. Observations and results are stored in packed arrays, so no memory is
+ * declared for each point. If {@link BoofConcurrency#isUseConcurrent()} is true then points are split into blocks
+ * which are processed in parallel.
+ *
+ * @see TriangulateMetricBatch
+ *
+ * @author Peter Abeles
+ */
+public class TriangulateProjectiveBatch {
+
+	/**
+	 * Minimum number of points processed by a thread. Below this the overhead of threading isn't worth it.
+	 */
+	public int minBlock = 50;
+
+	/**
+	 * Singular value threshold used by {@link TriangulateProjectiveLinearDLT}
+	 */
+	public double singularThreshold = 1;
+
+	// Each block of points gets its own triangulation algorithm
+	FastQueue<Worker> workers = new FastQueue<>(Worker::new);
+
+	/**
+	 * Triangulates every point in the observations.
+	 *
+	 * @param observations (Input) Observations in pixel coordinates.
+	 * @param cameraMatrices (Input) Camera projection matrix for each view.
+	 * @param found (Output) Found points in homogenous coordinates. x,y,z,w for each point.
+	 * @param success (Output) true if {@link GeometricResult#SUCCESS} was returned for the point.
+	 */
+	public void triangulate( PackedTriangulationObservations observations ,
+							 List<DMatrixRMaj> cameraMatrices ,
+							 GrowQueue_F64 found , GrowQueue_B success ) {
+		final int numPoints = observations.getPointCount();
+		found.resize(numPoints*4);
+		success.resize(numPoints);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			BoofConcurrency.loopBlocks(0,numPoints,minBlock,workers,(worker,idx0,idx1)->
+					worker.process(observations,cameraMatrices,idx0,idx1,found,success));
+		} else {
+			workers.resize(1);
+			workers.get(0).process(observations,cameraMatrices,0,numPoints,found,success);
+		}
+	}
+
+	class Worker {
+		TriangulateProjectiveLinearDLT alg = new TriangulateProjectiveLinearDLT();
+		Point4D_F64 X = new Point4D_F64();
+
+		void process( PackedTriangulationObservations observations , List<DMatrixRMaj> cameraMatrices ,
+					  int idx0 , int idx1 , GrowQueue_F64 found , GrowQueue_B success ) {
+			alg.setSingularThreshold(singularThreshold);
+			for (int i = idx0; i < idx1; i++) {
+				boolean good = alg.triangulate(observations,i,cameraMatrices,X) == GeometricResult.SUCCESS;
+				success.data[i] = good;
+				int index = i*4;
+				found.data[index  ] = X.x;
+				found.data[index+1] = X.y;
+				found.data[index+2] = X.z;
+				found.data[index+3] = X.w;
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -21,6 +21,7 @@ package boofcv.alg.geo.triangulate;
 import boofcv.alg.geo.GeometricResult;
 import boofcv.alg.geo.LowLevelMultiViewOps;
 import boofcv.alg.geo.NormalizationPoint2D;
+import boofcv.struct.geo.PackedTriangulationObservations;
 import georegression.struct.point.Point2D_F64;
 import georegression.struct.point.Point4D_F64;
 import org.ejml.data.DMatrixRMaj;
@@ -83,9 +84,47 @@ public class TriangulateProjectiveLinearDLT {
 		int index = 0;
 
 		for( int i = 0; i < N; i++ ) {
-			index = addView(cameraMatrices.get(i),observations.get(i),index);
+			Point2D_F64 p = observations.get(i);
+			index = addView(cameraMatrices.get(i),p.x,p.y,index);
 		}
 
+		return finishSolving(found);
+	}
+
+	/**
+	 * <p>
+	 * Triangulates a single point from packed observations. Same as {@link #triangulate(List, List, Point4D_F64)}
+	 * but no memory is declared and the observations do not need to be copied into lists first.
+	 * </p>
+	 *
+	 * @param observations Packed observations in pixel coordinates. Not modified.
+	 * @param point Index of the point in observations which is to be triangulated
+	 * @param cameraMatrices Camera projection matrices for each view. Indexed using the view index of each observation.
+	 * @param found Output, found 3D point in homogenous coordinates.  Modified.
+	 */
+	public GeometricResult triangulate( PackedTriangulationObservations observations , int point ,
+										List<DMatrixRMaj> cameraMatrices,
+										Point4D_F64 found ) {
+		final int idx0 = observations.pointStart.data[point];
+		final int idx1 = observations.pointStart.data[point+1];
+		final int N = idx1-idx0;
+
+		final int[] views = observations.views.data;
+		final double[] pixels = observations.pixels.data;
+
+		LowLevelMultiViewOps.computeNormalization(pixels,idx0,idx1,stats);
+
+		A.reshape(2*N,4);
+
+		int index = 0;
+		for( int i = idx0; i < idx1; i++ ) {
+			index = addView(cameraMatrices.get(views[i]),pixels[i*2],pixels[i*2+1],index);
+		}
+
+		return finishSolving(found);
+	}
+
+	private GeometricResult finishSolving( Point4D_F64 found ) {
 		if( !solverNull.process(A,1, nullspace) )
 			return GeometricResult.SOLVE_FAILED;
 
@@ -108,7 +147,7 @@ public class TriangulateProjectiveLinearDLT {
 	/**
 	 * Adds a view to the A matrix. Computed using cross product.
 	 */
-	private int addView( DMatrixRMaj P , Point2D_F64 a , int index ) {
+	private int addView( DMatrixRMaj P , double x , double y , int index ) {
 
 		final double sx = stats.stdX, sy = stats.stdY;
 //		final double cx = stats.meanX, cy = stats.meanY;
@@ -125,16 +164,16 @@ public class TriangulateProjectiveLinearDLT {
 		// A[0,0] = px*r31 - (r11-cx*r31)/sx (after normalization)
 
 		// first row
-		A.data[index++] = (a.x*r31-r11)/sx;
-		A.data[index++] = (a.x*r32-r12)/sx;
-		A.data[index++] = (a.x*r33-r13)/sx;
-		A.data[index++] = (a.x*r34-r14)/sx;
+		A.data[index++] = (x*r31-r11)/sx;
+		A.data[index++] = (x*r32-r12)/sx;
+		A.data[index++] = (x*r33-r13)/sx;
+		A.data[index++] = (x*r34-r14)/sx;
 
 		// second row
-		A.data[index++] = (a.y*r31-r21)/sy;
-		A.data[index++] = (a.y*r32-r22)/sy;
-		A.data[index++] = (a.y*r33-r23)/sy;
-		A.data[index++] = (a.y*r34-r24)/sy;
+		A.data[index++] = (y*r31-r21)/sy;
+		A.data[index++] = (y*r32-r22)/sy;
+		A.data[index++] = (y*r33-r23)/sy;
+		A.data[index++] = (y*r34-r24)/sy;
 
 		return index;
 	}
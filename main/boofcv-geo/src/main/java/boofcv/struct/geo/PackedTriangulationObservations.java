@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.struct.geo;
+
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * Observations for triangulating many points at once, stored in packed arrays. Observations of the same
+ * point are stored consecutively. The observations of point 'i' are found between pointStart[i] and
+ * pointStart[i+1]. For each observation the index of the view it came from and its (x,y) coordinate are saved.
+ * After {@link #reset()} the internal arrays are recycled, so filling this structure with the same number of
+ * observations again will not declare new memory.
+ *
+ * <pre>
+ * obs.reset();
+ * for( each point ) {
+ *     obs.startPoint();
+ *     for( each view the point was observed in )
+ *         obs.addObservation(view, x, y);
+ * }
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class PackedTriangulationObservations {
+	/**
+	 * Index of the first observation for each point. Has a size of number of points + 1
+	 */
+	public final GrowQueue_I32 pointStart = new GrowQueue_I32();
+	/**
+	 * Index of the view each observation came from
+	 */
+	public final GrowQueue_I32 views = new GrowQueue_I32();
+	/**
+	 * Observed coordinates in an interleaved format, i.e. x0,y0,x1,y1,...
+	 */
+	public final GrowQueue_F64 pixels = new GrowQueue_F64();
+
+	public PackedTriangulationObservations() {
+		reset();
+	}
+
+	/**
+	 * Removes all points and observations
+	 */
+	public void reset() {
+		pointStart.reset();
+		pointStart.add(0);
+		views.reset();
+		pixels.reset();
+	}
+
+	/**
+	 * Marks the start of a new point. All observations added after this belong to the new point.
+	 */
+	public void startPoint() {
+		pointStart.add(views.size);
+	}
+
+	/**
+	 * Adds an observation of the most recently started point
+	 *
+	 * @param view Index of the view the point was observed in
+	 * @param x observed x-coordinate
+	 * @param y observed y-coordinate
+	 */
+	public void addObservation( int view , double x , double y ) {
+		if( pointStart.size <= 1 )
+			throw new IllegalArgumentException("Must call startPoint() first");
+		views.add(view);
+		pixels.add(x);
+		pixels.add(y);
+		pointStart.data[pointStart.size-1] = views.size;
+	}
+
+	/**
+	 * Number of points which are to be triangulated
+	 */
+	public int getPointCount() {
+		return pointStart.size-1;
+	}
+
+	/**
+	 * Total number of observations across all points
+	 */
+	public int getObservationCount() {
+		return views.size;
+	}
+
+	/**
+	 * Number of observations for the specified point
+	 */
+	public int getObservationCount( int point ) {
+		return pointStart.data[point+1] - pointStart.data[point];
+	}
+}
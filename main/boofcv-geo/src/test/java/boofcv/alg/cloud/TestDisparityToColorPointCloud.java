@@ -19,16 +19,21 @@
 package boofcv.alg.cloud;
 
 import boofcv.alg.geo.PerspectiveOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.Point3dRgbI_F64;
 import boofcv.struct.distort.DoNothing2Transform2_F64;
 import boofcv.struct.distort.Point2Transform2_F64;
 import boofcv.struct.image.GrayF32;
+import georegression.struct.point.Point3D_F64;
 import org.ddogleg.struct.FastQueue;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.CommonOps_DDRM;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -76,5 +81,65 @@ class TestDisparityToColorPointCloud {
 		}
 	}
 
+	/**
+	 * The voxel grid should contain the same points as when the full cloud is voxelized after being computed.
+	 * Checked with and without concurrency
+	 */
+	@Test
+	void processVoxels() {
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			processVoxels_compare();
+			BoofConcurrency.USE_CONCURRENT = true;
+			processVoxels_compare();
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	private void processVoxels_compare() {
+		DMatrixRMaj K = PerspectiveOps.pinholeToMatrix(500.0,500,0,250,250);
+		var alg = new DisparityToColorPointCloud();
+		alg.configure(1.0,K,CommonOps_DDRM.identity(3),new DoNothing2Transform2_F64(),2,100);
+		alg.setRegionOfInterest(10,20,400,450);
+
+		var rand = new Random(234);
+		var disparity = new GrayF32(width,height);
+		for (int i = 0; i < disparity.data.length; i++) {
+			disparity.data[i] = rand.nextInt(110);
+		}
+		var color = new DisparityToColorPointCloud.ColorImage() {
+			@Override public boolean isInBounds(int x, int y) { return true; }
+			@Override public int getRGB(int x, int y) { return (x%256) << 8 | (y%256); }
+		};
+
+		// voxelize the full cloud
+		var expected = new VoxelGridPointCloud(0.05);
+		var points = new FastQueue<>(Point3dRgbI_F64::new);
+		alg.process(disparity,color,PointCloudWriter.wrapF64RGB(points));
+		for (int i = 0; i < points.size; i++) {
+			Point3dRgbI_F64 p = points.get(i);
+			expected.add(p.x,p.y,p.z,p.rgb);
+		}
+
+		var found = new VoxelGridPointCloud(0.05);
+		alg.processVoxels(disparity,color,found);
+
+		assertEquals(expected.size(),found.size());
+		assertTrue(found.size() < points.size);
 
+		// order of voxels can be different so look them up by key
+		var a = new Point3D_F64();
+		var b = new Point3D_F64();
+		for (int i = 0; i < expected.size(); i++) {
+			expected.getPoint(i,a);
+			int j = found.lookup(expected.voxelKeys[i]);
+			found.getPoint(j,b);
+			assertEquals(expected.getCount(i),found.getCount(j));
+			assertEquals(0.0,a.distance(b),1e-6);
+			assertEquals(expected.getRGB(i),found.getRGB(j));
+		}
+		assertEquals(expected.size(),found.size());
+	}
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.cloud;
+
+import boofcv.struct.Point3dRgbI_F64;
+import georegression.struct.point.Point3D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestVoxelGridPointCloud {
+	/**
+	 * Points in the same voxel should be averaged together
+	 */
+	@Test
+	void add_average() {
+		var alg = new VoxelGridPointCloud(1.0);
+		alg.add(0.1, 0.2, 0.3, 0x102030);
+		alg.add(0.3, 0.4, 0.5, 0x305070);
+		alg.add(-0.1, 0.2, 0.3, 0xFFFFFF);
+
+		assertEquals(2, alg.size());
+		assertEquals(2, alg.getCount(0));
+		assertEquals(1, alg.getCount(1));
+
+		var p = new Point3D_F64();
+		alg.getPoint(0, p);
+		assertEquals(0.0, p.distance(0.2, 0.3, 0.4), 1e-8);
+		assertEquals(0x204050, alg.getRGB(0));
+		alg.getPoint(1, p);
+		assertEquals(0.0, p.distance(-0.1, 0.2, 0.3), 1e-8);
+		assertEquals(0xFFFFFF, alg.getRGB(1));
+	}
+
+	/**
+	 * Add enough voxels to force the hash table to grow several times
+	 */
+	@Test
+	void add_manyVoxels() {
+		var alg = new VoxelGridPointCloud(0.5);
+		int N = 40;
+		for (int trial = 0; trial < 2; trial++) {
+			for (int i = 0; i < N; i++) {
+				for (int j = 0; j < N; j++) {
+					for (int k = 0; k < N; k++) {
+						alg.add(i*0.5 - 10 + 0.1, j*0.5 - 10 + 0.1, k*0.5 + 0.1);
+					}
+				}
+			}
+		}
+		assertEquals(N*N*N, alg.size());
+		for (int i = 0; i < alg.size(); i++) {
+			assertEquals(2, alg.getCount(i));
+		}
+	}
+
+	@Test
+	void add_outOfRange() {
+		var alg = new VoxelGridPointCloud(1.0);
+		alg.add(1e10, 0, 0);
+		alg.add(Double.NaN, 0, 0);
+		alg.add(0, 0, Double.POSITIVE_INFINITY);
+		assertEquals(0, alg.size());
+	}
+
+	@Test
+	void reset() {
+		var alg = new VoxelGridPointCloud(1.0);
+		alg.add(1, 2, 3);
+		alg.add(4, 2, 3);
+		alg.reset();
+		assertEquals(0, alg.size());
+		alg.add(1, 2, 3);
+		assertEquals(1, alg.size());
+		assertEquals(1, alg.getCount(0));
+	}
+
+	@Test
+	void merge() {
+		var a = new VoxelGridPointCloud(1.0);
+		var b = new VoxelGridPointCloud(1.0);
+		a.add(0.5, 0.5, 0.5, 0x000010);
+		b.add(0.7, 0.5, 0.5, 0x000030);
+		b.add(5.5, 0.5, 0.5, 0x000030);
+
+		a.merge(b);
+		assertEquals(2, a.size());
+		assertEquals(2, a.getCount(0));
+		assertEquals(0x000020, a.getRGB(0));
+		assertEquals(1, a.getCount(1));
+
+		assertThrows(IllegalArgumentException.class, () -> a.merge(new VoxelGridPointCloud(2.0)));
+	}
+
+	@Test
+	void writeTo() {
+		var alg = new VoxelGridPointCloud(1.0);
+		alg.add(0.5, 0.5, 0.5, 0x010203);
+		alg.add(2.5, 0.5, 0.5, 0x040506);
+
+		var found = new FastQueue<>(Point3dRgbI_F64::new);
+		alg.writeTo(PointCloudWriter.wrapF64RGB(found));
+		assertEquals(2, found.size);
+		assertEquals(0.0, found.get(1).distance(2.5, 0.5, 0.5), 1e-8);
+		assertEquals(0x040506, found.get(1).rgb);
+	}
+}
@@ -114,6 +114,29 @@ public class TestLowLevelMultiViewOps {
 		assertTrue(Na.isEquals(Nb, UtilEjml.TEST_F64));
 	}
 
+	/**
+	 * Compare to single list function. Only a range of the packed array is used
+	 */
+	@Test
+	public void computeNormalization_packed() {
+		List<Point2D_F64> list = new ArrayList<>();
+		double[] pixels = new double[2*15];
+		for( int i = 0; i < 15; i++ ) {
+			pixels[i*2]   = rand.nextDouble()*5;
+			pixels[i*2+1] = rand.nextDouble()*5;
+			if( i >= 2 && i < 12 )
+				list.add(new Point2D_F64(pixels[i*2],pixels[i*2+1]));
+		}
+
+		NormalizationPoint2D Na = new NormalizationPoint2D();
+		NormalizationPoint2D Nb = new NormalizationPoint2D();
+
+		LowLevelMultiViewOps.computeNormalization(list, Na);
+		LowLevelMultiViewOps.computeNormalization(pixels, 2, 12, Nb);
+
+		assertTrue(Na.isEquals(Nb, UtilEjml.TEST_F64));
+	}
+
 	/**
 	 * Compare to single list function
 	 */
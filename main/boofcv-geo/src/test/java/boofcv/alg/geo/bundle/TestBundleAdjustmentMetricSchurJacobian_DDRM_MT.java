@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.bundle;
+
+import boofcv.abst.geo.bundle.SceneObservations;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import boofcv.struct.calib.CameraPinhole;
+import georegression.struct.se.SpecialEuclideanOps_F64;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static boofcv.alg.geo.bundle.TestBundleAdjustmentMetricResidualFunction.createObservations;
+import static boofcv.alg.geo.bundle.TestCodecSceneStructureMetric.createScene;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestBundleAdjustmentMetricSchurJacobian_DDRM_MT {
+	Random rand = new Random(48854);
+
+	@Test
+	void compareToSingleThread() {
+		compareToSingleThread(true,false);
+		compareToSingleThread(false,false);
+		compareToSingleThread(true,true);
+		compareToSingleThread(false,true);
+	}
+
+	void compareToSingleThread(boolean homogenous , boolean hasRigid) {
+		SceneStructureMetric structure = createScene(rand,homogenous, hasRigid);
+		SceneObservations observations = createObservations(rand,structure);
+
+		double[] param = new double[structure.getParameterCount()];
+		new CodecSceneStructureMetric().encode(structure,param);
+
+		BundleAdjustmentMetricSchurJacobian_DDRM single = new BundleAdjustmentMetricSchurJacobian_DDRM();
+		BundleAdjustmentMetricSchurJacobian_DDRM_MT multi = new BundleAdjustmentMetricSchurJacobian_DDRM_MT();
+		single.configure(structure,observations);
+		multi.configure(structure,observations);
+
+		DMatrixRMaj expectedLeft = new DMatrixRMaj(1,1), expectedRight = new DMatrixRMaj(1,1);
+		DMatrixRMaj foundLeft = new DMatrixRMaj(1,1), foundRight = new DMatrixRMaj(1,1);
+
+		single.process(param,expectedLeft,expectedRight);
+		// process twice to make sure the workers are correctly recycled
+		multi.process(param,foundLeft,foundRight);
+		multi.process(param,foundLeft,foundRight);
+
+		assertTrue(MatrixFeatures_DDRM.isIdentical(expectedLeft,foundLeft,UtilEjml.TEST_F64));
+		assertTrue(MatrixFeatures_DDRM.isIdentical(expectedRight,foundRight,UtilEjml.TEST_F64));
+	}
+
+	/**
+	 * The same structure and observations are initialized again with a different number of views and points,
+	 * like visual odometry does. The workers must not keep using the old configuration.
+	 */
+	@Test
+	void reconfigureSameInstances() {
+		SceneStructureMetric structure = new SceneStructureMetric(false);
+		SceneObservations observations = new SceneObservations();
+
+		BundleAdjustmentMetricSchurJacobian_DDRM single = new BundleAdjustmentMetricSchurJacobian_DDRM();
+		BundleAdjustmentMetricSchurJacobian_DDRM_MT multi = new BundleAdjustmentMetricSchurJacobian_DDRM_MT();
+
+		for( int numViews : new int[]{6,3,9} ) {
+			initializeScene(rand,structure,observations,numViews,numViews*4);
+
+			double[] param = new double[structure.getParameterCount()];
+			new CodecSceneStructureMetric().encode(structure,param);
+
+			single.configure(structure,observations);
+			multi.configure(structure,observations);
+
+			DMatrixRMaj expectedLeft = new DMatrixRMaj(1,1), expectedRight = new DMatrixRMaj(1,1);
+			DMatrixRMaj foundLeft = new DMatrixRMaj(1,1), foundRight = new DMatrixRMaj(1,1);
+
+			single.process(param,expectedLeft,expectedRight);
+			multi.process(param,foundLeft,foundRight);
+
+			assertTrue(MatrixFeatures_DDRM.isIdentical(expectedLeft,foundLeft,UtilEjml.TEST_F64));
+			assertTrue(MatrixFeatures_DDRM.isIdentical(expectedRight,foundRight,UtilEjml.TEST_F64));
+		}
+	}
+
+	/**
+	 * Initializes the scene without declaring new instances. The first view is fixed. Every point is seen by
+	 * the first view and about half of the other views.
+	 */
+	static void initializeScene( Random rand, SceneStructureMetric structure, SceneObservations observations,
+								 int numViews, int numPoints ) {
+		structure.initialize(1,numViews,numPoints);
+		observations.initialize(numViews);
+
+		structure.setCamera(0,false,new CameraPinhole(300,310,0,200,150,400,300));
+		for (int i = 0; i < numViews; i++) {
+			structure.setView(i,i==0,SpecialEuclideanOps_F64.eulerXyz(
+					i*0.2,rand.nextGaussian()*0.05,0,0,rand.nextGaussian()*0.02,0,null));
+			structure.connectViewToCamera(i,0);
+		}
+
+		for (int i = 0; i < numPoints; i++) {
+			structure.setPoint(i,rand.nextGaussian(),rand.nextGaussian(),6+rand.nextGaussian());
+			for (int j = 0; j < numViews; j++) {
+				if( j != 0 && rand.nextBoolean() )
+					continue;
+				structure.connectPointToView(i,j);
+				SceneObservations.View v = observations.getView(j);
+				v.point.add(i);
+				v.observations.add(rand.nextInt(300)+20);
+				v.observations.add(rand.nextInt(300)+20);
+			}
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.bundle;
+
+import boofcv.abst.geo.bundle.SceneObservations;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.MatrixFeatures_DDRM;
+import org.ejml.ops.ConvertDMatrixStruct;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static boofcv.alg.geo.bundle.TestBundleAdjustmentMetricResidualFunction.createObservations;
+import static boofcv.alg.geo.bundle.TestBundleAdjustmentMetricSchurJacobian_DDRM_MT.initializeScene;
+import static boofcv.alg.geo.bundle.TestCodecSceneStructureMetric.createScene;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestBundleAdjustmentMetricSchurJacobian_DSCC_MT {
+	Random rand = new Random(48854);
+
+	@Test
+	void compareToSingleThread() {
+		compareToSingleThread(true,false);
+		compareToSingleThread(false,false);
+		compareToSingleThread(true,true);
+		compareToSingleThread(false,true);
+	}
+
+	void compareToSingleThread(boolean homogenous , boolean hasRigid) {
+		SceneStructureMetric structure = createScene(rand,homogenous, hasRigid);
+		SceneObservations observations = createObservations(rand,structure);
+
+		double[] param = new double[structure.getParameterCount()];
+		new CodecSceneStructureMetric().encode(structure,param);
+
+		BundleAdjustmentMetricSchurJacobian_DSCC single = new BundleAdjustmentMetricSchurJacobian_DSCC();
+		BundleAdjustmentMetricSchurJacobian_DSCC_MT multi = new BundleAdjustmentMetricSchurJacobian_DSCC_MT();
+		single.configure(structure,observations);
+		multi.configure(structure,observations);
+
+		DMatrixSparseCSC expectedLeft = new DMatrixSparseCSC(1,1,1), expectedRight = new DMatrixSparseCSC(1,1,1);
+		DMatrixSparseCSC foundLeft = new DMatrixSparseCSC(1,1,1), foundRight = new DMatrixSparseCSC(1,1,1);
+
+		single.process(param,expectedLeft,expectedRight);
+		// process twice to make sure the workers are correctly recycled
+		multi.process(param,foundLeft,foundRight);
+		multi.process(param,foundLeft,foundRight);
+
+		assertTrue(MatrixFeatures_DDRM.isIdentical(dense(expectedLeft),dense(foundLeft),UtilEjml.TEST_F64));
+		assertTrue(MatrixFeatures_DDRM.isIdentical(dense(expectedRight),dense(foundRight),UtilEjml.TEST_F64));
+	}
+
+	/**
+	 * The same structure and observations are initialized again with a different number of views and points,
+	 * like visual odometry does. The workers must not keep using the old configuration.
+	 */
+	@Test
+	void reconfigureSameInstances() {
+		SceneStructureMetric structure = new SceneStructureMetric(false);
+		SceneObservations observations = new SceneObservations();
+
+		BundleAdjustmentMetricSchurJacobian_DSCC single = new BundleAdjustmentMetricSchurJacobian_DSCC();
+		BundleAdjustmentMetricSchurJacobian_DSCC_MT multi = new BundleAdjustmentMetricSchurJacobian_DSCC_MT();
+
+		for( int numViews : new int[]{6,3,9} ) {
+			initializeScene(rand,structure,observations,numViews,numViews*4);
+
+			double[] param = new double[structure.getParameterCount()];
+			new CodecSceneStructureMetric().encode(structure,param);
+
+			single.configure(structure,observations);
+			multi.configure(structure,observations);
+
+			DMatrixSparseCSC expectedLeft = new DMatrixSparseCSC(1,1,1), expectedRight = new DMatrixSparseCSC(1,1,1);
+			DMatrixSparseCSC foundLeft = new DMatrixSparseCSC(1,1,1), foundRight = new DMatrixSparseCSC(1,1,1);
+
+			single.process(param,expectedLeft,expectedRight);
+			multi.process(param,foundLeft,foundRight);
+
+			assertTrue(MatrixFeatures_DDRM.isIdentical(dense(expectedLeft),dense(foundLeft),UtilEjml.TEST_F64));
+			assertTrue(MatrixFeatures_DDRM.isIdentical(dense(expectedRight),dense(foundRight),UtilEjml.TEST_F64));
+		}
+	}
+
+	private static DMatrixRMaj dense( DMatrixSparseCSC A ) {
+		return ConvertDMatrixStruct.convert(A,(DMatrixRMaj)null);
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.triangulate;
+
+import boofcv.alg.geo.GeometricResult;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.geo.PackedTriangulationObservations;
+import georegression.struct.point.Point2D_F64;
+import georegression.struct.point.Point3D_F64;
+import georegression.struct.point.Point4D_F64;
+import georegression.struct.se.Se3_F64;
+import georegression.transform.se.SePointOps_F64;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestTriangulateMetricBatch extends CommonTriangulationChecks {
+
+	int numPoints = 300;
+
+	/**
+	 * Compare the batch results against triangulating each point individually
+	 */
+	@Test
+	void compareToSinglePoint_DLT() {
+		createMetricScene();
+
+		PackedTriangulationObservations packed = new PackedTriangulationObservations();
+		List<List<Point2D_F64>> pointObs = new ArrayList<>();
+		List<List<Se3_F64>> pointViews = new ArrayList<>();
+
+		Point3D_F64 X = new Point3D_F64();
+		Point3D_F64 cameraPt = new Point3D_F64();
+		for (int pointIdx = 0; pointIdx < numPoints; pointIdx++) {
+			X.set(rand.nextGaussian()*0.5, rand.nextGaussian()*0.5, 4+rand.nextDouble());
+			List<Point2D_F64> obs = new ArrayList<>();
+			List<Se3_F64> views = new ArrayList<>();
+
+			packed.startPoint();
+			for (int viewIdx = 0; viewIdx < N; viewIdx++) {
+				// each point is only seen by some of the views
+				if( views.size() >= 2 && rand.nextDouble() < 0.4 )
+					continue;
+				Se3_F64 worldToView = motionWorldToCamera.get(viewIdx);
+				SePointOps_F64.transform(worldToView,X,cameraPt);
+				Point2D_F64 o = new Point2D_F64(cameraPt.x/cameraPt.z,cameraPt.y/cameraPt.z);
+				obs.add(o);
+				views.add(worldToView);
+				packed.addObservation(viewIdx,o.x,o.y);
+			}
+			pointObs.add(obs);
+			pointViews.add(views);
+		}
+
+		for( boolean concurrent : new boolean[]{false,true}) {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			TriangulateMetricBatch alg = new TriangulateMetricBatch();
+			GrowQueue_F64 found = new GrowQueue_F64();
+			GrowQueue_B success = new GrowQueue_B();
+
+			alg.triangulate(packed, motionWorldToCamera, found, success);
+			BoofConcurrency.USE_CONCURRENT = true;
+
+			assertEquals(numPoints*4, found.size);
+			assertEquals(numPoints, success.size);
+
+			TriangulateMetricLinearDLT single = new TriangulateMetricLinearDLT();
+			Point4D_F64 expected = new Point4D_F64();
+			for (int pointIdx = 0; pointIdx < numPoints; pointIdx++) {
+				GeometricResult result = single.triangulate(pointObs.get(pointIdx), pointViews.get(pointIdx), expected);
+				assertEquals(result == GeometricResult.SUCCESS, success.get(pointIdx));
+				assertEquals(expected.x, found.get(pointIdx*4  ), 0.0);
+				assertEquals(expected.y, found.get(pointIdx*4+1), 0.0);
+				assertEquals(expected.z, found.get(pointIdx*4+2), 0.0);
+				assertEquals(expected.w, found.get(pointIdx*4+3), 0.0);
+			}
+		}
+	}
+
+	@Test
+	void compareToSinglePoint_Geometric() {
+		createMetricScene();
+		Se3_F64 a_to_b = motionWorldToCamera.get(1);
+
+		GrowQueue_F64 pairs = new GrowQueue_F64();
+		Point3D_F64 X = new Point3D_F64();
+		Point3D_F64 cameraPt = new Point3D_F64();
+		for (int pointIdx = 0; pointIdx < numPoints; pointIdx++) {
+			X.set(rand.nextGaussian()*0.5, rand.nextGaussian()*0.5, 4+rand.nextDouble());
+			SePointOps_F64.transform(a_to_b,X,cameraPt);
+			pairs.add(X.x/X.z);
+			pairs.add(X.y/X.z);
+			pairs.add(cameraPt.x/cameraPt.z);
+			pairs.add(cameraPt.y/cameraPt.z);
+		}
+
+		for( boolean concurrent : new boolean[]{false,true}) {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			TriangulateMetricBatch alg = new TriangulateMetricBatch();
+			GrowQueue_F64 found = new GrowQueue_F64();
+			alg.triangulate(pairs, a_to_b, found);
+			BoofConcurrency.USE_CONCURRENT = true;
+
+			assertEquals(numPoints*3, found.size);
+
+			Triangulate2ViewsGeometricMetric single = new Triangulate2ViewsGeometricMetric();
+			Point3D_F64 expected = new Point3D_F64();
+			for (int pointIdx = 0; pointIdx < numPoints; pointIdx++) {
+				int i = pointIdx*4;
+				single.triangulate(new Point2D_F64(pairs.get(i),pairs.get(i+1)),
+						new Point2D_F64(pairs.get(i+2),pairs.get(i+3)), a_to_b, expected);
+				assertEquals(expected.x, found.get(pointIdx*3  ), 0.0);
+				assertEquals(expected.y, found.get(pointIdx*3+1), 0.0);
+				assertEquals(expected.z, found.get(pointIdx*3+2), 0.0);
+			}
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.triangulate;
+package boofcv.alg.geo.triangulate;
+
+import boofcv.alg.geo.GeometricResult;
+import boofcv.alg.geo.PerspectiveOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.geo.PackedTriangulationObservations;
+import georegression.struct.point.Point2D_F64;
+import georegression.struct.point.Point3D_F64;
+import georegression.struct.point.Point4D_F64;
+import georegression.transform.se.SePointOps_F64;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ejml.data.DMatrixRMaj;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestTriangulateProjectiveBatch extends CommonTriangulationChecks {
+
+	int numPoints = 300;
+
+	/**
+	 * Compare the batch results against triangulating each point individually
+	 */
+	@Test
+	void compareToSinglePoint() {
+		createProjectiveScene();
+
+		PackedTriangulationObservations packed = new PackedTriangulationObservations();
+		List<List<Point2D_F64>> pointObs = new ArrayList<>();
+		List<List<DMatrixRMaj>> pointViews = new ArrayList<>();
+
+		Point3D_F64 X = new Point3D_F64();
+		Point3D_F64 cameraPt = new Point3D_F64();
+		for (int pointIdx = 0; pointIdx < numPoints; pointIdx++) {
+			X.set(rand.nextGaussian()*0.5, rand.nextGaussian()*0.5, 4+rand.nextDouble());
+			List<Point2D_F64> obs = new ArrayList<>();
+			List<DMatrixRMaj> views = new ArrayList<>();
+
+			packed.startPoint();
+			for (int viewIdx = 0; viewIdx < N; viewIdx++) {
+				// each point is only seen by some of the views
+				if( views.size() >= 2 && rand.nextDouble() < 0.4 )
+					continue;
+				SePointOps_F64.transform(motionWorldToCamera.get(viewIdx),X,cameraPt);
+				Point2D_F64 pixel = PerspectiveOps.renderPixel(intrinsic,cameraPt, null);
+				obs.add(pixel);
+				views.add(cameraMatrices.get(viewIdx));
+				packed.addObservation(viewIdx,pixel.x,pixel.y);
+			}
+			pointObs.add(obs);
+			pointViews.add(views);
+		}
+
+		for( boolean concurrent : new boolean[]{false,true}) {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			TriangulateProjectiveBatch alg = new TriangulateProjectiveBatch();
+			GrowQueue_F64 found = new GrowQueue_F64();
+			GrowQueue_B success = new GrowQueue_B();
+
+			alg.triangulate(packed, cameraMatrices, found, success);
+			BoofConcurrency.USE_CONCURRENT = true;
+
+			assertEquals(numPoints*4, found.size);
+			assertEquals(numPoints, success.size);
+
+			TriangulateProjectiveLinearDLT single = new TriangulateProjectiveLinearDLT();
+			Point4D_F64 expected = new Point4D_F64();
+			for (int pointIdx = 0; pointIdx < numPoints; pointIdx++) {
+				GeometricResult result = single.triangulate(pointObs.get(pointIdx), pointViews.get(pointIdx), expected);
+				assertEquals(result == GeometricResult.SUCCESS, success.get(pointIdx));
+				assertEquals(expected.x, found.get(pointIdx*4  ), 0.0);
+				assertEquals(expected.y, found.get(pointIdx*4+1), 0.0);
+				assertEquals(expected.z, found.get(pointIdx*4+2), 0.0);
+				assertEquals(expected.w, found.get(pointIdx*4+3), 0.0);
+			}
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.triangulate;
+package boofcv.struct.geo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Peter Abeles
+ */
+class TestPackedTriangulationObservations {
+	@Test
+	void addPoints() {
+		PackedTriangulationObservations alg = new PackedTriangulationObservations();
+		assertEquals(0, alg.getPointCount());
+
+		alg.startPoint();
+		alg.addObservation(2, 1, 2);
+		alg.addObservation(5, 3, 4);
+		alg.startPoint();
+		alg.startPoint();
+		alg.addObservation(1, 5, 6);
+
+		assertEquals(3, alg.getPointCount());
+		assertEquals(3, alg.getObservationCount());
+		assertEquals(2, alg.getObservationCount(0));
+		assertEquals(0, alg.getObservationCount(1));
+		assertEquals(1, alg.getObservationCount(2));
+
+		assertEquals(2, alg.pointStart.get(2));
+		assertEquals(1, alg.views.get(2));
+		assertEquals(5, alg.pixels.get(4), 0.0);
+		assertEquals(6, alg.pixels.get(5), 0.0);
+	}
+
+	@Test
+	void reset() {
+		PackedTriangulationObservations alg = new PackedTriangulationObservations();
+		alg.startPoint();
+		alg.addObservation(2, 1, 2);
+		alg.reset();
+
+		assertEquals(0, alg.getPointCount());
+		assertEquals(0, alg.getObservationCount());
+
+		// a point must be started before observations can be added
+		assertThrows(IllegalArgumentException.class, () -> alg.addObservation(1, 2, 3));
+	}
+}
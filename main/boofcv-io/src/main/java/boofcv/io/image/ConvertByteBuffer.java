@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.image;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.io.image.impl.ImplConvertByteBuffer;
+import boofcv.io.image.impl.ImplConvertByteBuffer_MT;
+import boofcv.struct.image.*;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Routines for converting 8-bit pixel data stored in a {@link ByteBuffer} directly into BoofCV images without
+ * going through a {@link java.awt.image.BufferedImage}. Pixels are assumed to be stored row-major with the
+ * channels interleaved. Large images are processed concurrently.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class ConvertByteBuffer {
+
+	/**
+	 * Converts the buffer into an image. The output image must already have the desired shape.
+	 *
+	 * @param src Buffer containing the pixels. Position and limit are not modified.
+	 * @param srcOffset Index of the first pixel in the buffer
+	 * @param srcStride Number of bytes between each row in the buffer
+	 * @param srcChannels Number of channels in the buffer. 1 or 3.
+	 * @param swapOrder If true the first and third channels are swapped, e.g. BGR to RGB
+	 * @param dst (Output) Image. {@link GrayU8}, {@link InterleavedU8}, or {@link Planar} of {@link GrayU8}.
+	 */
+	public static void convertFrom( ByteBuffer src, int srcOffset, int srcStride, int srcChannels,
+									boolean swapOrder, ImageBase dst ) {
+		if( dst instanceof GrayU8 ) {
+			if( srcChannels == 1 )
+				from_1BU8_to_U8(src, srcOffset, srcStride, (GrayU8)dst);
+			else if( srcChannels == 3 )
+				from_3BU8_to_U8(src, srcOffset, srcStride, (GrayU8)dst);
+			else
+				throw new IllegalArgumentException("Unsupported number of channels. "+srcChannels);
+		} else if( dst instanceof InterleavedU8 && srcChannels == 3 && dst.getImageType().getNumBands() == 3 ) {
+			from_3BU8_to_IL_U8(src, srcOffset, srcStride, swapOrder, (InterleavedU8)dst);
+		} else if( dst instanceof Planar && srcChannels == 3 && ((Planar)dst).getNumBands() == 3 &&
+				((Planar)dst).getBandType() == GrayU8.class ) {
+			from_3BU8_to_PL_U8(src, srcOffset, srcStride, swapOrder, (Planar<GrayU8>)dst);
+		} else {
+			throw new IllegalArgumentException("Unsupported conversion. "+srcChannels+" channels into "+
+					dst.getImageType());
+		}
+	}
+
+	public static void from_1BU8_to_U8( ByteBuffer src, int srcOffset, int srcStride, GrayU8 dst ) {
+		if( useConcurrent(dst) ) {
+			ImplConvertByteBuffer_MT.from_1BU8_to_U8(src, srcOffset, srcStride, dst);
+		} else {
+			ImplConvertByteBuffer.from_1BU8_to_U8(src, srcOffset, srcStride, dst);
+		}
+	}
+
+	public static void from_3BU8_to_U8( ByteBuffer src, int srcOffset, int srcStride, GrayU8 dst ) {
+		if( useConcurrent(dst) ) {
+			ImplConvertByteBuffer_MT.from_3BU8_to_U8(src, srcOffset, srcStride, dst);
+		} else {
+			ImplConvertByteBuffer.from_3BU8_to_U8(src, srcOffset, srcStride, dst);
+		}
+	}
+
+	public static void from_3BU8_to_IL_U8( ByteBuffer src, int srcOffset, int srcStride, boolean swapOrder,
+										   InterleavedU8 dst ) {
+		if( useConcurrent(dst) ) {
+			ImplConvertByteBuffer_MT.from_3BU8_to_IL_U8(src, srcOffset, srcStride, swapOrder, dst);
+		} else {
+			ImplConvertByteBuffer.from_3BU8_to_IL_U8(src, srcOffset, srcStride, swapOrder, dst);
+		}
+	}
+
+	public static void from_3BU8_to_PL_U8( ByteBuffer src, int srcOffset, int srcStride, boolean swapOrder,
+										   Planar<GrayU8> dst ) {
+		if( useConcurrent(dst) ) {
+			ImplConvertByteBuffer_MT.from_3BU8_to_PL_U8(src, srcOffset, srcStride, swapOrder, dst);
+		} else {
+			ImplConvertByteBuffer.from_3BU8_to_PL_U8(src, srcOffset, srcStride, swapOrder, dst);
+		}
+	}
+
+	/**
+	 * Only small images are processed in a single thread since the overhead of launching threads dominates
+	 */
+	private static boolean useConcurrent( ImageBase image ) {
+		return BoofConcurrency.isUseConcurrent() && image.width*image.height >= BoofConcurrency.getSmallImage();
+	}
+}
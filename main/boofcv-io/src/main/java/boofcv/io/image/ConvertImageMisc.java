@@ -47,7 +47,7 @@ public class ConvertImageMisc {
 	 */
 	public static void convert_F32_U16(GrayF32 src, int fractionBits, GrayU16 dst) {
 		dst.reshape(src);
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImageMisc_MT.convert_F32_U16(src,fractionBits,dst);
 		} else {
 			ImplConvertImageMisc.convert_F32_U16(src,fractionBits,dst);
@@ -62,7 +62,7 @@ public class ConvertImageMisc {
 	 */
 	public static void convert_U16_F32(GrayU16 src, int fractionBits, GrayF32 dst) {
 		dst.reshape(src);
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImageMisc_MT.convert_U16_F32(src,fractionBits,dst);
 		} else {
 			ImplConvertImageMisc.convert_U16_F32(src,fractionBits,dst);
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.image;
+
+import boofcv.struct.image.*;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * <p>
+ * An image which is stored in a file and memory mapped, so that images much larger than the heap can be
+ * processed. Only the pages which are accessed are loaded by the operating system. Access the image one region
+ * at a time with {@link LargeImage} methods, typically through a {@link boofcv.alg.misc.TileScheduler}.
+ * </p>
+ *
+ * <p>
+ * File format: A 64 byte header followed by the pixels, row by row with no padding, in little endian byte order.
+ * The header contains the magic string "BOOFRAW", format version, width, height, number of bands, then the image
+ * family and data type names. A single mapped buffer can't be larger than 2GB, so the file is mapped in segments
+ * which contain a whole number of rows.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MappedRawImage<T extends ImageBase<T>> implements LargeImage<T>, Closeable {
+	public static final String MAGIC = "BOOFRAW";
+	public static final int VERSION = 1;
+	public static final int HEADER_BYTES = 64;
+	/** Approximate size of a decoded strip when importing an image with the strip size selected automatically */
+	public static final long DEFAULT_STRIP_BYTES = 256L*1024*1024;
+	// length of the strings in the header which store the image type
+	static final int NAME_BYTES = 16;
+
+	// Maximum number of bytes in a mapped segment. Changed in tests.
+	static long maxSegmentBytes = 1L << 30;
+
+	final ImageType<T> imageType;
+	final int width, height;
+	// bytes in a row
+	final int stride;
+
+	RandomAccessFile file;
+	FileChannel channel;
+	final boolean readOnly;
+
+	// number of rows in each segment. The last segment can have fewer
+	final int segmentRows;
+	final List<MappedByteBuffer> buffers = new ArrayList<>();
+	final List<ImageByteBuffer<T>> segments = new ArrayList<>();
+
+	MappedRawImage( RandomAccessFile file, boolean readOnly, ImageType<T> imageType, int width, int height )
+			throws IOException {
+		this.file = file;
+		this.channel = file.getChannel();
+		this.readOnly = readOnly;
+		this.imageType = imageType;
+		this.width = width;
+		this.height = height;
+		this.stride = width*imageType.getNumBands()*imageType.getDataType().getNumBits()/8;
+
+		if( stride > maxSegmentBytes )
+			throw new IllegalArgumentException("A single row is larger than the maximum segment size");
+		segmentRows = stride == 0 ? Math.max(1, height) : (int)Math.min(Math.max(1, height), maxSegmentBytes/stride);
+
+		FileChannel.MapMode mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+		for (int y0 = 0; y0 < height; y0 += segmentRows) {
+			int rows = Math.min(segmentRows, height - y0);
+			MappedByteBuffer mapped = channel.map(mode, HEADER_BYTES + (long)y0*stride, (long)rows*stride);
+			mapped.order(ByteOrder.LITTLE_ENDIAN);
+			buffers.add(mapped);
+			segments.add(new ImageByteBuffer<>(imageType).wrap(mapped, width, rows, 0, stride));
+		}
+	}
+
+	/**
+	 * Creates a new file which is large enough to store the image. The pixels will be zero.
+	 *
+	 * @param path Where the image will be saved. Overwritten if it already exists.
+	 * @param imageType Type of image. Gray and interleaved are supported.
+	 */
+	public static <T extends ImageBase<T>>
+	MappedRawImage<T> create( File path, ImageType<T> imageType, int width, int height ) throws IOException {
+		if( imageType.getFamily() == ImageType.Family.PLANAR )
+			throw new IllegalArgumentException("Planar images are not supported");
+		if( width < 0 || height < 0 )
+			throw new IllegalArgumentException("Negative image shape");
+
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		try {
+			long bytes = (long)width*height*imageType.getNumBands()*imageType.getDataType().getNumBits()/8;
+			file.setLength(0);
+			file.setLength(HEADER_BYTES + bytes);
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			putName(header, MAGIC, 8);
+			header.putInt(VERSION);
+			header.putInt(width);
+			header.putInt(height);
+			header.putInt(imageType.getNumBands());
+			putName(header, imageType.getFamily().name(), NAME_BYTES);
+			putName(header, imageType.getDataType().name(), NAME_BYTES);
+			header.position(0);
+			file.getChannel().write(header, 0);
+
+			return new MappedRawImage<>(file, false, imageType, width, height);
+		} catch( IOException | RuntimeException e ) {
+			file.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens an existing image file
+	 *
+	 * @param path Location of the image file
+	 * @param readOnly If true then the file is opened as read only and {@link #writeRegion} will fail
+	 */
+	public static MappedRawImage<?> open( File path, boolean readOnly ) throws IOException {
+		RandomAccessFile file = new RandomAccessFile(path, readOnly ? "r" : "rw");
+		try {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			if( file.getChannel().read(header, 0) != HEADER_BYTES )
+				throw new IOException("File is too small to contain a header");
+			header.position(0);
+
+			if( !MAGIC.equals(getName(header, 8)) )
+				throw new IOException("Not a raw image file");
+			int version = header.getInt();
+			if( version != VERSION )
+				throw new IOException("Unsupported version " + version);
+			int width = header.getInt();
+			int height = header.getInt();
+			int numBands = header.getInt();
+
+			ImageType.Family family;
+			ImageDataType dataType;
+			try {
+				family = ImageType.Family.valueOf(getName(header, NAME_BYTES));
+				dataType = ImageDataType.valueOf(getName(header, NAME_BYTES));
+			} catch( IllegalArgumentException e ) {
+				throw new IOException("Unknown image type in header");
+			}
+			ImageType<?> imageType = new ImageType<>(family, dataType, numBands);
+
+			long bytes = (long)width*height*numBands*dataType.getNumBits()/8;
+			if( file.length() < HEADER_BYTES + bytes )
+				throw new IOException("File is smaller than the image");
+
+			return new MappedRawImage(file, readOnly, imageType, width, height);
+		} catch( IOException | RuntimeException e ) {
+			file.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens an existing image file and checks to see if it's the expected type
+	 */
+	public static <T extends ImageBase<T>>
+	MappedRawImage<T> open( File path, boolean readOnly, ImageType<T> imageType ) throws IOException {
+		MappedRawImage<?> found = open(path, readOnly);
+		if( !found.getImageType().isSameType(imageType) ) {
+			found.close();
+			throw new IOException("Expected " + imageType + " but file contains " + found.getImageType());
+		}
+		return (MappedRawImage<T>)found;
+	}
+
+	/**
+	 * Converts an image file into a raw image file with the strip size selected automatically.
+	 * See {@link #createFromImage(File, File, ImageType, int)}.
+	 */
+	public static <T extends ImageBase<T>>
+	MappedRawImage<T> createFromImage( File imagePath, File rawPath, ImageType<T> imageType ) throws IOException {
+		return createFromImage(imagePath, rawPath, imageType, 0);
+	}
+
+	/**
+	 * <p>
+	 * Converts an image file, e.g. PNG or TIFF, into a raw image file. The image is read a strip of rows at a time
+	 * so that only a strip needs to be in memory.
+	 * </p>
+	 *
+	 * <p>
+	 * Readers for tiled formats can decode a strip directly. Most other formats, e.g. PNG, decode every row above
+	 * the strip each time a strip is read, so the total cost grows with height*height/stripRows. Strips should be
+	 * as large as memory allows, which is what the automatic selection does.
+	 * </p>
+	 *
+	 * @param imagePath Image file which can be read by {@link ImageIO}
+	 * @param rawPath Where the raw image will be saved
+	 * @param imageType Type of image it's converted into
+	 * @param stripRows Number of rows read at a time. If &le; 0 then strips use about {@link #DEFAULT_STRIP_BYTES}
+	 * and are aligned to the file's tiles, if it has tiles.
+	 */
+	public static <T extends ImageBase<T>>
+	MappedRawImage<T> createFromImage( File imagePath, File rawPath, ImageType<T> imageType, int stripRows )
+			throws IOException {
+		try (ImageInputStream stream = ImageIO.createImageInputStream(imagePath)) {
+			if( stream == null )
+				throw new IOException("Can't open " + imagePath);
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+			if( !readers.hasNext() )
+				throw new IOException("No reader for " + imagePath);
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(stream, true, true);
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+				if( stripRows <= 0 )
+					stripRows = selectStripRows(width, height, reader.isImageTiled(0) ? reader.getTileHeight(0) : 0);
+
+				MappedRawImage<T> raw = create(rawPath, imageType, width, height);
+				try {
+					T strip = imageType.createImage(width, 1);
+					for (int y0 = 0; y0 < height; y0 += stripRows) {
+						int y1 = Math.min(height, y0 + stripRows);
+						ImageReadParam param = reader.getDefaultReadParam();
+						param.setSourceRegion(new Rectangle(0, y0, width, y1 - y0));
+						BufferedImage buffered = reader.read(0, param);
+						strip.reshape(width, y1 - y0);
+						ConvertBufferedImage.convertFrom(buffered, strip, true);
+						raw.writeRegion(0, y0, strip);
+					}
+				} catch( IOException | RuntimeException e ) {
+					raw.close();
+					throw e;
+				}
+				return raw;
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Selects the number of rows in a strip so that a decoded strip, assuming 4 bytes per pixel, uses about
+	 * {@link #DEFAULT_STRIP_BYTES}.
+	 *
+	 * @param tileHeight Height of the file's tiles or 0 if it isn't tiled. Strips will be a multiple of it.
+	 */
+	static int selectStripRows( int width, int height, int tileHeight ) {
+		long rows = Math.max(1, DEFAULT_STRIP_BYTES/(4L*Math.max(1, width)));
+		if( tileHeight > 0 )
+			rows = Math.max(1, rows/tileHeight)*tileHeight;
+		return (int)Math.max(1, Math.min(rows, height));
+	}
+
+	private static void putName( ByteBuffer buffer, String name, int length ) {
+		byte[] bytes = name.getBytes(StandardCharsets.US_ASCII);
+		if( bytes.length > length )
+			throw new IllegalArgumentException("Name is too long: " + name);
+		byte[] padded = new byte[length];
+		System.arraycopy(bytes, 0, padded, 0, bytes.length);
+		buffer.put(padded);
+	}
+
+	private static String getName( ByteBuffer buffer, int length ) {
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		int end = 0;
+		while( end < length && bytes[end] != 0 )
+			end++;
+		return new String(bytes, 0, end, StandardCharsets.US_ASCII);
+	}
+
+	@Override
+	public void readRegion( int x0, int y0, int x1, int y1, T output ) {
+		checkRegion(x0, y0, x1, y1);
+		output.reshape(x1 - x0, y1 - y0);
+		for (int s = y0/segmentRows; s < segments.size() && s*segmentRows < y1; s++) {
+			int start = s*segmentRows;
+			int sy0 = Math.max(y0, start);
+			int sy1 = Math.min(y1, start + segments.get(s).getHeight());
+			segments.get(s).readRegion(x0, sy0 - start, x1, sy1 - start,
+					output.subimage(0, sy0 - y0, x1 - x0, sy1 - y0));
+		}
+	}
+
+	@Override
+	public void writeRegion( int x0, int y0, T input ) {
+		int x1 = x0 + input.width, y1 = y0 + input.height;
+		checkRegion(x0, y0, x1, y1);
+		for (int s = y0/segmentRows; s < segments.size() && s*segmentRows < y1; s++) {
+			int start = s*segmentRows;
+			int sy0 = Math.max(y0, start);
+			int sy1 = Math.min(y1, start + segments.get(s).getHeight());
+			segments.get(s).writeRegion(x0, sy0 - start, input.subimage(0, sy0 - y0, x1 - x0, sy1 - y0));
+		}
+	}
+
+	private void checkRegion( int x0, int y0, int x1, int y1 ) {
+		if( channel == null )
+			throw new IllegalStateException("Image has been closed");
+		if( x0 < 0 || y0 < 0 || x1 > width || y1 > height || x1 < x0 || y1 < y0 )
+			throw new IllegalArgumentException("Region is outside the image or has a negative size");
+	}
+
+	/**
+	 * Writes any modified pixels to the file
+	 */
+	public void flush() {
+		if( readOnly )
+			return;
+		for (int i = 0; i < buffers.size(); i++) {
+			buffers.get(i).force();
+		}
+	}
+
+	/**
+	 * Flushes any changes and closes the file. The memory mapped buffers are released when they are garbage
+	 * collected.
+	 */
+	@Override
+	public void close() throws IOException {
+		if( channel == null )
+			return;
+		flush();
+		buffers.clear();
+		segments.clear();
+		channel = null;
+		file.close();
+		file = null;
+	}
+
+	@Override
+	public int getWidth() {
+		return width;
+	}
+
+	@Override
+	public int getHeight() {
+		return height;
+	}
+
+	@Override
+	public ImageType<T> getImageType() {
+		return imageType;
+	}
+
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+}
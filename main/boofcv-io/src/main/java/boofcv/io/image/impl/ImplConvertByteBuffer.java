@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.image.impl;
+
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+
+import java.nio.ByteBuffer;
+
+//CONCURRENT_INLINE import boofcv.concurrency.BoofConcurrency;
+
+/**
+ * Routines for copying 8-bit pixel data from a {@link ByteBuffer} into images. Typically the buffer is
+ * owned by native code, e.g. a video decoder, and reading it directly avoids intermediate copies. The buffer's
+ * position and limit are never modified, so it's safe to read from multiple threads.
+ *
+ * @author Peter Abeles
+ */
+public class ImplConvertByteBuffer {
+
+	/**
+	 * Copies a single channel buffer into a gray image
+	 */
+	public static void from_1BU8_to_U8( ByteBuffer src, int srcOffset, int srcStride, GrayU8 dst ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, dst.height, (y0, y1) -> {
+		int y0 = 0, y1 = dst.height;
+		ByteBuffer row = src.duplicate();
+		for (int y = y0; y < y1; y++) {
+			row.position(srcOffset + y*srcStride);
+			row.get(dst.data, dst.startIndex + y*dst.stride, dst.width);
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Converts a three channel buffer into a gray image by averaging the channels
+	 */
+	public static void from_3BU8_to_U8( ByteBuffer src, int srcOffset, int srcStride, GrayU8 dst ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, dst.height, y -> {
+		for (int y = 0; y < dst.height; y++) {
+			int indexSrc = srcOffset + y*srcStride;
+			int indexDst = dst.startIndex + y*dst.stride;
+			int indexDstEnd = indexDst + dst.width;
+
+			while( indexDst < indexDstEnd ) {
+				int sum = (src.get(indexSrc) & 0xFF) + (src.get(indexSrc+1) & 0xFF) + (src.get(indexSrc+2) & 0xFF);
+				dst.data[indexDst++] = (byte)(sum/3);
+				indexSrc += 3;
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Copies a three channel buffer into an interleaved image
+	 *
+	 * @param swapOrder If true the first and third channels are swapped, e.g. BGR to RGB
+	 */
+	public static void from_3BU8_to_IL_U8( ByteBuffer src, int srcOffset, int srcStride, boolean swapOrder,
+										   InterleavedU8 dst ) {
+		final int length = dst.width*3;
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, dst.height, (y0, y1) -> {
+		int y0 = 0, y1 = dst.height;
+		ByteBuffer row = src.duplicate();
+		for (int y = y0; y < y1; y++) {
+			int indexDst = dst.startIndex + y*dst.stride;
+
+			row.position(srcOffset + y*srcStride);
+			row.get(dst.data, indexDst, length);
+
+			if( swapOrder ) {
+				int indexDstEnd = indexDst + length;
+				for( ; indexDst < indexDstEnd; indexDst += 3 ) {
+					byte tmp = dst.data[indexDst];
+					dst.data[indexDst] = dst.data[indexDst+2];
+					dst.data[indexDst+2] = tmp;
+				}
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Copies a three channel buffer into a planar image
+	 *
+	 * @param swapOrder If true the first and third channels are swapped, e.g. BGR to RGB
+	 */
+	public static void from_3BU8_to_PL_U8( ByteBuffer src, int srcOffset, int srcStride, boolean swapOrder,
+										   Planar<GrayU8> dst ) {
+		final byte[] band0 = dst.getBand(swapOrder ? 2 : 0).data;
+		final byte[] band1 = dst.getBand(1).data;
+		final byte[] band2 = dst.getBand(swapOrder ? 0 : 2).data;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, dst.height, y -> {
+		for (int y = 0; y < dst.height; y++) {
+			int indexSrc = srcOffset + y*srcStride;
+			int indexDst = dst.startIndex + y*dst.stride;
+			int indexDstEnd = indexDst + dst.width;
+
+			for( ; indexDst < indexDstEnd; indexDst++ ) {
+				band0[indexDst] = src.get(indexSrc++);
+				band1[indexDst] = src.get(indexSrc++);
+				band2[indexDst] = src.get(indexSrc++);
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+}
@@ -24,6 +24,7 @@ import boofcv.io.image.SimpleImageSequence;
 import boofcv.io.image.UtilImageIO;
 import boofcv.io.video.DynamicVideoInterface;
 import boofcv.io.video.VideoInterface;
+import boofcv.io.wrapper.images.PrefetchImageSequence;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 
@@ -46,6 +47,11 @@ public class DefaultMediaManager implements MediaManager {
 	VideoInterface videoInterface = new DynamicVideoInterface();
 	WebcamInterface webcamInterface = new DynamicWebcamInterface();
 
+	// If more than zero then videos are decoded this many images ahead in a background thread
+	int prefetchFrames = 0;
+	// If true then when prefetching the oldest image is dropped instead of waiting, e.g. for live streams
+	boolean prefetchDropOldest = false;
+
 	@Override
 	public Reader openFile(String fileName) {
 		InputStream stream = UtilIO.openStream(fileName);
@@ -78,7 +84,30 @@ public class DefaultMediaManager implements MediaManager {
 	@Override
 	public <T extends ImageBase<T>> SimpleImageSequence<T>
 	openVideo(String fileName, ImageType<T> type) {
-		return videoInterface.load(fileName, type);
+		SimpleImageSequence<T> sequence = videoInterface.load(fileName, type);
+		if( sequence == null || prefetchFrames <= 0 )
+			return sequence;
+		return new PrefetchImageSequence<>(sequence, prefetchFrames, prefetchDropOldest);
+	}
+
+	/**
+	 * Configures videos opened by {@link #openVideo} to be decoded ahead of time in a background thread.
+	 *
+	 * @param frames Maximum number of images decoded ahead of time. If &le; 0 then prefetching is turned off.
+	 * @param dropOldest If true the oldest image is discarded when it gets too far ahead. Useful for live streams.
+	 * @see PrefetchImageSequence
+	 */
+	public void setPrefetch( int frames, boolean dropOldest ) {
+		this.prefetchFrames = frames;
+		this.prefetchDropOldest = dropOldest;
+	}
+
+	public int getPrefetchFrames() {
+		return prefetchFrames;
+	}
+
+	public boolean isPrefetchDropOldest() {
+		return prefetchDropOldest;
 	}
 
 	@Override
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.wrapper.images;
+
+import boofcv.io.image.ConvertBufferedImage;
+import boofcv.io.image.SimpleImageSequence;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * <p>
+ * Wraps another {@link SimpleImageSequence} and decodes images ahead of time in a background thread, so that the
+ * time spent decoding overlaps with the time spent processing. Decoded images are copied into a ring of
+ * images which are recycled. The image returned by {@link #next()} is valid until the next call to {@link #next()}
+ * or {@link #reset()}.
+ * </p>
+ *
+ * <p>
+ * When the ring is full the background thread will either wait until an image has been read or, if dropOldest
+ * is true, discard the oldest image which hasn't been read yet. Dropping images is intended for live sources,
+ * where processing the most recent image is more important than processing every image.
+ * </p>
+ *
+ * <p>
+ * The wrapped sequence is only accessed by the background thread after construction. Until the first image is
+ * read, the width and height are the ones reported by the wrapped sequence when it was constructed or reset.
+ * The GUI image is created from the output image when requested and might not have the same format as the
+ * wrapped sequence's.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PrefetchImageSequence<T extends ImageBase<T>> implements SimpleImageSequence<T> {
+
+	// The sequence which is being read ahead of time
+	final SimpleImageSequence<T> source;
+	// If the ring is full should the oldest image be discarded or should it wait
+	final boolean dropOldest;
+
+	// Images which have been decoded but not yet read. Valid elements start at 'head'
+	final Frame<T>[] ring;
+	int head, count;
+	// Image which was most recently returned by next()
+	Frame<T> current;
+	// true if next() has returned an image since the last reset
+	boolean imageRead;
+	// Shape of the source's images before any have been read
+	int sourceWidth, sourceHeight;
+	// The background thread decodes into this image then swaps it into the ring
+	Frame<T> work;
+
+	// Locks all variables which are shared between the two threads
+	final Object lock = new Object();
+	Thread thread;
+	boolean stopRequested;
+	// true if the source has no more images or an exception was thrown
+	boolean sourceFinished;
+	// exception thrown by the source. It is passed on to the user in next()
+	RuntimeException failure;
+	// changes to loop are applied by the background thread
+	boolean loop;
+	boolean loopChanged;
+	// Number of images which have been discarded since the last reset
+	int totalDropped;
+
+	// Only converted when requested
+	BufferedImage guiImage;
+	boolean guiImageStale = true;
+
+	/**
+	 * Wraps the sequence and starts decoding images in the background.
+	 *
+	 * @param source The sequence being wrapped.
+	 * @param maxAhead Maximum number of images decoded ahead of time. Must be &ge; 1
+	 * @param dropOldest If true the oldest image is discarded when the ring is full, otherwise it waits.
+	 */
+	@SuppressWarnings({"unchecked"})
+	public PrefetchImageSequence( SimpleImageSequence<T> source, int maxAhead, boolean dropOldest ) {
+		if( maxAhead < 1 )
+			throw new IllegalArgumentException("Must decode at least one image ahead");
+		this.source = source;
+		this.dropOldest = dropOldest;
+
+		ImageType<T> imageType = source.getImageType();
+		ring = new Frame[maxAhead];
+		for (int i = 0; i < ring.length; i++) {
+			ring[i] = new Frame<>(imageType);
+		}
+		current = new Frame<>(imageType);
+		work = new Frame<>(imageType);
+
+		saveSourceShape();
+		startThread();
+	}
+
+	/**
+	 * Main loop of the background thread. Copies images from the source into the ring.
+	 */
+	void decodeLoop() {
+		while( true ) {
+			boolean applyLoop, loopValue;
+			synchronized (lock) {
+				// back pressure. Don't decode until there's somewhere to put the image
+				while( !stopRequested && !dropOldest && count == ring.length ) {
+					try {
+						lock.wait();
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+				if( stopRequested )
+					return;
+				applyLoop = loopChanged;
+				loopValue = loop;
+				loopChanged = false;
+			}
+
+			try {
+				if( applyLoop )
+					source.setLoop(loopValue);
+				if( !source.hasNext() ) {
+					synchronized (lock) {
+						sourceFinished = true;
+						lock.notifyAll();
+					}
+					return;
+				}
+				T image = source.next();
+				work.image.setTo(image);
+				work.frameNumber = source.getFrameNumber();
+			} catch( RuntimeException e ) {
+				synchronized (lock) {
+					failure = e;
+					sourceFinished = true;
+					lock.notifyAll();
+				}
+				return;
+			}
+
+			synchronized (lock) {
+				if( stopRequested )
+					return;
+				int tail = (head + count) % ring.length;
+				if( count == ring.length ) {
+					// can only happen when dropping. The oldest image is at the tail and gets recycled
+					head = (head + 1) % ring.length;
+					totalDropped++;
+				} else {
+					count++;
+				}
+				Frame<T> tmp = ring[tail];
+				ring[tail] = work;
+				work = tmp;
+				lock.notifyAll();
+			}
+		}
+	}
+
+	@Override
+	public int getWidth() {
+		return imageRead ? current.image.getWidth() : sourceWidth;
+	}
+
+	@Override
+	public int getHeight() {
+		return imageRead ? current.image.getHeight() : sourceHeight;
+	}
+
+	/**
+	 * Waits until the next image has been decoded or the source has finished
+	 */
+	@Override
+	public boolean hasNext() {
+		synchronized (lock) {
+			waitForImage();
+			return count > 0 || failure != null;
+		}
+	}
+
+	@Override
+	public T next() {
+		synchronized (lock) {
+			waitForImage();
+			if( count == 0 ) {
+				if( failure != null )
+					throw failure;
+				return null;
+			}
+
+			// the previous image's storage is given back to the ring
+			Frame<T> tmp = current;
+			current = ring[head];
+			ring[head] = tmp;
+			head = (head + 1) % ring.length;
+			count--;
+			imageRead = true;
+			guiImageStale = true;
+			lock.notifyAll();
+		}
+		return current.image;
+	}
+
+	private void waitForImage() {
+		while( count == 0 && !sourceFinished ) {
+			try {
+				lock.wait();
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	@Override
+	public T getImage() {
+		return current.image;
+	}
+
+	@Override
+	public <InternalImage> InternalImage getGuiImage() {
+		T image = current.image;
+		if( guiImage != null && (guiImage.getWidth() != image.width || guiImage.getHeight() != image.height) ) {
+			guiImage = null;
+		}
+		if( guiImage == null || guiImageStale ) {
+			guiImage = ConvertBufferedImage.convertTo(image, guiImage, true);
+			guiImageStale = false;
+		}
+		return (InternalImage)guiImage;
+	}
+
+	/**
+	 * Stops the background thread then closes the source
+	 */
+	@Override
+	public void close() {
+		stopThread();
+		source.close();
+	}
+
+	@Override
+	public int getFrameNumber() {
+		return current.frameNumber;
+	}
+
+	@Override
+	public void setLoop( boolean loop ) {
+		synchronized (lock) {
+			this.loop = loop;
+			this.loopChanged = true;
+		}
+	}
+
+	@Override
+	public ImageType<T> getImageType() {
+		return source.getImageType();
+	}
+
+	/**
+	 * Stops the background thread, discards all decoded images, resets the source, and starts decoding again
+	 */
+	@Override
+	public void reset() {
+		stopThread();
+		source.reset();
+		head = count = 0;
+		totalDropped = 0;
+		current.frameNumber = -1;
+		imageRead = false;
+		saveSourceShape();
+		guiImageStale = true;
+		startThread();
+	}
+
+	/**
+	 * Number of images discarded because the ring was full. Only non-zero if dropOldest is true.
+	 */
+	public int getTotalDropped() {
+		synchronized (lock) {
+			return totalDropped;
+		}
+	}
+
+	public int getMaxAhead() {
+		return ring.length;
+	}
+
+	public boolean isDropOldest() {
+		return dropOldest;
+	}
+
+	/**
+	 * Sequences report the shape of the first image before it's read. Must be called when the background
+	 * thread isn't running.
+	 */
+	private void saveSourceShape() {
+		sourceWidth = source.getWidth();
+		sourceHeight = source.getHeight();
+	}
+
+	private void startThread() {
+		stopRequested = false;
+		sourceFinished = false;
+		failure = null;
+		thread = new Thread(this::decodeLoop, "PrefetchImageSequence");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Requests that the background thread stop and waits until it has. If the thread is inside the source it
+	 * will finish the current image first.
+	 */
+	private void stopThread() {
+		synchronized (lock) {
+			stopRequested = true;
+			lock.notifyAll();
+		}
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Storage for a decoded image and its frame number
+	 */
+	static class Frame<T extends ImageBase<T>> {
+		T image;
+		int frameNumber = -1;
+
+		Frame( ImageType<T> imageType ) {
+			image = imageType.createImage(1, 1);
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.image;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestMappedRawImage {
+	Random rand = new Random(234);
+	int width = 30, height = 25;
+
+	@Test
+	void create_write_open_read() throws IOException {
+		File file = File.createTempFile("raw", ".boofraw");
+		var expected = new InterleavedF32(width, height, 2);
+		ImageMiscOps.fillUniform(expected, rand, -10, 10);
+
+		try (var raw = MappedRawImage.create(file, expected.getImageType(), width, height)) {
+			raw.writeRegion(0, 0, expected);
+		}
+
+		try (MappedRawImage<?> raw = MappedRawImage.open(file, true)) {
+			assertTrue(raw.getImageType().isSameType(expected.getImageType()));
+			assertEquals(width, raw.getWidth());
+			assertEquals(height, raw.getHeight());
+
+			var found = new InterleavedF32(1, 1, 2);
+			((MappedRawImage<InterleavedF32>)raw).readRegion(0, 0, width, height, found);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			assertThrows(RuntimeException.class, () ->
+					((MappedRawImage<InterleavedF32>)raw).writeRegion(0, 0, found));
+		}
+
+		// Pixels are stored in little endian order after the header
+		try (var f = new RandomAccessFile(file, "r")) {
+			f.seek(MappedRawImage.HEADER_BYTES);
+			int bits = Integer.reverseBytes(f.readInt());
+			assertEquals(expected.getBand(0, 0, 0), Float.intBitsToFloat(bits));
+		}
+
+		assertThrows(IOException.class, () -> MappedRawImage.open(file, true, ImageType.SB_U8).close());
+		file.delete();
+	}
+
+	/**
+	 * Force the image to be split across several segments and access regions which cross them
+	 */
+	@Test
+	void multipleSegments() throws IOException {
+		long before = MappedRawImage.maxSegmentBytes;
+		MappedRawImage.maxSegmentBytes = width*3*4 + 7;
+		File file = File.createTempFile("raw", ".boofraw");
+		try (var raw = MappedRawImage.create(file, ImageType.il(3, InterleavedU8.class), width, height)) {
+			assertEquals(4, raw.segmentRows);
+			assertEquals(7, raw.segments.size());
+
+			var expected = new InterleavedU8(width, height, 3);
+			ImageMiscOps.fillUniform(expected, rand, 0, 255);
+			raw.writeRegion(0, 0, expected.subimage(0, 0, width, 10));
+			raw.writeRegion(0, 10, expected.subimage(0, 10, width, height));
+
+			var found = new InterleavedU8(1, 1, 3);
+			raw.readRegion(3, 2, 20, 23, found);
+			BoofTesting.assertEquals(expected.subimage(3, 2, 20, 23), found, 0);
+		} finally {
+			MappedRawImage.maxSegmentBytes = before;
+			file.delete();
+		}
+	}
+
+	@Test
+	void createFromImage() throws IOException {
+		var expected = new GrayU8(width, height);
+		ImageMiscOps.fillUniform(expected, rand, 0, 255);
+		File png = File.createTempFile("raw", ".png");
+		File file = File.createTempFile("raw", ".boofraw");
+		ImageIO.write(ConvertBufferedImage.convertTo(expected, null), "png", png);
+
+		try (var raw = MappedRawImage.createFromImage(png, file, ImageType.SB_U8, 7)) {
+			var found = new GrayU8(1, 1);
+			raw.readRegion(0, 0, width, height, found);
+			BoofTesting.assertEquals(expected, found, 0);
+		} finally {
+			png.delete();
+			file.delete();
+		}
+	}
+
+	/**
+	 * Automatic strip size should be used and give the same results
+	 */
+	@Test
+	void createFromImage_automatic() throws IOException {
+		var expected = new GrayU8(width, height);
+		ImageMiscOps.fillUniform(expected, rand, 0, 255);
+		File png = File.createTempFile("raw", ".png");
+		File file = File.createTempFile("raw", ".boofraw");
+		ImageIO.write(ConvertBufferedImage.convertTo(expected, null), "png", png);
+
+		try (var raw = MappedRawImage.createFromImage(png, file, ImageType.SB_U8)) {
+			var found = new GrayU8(1, 1);
+			raw.readRegion(0, 0, width, height, found);
+			BoofTesting.assertEquals(expected, found, 0);
+		} finally {
+			png.delete();
+			file.delete();
+		}
+	}
+
+	@Test
+	void selectStripRows() {
+		// small images are read in a single strip
+		assertEquals(25, MappedRawImage.selectStripRows(30, 25, 0));
+		// very wide images have strips which use about the default number of bytes
+		int width = 40_000;
+		int rows = MappedRawImage.selectStripRows(width, 100_000, 0);
+		assertEquals(MappedRawImage.DEFAULT_STRIP_BYTES/(4*width), rows);
+		// tiled images use a multiple of the tile height
+		assertEquals(0, MappedRawImage.selectStripRows(width, 100_000, 256)%256);
+		assertEquals(256, MappedRawImage.selectStripRows(2_000_000, 100_000, 256));
+	}
+
+	@Test
+	void open_notRaw() throws IOException {
+		File file = File.createTempFile("raw", ".boofraw");
+		try (var f = new RandomAccessFile(file, "rw")) {
+			f.write(new byte[100]);
+		}
+		assertThrows(IOException.class, () -> MappedRawImage.open(file, true));
+		file.delete();
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.image.impl;
+
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplConvertByteBuffer {
+	Random rand = new Random(234);
+	int width = 30, height = 40;
+
+	// padding in the buffer so that the offset and stride are tested
+	int offset = 7;
+
+	@Test
+	void from_1BU8_to_U8() {
+		int stride = width + 5;
+		ByteBuffer src = createBuffer(stride);
+
+		GrayU8 dst = new GrayU8(width, height);
+		BoofTesting.checkSubImage(this, "from_1BU8_to_U8", true, src, stride, dst);
+	}
+
+	public void from_1BU8_to_U8( ByteBuffer src, int stride, GrayU8 dst ) {
+		ImplConvertByteBuffer.from_1BU8_to_U8(src, offset, stride, dst);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(src.get(offset + y*stride + x) & 0xFF, dst.get(x, y));
+			}
+		}
+		// buffer state must not be modified
+		assertEquals(0, src.position());
+	}
+
+	@Test
+	void from_3BU8_to_U8() {
+		int stride = width*3 + 5;
+		ByteBuffer src = createBuffer(stride);
+
+		GrayU8 dst = new GrayU8(width, height);
+		BoofTesting.checkSubImage(this, "from_3BU8_to_U8", true, src, stride, dst);
+	}
+
+	public void from_3BU8_to_U8( ByteBuffer src, int stride, GrayU8 dst ) {
+		ImplConvertByteBuffer.from_3BU8_to_U8(src, offset, stride, dst);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int sum = 0;
+				for (int i = 0; i < 3; i++) {
+					sum += src.get(offset + y*stride + x*3 + i) & 0xFF;
+				}
+				assertEquals(sum/3, dst.get(x, y));
+			}
+		}
+	}
+
+	@Test
+	void from_3BU8_to_IL_U8() {
+		int stride = width*3 + 5;
+		ByteBuffer src = createBuffer(stride);
+
+		InterleavedU8 dst = new InterleavedU8(width, height, 3);
+		BoofTesting.checkSubImage(this, "from_3BU8_to_IL_U8", true, src, stride, false, dst);
+		BoofTesting.checkSubImage(this, "from_3BU8_to_IL_U8", true, src, stride, true, dst);
+	}
+
+	public void from_3BU8_to_IL_U8( ByteBuffer src, int stride, boolean swapOrder, InterleavedU8 dst ) {
+		ImplConvertByteBuffer.from_3BU8_to_IL_U8(src, offset, stride, swapOrder, dst);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				for (int i = 0; i < 3; i++) {
+					int band = swapOrder ? 2 - i : i;
+					assertEquals(src.get(offset + y*stride + x*3 + i) & 0xFF, dst.getBand(x, y, band));
+				}
+			}
+		}
+		assertEquals(0, src.position());
+	}
+
+	@Test
+	void from_3BU8_to_PL_U8() {
+		int stride = width*3 + 5;
+		ByteBuffer src = createBuffer(stride);
+
+		Planar<GrayU8> dst = new Planar<>(GrayU8.class, width, height, 3);
+		BoofTesting.checkSubImage(this, "from_3BU8_to_PL_U8", true, src, stride, false, dst);
+		BoofTesting.checkSubImage(this, "from_3BU8_to_PL_U8", true, src, stride, true, dst);
+	}
+
+	public void from_3BU8_to_PL_U8( ByteBuffer src, int stride, boolean swapOrder, Planar<GrayU8> dst ) {
+		ImplConvertByteBuffer.from_3BU8_to_PL_U8(src, offset, stride, swapOrder, dst);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				for (int i = 0; i < 3; i++) {
+					int band = swapOrder ? 2 - i : i;
+					assertEquals(src.get(offset + y*stride + x*3 + i) & 0xFF, dst.getBand(band).get(x, y));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a direct buffer filled with random values, like the ones returned by native code
+	 */
+	private ByteBuffer createBuffer( int stride ) {
+		ByteBuffer src = ByteBuffer.allocateDirect(offset + stride*height);
+		for (int i = 0; i < src.capacity(); i++) {
+			src.put(i, (byte)rand.nextInt(256));
+		}
+		return src;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.image.impl;
+
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+class TestImplConvertByteBuffer_MT {
+	Random rand = new Random(234);
+	int width = 70, height = 60;
+	int offset = 3;
+	int stride = width*3 + 4;
+
+	ByteBuffer src = ByteBuffer.allocateDirect(offset + stride*height);
+
+	TestImplConvertByteBuffer_MT() {
+		for (int i = 0; i < src.capacity(); i++) {
+			src.put(i, (byte)rand.nextInt(256));
+		}
+	}
+
+	@Test
+	void from_1BU8_to_U8() {
+		GrayU8 expected = new GrayU8(width, height);
+		GrayU8 found = new GrayU8(width, height);
+
+		ImplConvertByteBuffer.from_1BU8_to_U8(src, offset, stride, expected);
+		ImplConvertByteBuffer_MT.from_1BU8_to_U8(src, offset, stride, found);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test
+	void from_3BU8_to_U8() {
+		GrayU8 expected = new GrayU8(width, height);
+		GrayU8 found = new GrayU8(width, height);
+
+		ImplConvertByteBuffer.from_3BU8_to_U8(src, offset, stride, expected);
+		ImplConvertByteBuffer_MT.from_3BU8_to_U8(src, offset, stride, found);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test
+	void from_3BU8_to_IL_U8() {
+		InterleavedU8 expected = new InterleavedU8(width, height, 3);
+		InterleavedU8 found = new InterleavedU8(width, height, 3);
+
+		for( boolean swap : new boolean[]{false, true} ) {
+			ImplConvertByteBuffer.from_3BU8_to_IL_U8(src, offset, stride, swap, expected);
+			ImplConvertByteBuffer_MT.from_3BU8_to_IL_U8(src, offset, stride, swap, found);
+
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	@Test
+	void from_3BU8_to_PL_U8() {
+		Planar<GrayU8> expected = new Planar<>(GrayU8.class, width, height, 3);
+		Planar<GrayU8> found = new Planar<>(GrayU8.class, width, height, 3);
+
+		for( boolean swap : new boolean[]{false, true} ) {
+			ImplConvertByteBuffer.from_3BU8_to_PL_U8(src, offset, stride, swap, expected);
+			ImplConvertByteBuffer_MT.from_3BU8_to_PL_U8(src, offset, stride, swap, found);
+
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.wrapper.images;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.io.image.SimpleImageSequence;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestPrefetchImageSequence {
+
+	/**
+	 * Every image should be returned in order with the correct contents
+	 */
+	@Test
+	void readAll() {
+		var source = new DummySequence(20);
+		var alg = new PrefetchImageSequence<>(source, 3, false);
+
+		int total = 0;
+		while( alg.hasNext() ) {
+			GrayU8 image = alg.next();
+			assertEquals(total, alg.getFrameNumber());
+			assertEquals(total, image.get(2, 3));
+			assertEquals(10, alg.getWidth());
+			total++;
+		}
+		assertEquals(20, total);
+		assertNull(alg.next());
+		assertEquals(0, alg.getTotalDropped());
+		alg.close();
+		assertTrue(source.closed);
+	}
+
+	/**
+	 * Before the first image is read the shape should be the source's, since callers use it to declare images
+	 */
+	@Test
+	void getWidthHeight_beforeNext() {
+		var source = new DummySequence(5);
+		var alg = new PrefetchImageSequence<>(source, 2, false);
+		assertEquals(10, alg.getWidth());
+		assertEquals(12, alg.getHeight());
+		alg.next();
+		assertEquals(10, alg.getWidth());
+		assertEquals(12, alg.getHeight());
+
+		// should be the same after a reset
+		alg.reset();
+		assertEquals(10, alg.getWidth());
+		assertEquals(12, alg.getHeight());
+		alg.close();
+	}
+
+	/**
+	 * The background thread should stop decoding when the ring is full
+	 */
+	@Test
+	void backPressure() throws InterruptedException {
+		var source = new DummySequence(100);
+		var alg = new PrefetchImageSequence<>(source, 3, false);
+
+		Thread.sleep(100);
+		// three in the ring and possibly one more being copied
+		assertTrue(source.count <= 4);
+		alg.next();
+		Thread.sleep(100);
+		assertTrue(source.count <= 5);
+		alg.close();
+	}
+
+	/**
+	 * When dropping the most recent images should be kept
+	 */
+	@Test
+	void dropOldest() throws InterruptedException {
+		var source = new DummySequence(30);
+		var alg = new PrefetchImageSequence<>(source, 2, true);
+
+		// wait until everything has been decoded
+		while( true ) {
+			synchronized (alg.lock) {
+				if( alg.sourceFinished )
+					break;
+			}
+			Thread.sleep(5);
+		}
+		assertEquals(28, alg.getTotalDropped());
+		assertTrue(alg.hasNext());
+		assertEquals(28, alg.next().get(0, 0));
+		assertEquals(29, alg.next().get(0, 0));
+		assertFalse(alg.hasNext());
+		alg.close();
+	}
+
+	@Test
+	void reset() {
+		var source = new DummySequence(10);
+		var alg = new PrefetchImageSequence<>(source, 2, false);
+
+		for (int i = 0; i < 4; i++) {
+			assertEquals(i, alg.next().get(0, 0));
+		}
+		alg.reset();
+		for (int i = 0; i < 10; i++) {
+			assertTrue(alg.hasNext());
+			assertEquals(i, alg.next().get(0, 0));
+		}
+		assertFalse(alg.hasNext());
+		alg.close();
+	}
+
+	@Test
+	void setLoop() {
+		var source = new DummySequence(3);
+		var alg = new PrefetchImageSequence<>(source, 2, false);
+		alg.setLoop(true);
+
+		// the first images might have been decoded before loop was set, but the source should never end
+		for (int i = 0; i < 20; i++) {
+			assertTrue(alg.hasNext());
+			assertEquals(i%3, alg.next().get(0, 0));
+		}
+		assertTrue(source.loop);
+		alg.close();
+	}
+
+	/**
+	 * Exceptions in the background thread should be passed to the user
+	 */
+	@Test
+	void exception() {
+		var source = new DummySequence(10);
+		source.failAt = 2;
+		var alg = new PrefetchImageSequence<>(source, 2, false);
+
+		alg.next();
+		alg.next();
+		assertTrue(alg.hasNext());
+		assertThrows(IllegalStateException.class, alg::next);
+		alg.close();
+	}
+
+	@Test
+	void getGuiImage() {
+		var alg = new PrefetchImageSequence<>(new DummySequence(3), 2, false);
+
+		alg.next();
+		java.awt.image.BufferedImage gui = alg.getGuiImage();
+		assertEquals(10, gui.getWidth());
+		assertEquals(12, gui.getHeight());
+		// should be recycled
+		alg.next();
+		assertSame(gui, alg.getGuiImage());
+		assertEquals(1, gui.getRaster().getSample(0, 0, 0));
+		alg.close();
+	}
+
+	/**
+	 * Creates images which are filled with their frame number
+	 */
+	static class DummySequence implements SimpleImageSequence<GrayU8> {
+		GrayU8 image = new GrayU8(10, 12);
+		int length;
+		volatile int count = 0;
+		int failAt = -1;
+		volatile boolean loop = false;
+		boolean closed = false;
+
+		DummySequence( int length ) { this.length = length; }
+
+		@Override public int getWidth() { return image.width; }
+
+		@Override public int getHeight() { return image.height; }
+
+		@Override public boolean hasNext() { return loop || count < length; }
+
+		@Override
+		public GrayU8 next() {
+			if( count == failAt )
+				throw new IllegalStateException("Failed");
+			ImageMiscOps.fill(image, count%length);
+			count++;
+			return image;
+		}
+
+		@Override public GrayU8 getImage() { return image; }
+
+		@Override public <InternalImage> InternalImage getGuiImage() { return null; }
+
+		@Override public void close() { closed = true; }
+
+		@Override public int getFrameNumber() { return count - 1; }
+
+		@Override public void setLoop( boolean loop ) { this.loop = loop; }
+
+		@Override public ImageType<GrayU8> getImageType() { return ImageType.single(GrayU8.class); }
+
+		@Override public void reset() { count = 0; }
+	}
+}
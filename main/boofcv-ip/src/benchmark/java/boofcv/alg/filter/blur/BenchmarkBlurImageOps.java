@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -21,6 +21,7 @@ package boofcv.alg.filter.blur;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.concurrency.BoofConcurrency;
 import boofcv.concurrency.IWorkArrays;
+import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
@@ -43,6 +44,8 @@ import java.util.concurrent.TimeUnit;
 public class BenchmarkBlurImageOps {
 
 	public static final int radius = 5;
+	// sigma used for illumination normalization. Large enough that the kernel's size dominates
+	public static final double sigmaLarge = 20;
 
 	@Param({"true","false"})
 	public boolean concurrent;
@@ -53,7 +56,10 @@ public class BenchmarkBlurImageOps {
 	GrayU8 input = new GrayU8(size, size);
 	GrayU8 output = new GrayU8(size, size);
 	GrayU8 storage = new GrayU8(size, size);
+	GrayF32 storageF32 = new GrayF32(size, size);
 	IWorkArrays work = new IWorkArrays();
+	GuidedFilter guided = new GuidedFilter();
+	BilateralGrid bilateral = new BilateralGrid();
 
 	@Setup
 	public void setup() {
@@ -63,6 +69,7 @@ public class BenchmarkBlurImageOps {
 		input.reshape(size, size);
 		output.reshape(size, size);
 		storage.reshape(size, size);
+		storageF32.reshape(size, size);
 
 		ImageMiscOps.fillUniform(input,rand,0,200);
 		ImageMiscOps.fillUniform(output,rand,0,200);
@@ -79,6 +86,26 @@ public class BenchmarkBlurImageOps {
 		BlurImageOps.gaussian(input,output,-1,radius,storage);
 	}
 
+	@Benchmark
+	public void gaussianLarge() {
+		BlurImageOps.gaussian(input,output,sigmaLarge,-1,storage);
+	}
+
+	@Benchmark
+	public void gaussianRecursive() {
+		BlurImageOps.gaussianRecursive(input,output,sigmaLarge,storageF32);
+	}
+
+	@Benchmark
+	public void guided() {
+		BlurImageOps.guided(input,output,radius,100,guided);
+	}
+
+	@Benchmark
+	public void bilateralGrid() {
+		BlurImageOps.bilateralGrid(input,output,radius,20,bilateral);
+	}
+
 	@Benchmark
 	public void median() {
 		BlurImageOps.median(input,output,radius,work);
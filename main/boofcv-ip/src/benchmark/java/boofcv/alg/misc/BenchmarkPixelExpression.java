@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a chain of {@link PixelMath} calls against the same operations fused with {@link PixelExpression}
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=2)
+public class BenchmarkPixelExpression {
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	@Param({"2000"})
+	public int size;
+
+	GrayU8 inputA = new GrayU8(size, size);
+	GrayU8 inputB = new GrayU8(size, size);
+	GrayU8 outputU8 = new GrayU8(size, size);
+	GrayF32 a = new GrayF32(size, size);
+	GrayF32 b = new GrayF32(size, size);
+	GrayF32 output = new GrayF32(size, size);
+
+	PixelExpression exprU8 = new PixelExpression();
+	PixelExpression exprF32 = new PixelExpression();
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		Random rand = new Random(234);
+
+		inputA.reshape(size, size);
+		inputB.reshape(size, size);
+		outputU8.reshape(size, size);
+		a.reshape(size, size);
+		b.reshape(size, size);
+		output.reshape(size, size);
+
+		ImageMiscOps.fillUniform(inputA, rand, 0, 255);
+		ImageMiscOps.fillUniform(inputB, rand, 0, 255);
+		ImageMiscOps.fillUniform(a, rand, -100, 100);
+		ImageMiscOps.fillUniform(b, rand, -100, 100);
+
+		exprU8.output(exprU8.input(inputA).diffAbs(exprU8.input(inputB)).multiply(3).bound(0, 255), outputU8);
+		exprF32.output(exprF32.input(a).minus(exprF32.input(b)).abs().multiply(0.5).plus(2).bound(0, 50), output);
+	}
+
+	@Benchmark
+	public void chain_U8() {
+		PixelMath.diffAbs(inputA, inputB, outputU8);
+		PixelMath.multiply(outputU8, 3.0, 0, 255, outputU8);
+	}
+
+	@Benchmark
+	public void fused_U8() {
+		exprU8.process();
+	}
+
+	@Benchmark
+	public void chain_F32() {
+		PixelMath.subtract(a, b, output);
+		PixelMath.abs(output, output);
+		PixelMath.multiply(output, 0.5f, output);
+		PixelMath.plus(output, 2.0f, output);
+		PixelMath.boundImage(output, 0, 50);
+	}
+
+	@Benchmark
+	public void fused_F32() {
+		exprF32.process();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkPixelExpression.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -38,9 +38,12 @@ public class GenerateBlurImageOps  extends CodeGeneratorBase {
 			generateMeanBorder(type);
 			generateGaussian(type.getSingleBandName(),type.getKernelType());
 			generateGaussian(type.getInterleavedName(),type.getKernelType());
+			generateGaussianRecursive(type,false);
+			generateGaussianRecursive(type,true);
 		}
 		printPlanar();
 		printMedian();
+		printEdgePreserving();
 
 		out.print("\n" +
 				"}\n");
@@ -48,6 +51,8 @@ public class GenerateBlurImageOps  extends CodeGeneratorBase {
 
 	private void printPreamble() {
 		out.print("import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.alg.filter.blur.impl.ImplGaussianRecursive;\n" +
+				"import boofcv.alg.filter.blur.impl.ImplGaussianRecursive_MT;\n" +
 				"import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;\n" +
 				"import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner_MT;\n" +
 				"import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;\n" +
@@ -220,6 +225,69 @@ public class GenerateBlurImageOps  extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void generateGaussianRecursive( AutoTypeImage type , boolean interleaved ) {
+		String imageName = interleaved ? type.getInterleavedName() : type.getSingleBandName();
+		String floatName = type.getNumBits()==64 ? "F64" : "F32";
+		String storageName = (interleaved ? "Interleaved" : "Gray")+floatName;
+		String floatType = type.getNumBits()==64 ? "double" : "float";
+
+		String declareStorage;
+		if( interleaved ) {
+			declareStorage =
+					"\t\tif( storage == null )\n" +
+					"\t\t\tstorage = new "+storageName+"(input.width,input.height,input.numBands);\n" +
+					"\t\telse\n" +
+					"\t\t\tstorage.reshape(input.width,input.height,input.numBands);\n";
+		} else {
+			declareStorage = "\t\tstorage = InputSanityCheck.checkDeclare(input,storage,"+storageName+".class);\n";
+		}
+
+		out.print("\t/**\n" +
+				"\t * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not\n" +
+				"\t * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.\n" +
+				"\t *\n" +
+				"\t * @param input Input image.  Not modified.\n" +
+				"\t * @param output (Optional) Storage for output image, Can be null.  Modified.\n" +
+				"\t * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5\n" +
+				"\t * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.\n" +
+				"\t * @return Output blurred image.\n" +
+				"\t */\n" +
+				"\tpublic static "+imageName+" gaussianRecursive("+imageName+" input, @Nullable "+imageName+" output, double sigma,\n" +
+				"\t\t\t\t\t\t\t\t  @Nullable "+storageName+" storage ) {\n" +
+				"\t\treturn gaussianRecursive(input,output,sigma,sigma,storage);\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not\n" +
+				"\t * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.\n" +
+				"\t *\n" +
+				"\t * @param input Input image.  Not modified.\n" +
+				"\t * @param output (Optional) Storage for output image, Can be null.  Modified.\n" +
+				"\t * @param sigmaX Gaussian distribution's sigma along x-axis.  Must be &ge; 0.5\n" +
+				"\t * @param sigmaY Gaussian distribution's sigma along y-axis.  Must be &ge; 0.5\n" +
+				"\t * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.\n" +
+				"\t * @return Output blurred image.\n" +
+				"\t */\n" +
+				"\tpublic static "+imageName+" gaussianRecursive("+imageName+" input, @Nullable "+imageName+" output, double sigmaX, double sigmaY,\n" +
+				"\t\t\t\t\t\t\t\t  @Nullable "+storageName+" storage ) {\n" +
+				"\t\toutput = InputSanityCheck.checkDeclare(input,output);\n" +
+				declareStorage +
+				"\n" +
+				"\t\t"+floatType+"[] coefX = ImplGaussianRecursive.coefficients_"+floatName+"(sigmaX);\n" +
+				"\t\t"+floatType+"[] coefY = ImplGaussianRecursive.coefficients_"+floatName+"(sigmaY);\n" +
+				"\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
+				"\t\t\tImplGaussianRecursive_MT.horizontal(input, storage, coefX);\n" +
+				"\t\t\tImplGaussianRecursive_MT.vertical(storage, output, coefY);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplGaussianRecursive.horizontal(input, storage, coefX);\n" +
+				"\t\t\tImplGaussianRecursive.vertical(storage, output, coefY);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\treturn output;\n" +
+				"\t}\n\n");
+	}
+
 	void printMedian() {
 		out.print("\t/**\n" +
 				"\t * Applies a median filter.\n" +
@@ -242,7 +310,7 @@ public class GenerateBlurImageOps  extends CodeGeneratorBase {
 				"\t\t\tint w = radius * 2 + 1;\n" +
 				"\t\t\tint offset[] = new int[w * w];\n" +
 				"\n" +
-				"\t\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\t\tImplMedianHistogramInner_MT.process(input, output, radius, work);\n" +
 				"\t\t\t} else {\n" +
 				"\t\t\t\tImplMedianHistogramInner.process(input, output, radius, work);\n" +
@@ -350,6 +418,32 @@ public class GenerateBlurImageOps  extends CodeGeneratorBase {
 				"\t\t}\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
+		out.print("\t/**\n" +
+				"\t * Applies recursive Gaussian blur to a {@link Planar}\n" +
+				"\t *\n" +
+				"\t * @param input Input image.  Not modified.\n" +
+				"\t * @param output (Optional) Storage for output image, Can be null.  Modified.\n" +
+				"\t * @param sigmaX Gaussian distribution's sigma along x-axis.  Must be &ge; 0.5\n" +
+				"\t * @param sigmaY Gaussian distribution's sigma along y-axis.  Must be &ge; 0.5\n" +
+				"\t * @param storage (Optional) Storage for intermediate results.  GrayF64 if the input is GrayF64 otherwise GrayF32.\n" +
+				"\t * @param <T> Input image type.\n" +
+				"\t * @return Output blurred image.\n" +
+				"\t */\n" +
+				"\tpublic static <T extends ImageGray<T>>\n" +
+				"\tPlanar<T> gaussianRecursive(Planar<T> input, @Nullable Planar<T> output, double sigmaX, double sigmaY,\n" +
+				"\t\t\t\t\t\t\t\t@Nullable ImageGray storage ) {\n" +
+				"\n" +
+				"\t\tif( storage == null )\n" +
+				"\t\t\tstorage = input.getBandType() == GrayF64.class ?\n" +
+				"\t\t\t\t\tnew GrayF64(input.width, input.height) : new GrayF32(input.width, input.height);\n" +
+				"\t\tif( output == null )\n" +
+				"\t\t\toutput = input.createNew(input.width,input.height);\n" +
+				"\n" +
+				"\t\tfor( int band = 0; band < input.getNumBands(); band++ ) {\n" +
+				"\t\t\tGBlurImageOps.gaussianRecursive(input.getBand(band),output.getBand(band),sigmaX,sigmaY,storage);\n" +
+				"\t\t}\n" +
+				"\t\treturn output;\n" +
+				"\t}\n\n");
 		out.print(
 				"\t/**\n" +
 				"\t * Applies mean box filter to a {@link Planar}\n" +
@@ -421,6 +515,124 @@ public class GenerateBlurImageOps  extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	void printEdgePreserving() {
+		for( AutoTypeImage type : new AutoTypeImage[]{U8,F32}) {
+			String name = type.getSingleBandName();
+			out.print(
+					"\t/**\n" +
+					"\t * Applies a guided filter using the input image as the guide. Edge preserving smoothing where the cost per\n" +
+					"\t * pixel is independent of the radius. See {@link GuidedFilter}.\n" +
+					"\t *\n" +
+					"\t * @param input Input image.  Not modified.\n" +
+					"\t * @param output (Optional) Storage for output image, Can be null.  Modified.\n" +
+					"\t * @param radius Radius of the local window.\n" +
+					"\t * @param epsilon Regularization in units of pixel value squared. Larger values will smooth more.\n" +
+					"\t * @param storage (Optional) Storage for intermediate results.  Can be null.\n" +
+					"\t * @return Output blurred image.\n" +
+					"\t */\n" +
+					"\tpublic static "+name+" guided("+name+" input, @Nullable "+name+" output, int radius, double epsilon,\n" +
+					"\t\t\t\t\t\t\t\t @Nullable GuidedFilter storage ) {\n" +
+					"\t\treturn guided(input,input,output,radius,epsilon,storage);\n" +
+					"\t}\n" +
+					"\n" +
+					"\t/**\n" +
+					"\t * Applies a guided filter. The output is a locally linear function of the guide image.\n" +
+					"\t * See {@link GuidedFilter}.\n" +
+					"\t *\n" +
+					"\t * @param guide Guide image. Same shape as input.  Not modified.\n" +
+					"\t * @param input Input image.  Not modified.\n" +
+					"\t * @param output (Optional) Storage for output image, Can be null.  Modified.\n" +
+					"\t * @param radius Radius of the local window.\n" +
+					"\t * @param epsilon Regularization in units of pixel value squared. Larger values will smooth more.\n" +
+					"\t * @param storage (Optional) Storage for intermediate results.  Can be null.\n" +
+					"\t * @return Output blurred image.\n" +
+					"\t */\n" +
+					"\tpublic static "+name+" guided("+name+" guide, "+name+" input, @Nullable "+name+" output, int radius, double epsilon,\n" +
+					"\t\t\t\t\t\t\t\t @Nullable GuidedFilter storage ) {\n" +
+					"\t\toutput = InputSanityCheck.checkDeclare(input,output);\n" +
+					"\t\tif( storage == null )\n" +
+					"\t\t\tstorage = new GuidedFilter();\n" +
+					"\n" +
+					"\t\tstorage.process(guide,input,radius,epsilon,output);\n" +
+					"\t\treturn output;\n" +
+					"\t}\n" +
+					"\n" +
+					"\t/**\n" +
+					"\t * Approximates a bilateral filter using a bilateral grid. Edge preserving smoothing where the cost per\n" +
+					"\t * pixel is independent of the spatial sigma. See {@link BilateralGrid}.\n" +
+					"\t *\n" +
+					"\t * @param input Input image.  Not modified.\n" +
+					"\t * @param output (Optional) Storage for output image, Can be null.  Modified.\n" +
+					"\t * @param sigmaSpatial Spatial standard deviation in pixels. Must be &ge; 1\n" +
+					"\t * @param sigmaRange Range standard deviation in pixel values. Must be &gt; 0\n" +
+					"\t * @param storage (Optional) Storage for the grid.  Can be null.\n" +
+					"\t * @return Output blurred image.\n" +
+					"\t */\n" +
+					"\tpublic static "+name+" bilateralGrid("+name+" input, @Nullable "+name+" output, double sigmaSpatial, double sigmaRange,\n" +
+					"\t\t\t\t\t\t\t\t\t\t@Nullable BilateralGrid storage ) {\n" +
+					"\t\toutput = InputSanityCheck.checkDeclare(input,output);\n" +
+					"\t\tif( storage == null )\n" +
+					"\t\t\tstorage = new BilateralGrid();\n" +
+					"\n" +
+					"\t\tstorage.process(input,sigmaSpatial,sigmaRange,output);\n" +
+					"\t\treturn output;\n" +
+					"\t}\n" +
+					"\n");
+		}
+
+		out.print(
+				"\t/**\n" +
+				"\t * Applies a guided filter to a {@link Planar}. Each band is used as its own guide.\n" +
+				"\t *\n" +
+				"\t * @param input Input image.  Not modified.\n" +
+				"\t * @param output (Optional) Storage for output image, Can be null.  Modified.\n" +
+				"\t * @param radius Radius of the local window.\n" +
+				"\t * @param epsilon Regularization in units of pixel value squared. Larger values will smooth more.\n" +
+				"\t * @param storage (Optional) Storage for intermediate results.  Can be null.\n" +
+				"\t * @param <T> Input image type.\n" +
+				"\t * @return Output blurred image.\n" +
+				"\t */\n" +
+				"\tpublic static <T extends ImageGray<T>>\n" +
+				"\tPlanar<T> guided(Planar<T> input, @Nullable Planar<T> output, int radius, double epsilon,\n" +
+				"\t\t\t\t\t @Nullable GuidedFilter storage ) {\n" +
+				"\t\tif( storage == null )\n" +
+				"\t\t\tstorage = new GuidedFilter();\n" +
+				"\t\tif( output == null )\n" +
+				"\t\t\toutput = input.createNew(input.width,input.height);\n" +
+				"\n" +
+				"\t\tfor( int band = 0; band < input.getNumBands(); band++ ) {\n" +
+				"\t\t\tGBlurImageOps.guided(input.getBand(band),output.getBand(band),radius,epsilon,storage);\n" +
+				"\t\t}\n" +
+				"\t\treturn output;\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Applies a bilateral grid filter to a {@link Planar}. Each band is processed independently.\n" +
+				"\t *\n" +
+				"\t * @param input Input image.  Not modified.\n" +
+				"\t * @param output (Optional) Storage for output image, Can be null.  Modified.\n" +
+				"\t * @param sigmaSpatial Spatial standard deviation in pixels. Must be &ge; 1\n" +
+				"\t * @param sigmaRange Range standard deviation in pixel values. Must be &gt; 0\n" +
+				"\t * @param storage (Optional) Storage for the grid.  Can be null.\n" +
+				"\t * @param <T> Input image type.\n" +
+				"\t * @return Output blurred image.\n" +
+				"\t */\n" +
+				"\tpublic static <T extends ImageGray<T>>\n" +
+				"\tPlanar<T> bilateralGrid(Planar<T> input, @Nullable Planar<T> output, double sigmaSpatial, double sigmaRange,\n" +
+				"\t\t\t\t\t\t\t@Nullable BilateralGrid storage ) {\n" +
+				"\t\tif( storage == null )\n" +
+				"\t\t\tstorage = new BilateralGrid();\n" +
+				"\t\tif( output == null )\n" +
+				"\t\t\toutput = input.createNew(input.width,input.height);\n" +
+				"\n" +
+				"\t\tfor( int band = 0; band < input.getNumBands(); band++ ) {\n" +
+				"\t\t\tGBlurImageOps.bilateralGrid(input.getBand(band),output.getBand(band),sigmaSpatial,sigmaRange,storage);\n" +
+				"\t\t}\n" +
+				"\t\treturn output;\n" +
+				"\t}\n" +
+				"\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateBlurImageOps app = new GenerateBlurImageOps();
 		app.generate();
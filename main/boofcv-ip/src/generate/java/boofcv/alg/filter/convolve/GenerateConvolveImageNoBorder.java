@@ -141,7 +141,7 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 				"\t\t\t\t\t\t\t\t  "+inputName+" input, "+outputName+" output"+divideArg+") {\n" +
 				"\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\n");
-		out.print("\t\tif(BoofConcurrency.USE_CONCURRENT) {\n");
+		out.print("\t\tif(BoofConcurrency.isUseConcurrent()) {\n");
 		if( singleBand ) {
 			out.print("\t\t\tif (!ConvolveImageUnrolled_SB_MT_"+typeIn+"_"+typeOut+divideSuf+"."+name+"(kernel, input, output"+divideInput+"))\n" +
 					"\t\t\t\tConvolveImageStandard_SB_MT."+name+"(kernel, input, output"+divideInput+");\n");
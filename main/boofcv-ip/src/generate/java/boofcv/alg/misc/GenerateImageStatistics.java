@@ -106,7 +106,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t */\n" +
 				"\tpublic static void histogram( "+input.getSingleBandName()+" input , "+sumType+" minValue , int histogram[] ) {\n" +
 				"\t\tint N = input.width*input.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N >= BoofConcurrency.SMALL_IMAGE ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N >= BoofConcurrency.getSmallImage() ) {\n" +
 				"\t\t\tImplImageStatistics_MT.histogram(input,minValue,histogram);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplImageStatistics.histogram(input,minValue,histogram);\n" +
@@ -126,7 +126,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t */\n" +
 				"\tpublic static void histogramScaled( "+input.getSingleBandName()+" input , "+sumType+" minValue , "+sumType+" maxValue , int histogram[] ) {\n" +
 				"\t\tint N = input.width*input.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N >= BoofConcurrency.SMALL_IMAGE ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N >= BoofConcurrency.getSmallImage() ) {\n" +
 				"\t\t\tImplImageStatistics_MT.histogramScaled(input,minValue,maxValue,histogram);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplImageStatistics.histogramScaled(input,minValue,maxValue,histogram);\n" +
@@ -148,7 +148,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\tpublic static "+sumType+" sum( "+input.getImageName(family)+" input ) {\n" +
 				"\n" +
 				"\t\tint N = input.width*input.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N >= BoofConcurrency.SMALL_IMAGE ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N >= BoofConcurrency.getSmallImage() ) {\n" +
 				"\t\t\treturn ImplImageStatistics_MT.sum(input);\n" +
 				"\t\t} else {\n" +
 				"\t\t\treturn ImplImageStatistics.sum(input);\n" +
@@ -170,7 +170,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\tpublic static "+sumType+" sumAbs( "+input.getImageName(family)+" input ) {\n");
 		if( input.isSigned() ) {
 			out.print("\n\t\tint N = input.width*input.height;\n" +
-					"\t\tif( BoofConcurrency.USE_CONCURRENT && N >= BoofConcurrency.SMALL_IMAGE ) {\n" +
+					"\t\tif( BoofConcurrency.isUseConcurrent() && N >= BoofConcurrency.getSmallImage() ) {\n" +
 					"\t\t\treturn ImplImageStatistics_MT.sumAbs(input);\n" +
 					"\t\t} else {\n" +
 					"\t\t\treturn ImplImageStatistics.sumAbs(input);\n" +
@@ -210,7 +210,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\tpublic static "+sumType+" variance( "+input.getSingleBandName()+" img , "+sumType+" mean ) {\n" +
 				"\n" +
 				"\t\tint N = img.width*img.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N >= BoofConcurrency.SMALL_IMAGE ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N >= BoofConcurrency.getSmallImage() ) {\n" +
 				"\t\t\treturn ImplImageStatistics_MT.variance(img,mean);\n" +
 				"\t\t} else {\n" +
 				"\t\t\treturn ImplImageStatistics.variance(img,mean);\n" +
@@ -322,7 +322,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 			out.print(
 					"\tpublic static "+sumType+" "+name+"( "+input.getImageName(family)+" input ) {\n" +
 					"\t\tint N = input.width*input.height;\n" +
-					"\t\tif( BoofConcurrency.USE_CONCURRENT && N >= BoofConcurrency.SMALL_IMAGE ) {\n" +
+					"\t\tif( BoofConcurrency.isUseConcurrent() && N >= BoofConcurrency.getSmallImage() ) {\n" +
 					"\t\t\treturn ImplImageStatistics_MT."+nameUn+"(input.data, input.startIndex, input.height, "+columns+" , input.stride);\n" +
 					"\t\t} else {\n" +
 					"\t\t\treturn ImplImageStatistics."+nameUn+"(input.data, input.startIndex, input.height, "+columns+" , input.stride);\n" +
@@ -354,7 +354,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 			out.print("\tpublic static double "+name+"("+imageName+" imgA, "+imageName+" imgB ) {\n" +
 					"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
 					"\t\tint N = imgA.width*imgA.height;\n" +
-					"\t\tif( BoofConcurrency.USE_CONCURRENT && N >= BoofConcurrency.SMALL_IMAGE ) {\n" +
+					"\t\tif( BoofConcurrency.isUseConcurrent() && N >= BoofConcurrency.getSmallImage() ) {\n" +
 					"\t\t\treturn ImplImageStatistics_MT."+nameUn+"(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,imgA.height, "+columns+");\n" +
 					"\t\t} else {\n" +
 					"\t\t\treturn ImplImageStatistics."+nameUn+"(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,imgA.height, "+columns+");\n" +
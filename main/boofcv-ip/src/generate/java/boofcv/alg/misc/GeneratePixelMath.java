@@ -152,7 +152,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						"\n" +
 						"\t\tint columns = " + columns + ";\n" +
 						"\t\tint N = input.width*input.height;\n" +
-						"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+						"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 						"\t\t\tImplPixelMath_MT."+funcName+"(input.data, input.startIndex, input.stride,\n" +
 						"\t\t\t\t\toutput.data, output.startIndex, output.stride,\n" +
 						"\t\t\t\t\tinput.height, columns);\n" +
@@ -262,7 +262,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						"\n" +
 						"\t\tint columns = " + columns + ";\n" +
 						"\t\tint N = input.width*input.height;\n" +
-						"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+						"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 						"\t\t\tImplPixelMath_MT." + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + ", lower, upper ,\n" +
 						"\t\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
 						"\t\t\t\t\tinput.height,columns);\n" +
@@ -287,7 +287,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						"\n" +
 						"\t\tint columns = " + columns + ";\n" +
 						"\t\tint N = input.width*input.height;\n" +
-						"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+						"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 						"\t\t\tImplPixelMath_MT." + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + " , \n" +
 						"\t\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
 						"\t\t\t\t\tinput.height,columns);\n" +
@@ -332,7 +332,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
 				"\t\tint N = imgA.width*imgA.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT.diffAbs(imgA, imgB, output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.diffAbs(imgA, imgB, output);\n" +
@@ -355,7 +355,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
 				"\t\tint N = imgA.width*imgA.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT.add(imgA, imgB, output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.add(imgA, imgB, output);\n" +
@@ -379,7 +379,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
 				"\t\tint N = imgA.width*imgA.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT.subtract(imgA, imgB, output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.subtract(imgA, imgB, output);\n" +
@@ -402,7 +402,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
 				"\t\tint N = imgA.width*imgA.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT.multiply(imgA, imgB, output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.multiply(imgA, imgB, output);\n" +
@@ -426,7 +426,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
 				"\t\tint N = imgA.width*imgA.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT.divide(imgA,imgB,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.divide(imgA,imgB,output);\n" +
@@ -493,7 +493,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\n" +
 				columns +
 				"\t\tint N = input.width*input.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT."+op+"(\n" +
 				"\t\t\t\t\tinput.data,input.startIndex,input.stride,\n" +
 				"\t\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
@@ -516,7 +516,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						"\n" +
 						columns +
 						"\t\tint N = input.width*input.height;\n" +
-						"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+						"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 						"\t\t\tImplPixelMath_MT."+op+"(\n" +
 						"\t\t\t\t\tinput.data,input.startIndex,input.stride,val,\n" +
 						"\t\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
@@ -544,7 +544,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\tstdev.reshape(mean.width,mean.height);\n" +
 				"\n" +
 				"\t\tint N = mean.width*mean.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT.stdev(mean,pow2,stdev);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.stdev(mean,pow2,stdev);\n" +
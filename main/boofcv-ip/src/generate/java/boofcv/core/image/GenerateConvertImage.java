@@ -151,7 +151,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplConvertPlanarToGray_MT.average(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertPlanarToGray.average(input,output);\n" +
@@ -181,7 +181,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tConvertInterleavedToSingle_MT.average(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tConvertInterleavedToSingle.average(input,output);\n" +
@@ -209,7 +209,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.numBands);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplConvertImage_MT.convert(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertImage.convert(input,output);\n" +
@@ -239,7 +239,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.numBands);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplConvertImage_MT.convert"+type+"(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertImage.convert"+type+"(input,output);\n" +
@@ -267,7 +267,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.getNumBands());\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplConvertImage_MT.convert(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertImage.convert(input,output);\n" +
@@ -297,7 +297,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.getNumBands());\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplConvertImage_MT.convert"+type+"(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertImage.convert"+type+"(input,output);\n" +
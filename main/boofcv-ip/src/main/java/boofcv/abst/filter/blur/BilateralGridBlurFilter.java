@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.filter.blur;
+
+import boofcv.alg.filter.blur.BilateralGrid;
+import boofcv.alg.filter.blur.GBlurImageOps;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+/**
+ * Wrapper around {@link BilateralGrid} for {@link BlurFilter}. The radius is defined as twice the spatial sigma.
+ *
+ * @author Peter Abeles
+ */
+public class BilateralGridBlurFilter<T extends ImageBase<T>> implements BlurFilter<T> {
+
+	// standard deviation along the spatial axes, in pixels
+	private double sigmaSpatial;
+	// standard deviation along the range axis, in pixel values
+	private double sigmaRange;
+
+	// stores the grid
+	private final BilateralGrid storage = new BilateralGrid();
+
+	// type of image it processes
+	private final ImageType<T> inputType;
+
+	public BilateralGridBlurFilter( ImageType<T> inputType, double sigmaSpatial, double sigmaRange ) {
+		GuidedBlurFilter.checkSupported(inputType);
+		this.inputType = inputType;
+		this.sigmaSpatial = sigmaSpatial;
+		this.sigmaRange = sigmaRange;
+	}
+
+	@Override
+	public void process( T input, T output ) {
+		GBlurImageOps.bilateralGrid(input, output, sigmaSpatial, sigmaRange, storage);
+	}
+
+	@Override
+	public int getRadius() {
+		return (int)Math.ceil(2*sigmaSpatial);
+	}
+
+	@Override
+	public void setRadius( int radius ) {
+		this.sigmaSpatial = Math.max(1.0, radius/2.0);
+	}
+
+	public double getSigmaSpatial() {
+		return sigmaSpatial;
+	}
+
+	public void setSigmaSpatial( double sigmaSpatial ) {
+		this.sigmaSpatial = sigmaSpatial;
+	}
+
+	public double getSigmaRange() {
+		return sigmaRange;
+	}
+
+	public void setSigmaRange( double sigmaRange ) {
+		this.sigmaRange = sigmaRange;
+	}
+
+	@Override
+	public int getBorderX() {
+		return 0;
+	}
+
+	@Override
+	public int getBorderY() {
+		return 0;
+	}
+
+	@Override
+	public ImageType<T> getInputType() {
+		return inputType;
+	}
+
+	@Override
+	public ImageType<T> getOutputType() {
+		return inputType;
+	}
+}
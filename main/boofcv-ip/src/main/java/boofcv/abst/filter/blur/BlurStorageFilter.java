@@ -22,8 +22,7 @@ import boofcv.alg.filter.blur.GBlurImageOps;
 import boofcv.concurrency.WorkArrays;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.border.ImageBorder;
-import boofcv.struct.image.ImageBase;
-import boofcv.struct.image.ImageType;
+import boofcv.struct.image.*;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -43,7 +42,7 @@ public class BlurStorageFilter<T extends ImageBase<T>> implements BlurFilter<T>
 	// size of the blur region along each axis
 	private int radiusX,radiusY;
 	// stores intermediate results
-	private T storage;
+	private ImageBase storage;
 
 	// type of image it processes
 	ImageType<T> inputType;
@@ -77,6 +76,9 @@ public class BlurStorageFilter<T extends ImageBase<T>> implements BlurFilter<T>
 		} else if( functionName.equals("gaussian")) {
 			operation = new GaussianOperation();
 			createStorage();
+		} else if( functionName.equals("gaussianRecursive")) {
+			operation = new GaussianRecursiveOperation();
+			createStorageFloat();
 		} else if( functionName.equals("median")) {
 			if( radiusX != radiusY )
 				throw new IllegalArgumentException("Median currently only supports equal radius");
@@ -90,12 +92,24 @@ public class BlurStorageFilter<T extends ImageBase<T>> implements BlurFilter<T>
 
 	private void createStorage() {
 		if( inputType.getFamily() == ImageType.Family.PLANAR ) {
-			storage = (T)GeneralizedImageOps.createSingleBand(inputType.getImageClass(),1,1);
+			storage = GeneralizedImageOps.createSingleBand(inputType.getImageClass(),1,1);
 		} else {
 			storage = inputType.createImage(1,1);
 		}
 	}
 
+	/**
+	 * Storage for filters which always store intermediate results as floating point images
+	 */
+	private void createStorageFloat() {
+		boolean f64 = inputType.getDataType() == ImageDataType.F64;
+		if( inputType.getFamily() == ImageType.Family.INTERLEAVED ) {
+			storage = f64 ? new InterleavedF64(1,1,inputType.getNumBands()) : new InterleavedF32(1,1,inputType.getNumBands());
+		} else {
+			storage = f64 ? new GrayF64(1,1) : new GrayF32(1,1);
+		}
+	}
+
 	/**
 	 * Radius of the square region.  The width is defined as the radius*2 + 1.
 	 *
@@ -169,6 +183,15 @@ public class BlurStorageFilter<T extends ImageBase<T>> implements BlurFilter<T>
 		}
 	}
 
+	private class GaussianRecursiveOperation implements BlurOperation {
+		@Override
+		public void process(ImageBase input, ImageBase output) {
+			if( border != null )
+				throw new IllegalArgumentException("Border has been set but will never be used. Must be a bug.");
+			GBlurImageOps.gaussianRecursive(input,output,sigmaX,sigmaY,storage);
+		}
+	}
+
 	private class MedianOperator implements BlurOperation {
 		@Override
 		public void process(ImageBase input, ImageBase output) {
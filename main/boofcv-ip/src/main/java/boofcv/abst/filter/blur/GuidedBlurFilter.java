@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.filter.blur;
+
+import boofcv.alg.filter.blur.GBlurImageOps;
+import boofcv.alg.filter.blur.GuidedFilter;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageType;
+
+/**
+ * Wrapper around {@link GuidedFilter} for {@link BlurFilter}. Each image is used as its own guide.
+ *
+ * @author Peter Abeles
+ */
+public class GuidedBlurFilter<T extends ImageBase<T>> implements BlurFilter<T> {
+
+	// radius of the local window
+	private int radius;
+	// regularization, in units of pixel value squared
+	private double epsilon;
+
+	// stores intermediate results
+	private final GuidedFilter storage = new GuidedFilter();
+
+	// type of image it processes
+	private final ImageType<T> inputType;
+
+	public GuidedBlurFilter( ImageType<T> inputType, int radius, double epsilon ) {
+		checkSupported(inputType);
+		this.inputType = inputType;
+		this.radius = radius;
+		this.epsilon = epsilon;
+	}
+
+	static void checkSupported( ImageType<?> type ) {
+		if( type.getFamily() == ImageType.Family.INTERLEAVED )
+			throw new IllegalArgumentException("Interleaved images are not supported");
+		if( type.getDataType() != ImageDataType.U8 && type.getDataType() != ImageDataType.F32 )
+			throw new IllegalArgumentException("Only U8 and F32 images are supported");
+	}
+
+	@Override
+	public void process( T input, T output ) {
+		GBlurImageOps.guided(input, output, radius, epsilon, storage);
+	}
+
+	@Override
+	public int getRadius() {
+		return radius;
+	}
+
+	@Override
+	public void setRadius( int radius ) {
+		this.radius = radius;
+	}
+
+	public double getEpsilon() {
+		return epsilon;
+	}
+
+	public void setEpsilon( double epsilon ) {
+		this.epsilon = epsilon;
+	}
+
+	@Override
+	public int getBorderX() {
+		return 0;
+	}
+
+	@Override
+	public int getBorderY() {
+		return 0;
+	}
+
+	@Override
+	public ImageType<T> getInputType() {
+		return inputType;
+	}
+
+	@Override
+	public ImageType<T> getOutputType() {
+		return inputType;
+	}
+}
@@ -21,11 +21,15 @@ package boofcv.abst.filter.derivative;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageMultiBand;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 
+import javax.annotation.Nullable;
+
 /**
  * First computes a multi-band image gradient then reduces the number of bands in the gradient
- * to one.
+ * to one. If an {@link ImagePool} is provided then storage for the intermediate gradient is borrowed from
+ * it while processing, instead of being owned by this class.
  *
  * @author Peter Abeles
  */
@@ -42,13 +46,25 @@ public class ImageGradientThenReduce<Input extends ImageMultiBand<Input>,
 	// storage for intermediate results
 	Middle middleX,middleY;
 
+	// (Optional) source of storage for intermediate results
+	@Nullable ImagePool pool;
+
 	public ImageGradientThenReduce(ImageGradient<Input, Middle> gradient,
-								   GradientMultiToSingleBand<Middle, Output> reduce) {
+								   GradientMultiToSingleBand<Middle, Output> reduce,
+								   @Nullable ImagePool pool ) {
 		this.gradient = gradient;
 		this.reduce = reduce;
+		this.pool = pool;
+
+		if( pool == null ) {
+			middleX = gradient.getDerivativeType().createImage(1,1);
+			middleY = gradient.getDerivativeType().createImage(1,1);
+		}
+	}
 
-		middleX = gradient.getDerivativeType().createImage(1,1);
-		middleY = gradient.getDerivativeType().createImage(1,1);
+	public ImageGradientThenReduce(ImageGradient<Input, Middle> gradient,
+								   GradientMultiToSingleBand<Middle, Output> reduce) {
+		this(gradient,reduce,null);
 	}
 
 	@Override
@@ -73,6 +89,18 @@ public class ImageGradientThenReduce<Input extends ImageMultiBand<Input>,
 
 	@Override
 	public void process(Input inputImage, Output derivX, Output derivY) {
+		if( pool != null ) {
+			ImageType<Middle> middleType = gradient.getDerivativeType();
+			Middle middleX = pool.borrow(middleType,inputImage.width,inputImage.height);
+			Middle middleY = pool.borrow(middleType,inputImage.width,inputImage.height);
+
+			gradient.process(inputImage, middleX, middleY);
+			reduce.process(middleX,middleY, derivX,derivY);
+
+			pool.release(middleX, middleY);
+			return;
+		}
+
 		middleX.reshape(inputImage.width,inputImage.height);
 		middleY.reshape(inputImage.width,inputImage.height);
 
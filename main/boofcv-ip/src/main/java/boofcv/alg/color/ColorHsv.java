@@ -339,7 +339,7 @@ public class ColorHsv {
 		rgb.reshape(hsv.width,hsv.height,3);
 
 		if( hsv.getBandType() == GrayF32.class ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplColorHsv_MT.hsvToRgb_F32((Planar<GrayF32>)hsv,(Planar<GrayF32>)rgb);
 			} else {
 				ImplColorHsv.hsvToRgb_F32((Planar<GrayF32>)hsv,(Planar<GrayF32>)rgb);
@@ -360,7 +360,7 @@ public class ColorHsv {
 		hsv.reshape(rgb.width,rgb.height,3);
 
 		if( hsv.getBandType() == GrayF32.class ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplColorHsv_MT.rgbToHsv_F32((Planar<GrayF32>)rgb,(Planar<GrayF32>)hsv);
 			} else {
 				ImplColorHsv.rgbToHsv_F32((Planar<GrayF32>)rgb,(Planar<GrayF32>)hsv);
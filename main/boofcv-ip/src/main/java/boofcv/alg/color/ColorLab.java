@@ -247,13 +247,13 @@ public class ColorLab {
 		lab.reshape(rgb.width,rgb.height,3);
 
 		if( rgb.getBandType() == GrayU8.class ) {
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplColorLab_MT.rgbToLab_U8((Planar<GrayU8>) rgb, lab);
 			} else {
 				ImplColorLab.rgbToLab_U8((Planar<GrayU8>) rgb, lab);
 			}
 		} else if( rgb.getBandType() == GrayF32.class ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplColorLab_MT.rgbToLab_F32((Planar<GrayF32>)rgb,lab);
 			} else {
 				ImplColorLab.rgbToLab_F32((Planar<GrayF32>)rgb,lab);
@@ -276,13 +276,13 @@ public class ColorLab {
 		rgb.reshape(lab);
 
 		if( rgb.getBandType() == GrayU8.class ) {
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplColorLab_MT.labToRgb_U8(lab,(Planar<GrayU8>) rgb);
 			} else {
 				ImplColorLab.labToRgb_U8(lab,(Planar<GrayU8>) rgb);
 			}
 		} else if( rgb.getBandType() == GrayF32.class ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplColorLab_MT.labToRgb_F32(lab,(Planar<GrayF32>)rgb);
 			} else {
 				ImplColorLab.labToRgb_F32(lab,(Planar<GrayF32>)rgb);
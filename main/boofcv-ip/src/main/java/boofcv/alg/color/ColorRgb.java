@@ -51,19 +51,19 @@ public class ColorRgb {
 		switch( rgb.getImageType().getFamily() ) {
 			case PLANAR:
 				if( gray instanceof GrayU8 ) {
-					if(BoofConcurrency.USE_CONCURRENT ) {
+					if(BoofConcurrency.isUseConcurrent() ) {
 						ImplColorRgb_MT.rgbToGray_Weighted_U8((Planar<GrayU8>)rgb,(GrayU8)gray);
 					} else {
 						ImplColorRgb.rgbToGray_Weighted_U8((Planar<GrayU8>)rgb,(GrayU8)gray);
 					}
 				} else if( gray instanceof GrayF32 ) {
-					if(BoofConcurrency.USE_CONCURRENT ) {
+					if(BoofConcurrency.isUseConcurrent() ) {
 						ImplColorRgb_MT.rgbToGray_Weighted_F32((Planar<GrayF32>)rgb,(GrayF32)gray);
 					} else {
 						ImplColorRgb.rgbToGray_Weighted_F32((Planar<GrayF32>)rgb,(GrayF32)gray);
 					}
 				} else if( gray instanceof GrayF64 ) {
-					if(BoofConcurrency.USE_CONCURRENT ) {
+					if(BoofConcurrency.isUseConcurrent() ) {
 						ImplColorRgb_MT.rgbToGray_Weighted_F64((Planar<GrayF64>)rgb,(GrayF64)gray);
 					} else {
 						ImplColorRgb.rgbToGray_Weighted_F64((Planar<GrayF64>)rgb,(GrayF64)gray);
@@ -75,19 +75,19 @@ public class ColorRgb {
 
 			case INTERLEAVED:
 				if( gray instanceof GrayU8 ) {
-					if(BoofConcurrency.USE_CONCURRENT ) {
+					if(BoofConcurrency.isUseConcurrent() ) {
 						ImplColorRgb_MT.rgbToGray_Weighted((InterleavedU8)rgb,(GrayU8)gray);
 					} else {
 						ImplColorRgb.rgbToGray_Weighted((InterleavedU8)rgb,(GrayU8)gray);
 					}
 				} else if( gray instanceof GrayF32 ) {
-					if(BoofConcurrency.USE_CONCURRENT ) {
+					if(BoofConcurrency.isUseConcurrent() ) {
 						ImplColorRgb_MT.rgbToGray_Weighted((InterleavedF32)rgb,(GrayF32)gray);
 					} else {
 						ImplColorRgb.rgbToGray_Weighted((InterleavedF32)rgb,(GrayF32)gray);
 					}
 				} else if( gray instanceof GrayF64 ) {
-					if(BoofConcurrency.USE_CONCURRENT ) {
+					if(BoofConcurrency.isUseConcurrent() ) {
 						ImplColorRgb_MT.rgbToGray_Weighted((InterleavedF64)rgb,(GrayF64)gray);
 					} else {
 						ImplColorRgb.rgbToGray_Weighted((InterleavedF64)rgb,(GrayF64)gray);
@@ -86,7 +86,7 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayU8 input , int transform[] , GrayU8 output ) {
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplEnhanceHistogram_MT.applyTransform(input, transform, output);
 		} else {
 			ImplEnhanceHistogram.applyTransform(input, transform, output);
@@ -103,7 +103,7 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayU16 input , int transform[] , GrayU16 output ) {
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplEnhanceHistogram_MT.applyTransform(input, transform, output);
 		} else {
 			ImplEnhanceHistogram.applyTransform(input, transform, output);
@@ -121,7 +121,7 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayS8 input , int transform[] , int minValue, GrayS8 output ) {
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplEnhanceHistogram_MT.applyTransform(input, transform, minValue, output);
 		} else {
 			ImplEnhanceHistogram.applyTransform(input, transform, minValue, output);
@@ -139,7 +139,7 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayS16 input , int transform[] , int minValue, GrayS16 output ) {
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplEnhanceHistogram_MT.applyTransform(input, transform, minValue, output);
 		} else {
 			ImplEnhanceHistogram.applyTransform(input, transform, minValue, output);
@@ -157,7 +157,7 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayS32 input , int transform[] , int minValue, GrayS32 output ) {
 		output.reshape(input.width,input.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplEnhanceHistogram_MT.applyTransform(input, transform, minValue, output);
 		} else {
 			ImplEnhanceHistogram.applyTransform(input, transform, minValue, output);
@@ -186,7 +186,7 @@ public class EnhanceImageOps {
 
 		// use more efficient algorithms if possible
 		if( input.width >= width && input.height >= width ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplEnhanceHistogram_MT.equalizeLocalInner(input, radius, output, workArrays);
 
 				// top border
@@ -223,7 +223,7 @@ public class EnhanceImageOps {
 			workArrays.recycle(histogram);
 			workArrays.recycle(transform);
 		} else {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplEnhanceHistogram_MT.equalizeLocalNaive(input, radius, output, workArrays);
 			} else {
 				ImplEnhanceHistogram.equalizeLocalNaive(input, radius, output, workArrays);
@@ -253,7 +253,7 @@ public class EnhanceImageOps {
 
 		// use more efficient algorithms if possible
 		if( input.width >= width && input.height >= width ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplEnhanceHistogram_MT.equalizeLocalInner(input, radius, output, workArrays);
 
 				// top border
@@ -290,7 +290,7 @@ public class EnhanceImageOps {
 			workArrays.recycle(histogram);
 			workArrays.recycle(transform);
 		} else {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplEnhanceHistogram_MT.equalizeLocalNaive(input, radius, output, workArrays);
 			} else {
 				ImplEnhanceHistogram.equalizeLocalNaive(input, radius, output, workArrays);
@@ -307,7 +307,7 @@ public class EnhanceImageOps {
 	public static void sharpen4(GrayU8 input , GrayU8 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplEnhanceFilter_MT.sharpenInner4(input,output,0,255);
 			ImplEnhanceFilter_MT.sharpenBorder4(input,output,0,255);
 		} else {
@@ -325,7 +325,7 @@ public class EnhanceImageOps {
 	public static void sharpen4(GrayF32 input , GrayF32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplEnhanceFilter_MT.sharpenInner4(input,output,0,255);
 			ImplEnhanceFilter_MT.sharpenBorder4(input,output,0,255);
 		} else {
@@ -343,7 +343,7 @@ public class EnhanceImageOps {
 	public static void sharpen8(GrayU8 input , GrayU8 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplEnhanceFilter_MT.sharpenInner8(input,output,0,255);
 			ImplEnhanceFilter_MT.sharpenBorder8(input,output,0,255);
 		} else {
@@ -361,7 +361,7 @@ public class EnhanceImageOps {
 	public static void sharpen8(GrayF32 input , GrayF32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplEnhanceFilter_MT.sharpenInner8(input,output,0,255);
 			ImplEnhanceFilter_MT.sharpenBorder8(input,output,0,255);
 		} else {
@@ -71,7 +71,7 @@ public class BinaryImageOps {
 		InputSanityCheck.checkSameShape(inputA,inputB);
 		output = InputSanityCheck.checkDeclare(inputA, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryImageOps_MT.logicAnd(inputA, inputB, output);
 		} else {
 			ImplBinaryImageOps.logicAnd(inputA, inputB, output);
@@ -93,7 +93,7 @@ public class BinaryImageOps {
 		InputSanityCheck.checkSameShape(inputA,inputB);
 		output = InputSanityCheck.checkDeclare(inputA, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryImageOps_MT.logicOr(inputA, inputB, output);
 		} else {
 			ImplBinaryImageOps.logicOr(inputA, inputB, output);
@@ -115,7 +115,7 @@ public class BinaryImageOps {
 		InputSanityCheck.checkSameShape(inputA,inputB);
 		output = InputSanityCheck.checkDeclare(inputA, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryImageOps_MT.logicXor(inputA, inputB, output);
 		} else {
 			ImplBinaryImageOps.logicXor(inputA, inputB, output);
@@ -135,7 +135,7 @@ public class BinaryImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryImageOps_MT.invert(input, output);
 		} else {
 			ImplBinaryImageOps.invert(input, output);
@@ -161,7 +161,7 @@ public class BinaryImageOps {
 		if( numTimes <= 0 )
 			throw new IllegalArgumentException("numTimes must be >= 1");
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryInnerOps_MT.erode4(input, output);
 		} else {
 			ImplBinaryInnerOps.erode4(input, output);
@@ -174,7 +174,7 @@ public class BinaryImageOps {
 			GrayU8 tmp2 = output;
 
 			for( int i = 1; i < numTimes; i++ ) {
-				if( BoofConcurrency.USE_CONCURRENT ) {
+				if( BoofConcurrency.isUseConcurrent() ) {
 					ImplBinaryInnerOps_MT.erode4(tmp2, tmp1);
 				} else {
 					ImplBinaryInnerOps.erode4(tmp2, tmp1);
@@ -208,7 +208,7 @@ public class BinaryImageOps {
 	public static GrayU8 dilate4(GrayU8 input, int numTimes, GrayU8 output) {
 		output = InputSanityCheck.checkDeclare(input, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryInnerOps_MT.dilate4(input, output);
 		} else {
 			ImplBinaryInnerOps.dilate4(input, output);
@@ -220,7 +220,7 @@ public class BinaryImageOps {
 			GrayU8 tmp2 = output;
 
 			for( int i = 1; i < numTimes; i++ ) {
-				if( BoofConcurrency.USE_CONCURRENT ) {
+				if( BoofConcurrency.isUseConcurrent() ) {
 					ImplBinaryInnerOps_MT.dilate4(tmp2, tmp1);
 				} else {
 					ImplBinaryInnerOps.dilate4(tmp2, tmp1);
@@ -258,7 +258,7 @@ public class BinaryImageOps {
 	public static GrayU8 edge4(GrayU8 input, GrayU8 output, boolean outsideZero ) {
 		output = InputSanityCheck.checkDeclare(input, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryInnerOps_MT.edge4(input, output);
 		} else {
 			ImplBinaryInnerOps.edge4(input, output);
@@ -282,7 +282,7 @@ public class BinaryImageOps {
 	public static GrayU8 erode8(GrayU8 input, int numTimes, GrayU8 output) {
 		output = InputSanityCheck.checkDeclare(input, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryInnerOps_MT.erode8(input, output);
 		} else {
 			ImplBinaryInnerOps.erode8(input, output);
@@ -294,7 +294,7 @@ public class BinaryImageOps {
 			GrayU8 tmp2 = output;
 
 			for( int i = 1; i < numTimes; i++ ) {
-				if( BoofConcurrency.USE_CONCURRENT ) {
+				if( BoofConcurrency.isUseConcurrent() ) {
 					ImplBinaryInnerOps_MT.erode8(tmp2, tmp1);
 				} else {
 					ImplBinaryInnerOps.erode8(tmp2, tmp1);
@@ -328,7 +328,7 @@ public class BinaryImageOps {
 	public static GrayU8 dilate8(GrayU8 input, int numTimes, GrayU8 output) {
 		output = InputSanityCheck.checkDeclare(input, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryInnerOps_MT.dilate8(input, output);
 		} else {
 			ImplBinaryInnerOps.dilate8(input, output);
@@ -340,7 +340,7 @@ public class BinaryImageOps {
 			GrayU8 tmp2 = output;
 
 			for( int i = 1; i < numTimes; i++ ) {
-				if( BoofConcurrency.USE_CONCURRENT ) {
+				if( BoofConcurrency.isUseConcurrent() ) {
 					ImplBinaryInnerOps_MT.dilate8(tmp2, tmp1);
 				} else {
 					ImplBinaryInnerOps.dilate8(tmp2, tmp1);
@@ -378,7 +378,7 @@ public class BinaryImageOps {
 	public static GrayU8 edge8(GrayU8 input, GrayU8 output, boolean outsideZero ) {
 		output = InputSanityCheck.checkDeclare(input, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryInnerOps_MT.edge8(input, output);
 		} else {
 			ImplBinaryInnerOps.edge8(input, output);
@@ -400,7 +400,7 @@ public class BinaryImageOps {
 	public static GrayU8 removePointNoise(GrayU8 input, GrayU8 output) {
 		output = InputSanityCheck.checkDeclare(input, output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryInnerOps_MT.removePointNoise(input, output);
 		} else {
 			ImplBinaryInnerOps.removePointNoise(input, output);
@@ -507,7 +507,7 @@ public class BinaryImageOps {
 	 * @param labels Look up table where the indexes are the current label and the value are its new value.
 	 */
 	public static void relabel(GrayS32 input , int labels[] ) {
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryImageOps_MT.relabel(input, labels);
 		} else {
 			ImplBinaryImageOps.relabel(input, labels);
@@ -524,7 +524,7 @@ public class BinaryImageOps {
 	public static GrayU8 labelToBinary(GrayS32 labelImage , GrayU8 binaryImage ) {
 		binaryImage = InputSanityCheck.checkDeclare(labelImage, binaryImage, GrayU8.class);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryImageOps_MT.labelToBinary(labelImage, binaryImage);
 		} else {
 			ImplBinaryImageOps.labelToBinary(labelImage, binaryImage);
@@ -547,7 +547,7 @@ public class BinaryImageOps {
 	{
 		binaryImage = InputSanityCheck.checkDeclare(labelImage, binaryImage, GrayU8.class);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplBinaryImageOps_MT.labelToBinary(labelImage, binaryImage,selectedBlobs);
 		} else {
 			ImplBinaryImageOps.labelToBinary(labelImage, binaryImage,selectedBlobs);
@@ -533,6 +533,51 @@ public class GThresholdImageOps {
 		}
 	}
 
+	/**
+	 * Applies a global threshold to an image stored in a {@link java.nio.ByteBuffer}. It's thresholded a strip
+	 * at a time, so a full size copy of the input isn't created. See {@link #threshold(ImageGray, GrayU8, double, boolean)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Binary output image. If null a new image will be declared. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality &le; is used, otherwise if false then &gt; is used.
+	 * @param work (Optional) Storage for a strip of the input
+	 * @return binary image.
+	 */
+	public static <T extends ImageGray<T>>
+	GrayU8 threshold( ImageByteBuffer<T> input , @Nullable GrayU8 output ,
+					  double threshold , boolean down , @Nullable T work )
+	{
+		return threshold(input, output, threshold, down, 0, work);
+	}
+
+	/**
+	 * Same as {@link #threshold(ImageByteBuffer, GrayU8, double, boolean, ImageGray)} but the number of rows
+	 * in each strip can be specified.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Binary output image. If null a new image will be declared. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality &le; is used, otherwise if false then &gt; is used.
+	 * @param stripRows Maximum number of rows in a strip. If &le; 0 then {@link ImageByteBuffer#defaultStripRows()} is used.
+	 * @param work (Optional) Storage for a strip of the input
+	 * @return binary image.
+	 */
+	public static <T extends ImageGray<T>>
+	GrayU8 threshold( ImageByteBuffer<T> input , @Nullable GrayU8 output ,
+					  double threshold , boolean down , int stripRows , @Nullable T work )
+	{
+		if( output == null )
+			output = new GrayU8(input.getWidth(), input.getHeight());
+		else
+			output.reshape(input.getWidth(), input.getHeight());
+
+		final GrayU8 binary = output;
+		input.processStrips(stripRows, work, ( strip, y0, y1 ) ->
+				threshold(strip, binary.subimage(0, y0, binary.width, y1), threshold, down));
+		return output;
+	}
+
 	/**
 	 * <p>
 	 * Thresholds the image using a locally adaptive threshold that is computed using a local square region centered
@@ -574,6 +619,24 @@ public class GThresholdImageOps {
 		}
 	}
 
+	/**
+	 * Same as {@link #localMean(ImageGray, GrayU8, ConfigLength, double, boolean, ImageGray, ImageGray, WorkArrays)}
+	 * but internal work space is borrowed from the pool.
+	 *
+	 * @param pool Source of images for intermediate results
+	 */
+	public static <T extends ImageGray<T>>
+	GrayU8 localMean(T input, GrayU8 output,
+					 ConfigLength width, double scale, boolean down, ImagePool pool )
+	{
+		ImageType<T> type = input.getImageType();
+		T work1 = pool.borrow(type, input.width, input.height);
+		T work2 = pool.borrow(type, input.width, input.height);
+		output = localMean(input, output, width, scale, down, work1, work2, null);
+		pool.release(work1, work2);
+		return output;
+	}
+
 	/**
 	 * <p>
 	 * Thresholds the image using a locally adaptive threshold that is computed using a local square region centered
@@ -615,6 +678,24 @@ public class GThresholdImageOps {
 		}
 	}
 
+	/**
+	 * Same as {@link #localGaussian(ImageGray, GrayU8, ConfigLength, double, boolean, ImageGray, ImageGray)}
+	 * but internal work space is borrowed from the pool.
+	 *
+	 * @param pool Source of images for intermediate results
+	 */
+	public static <T extends ImageGray<T>>
+	GrayU8 localGaussian(T input, GrayU8 output,
+						 ConfigLength width, double scale, boolean down, ImagePool pool )
+	{
+		ImageType<T> type = input.getImageType();
+		T work1 = pool.borrow(type, input.width, input.height);
+		T work2 = pool.borrow(type, input.width, input.height);
+		output = localGaussian(input, output, width, scale, down, work1, work2);
+		pool.release(work1, work2);
+		return output;
+	}
+
 	/**
 	 *
 	 * @see FactoryThresholdBinary#localOtsu(ConfigLength, double, boolean, boolean, double, Class)
@@ -647,10 +728,22 @@ public class GThresholdImageOps {
 	 */
 	public static <T extends ImageGray<T>>
 	GrayU8 localSauvola(T input, GrayU8 output, ConfigLength width, float k, boolean down)
+	{
+		return localSauvola(input, output, width, k, down, null);
+	}
+
+	/**
+	 * Same as {@link #localSauvola(ImageGray, GrayU8, ConfigLength, float, boolean)} but if the input needs to be
+	 * converted into {@link GrayF32} the converted image is borrowed from the pool.
+	 *
+	 * @param pool (Optional) Source of images for intermediate results. Can be null.
+	 */
+	public static <T extends ImageGray<T>>
+	GrayU8 localSauvola(T input, GrayU8 output, ConfigLength width, float k, boolean down, @Nullable ImagePool pool)
 	{
 		InputToBinary<GrayF32> alg;
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			alg = new ThresholdSauvola_MT(width, k, down);
 		} else {
 			alg = new ThresholdSauvola(width, k, down);
@@ -662,9 +755,12 @@ public class GThresholdImageOps {
 		if( input instanceof GrayF32) {
 			alg.process((GrayF32)input,output);
 		} else {
-			GrayF32 conv = new GrayF32(input.width,input.height);
+			GrayF32 conv = pool == null ?
+					new GrayF32(input.width,input.height) : pool.borrow(GrayF32.class,input.width,input.height);
 			GConvertImage.convert(input, conv);
 			alg.process(conv,output);
+			if( pool != null )
+				pool.release(conv);
 		}
 
 		return output;
@@ -685,9 +781,21 @@ public class GThresholdImageOps {
 	 */
 	public static <T extends ImageGray<T>>
 	GrayU8 localNick(T input, GrayU8 output, ConfigLength width, float k, boolean down)
+	{
+		return localNick(input, output, width, k, down, null);
+	}
+
+	/**
+	 * Same as {@link #localNick(ImageGray, GrayU8, ConfigLength, float, boolean)} but if the input needs to be
+	 * converted into {@link GrayF32} the converted image is borrowed from the pool.
+	 *
+	 * @param pool (Optional) Source of images for intermediate results. Can be null.
+	 */
+	public static <T extends ImageGray<T>>
+	GrayU8 localNick(T input, GrayU8 output, ConfigLength width, float k, boolean down, @Nullable ImagePool pool)
 	{
 		InputToBinary<GrayF32> alg =
-				BoofConcurrency.USE_CONCURRENT ?
+				BoofConcurrency.isUseConcurrent() ?
 				new ThresholdNick_MT(width,k, down) : new ThresholdNick(width, k, down);
 
 		if( output == null )
@@ -696,9 +804,12 @@ public class GThresholdImageOps {
 		if( input instanceof GrayF32) {
 			alg.process((GrayF32)input,output);
 		} else {
-			GrayF32 conv = new GrayF32(input.width,input.height);
+			GrayF32 conv = pool == null ?
+					new GrayF32(input.width,input.height) : pool.borrow(GrayF32.class,input.width,input.height);
 			GConvertImage.convert(input, conv);
 			alg.process(conv,output);
+			if( pool != null )
+				pool.release(conv);
 		}
 
 		return output;
@@ -54,7 +54,7 @@ public class ThresholdImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplThresholdImageOps_MT.threshold(input, output, threshold, down);
 		} else {
 			ImplThresholdImageOps.threshold(input, output, threshold, down);
@@ -79,7 +79,7 @@ public class ThresholdImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplThresholdImageOps_MT.threshold(input, output, threshold, down);
 		} else {
 			ImplThresholdImageOps.threshold(input, output, threshold, down);
@@ -104,7 +104,7 @@ public class ThresholdImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplThresholdImageOps_MT.threshold(input, output, threshold, down);
 		} else {
 			ImplThresholdImageOps.threshold(input, output, threshold, down);
@@ -129,7 +129,7 @@ public class ThresholdImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplThresholdImageOps_MT.threshold(input, output, threshold, down);
 		} else {
 			ImplThresholdImageOps.threshold(input, output, threshold, down);
@@ -154,7 +154,7 @@ public class ThresholdImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplThresholdImageOps_MT.threshold(input, output, threshold, down);
 		} else {
 			ImplThresholdImageOps.threshold(input, output, threshold, down);
@@ -179,7 +179,7 @@ public class ThresholdImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplThresholdImageOps_MT.threshold(input, output, threshold, down);
 		} else {
 			ImplThresholdImageOps.threshold(input, output, threshold, down);
@@ -212,7 +212,7 @@ public class ThresholdImageOps {
 		storage1 = InputSanityCheck.checkDeclare(input,storage1,GrayU8.class);
 		storage2 = InputSanityCheck.checkDeclare(input,storage2,GrayU8.class);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplThresholdImageOps_MT.localMean(input, output, width, scale, down, storage1, storage2, storage3);
 		} else {
 			ImplThresholdImageOps.localMean(input, output, width, scale, down, storage1, storage2, storage3);
@@ -244,7 +244,7 @@ public class ThresholdImageOps {
 		storage1 = InputSanityCheck.checkDeclare(input,storage1,GrayU8.class);
 		storage2 = InputSanityCheck.checkDeclare(input,storage2,GrayU8.class);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplThresholdImageOps_MT.localGaussian(input, output, width, scale, down, storage1, storage2);
 		} else {
 			ImplThresholdImageOps.localGaussian(input, output, width, scale, down, storage1, storage2);
@@ -277,7 +277,7 @@ public class ThresholdImageOps {
 		storage1 = InputSanityCheck.checkDeclare(input,storage1,GrayU16.class);
 		storage2 = InputSanityCheck.checkDeclare(input,storage2,GrayU16.class);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplThresholdImageOps_MT.localMean(input, output, width, scale, down, storage1, storage2, storage3);
 		} else {
 			ImplThresholdImageOps.localMean(input, output, width, scale, down, storage1, storage2, storage3);
@@ -309,7 +309,7 @@ public class ThresholdImageOps {
 		storage1 = InputSanityCheck.checkDeclare(input,storage1,GrayU16.class);
 		storage2 = InputSanityCheck.checkDeclare(input,storage2,GrayU16.class);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplThresholdImageOps_MT.localGaussian(input, output, width, scale, down, storage1, storage2);
 		} else {
 			ImplThresholdImageOps.localGaussian(input, output, width, scale, down, storage1, storage2);
@@ -342,7 +342,7 @@ public class ThresholdImageOps {
 		storage1 = InputSanityCheck.checkDeclare(input,storage1,GrayF32.class);
 		storage2 = InputSanityCheck.checkDeclare(input,storage2,GrayF32.class);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplThresholdImageOps_MT.localMean(input, output, width, scale, down, storage1, storage2, storage3);
 		} else {
 			ImplThresholdImageOps.localMean(input, output, width, scale, down, storage1, storage2, storage3);
@@ -374,7 +374,7 @@ public class ThresholdImageOps {
 		storage1 = InputSanityCheck.checkDeclare(input,storage1,GrayF32.class);
 		storage2 = InputSanityCheck.checkDeclare(input,storage2,GrayF32.class);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplThresholdImageOps_MT.localGaussian(input, output, width, scale, down, storage1, storage2);
 		} else {
 			ImplThresholdImageOps.localGaussian(input, output, width, scale, down, storage1, storage2);
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.filter.blur.impl.ImplBilateralGrid;
+import boofcv.alg.filter.blur.impl.ImplBilateralGrid_MT;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Edge preserving smoothing which approximates a bilateral filter using a bilateral grid [1]. Pixels are splatted
+ * into a 3D grid with axes (x,y,value) which is down sampled by the spatial and range sigmas, the grid is blurred
+ * along each axis, and then the output is sliced out of the grid with trilinear interpolation. Since the grid
+ * is down sampled the cost per pixel does not depend on the size of the spatial kernel.
+ * </p>
+ *
+ * <p>
+ * Instances store the grid and can be reused to avoid declaring new memory. Not thread safe.
+ * </p>
+ *
+ * <p>
+ * [1] Chen, Jiawen, Sylvain Paris, and Fredo Durand. "Real-time edge-aware image processing with the
+ * bilateral grid." ACM Transactions on Graphics (TOG) 26.3 (2007)
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BilateralGrid {
+	// The grid. See ImplBilateralGrid for the format
+	final GrowQueue_F32 grid = new GrowQueue_F32();
+	// First image row in each grid row
+	final GrowQueue_I32 rowStart = new GrowQueue_I32();
+
+	// shape of the grid, including padding
+	int gridWidth, gridHeight, gridDepth;
+	// number of grid rows which contain pixels
+	int numRows;
+
+	/**
+	 * Maximum number of floats in the grid. The grid's depth is the span of pixel values divided by sigmaRange,
+	 * so a floating point image with a large span and a small sigmaRange would otherwise use all the memory.
+	 */
+	public int maxGridSize = 1 << 28;
+
+	/**
+	 * Applies the filter to the image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param sigmaSpatial Spatial standard deviation in pixels. Must be &ge; 1
+	 * @param sigmaRange Range standard deviation in pixel values. Must be &gt; 0
+	 * @param output (Output) Filtered image. Reshaped to match input.
+	 * @throws IllegalArgumentException If the grid would be larger than {@link #maxGridSize}
+	 */
+	public void process( GrayU8 input, double sigmaSpatial, double sigmaRange, GrayU8 output ) {
+		output.reshape(input.width, input.height);
+		float minValue = ImageStatistics.min(input);
+		float maxValue = ImageStatistics.max(input);
+		float spatial = (float)sigmaSpatial;
+		float range = (float)sigmaRange;
+		initialize(input, spatial, range, maxValue - minValue);
+
+		float[] data = grid.data;
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplBilateralGrid_MT.splat(input, minValue, spatial, range, rowStart.data, numRows, data, gridWidth, gridDepth);
+			blur_MT();
+			ImplBilateralGrid_MT.slice(input, minValue, spatial, range, data, gridWidth, gridDepth, output);
+		} else {
+			ImplBilateralGrid.splat(input, minValue, spatial, range, rowStart.data, numRows, data, gridWidth, gridDepth);
+			blur();
+			ImplBilateralGrid.slice(input, minValue, spatial, range, data, gridWidth, gridDepth, output);
+		}
+	}
+
+	/**
+	 * Applies the filter to the image. See {@link #process(GrayU8, double, double, GrayU8)}.
+	 */
+	public void process( GrayF32 input, double sigmaSpatial, double sigmaRange, GrayF32 output ) {
+		output.reshape(input.width, input.height);
+		float minValue = ImageStatistics.min(input);
+		float maxValue = ImageStatistics.max(input);
+		float spatial = (float)sigmaSpatial;
+		float range = (float)sigmaRange;
+		initialize(input, spatial, range, maxValue - minValue);
+
+		float[] data = grid.data;
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplBilateralGrid_MT.splat(input, minValue, spatial, range, rowStart.data, numRows, data, gridWidth, gridDepth);
+			blur_MT();
+			ImplBilateralGrid_MT.slice(input, minValue, spatial, range, data, gridWidth, gridDepth, output);
+		} else {
+			ImplBilateralGrid.splat(input, minValue, spatial, range, rowStart.data, numRows, data, gridWidth, gridDepth);
+			blur();
+			ImplBilateralGrid.slice(input, minValue, spatial, range, data, gridWidth, gridDepth, output);
+		}
+	}
+
+	/**
+	 * Declares and zeros the grid and computes which image rows belong to which grid row.
+	 */
+	void initialize( ImageGray input, float spatial, float range, float valueSpan ) {
+		if( spatial < 1.0f )
+			throw new IllegalArgumentException("sigmaSpatial must be >= 1");
+		if( !(range > 0.0f) )
+			throw new IllegalArgumentException("sigmaRange must be > 0");
+
+		final int pad = ImplBilateralGrid.PAD;
+		numRows = input.height == 0 ? 0 : (int)((input.height - 1)/spatial + 0.5f) + 1;
+		gridWidth = (input.width == 0 ? 0 : (int)((input.width - 1)/spatial + 0.5f) + 1) + 2*pad;
+		gridHeight = numRows + 2*pad;
+
+		// check the size using doubles first since the depth and total size can overflow an int
+		double size = 2.0*gridWidth*gridHeight*(valueSpan/(double)range + 2 + 2*pad);
+		if( !(size <= maxGridSize) )
+			throw new IllegalArgumentException("Bilateral grid would need "+(long)size+" floats, which is more than "+
+					maxGridSize+". Increase sigmaRange or sigmaSpatial. Value span = "+valueSpan);
+		// same equation as the splat function so that every value has a cell
+		gridDepth = (int)(valueSpan/range + 0.5f) + 1 + 2*pad;
+
+		grid.resize(2*gridWidth*gridHeight*gridDepth);
+		Arrays.fill(grid.data, 0, grid.size, 0.0f);
+
+		// use the same equation as the splat function so that rows are assigned consistently
+		rowStart.resize(numRows + 1);
+		int row = 0;
+		for( int y = 0; y < input.height; y++ ) {
+			int r = (int)(y/spatial + 0.5f);
+			while( row <= r ) {
+				rowStart.data[row++] = y;
+			}
+		}
+		rowStart.data[numRows] = input.height;
+	}
+
+	void blur() {
+		ImplBilateralGrid.blurRange(grid.data, gridWidth, gridHeight, gridDepth);
+		ImplBilateralGrid.blurX(grid.data, gridWidth, gridHeight, gridDepth);
+		ImplBilateralGrid.blurY(grid.data, gridWidth, gridHeight, gridDepth);
+	}
+
+	void blur_MT() {
+		ImplBilateralGrid_MT.blurRange(grid.data, gridWidth, gridHeight, gridDepth);
+		ImplBilateralGrid_MT.blurX(grid.data, gridWidth, gridHeight, gridDepth);
+		ImplBilateralGrid_MT.blurY(grid.data, gridWidth, gridHeight, gridDepth);
+	}
+}
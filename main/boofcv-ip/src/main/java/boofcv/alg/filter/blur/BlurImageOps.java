@@ -19,6 +19,8 @@
 package boofcv.alg.filter.blur;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.blur.impl.ImplGaussianRecursive;
+import boofcv.alg.filter.blur.impl.ImplGaussianRecursive_MT;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner_MT;
 import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;
@@ -225,6 +227,99 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayU8 gaussianRecursive(GrayU8 input, @Nullable GrayU8 output, double sigma,
+								  @Nullable GrayF32 storage ) {
+		return gaussianRecursive(input,output,sigma,sigma,storage);
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaX Gaussian distribution's sigma along x-axis.  Must be &ge; 0.5
+	 * @param sigmaY Gaussian distribution's sigma along y-axis.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayU8 gaussianRecursive(GrayU8 input, @Nullable GrayU8 output, double sigmaX, double sigmaY,
+								  @Nullable GrayF32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage,GrayF32.class);
+
+		float[] coefX = ImplGaussianRecursive.coefficients_F32(sigmaX);
+		float[] coefY = ImplGaussianRecursive.coefficients_F32(sigmaY);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplGaussianRecursive_MT.horizontal(input, storage, coefX);
+			ImplGaussianRecursive_MT.vertical(storage, output, coefY);
+		} else {
+			ImplGaussianRecursive.horizontal(input, storage, coefX);
+			ImplGaussianRecursive.vertical(storage, output, coefY);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static InterleavedU8 gaussianRecursive(InterleavedU8 input, @Nullable InterleavedU8 output, double sigma,
+								  @Nullable InterleavedF32 storage ) {
+		return gaussianRecursive(input,output,sigma,sigma,storage);
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaX Gaussian distribution's sigma along x-axis.  Must be &ge; 0.5
+	 * @param sigmaY Gaussian distribution's sigma along y-axis.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static InterleavedU8 gaussianRecursive(InterleavedU8 input, @Nullable InterleavedU8 output, double sigmaX, double sigmaY,
+								  @Nullable InterleavedF32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		if( storage == null )
+			storage = new InterleavedF32(input.width,input.height,input.numBands);
+		else
+			storage.reshape(input.width,input.height,input.numBands);
+
+		float[] coefX = ImplGaussianRecursive.coefficients_F32(sigmaX);
+		float[] coefY = ImplGaussianRecursive.coefficients_F32(sigmaY);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplGaussianRecursive_MT.horizontal(input, storage, coefX);
+			ImplGaussianRecursive_MT.vertical(storage, output, coefY);
+		} else {
+			ImplGaussianRecursive.horizontal(input, storage, coefX);
+			ImplGaussianRecursive.vertical(storage, output, coefY);
+		}
+
+		return output;
+	}
+
 	/**
 	 * Applies a mean box filter with re-weighted image borders.
 	 *
@@ -399,6 +494,99 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayU16 gaussianRecursive(GrayU16 input, @Nullable GrayU16 output, double sigma,
+								  @Nullable GrayF32 storage ) {
+		return gaussianRecursive(input,output,sigma,sigma,storage);
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaX Gaussian distribution's sigma along x-axis.  Must be &ge; 0.5
+	 * @param sigmaY Gaussian distribution's sigma along y-axis.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayU16 gaussianRecursive(GrayU16 input, @Nullable GrayU16 output, double sigmaX, double sigmaY,
+								  @Nullable GrayF32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage,GrayF32.class);
+
+		float[] coefX = ImplGaussianRecursive.coefficients_F32(sigmaX);
+		float[] coefY = ImplGaussianRecursive.coefficients_F32(sigmaY);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplGaussianRecursive_MT.horizontal(input, storage, coefX);
+			ImplGaussianRecursive_MT.vertical(storage, output, coefY);
+		} else {
+			ImplGaussianRecursive.horizontal(input, storage, coefX);
+			ImplGaussianRecursive.vertical(storage, output, coefY);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static InterleavedU16 gaussianRecursive(InterleavedU16 input, @Nullable InterleavedU16 output, double sigma,
+								  @Nullable InterleavedF32 storage ) {
+		return gaussianRecursive(input,output,sigma,sigma,storage);
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaX Gaussian distribution's sigma along x-axis.  Must be &ge; 0.5
+	 * @param sigmaY Gaussian distribution's sigma along y-axis.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static InterleavedU16 gaussianRecursive(InterleavedU16 input, @Nullable InterleavedU16 output, double sigmaX, double sigmaY,
+								  @Nullable InterleavedF32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		if( storage == null )
+			storage = new InterleavedF32(input.width,input.height,input.numBands);
+		else
+			storage.reshape(input.width,input.height,input.numBands);
+
+		float[] coefX = ImplGaussianRecursive.coefficients_F32(sigmaX);
+		float[] coefY = ImplGaussianRecursive.coefficients_F32(sigmaY);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplGaussianRecursive_MT.horizontal(input, storage, coefX);
+			ImplGaussianRecursive_MT.vertical(storage, output, coefY);
+		} else {
+			ImplGaussianRecursive.horizontal(input, storage, coefX);
+			ImplGaussianRecursive.vertical(storage, output, coefY);
+		}
+
+		return output;
+	}
+
 	/**
 	 * Applies a mean box filter with re-weighted image borders.
 	 *
@@ -573,6 +761,99 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 gaussianRecursive(GrayF32 input, @Nullable GrayF32 output, double sigma,
+								  @Nullable GrayF32 storage ) {
+		return gaussianRecursive(input,output,sigma,sigma,storage);
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaX Gaussian distribution's sigma along x-axis.  Must be &ge; 0.5
+	 * @param sigmaY Gaussian distribution's sigma along y-axis.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 gaussianRecursive(GrayF32 input, @Nullable GrayF32 output, double sigmaX, double sigmaY,
+								  @Nullable GrayF32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage,GrayF32.class);
+
+		float[] coefX = ImplGaussianRecursive.coefficients_F32(sigmaX);
+		float[] coefY = ImplGaussianRecursive.coefficients_F32(sigmaY);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplGaussianRecursive_MT.horizontal(input, storage, coefX);
+			ImplGaussianRecursive_MT.vertical(storage, output, coefY);
+		} else {
+			ImplGaussianRecursive.horizontal(input, storage, coefX);
+			ImplGaussianRecursive.vertical(storage, output, coefY);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static InterleavedF32 gaussianRecursive(InterleavedF32 input, @Nullable InterleavedF32 output, double sigma,
+								  @Nullable InterleavedF32 storage ) {
+		return gaussianRecursive(input,output,sigma,sigma,storage);
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaX Gaussian distribution's sigma along x-axis.  Must be &ge; 0.5
+	 * @param sigmaY Gaussian distribution's sigma along y-axis.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static InterleavedF32 gaussianRecursive(InterleavedF32 input, @Nullable InterleavedF32 output, double sigmaX, double sigmaY,
+								  @Nullable InterleavedF32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		if( storage == null )
+			storage = new InterleavedF32(input.width,input.height,input.numBands);
+		else
+			storage.reshape(input.width,input.height,input.numBands);
+
+		float[] coefX = ImplGaussianRecursive.coefficients_F32(sigmaX);
+		float[] coefY = ImplGaussianRecursive.coefficients_F32(sigmaY);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplGaussianRecursive_MT.horizontal(input, storage, coefX);
+			ImplGaussianRecursive_MT.vertical(storage, output, coefY);
+		} else {
+			ImplGaussianRecursive.horizontal(input, storage, coefX);
+			ImplGaussianRecursive.vertical(storage, output, coefY);
+		}
+
+		return output;
+	}
+
 	/**
 	 * Applies a mean box filter with re-weighted image borders.
 	 *
@@ -747,6 +1028,99 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayF64 gaussianRecursive(GrayF64 input, @Nullable GrayF64 output, double sigma,
+								  @Nullable GrayF64 storage ) {
+		return gaussianRecursive(input,output,sigma,sigma,storage);
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaX Gaussian distribution's sigma along x-axis.  Must be &ge; 0.5
+	 * @param sigmaY Gaussian distribution's sigma along y-axis.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayF64 gaussianRecursive(GrayF64 input, @Nullable GrayF64 output, double sigmaX, double sigmaY,
+								  @Nullable GrayF64 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage,GrayF64.class);
+
+		double[] coefX = ImplGaussianRecursive.coefficients_F64(sigmaX);
+		double[] coefY = ImplGaussianRecursive.coefficients_F64(sigmaY);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplGaussianRecursive_MT.horizontal(input, storage, coefX);
+			ImplGaussianRecursive_MT.vertical(storage, output, coefY);
+		} else {
+			ImplGaussianRecursive.horizontal(input, storage, coefX);
+			ImplGaussianRecursive.vertical(storage, output, coefY);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static InterleavedF64 gaussianRecursive(InterleavedF64 input, @Nullable InterleavedF64 output, double sigma,
+								  @Nullable InterleavedF64 storage ) {
+		return gaussianRecursive(input,output,sigma,sigma,storage);
+	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma, making it much faster than {@link #gaussian} for large sigma. See {@link ImplGaussianRecursive}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaX Gaussian distribution's sigma along x-axis.  Must be &ge; 0.5
+	 * @param sigmaY Gaussian distribution's sigma along y-axis.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static InterleavedF64 gaussianRecursive(InterleavedF64 input, @Nullable InterleavedF64 output, double sigmaX, double sigmaY,
+								  @Nullable InterleavedF64 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		if( storage == null )
+			storage = new InterleavedF64(input.width,input.height,input.numBands);
+		else
+			storage.reshape(input.width,input.height,input.numBands);
+
+		double[] coefX = ImplGaussianRecursive.coefficients_F64(sigmaX);
+		double[] coefY = ImplGaussianRecursive.coefficients_F64(sigmaY);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplGaussianRecursive_MT.horizontal(input, storage, coefX);
+			ImplGaussianRecursive_MT.vertical(storage, output, coefY);
+		} else {
+			ImplGaussianRecursive.horizontal(input, storage, coefX);
+			ImplGaussianRecursive.vertical(storage, output, coefY);
+		}
+
+		return output;
+	}
+
 	/**
 	 * Applies Gaussian blur to a {@link Planar}
 	 *
@@ -798,6 +1172,33 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies recursive Gaussian blur to a {@link Planar}
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaX Gaussian distribution's sigma along x-axis.  Must be &ge; 0.5
+	 * @param sigmaY Gaussian distribution's sigma along y-axis.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  GrayF64 if the input is GrayF64 otherwise GrayF32.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageGray<T>>
+	Planar<T> gaussianRecursive(Planar<T> input, @Nullable Planar<T> output, double sigmaX, double sigmaY,
+								@Nullable ImageGray storage ) {
+
+		if( storage == null )
+			storage = input.getBandType() == GrayF64.class ?
+					new GrayF64(input.width, input.height) : new GrayF32(input.width, input.height);
+		if( output == null )
+			output = input.createNew(input.width,input.height);
+
+		for( int band = 0; band < input.getNumBands(); band++ ) {
+			GBlurImageOps.gaussianRecursive(input.getBand(band),output.getBand(band),sigmaX,sigmaY,storage);
+		}
+		return output;
+	}
+
 	/**
 	 * Applies mean box filter to a {@link Planar}
 	 *
@@ -887,7 +1288,7 @@ public class BlurImageOps {
 			int w = radius * 2 + 1;
 			int offset[] = new int[w * w];
 
-			if( BoofConcurrency.USE_CONCURRENT ) {
+			if( BoofConcurrency.isUseConcurrent() ) {
 				ImplMedianHistogramInner_MT.process(input, output, radius, work);
 			} else {
 				ImplMedianHistogramInner.process(input, output, radius, work);
@@ -944,5 +1345,173 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies a guided filter using the input image as the guide. Edge preserving smoothing where the cost per
+	 * pixel is independent of the radius. See {@link GuidedFilter}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the local window.
+	 * @param epsilon Regularization in units of pixel value squared. Larger values will smooth more.
+	 * @param storage (Optional) Storage for intermediate results.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayU8 guided(GrayU8 input, @Nullable GrayU8 output, int radius, double epsilon,
+								 @Nullable GuidedFilter storage ) {
+		return guided(input,input,output,radius,epsilon,storage);
+	}
+
+	/**
+	 * Applies a guided filter. The output is a locally linear function of the guide image.
+	 * See {@link GuidedFilter}.
+	 *
+	 * @param guide Guide image. Same shape as input.  Not modified.
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the local window.
+	 * @param epsilon Regularization in units of pixel value squared. Larger values will smooth more.
+	 * @param storage (Optional) Storage for intermediate results.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayU8 guided(GrayU8 guide, GrayU8 input, @Nullable GrayU8 output, int radius, double epsilon,
+								 @Nullable GuidedFilter storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		if( storage == null )
+			storage = new GuidedFilter();
+
+		storage.process(guide,input,radius,epsilon,output);
+		return output;
+	}
+
+	/**
+	 * Approximates a bilateral filter using a bilateral grid. Edge preserving smoothing where the cost per
+	 * pixel is independent of the spatial sigma. See {@link BilateralGrid}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaSpatial Spatial standard deviation in pixels. Must be &ge; 1
+	 * @param sigmaRange Range standard deviation in pixel values. Must be &gt; 0
+	 * @param storage (Optional) Storage for the grid.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayU8 bilateralGrid(GrayU8 input, @Nullable GrayU8 output, double sigmaSpatial, double sigmaRange,
+										@Nullable BilateralGrid storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		if( storage == null )
+			storage = new BilateralGrid();
+
+		storage.process(input,sigmaSpatial,sigmaRange,output);
+		return output;
+	}
+
+	/**
+	 * Applies a guided filter using the input image as the guide. Edge preserving smoothing where the cost per
+	 * pixel is independent of the radius. See {@link GuidedFilter}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the local window.
+	 * @param epsilon Regularization in units of pixel value squared. Larger values will smooth more.
+	 * @param storage (Optional) Storage for intermediate results.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 guided(GrayF32 input, @Nullable GrayF32 output, int radius, double epsilon,
+								 @Nullable GuidedFilter storage ) {
+		return guided(input,input,output,radius,epsilon,storage);
+	}
+
+	/**
+	 * Applies a guided filter. The output is a locally linear function of the guide image.
+	 * See {@link GuidedFilter}.
+	 *
+	 * @param guide Guide image. Same shape as input.  Not modified.
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the local window.
+	 * @param epsilon Regularization in units of pixel value squared. Larger values will smooth more.
+	 * @param storage (Optional) Storage for intermediate results.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 guided(GrayF32 guide, GrayF32 input, @Nullable GrayF32 output, int radius, double epsilon,
+								 @Nullable GuidedFilter storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		if( storage == null )
+			storage = new GuidedFilter();
+
+		storage.process(guide,input,radius,epsilon,output);
+		return output;
+	}
+
+	/**
+	 * Approximates a bilateral filter using a bilateral grid. Edge preserving smoothing where the cost per
+	 * pixel is independent of the spatial sigma. See {@link BilateralGrid}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaSpatial Spatial standard deviation in pixels. Must be &ge; 1
+	 * @param sigmaRange Range standard deviation in pixel values. Must be &gt; 0
+	 * @param storage (Optional) Storage for the grid.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 bilateralGrid(GrayF32 input, @Nullable GrayF32 output, double sigmaSpatial, double sigmaRange,
+										@Nullable BilateralGrid storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		if( storage == null )
+			storage = new BilateralGrid();
+
+		storage.process(input,sigmaSpatial,sigmaRange,output);
+		return output;
+	}
+
+	/**
+	 * Applies a guided filter to a {@link Planar}. Each band is used as its own guide.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the local window.
+	 * @param epsilon Regularization in units of pixel value squared. Larger values will smooth more.
+	 * @param storage (Optional) Storage for intermediate results.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageGray<T>>
+	Planar<T> guided(Planar<T> input, @Nullable Planar<T> output, int radius, double epsilon,
+					 @Nullable GuidedFilter storage ) {
+		if( storage == null )
+			storage = new GuidedFilter();
+		if( output == null )
+			output = input.createNew(input.width,input.height);
+
+		for( int band = 0; band < input.getNumBands(); band++ ) {
+			GBlurImageOps.guided(input.getBand(band),output.getBand(band),radius,epsilon,storage);
+		}
+		return output;
+	}
+
+	/**
+	 * Applies a bilateral grid filter to a {@link Planar}. Each band is processed independently.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaSpatial Spatial standard deviation in pixels. Must be &ge; 1
+	 * @param sigmaRange Range standard deviation in pixel values. Must be &gt; 0
+	 * @param storage (Optional) Storage for the grid.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageGray<T>>
+	Planar<T> bilateralGrid(Planar<T> input, @Nullable Planar<T> output, double sigmaSpatial, double sigmaRange,
+							@Nullable BilateralGrid storage ) {
+		if( storage == null )
+			storage = new BilateralGrid();
+		if( output == null )
+			output = input.createNew(input.width,input.height);
+
+		for( int band = 0; band < input.getNumBands(); band++ ) {
+			GBlurImageOps.bilateralGrid(input.getBand(band),output.getBand(band),sigmaSpatial,sigmaRange,storage);
+		}
+		return output;
+	}
+
 
 }
@@ -215,4 +215,107 @@ public class GBlurImageOps {
 				throw new IllegalArgumentException("Unknown image family");
 		}
 	}
+
+	/**
+	 * Applies Gaussian blur using a recursive (IIR) approximation. The cost per pixel is constant and does not
+	 * depend on sigma.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaX Gaussian distribution's sigma along x-axis.  Must be &ge; 0.5
+	 * @param sigmaY Gaussian distribution's sigma along y-axis.  Must be &ge; 0.5
+	 * @param storage (Optional) Storage for intermediate results.  F64 if the input is F64 otherwise F32.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageBase<T>>
+	T gaussianRecursive(T input, @Nullable T output, double sigmaX, double sigmaY, @Nullable ImageBase storage ) {
+		switch( input.getImageType().getFamily() ) {
+			case GRAY: {
+				if (input instanceof GrayU8) {
+					return (T) BlurImageOps.gaussianRecursive((GrayU8) input, (GrayU8) output, sigmaX, sigmaY, (GrayF32) storage);
+				} else if (input instanceof GrayU16) {
+					return (T) BlurImageOps.gaussianRecursive((GrayU16) input, (GrayU16) output, sigmaX, sigmaY, (GrayF32) storage);
+				} else if (input instanceof GrayF32) {
+					return (T) BlurImageOps.gaussianRecursive((GrayF32) input, (GrayF32) output, sigmaX, sigmaY, (GrayF32) storage);
+				} else if (input instanceof GrayF64) {
+					return (T) BlurImageOps.gaussianRecursive((GrayF64) input, (GrayF64) output, sigmaX, sigmaY, (GrayF64) storage);
+				} else {
+					throw new IllegalArgumentException("Unsupported image type: " + input.getClass().getSimpleName());
+				}
+			}
+
+			case INTERLEAVED:{
+				if (input instanceof InterleavedU8) {
+					return (T) BlurImageOps.gaussianRecursive((InterleavedU8) input, (InterleavedU8) output, sigmaX, sigmaY, (InterleavedF32) storage);
+				} else if (input instanceof InterleavedU16) {
+					return (T) BlurImageOps.gaussianRecursive((InterleavedU16) input, (InterleavedU16) output, sigmaX, sigmaY, (InterleavedF32) storage);
+				} else if (input instanceof InterleavedF32) {
+					return (T) BlurImageOps.gaussianRecursive((InterleavedF32) input, (InterleavedF32) output, sigmaX, sigmaY, (InterleavedF32) storage);
+				} else if (input instanceof InterleavedF64) {
+					return (T) BlurImageOps.gaussianRecursive((InterleavedF64) input, (InterleavedF64) output, sigmaX, sigmaY, (InterleavedF64) storage);
+				} else {
+					throw new IllegalArgumentException("Unsupported image type: " + input.getClass().getSimpleName());
+				}
+			}
+
+			case PLANAR:{
+				return (T) BlurImageOps.gaussianRecursive((Planar) input, (Planar) output, sigmaX, sigmaY, (ImageGray) storage);
+			}
+
+			default:
+				throw new IllegalArgumentException("Unknown image family");
+		}
+	}
+
+	/**
+	 * Applies a guided filter using the image as its own guide. Edge preserving smoothing with a cost per pixel
+	 * that is independent of the radius. Each band in a {@link Planar} image is processed independently.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the local window.
+	 * @param epsilon Regularization in units of pixel value squared. Larger values will smooth more.
+	 * @param storage (Optional) Storage for intermediate results.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageBase<T>>
+	T guided(T input, @Nullable T output, int radius, double epsilon, @Nullable GuidedFilter storage ) {
+		if( input instanceof GrayU8) {
+			return (T) BlurImageOps.guided((GrayU8) input, (GrayU8) output, radius, epsilon, storage);
+		} else if( input instanceof GrayF32) {
+			return (T) BlurImageOps.guided((GrayF32) input, (GrayF32) output, radius, epsilon, storage);
+		} else if( input instanceof Planar) {
+			return (T) BlurImageOps.guided((Planar) input, (Planar) output, radius, epsilon, storage);
+		} else {
+			throw new IllegalArgumentException("Unsupported image type: " + input.getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Approximates a bilateral filter using a bilateral grid. Edge preserving smoothing with a cost per pixel
+	 * that is independent of the spatial sigma. Each band in a {@link Planar} image is processed independently.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigmaSpatial Spatial standard deviation in pixels. Must be &ge; 1
+	 * @param sigmaRange Range standard deviation in pixel values. Must be &gt; 0
+	 * @param storage (Optional) Storage for the grid.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageBase<T>>
+	T bilateralGrid(T input, @Nullable T output, double sigmaSpatial, double sigmaRange,
+					@Nullable BilateralGrid storage ) {
+		if( input instanceof GrayU8) {
+			return (T) BlurImageOps.bilateralGrid((GrayU8) input, (GrayU8) output, sigmaSpatial, sigmaRange, storage);
+		} else if( input instanceof GrayF32) {
+			return (T) BlurImageOps.bilateralGrid((GrayF32) input, (GrayF32) output, sigmaSpatial, sigmaRange, storage);
+		} else if( input instanceof Planar) {
+			return (T) BlurImageOps.bilateralGrid((Planar) input, (Planar) output, sigmaSpatial, sigmaRange, storage);
+		} else {
+			throw new IllegalArgumentException("Unsupported image type: " + input.getClass().getSimpleName());
+		}
+	}
 }
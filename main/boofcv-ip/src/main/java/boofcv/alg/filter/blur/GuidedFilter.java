@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.filter.blur.impl.ImplGuidedFilter;
+import boofcv.alg.filter.blur.impl.ImplGuidedFilter_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.FWorkArrays;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Guided filter [1] for edge preserving smoothing. The output is modeled as a linear function of the guide
+ * image inside of each local window. All the local statistics are computed using mean box filters, which have a
+ * constant cost per pixel, so the cost is independent of the window's radius. When the guide and the input
+ * are the same image it behaves as an edge preserving smoothing filter.
+ * </p>
+ *
+ * <p>
+ * Instances store intermediate images and can be reused to avoid declaring new memory. Not thread safe.
+ * </p>
+ *
+ * <p>
+ * [1] He, Kaiming, Jian Sun, and Xiaoou Tang. "Guided image filtering." IEEE transactions on pattern analysis
+ * and machine intelligence 35.6 (2012)
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class GuidedFilter {
+	// local mean of guide, input, guide*guide, and guide*input
+	GrayF32 meanI = new GrayF32(1,1);
+	GrayF32 meanP = new GrayF32(1,1);
+	GrayF32 meanII = new GrayF32(1,1);
+	GrayF32 meanIP = new GrayF32(1,1);
+	// element-wise products, which are then replaced by the linear coefficients a and b
+	GrayF32 productA = new GrayF32(1,1);
+	GrayF32 productB = new GrayF32(1,1);
+
+	// storage for the box filter
+	GrayF32 storage = new GrayF32(1,1);
+	FWorkArrays work = new FWorkArrays();
+
+	// used to convert integer images
+	GrayF32 guideF = new GrayF32(1,1);
+	GrayF32 inputF = new GrayF32(1,1);
+
+	/**
+	 * Applies the guided filter.
+	 *
+	 * @param guide Guide image. Can be the same instance as input. Not modified.
+	 * @param input Image being filtered. Not modified.
+	 * @param radius Radius of the local window.
+	 * @param epsilon Regularization in units of pixel value squared. Larger values will smooth more.
+	 * @param output (Output) Filtered image. Reshaped to match input.
+	 */
+	public void process( GrayF32 guide, GrayF32 input, int radius, double epsilon, GrayF32 output ) {
+		output.reshape(input.width, input.height);
+		computeModel(guide, input, radius, epsilon);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplGuidedFilter_MT.output(meanII, meanIP, guide, output);
+		} else {
+			ImplGuidedFilter.output(meanII, meanIP, guide, output);
+		}
+	}
+
+	/**
+	 * Applies the guided filter. See {@link #process(GrayF32, GrayF32, int, double, GrayF32)}
+	 */
+	public void process( GrayU8 guide, GrayU8 input, int radius, double epsilon, GrayU8 output ) {
+		output.reshape(input.width, input.height);
+		ConvertImage.convert(guide, guideF);
+		GrayF32 inputF = this.guideF;
+		if( input != guide ) {
+			inputF = this.inputF;
+			ConvertImage.convert(input, inputF);
+		}
+		computeModel(guideF, inputF, radius, epsilon);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplGuidedFilter_MT.output(meanII, meanIP, guideF, output);
+		} else {
+			ImplGuidedFilter.output(meanII, meanIP, guideF, output);
+		}
+	}
+
+	/**
+	 * Computes the mean of the linear coefficients a and b, which are stored in meanII and meanIP.
+	 */
+	void computeModel( GrayF32 guide, GrayF32 input, int radius, double epsilon ) {
+		if( guide.width != input.width || guide.height != input.height )
+			throw new IllegalArgumentException("Guide and input must have the same shape");
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		productA.reshape(input.width, input.height);
+		productB.reshape(input.width, input.height);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplGuidedFilter_MT.products(guide, input, productA, productB);
+		} else {
+			ImplGuidedFilter.products(guide, input, productA, productB);
+		}
+
+		BlurImageOps.mean(guide, meanI, radius, storage, work);
+		BlurImageOps.mean(input, meanP, radius, storage, work);
+		BlurImageOps.mean(productA, meanII, radius, storage, work);
+		BlurImageOps.mean(productB, meanIP, radius, storage, work);
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			ImplGuidedFilter_MT.coefficients(meanI, meanP, meanII, meanIP, (float)epsilon, productA, productB);
+		} else {
+			ImplGuidedFilter.coefficients(meanI, meanP, meanII, meanIP, (float)epsilon, productA, productB);
+		}
+
+		BlurImageOps.mean(productA, meanII, radius, storage, work);
+		BlurImageOps.mean(productB, meanIP, radius, storage, work);
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Operations on a bilateral grid. The grid is a down sampled 3D volume with axes (x,y,value) which is stored in
+ * a single array. The value (range) axis is the inner most, followed by x, then y. Each cell contains two floats,
+ * the sum of the pixel values which fell inside of it and the number of pixels, i.e. homogeneous coordinates.
+ * </p>
+ *
+ * <p>
+ * Pixels are splatted into the nearest cell and the result is read with trilinear interpolation. The grid
+ * is padded by {@link #PAD} cells along each axis so that the blur kernel and interpolation never go outside
+ * the grid. Concurrent implementations split the work along the y-axis of the grid, except for the y-axis
+ * blur, so that no two threads write to the same cell.
+ * </p>
+ *
+ * @author Peter Abeles
+ * @see boofcv.alg.filter.blur.BilateralGrid
+ */
+public class ImplBilateralGrid_MT {
+
+	/** Number of empty cells on each side of the grid. Must be at least the blur kernel's radius */
+	public static final int PAD = ImplBilateralGrid.PAD;
+
+	/**
+	 * Adds every pixel to the nearest grid cell.
+	 *
+	 * @param input Input image
+	 * @param minValue Value which maps to the first non-padded cell along the range axis
+	 * @param spatial Spatial sampling period in pixels
+	 * @param range Range sampling period in pixel values
+	 * @param rowStart First image row that maps to each non-padded row in the grid. Length numRows+1
+	 * @param numRows Number of non-padded grid rows
+	 * @param grid (Output) The grid. Must be zero initially
+	 * @param gridWidth Number of grid cells along the x-axis
+	 * @param gridDepth Number of grid cells along the range axis
+	 */
+	public static void splat( GrayU8 input, float minValue, float spatial, float range,
+							  int[] rowStart, int numRows, float[] grid, int gridWidth, int gridDepth ) {
+		BoofConcurrency.loopFor(0,numRows,row->{
+			int gridRow = (row + PAD)*gridWidth;
+			for( int y = rowStart[row]; y < rowStart[row+1]; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				for( int x = 0; x < input.width; x++ ) {
+					float value = input.data[indexIn++] & 0xFF;
+					int gx = (int)(x/spatial + 0.5f) + PAD;
+					int gz = (int)((value - minValue)/range + 0.5f) + PAD;
+					int cell = 2*((gridRow + gx)*gridDepth + gz);
+					grid[cell] += value;
+					grid[cell+1] += 1.0f;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Adds every pixel to the nearest grid cell. See {@link #splat(GrayU8, float, float, float, int[], int, float[], int, int)}
+	 */
+	public static void splat( GrayF32 input, float minValue, float spatial, float range,
+							  int[] rowStart, int numRows, float[] grid, int gridWidth, int gridDepth ) {
+		BoofConcurrency.loopFor(0,numRows,row->{
+			int gridRow = (row + PAD)*gridWidth;
+			for( int y = rowStart[row]; y < rowStart[row+1]; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				for( int x = 0; x < input.width; x++ ) {
+					float value = input.data[indexIn++];
+					int gx = (int)(x/spatial + 0.5f) + PAD;
+					int gz = (int)((value - minValue)/range + 0.5f) + PAD;
+					int cell = 2*((gridRow + gx)*gridDepth + gz);
+					grid[cell] += value;
+					grid[cell+1] += 1.0f;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Blurs the grid along the range axis.
+	 */
+	public static void blurRange( float[] grid, int gridWidth, int gridHeight, int gridDepth ) {
+		BoofConcurrency.loopFor(0,gridHeight,gy->{
+			for( int gx = 0; gx < gridWidth; gx++ ) {
+				int start = 2*(gy*gridWidth + gx)*gridDepth;
+				blurLine(grid, start, 2, gridDepth);
+				blurLine(grid, start + 1, 2, gridDepth);
+			}
+		});
+	}
+
+	/**
+	 * Blurs the grid along the x-axis.
+	 */
+	public static void blurX( float[] grid, int gridWidth, int gridHeight, int gridDepth ) {
+		final int step = 2*gridDepth;
+		BoofConcurrency.loopFor(0,gridHeight,gy->{
+			int start = 2*gy*gridWidth*gridDepth;
+			for( int gz = 0; gz < gridDepth; gz++ ) {
+				blurLine(grid, start + 2*gz, step, gridWidth);
+				blurLine(grid, start + 2*gz + 1, step, gridWidth);
+			}
+		});
+	}
+
+	/**
+	 * Blurs the grid along the y-axis.
+	 */
+	public static void blurY( float[] grid, int gridWidth, int gridHeight, int gridDepth ) {
+		final int step = 2*gridWidth*gridDepth;
+		BoofConcurrency.loopFor(0,gridWidth,gx->{
+			int start = 2*gx*gridDepth;
+			for( int i = 0; i < 2*gridDepth; i++ ) {
+				blurLine(grid, start + i, step, gridHeight);
+			}
+		});
+	}
+
+	/**
+	 * Applies the kernel [1 4 6 4 1]/16 in place along a line. This approximates a Gaussian with a sigma of 1.
+	 * Elements outside the line are zero.
+	 */
+	static void blurLine( float[] data, int start, int step, int length ) {
+		// original values of the previous two elements
+		float prev2 = 0, prev1 = 0;
+		int index = start;
+		for( int i = 0; i < length; i++, index += step ) {
+			float center = data[index];
+			float next1 = i + 1 < length ? data[index + step] : 0;
+			float next2 = i + 2 < length ? data[index + 2*step] : 0;
+			data[index] = (prev2 + 4.0f*(prev1 + next1) + 6.0f*center + next2)/16.0f;
+			prev2 = prev1;
+			prev1 = center;
+		}
+	}
+
+	/**
+	 * Computes the output image by trilinear interpolation of the grid at each pixel's coordinate and value.
+	 *
+	 * @param input Input image which is used to look up the range coordinate
+	 * @param minValue Value which maps to the first non-padded cell along the range axis
+	 * @param spatial Spatial sampling period in pixels
+	 * @param range Range sampling period in pixel values
+	 * @param grid The blurred grid
+	 * @param gridWidth Number of grid cells along the x-axis
+	 * @param gridDepth Number of grid cells along the range axis
+	 * @param output (Output) Filtered image
+	 */
+	public static void slice( GrayU8 input, float minValue, float spatial, float range,
+							  float[] grid, int gridWidth, int gridDepth, GrayU8 output ) {
+		BoofConcurrency.loopFor(0,input.height,y->{
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			float fy = y/spatial + PAD;
+			int gy = (int)fy;
+			float wy = fy - gy;
+
+			for( int x = 0; x < input.width; x++ ) {
+				float value = input.data[indexIn++] & 0xFF;
+				float filtered = interpolate(grid, gridWidth, gridDepth,
+						x/spatial + PAD, gy, wy, (value - minValue)/range + PAD, value);
+				output.data[indexOut++] = (byte)(filtered + 0.5f);
+			}
+		});
+	}
+
+	/**
+	 * Computes the output image by trilinear interpolation of the grid.
+	 * See {@link #slice(GrayU8, float, float, float, float[], int, int, GrayU8)}
+	 */
+	public static void slice( GrayF32 input, float minValue, float spatial, float range,
+							  float[] grid, int gridWidth, int gridDepth, GrayF32 output ) {
+		BoofConcurrency.loopFor(0,input.height,y->{
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			float fy = y/spatial + PAD;
+			int gy = (int)fy;
+			float wy = fy - gy;
+
+			for( int x = 0; x < input.width; x++ ) {
+				float value = input.data[indexIn++];
+				output.data[indexOut++] = interpolate(grid, gridWidth, gridDepth,
+						x/spatial + PAD, gy, wy, (value - minValue)/range + PAD, value);
+			}
+		});
+	}
+
+	/**
+	 * Trilinear interpolation of the homogeneous grid. If no pixels contributed to the neighborhood then the
+	 * original value is returned.
+	 */
+	static float interpolate( float[] grid, int gridWidth, int gridDepth,
+							  float fx, int gy, float wy, float fz, float original ) {
+		int gx = (int)fx;
+		int gz = (int)fz;
+		float wx = fx - gx;
+		float wz = fz - gz;
+
+		int strideX = 2*gridDepth;
+		int strideY = strideX*gridWidth;
+		int cell = 2*((gy*gridWidth + gx)*gridDepth + gz);
+
+		float sum = 0, weight = 0;
+		for( int i = 0; i < 2; i++ ) {
+			float w0 = i == 0 ? 1.0f - wy : wy;
+			int cellY = cell + i*strideY;
+			for( int j = 0; j < 2; j++ ) {
+				float w1 = w0*(j == 0 ? 1.0f - wx : wx);
+				int c = cellY + j*strideX;
+				float w00 = w1*(1.0f - wz);
+				float w01 = w1*wz;
+				sum += w00*grid[c] + w01*grid[c+2];
+				weight += w00*grid[c+1] + w01*grid[c+3];
+			}
+		}
+
+		if( weight <= 0.0f )
+			return original;
+		return sum/weight;
+	}
+}
@@ -0,0 +1,534 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Recursive (IIR) approximation of a Gaussian blur from Young and van Vliet [1]. The filter is applied along
+ * each axis with a causal and an anti-causal third order pass. Unlike convolution with a Gaussian kernel the
+ * number of operations per pixel is constant and does not depend on sigma, which makes it much faster for
+ * large sigma. It's an approximation and the error is largest for small sigma, thus sigma must be &ge; 0.5.
+ * </p>
+ *
+ * <p>
+ * The horizontal pass converts the input into a floating point image. The vertical pass processes many
+ * columns at once by sweeping along the rows, which is cache friendly, and writes the final results into the
+ * output image. Image borders are handled by extending the edge pixel's value.
+ * </p>
+ *
+ * <p>
+ * [1] Young, Ian T., and Lucas J. Van Vliet. "Recursive implementation of the Gaussian filter."
+ * Signal processing 44.2 (1995): 139-151.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("Duplicates")
+public class ImplGaussianRecursive {
+
+	/**
+	 * Computes the filter's coefficients
+	 *
+	 * @param sigma Gaussian's standard deviation. Must be &ge; 0.5
+	 * @return Array with coefficients B, a1, a2, a3
+	 */
+	public static double[] coefficients_F64( double sigma ) {
+		if( sigma < 0.5 )
+			throw new IllegalArgumentException("Sigma must be >= 0.5");
+
+		double q;
+		if( sigma >= 2.5 )
+			q = 0.98711*sigma - 0.96330;
+		else
+			q = 3.97156 - 4.14554*Math.sqrt(1.0 - 0.26891*sigma);
+
+		double q2 = q*q;
+		double q3 = q2*q;
+
+		double b0 = 1.57825 + 2.44413*q + 1.4281*q2 + 0.422205*q3;
+		double b1 = 2.44413*q + 2.85619*q2 + 1.26661*q3;
+		double b2 = -(1.4281*q2 + 1.26661*q3);
+		double b3 = 0.422205*q3;
+
+		double a1 = b1/b0, a2 = b2/b0, a3 = b3/b0;
+		return new double[]{1.0-(a1+a2+a3), a1, a2, a3};
+	}
+
+	/**
+	 * Computes the filter's coefficients
+	 *
+	 * @param sigma Gaussian's standard deviation. Must be &ge; 0.5
+	 * @return Array with coefficients B, a1, a2, a3
+	 */
+	public static float[] coefficients_F32( double sigma ) {
+		double[] coef = coefficients_F64(sigma);
+		float a1 = (float)coef[1], a2 = (float)coef[2], a3 = (float)coef[3];
+		// For large sigma B is tiny. Computing it from the rounded coefficients ensures a gain of one
+		return new float[]{1.0f-(a1+a2+a3), a1, a2, a3};
+	}
+
+	public static void horizontal( GrayU8 input, GrayF32 output, float[] coef ) {
+		float[] line = new float[input.width];
+		horizontal(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				input.width, 1, 0, input.height, coef, line);
+	}
+
+	public static void horizontal( InterleavedU8 input, InterleavedF32 output, float[] coef ) {
+		float[] line = new float[input.width];
+		horizontal(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				input.width, input.numBands, 0, input.height, coef, line);
+	}
+
+	public static void horizontal( GrayU16 input, GrayF32 output, float[] coef ) {
+		float[] line = new float[input.width];
+		horizontal(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				input.width, 1, 0, input.height, coef, line);
+	}
+
+	public static void horizontal( InterleavedU16 input, InterleavedF32 output, float[] coef ) {
+		float[] line = new float[input.width];
+		horizontal(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				input.width, input.numBands, 0, input.height, coef, line);
+	}
+
+	public static void horizontal( GrayF32 input, GrayF32 output, float[] coef ) {
+		float[] line = new float[input.width];
+		horizontal(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				input.width, 1, 0, input.height, coef, line);
+	}
+
+	public static void horizontal( InterleavedF32 input, InterleavedF32 output, float[] coef ) {
+		float[] line = new float[input.width];
+		horizontal(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				input.width, input.numBands, 0, input.height, coef, line);
+	}
+
+	public static void horizontal( GrayF64 input, GrayF64 output, double[] coef ) {
+		double[] line = new double[input.width];
+		horizontal(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				input.width, 1, 0, input.height, coef, line);
+	}
+
+	public static void horizontal( InterleavedF64 input, InterleavedF64 output, double[] coef ) {
+		double[] line = new double[input.width];
+		horizontal(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				input.width, input.numBands, 0, input.height, coef, line);
+	}
+
+	public static void vertical( GrayF32 input, GrayU8 output, float[] coef ) {
+		int columns = output.width;
+		float[] work = new float[3*columns];
+		vertical(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				output.height, 0, columns, coef, work);
+	}
+
+	public static void vertical( InterleavedF32 input, InterleavedU8 output, float[] coef ) {
+		int columns = output.width*output.numBands;
+		float[] work = new float[3*columns];
+		vertical(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				output.height, 0, columns, coef, work);
+	}
+
+	public static void vertical( GrayF32 input, GrayU16 output, float[] coef ) {
+		int columns = output.width;
+		float[] work = new float[3*columns];
+		vertical(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				output.height, 0, columns, coef, work);
+	}
+
+	public static void vertical( InterleavedF32 input, InterleavedU16 output, float[] coef ) {
+		int columns = output.width*output.numBands;
+		float[] work = new float[3*columns];
+		vertical(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				output.height, 0, columns, coef, work);
+	}
+
+	public static void vertical( GrayF32 input, GrayF32 output, float[] coef ) {
+		int columns = output.width;
+		float[] work = new float[3*columns];
+		vertical(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				output.height, 0, columns, coef, work);
+	}
+
+	public static void vertical( InterleavedF32 input, InterleavedF32 output, float[] coef ) {
+		int columns = output.width*output.numBands;
+		float[] work = new float[3*columns];
+		vertical(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				output.height, 0, columns, coef, work);
+	}
+
+	public static void vertical( GrayF64 input, GrayF64 output, double[] coef ) {
+		int columns = output.width;
+		double[] work = new double[3*columns];
+		vertical(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				output.height, 0, columns, coef, work);
+	}
+
+	public static void vertical( InterleavedF64 input, InterleavedF64 output, double[] coef ) {
+		int columns = output.width*output.numBands;
+		double[] work = new double[3*columns];
+		vertical(input.data, input.startIndex, input.stride, output.data, output.startIndex, output.stride,
+				output.height, 0, columns, coef, work);
+	}
+
+	/**
+	 * Applies the filter along each row in the range [y0,y1).
+	 *
+	 * @param line Work space with at least 'width' elements
+	 */
+	public static void horizontal( byte[] input, int inputStart, int inputStride,
+								   float[] output, int outputStart, int outputStride,
+								   int width, int numBands, int y0, int y1, float[] coef, float[] line ) {
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = inputStart + y*inputStride;
+			int indexOut = outputStart + y*outputStride;
+
+			for( int band = 0; band < numBands; band++ ) {
+				for( int x = 0, i = indexIn + band; x < width; x++, i += numBands ) {
+					line[x] = input[i] & 0xFF;
+				}
+				filter(line, width, coef);
+				for( int x = 0, i = indexOut + band; x < width; x++, i += numBands ) {
+					output[i] = line[x];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Applies the filter along each row in the range [y0,y1).
+	 *
+	 * @param line Work space with at least 'width' elements
+	 */
+	public static void horizontal( short[] input, int inputStart, int inputStride,
+								   float[] output, int outputStart, int outputStride,
+								   int width, int numBands, int y0, int y1, float[] coef, float[] line ) {
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = inputStart + y*inputStride;
+			int indexOut = outputStart + y*outputStride;
+
+			for( int band = 0; band < numBands; band++ ) {
+				for( int x = 0, i = indexIn + band; x < width; x++, i += numBands ) {
+					line[x] = input[i] & 0xFFFF;
+				}
+				filter(line, width, coef);
+				for( int x = 0, i = indexOut + band; x < width; x++, i += numBands ) {
+					output[i] = line[x];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Applies the filter along each row in the range [y0,y1).
+	 *
+	 * @param line Work space with at least 'width' elements
+	 */
+	public static void horizontal( float[] input, int inputStart, int inputStride,
+								   float[] output, int outputStart, int outputStride,
+								   int width, int numBands, int y0, int y1, float[] coef, float[] line ) {
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = inputStart + y*inputStride;
+			int indexOut = outputStart + y*outputStride;
+
+			for( int band = 0; band < numBands; band++ ) {
+				for( int x = 0, i = indexIn + band; x < width; x++, i += numBands ) {
+					line[x] = input[i];
+				}
+				filter(line, width, coef);
+				for( int x = 0, i = indexOut + band; x < width; x++, i += numBands ) {
+					output[i] = line[x];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Applies the filter along each row in the range [y0,y1).
+	 *
+	 * @param line Work space with at least 'width' elements
+	 */
+	public static void horizontal( double[] input, int inputStart, int inputStride,
+								   double[] output, int outputStart, int outputStride,
+								   int width, int numBands, int y0, int y1, double[] coef, double[] line ) {
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = inputStart + y*inputStride;
+			int indexOut = outputStart + y*outputStride;
+
+			for( int band = 0; band < numBands; band++ ) {
+				for( int x = 0, i = indexIn + band; x < width; x++, i += numBands ) {
+					line[x] = input[i];
+				}
+				filter(line, width, coef);
+				for( int x = 0, i = indexOut + band; x < width; x++, i += numBands ) {
+					output[i] = line[x];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Applies the filter along each column in the range [col0,col1). Columns are specified in array elements
+	 * and not pixels, e.g. col = x*numBands + band. The causal pass is written into the input image and
+	 * the anti-causal pass into the output image.
+	 *
+	 * @param work Work space with at least 3*(col1-col0) elements
+	 */
+	public static void vertical( float[] input, int inputStart, int inputStride,
+								 byte[] output, int outputStart, int outputStride,
+								 int height, int col0, int col1, float[] coef, float[] work ) {
+		if( height == 0 )
+			return;
+		final float B = coef[0], a1 = coef[1], a2 = coef[2], a3 = coef[3];
+		final int N = col1-col0;
+
+		// The previous three rows are saved in work. Instead of shifting the rows, the oldest row is replaced
+		// Border is handled by assuming the first row extends outside the image
+		int s1 = 0, s2 = N, s3 = 2*N;
+		System.arraycopy(input, inputStart + col0, work, s1, N);
+		System.arraycopy(input, inputStart + col0, work, s2, N);
+		System.arraycopy(input, inputStart + col0, work, s3, N);
+
+		for( int y = 0; y < height; y++ ) {
+			int indexIn = inputStart + y*inputStride + col0;
+			for( int i = 0; i < N; i++ ) {
+				float v = B*input[indexIn+i] + a1*work[s1+i] + a2*work[s2+i] + a3*work[s3+i];
+				input[indexIn+i] = v;
+				work[s3+i] = v;
+			}
+			int tmp = s3; s3 = s2; s2 = s1; s1 = tmp;
+		}
+
+		int indexLast = inputStart + (height-1)*inputStride + col0;
+		System.arraycopy(input, indexLast, work, s1, N);
+		System.arraycopy(input, indexLast, work, s2, N);
+		System.arraycopy(input, indexLast, work, s3, N);
+
+		for( int y = height-1; y >= 0; y-- ) {
+			int indexIn = inputStart + y*inputStride + col0;
+			int indexOut = outputStart + y*outputStride + col0;
+			for( int i = 0; i < N; i++ ) {
+				float v = B*input[indexIn+i] + a1*work[s1+i] + a2*work[s2+i] + a3*work[s3+i];
+				work[s3+i] = v;
+				int value = (int)(v + 0.5f);
+				output[indexOut+i] = (byte)(value < 0 ? 0 : value > 255 ? 255 : value);
+			}
+			int tmp = s3; s3 = s2; s2 = s1; s1 = tmp;
+		}
+	}
+
+	/**
+	 * Applies the filter along each column in the range [col0,col1). Columns are specified in array elements
+	 * and not pixels, e.g. col = x*numBands + band. The causal pass is written into the input image and
+	 * the anti-causal pass into the output image.
+	 *
+	 * @param work Work space with at least 3*(col1-col0) elements
+	 */
+	public static void vertical( float[] input, int inputStart, int inputStride,
+								 short[] output, int outputStart, int outputStride,
+								 int height, int col0, int col1, float[] coef, float[] work ) {
+		if( height == 0 )
+			return;
+		final float B = coef[0], a1 = coef[1], a2 = coef[2], a3 = coef[3];
+		final int N = col1-col0;
+
+		// The previous three rows are saved in work. Instead of shifting the rows, the oldest row is replaced
+		// Border is handled by assuming the first row extends outside the image
+		int s1 = 0, s2 = N, s3 = 2*N;
+		System.arraycopy(input, inputStart + col0, work, s1, N);
+		System.arraycopy(input, inputStart + col0, work, s2, N);
+		System.arraycopy(input, inputStart + col0, work, s3, N);
+
+		for( int y = 0; y < height; y++ ) {
+			int indexIn = inputStart + y*inputStride + col0;
+			for( int i = 0; i < N; i++ ) {
+				float v = B*input[indexIn+i] + a1*work[s1+i] + a2*work[s2+i] + a3*work[s3+i];
+				input[indexIn+i] = v;
+				work[s3+i] = v;
+			}
+			int tmp = s3; s3 = s2; s2 = s1; s1 = tmp;
+		}
+
+		int indexLast = inputStart + (height-1)*inputStride + col0;
+		System.arraycopy(input, indexLast, work, s1, N);
+		System.arraycopy(input, indexLast, work, s2, N);
+		System.arraycopy(input, indexLast, work, s3, N);
+
+		for( int y = height-1; y >= 0; y-- ) {
+			int indexIn = inputStart + y*inputStride + col0;
+			int indexOut = outputStart + y*outputStride + col0;
+			for( int i = 0; i < N; i++ ) {
+				float v = B*input[indexIn+i] + a1*work[s1+i] + a2*work[s2+i] + a3*work[s3+i];
+				work[s3+i] = v;
+				int value = (int)(v + 0.5f);
+				output[indexOut+i] = (short)(value < 0 ? 0 : value > 65535 ? 65535 : value);
+			}
+			int tmp = s3; s3 = s2; s2 = s1; s1 = tmp;
+		}
+	}
+
+	/**
+	 * Applies the filter along each column in the range [col0,col1). Columns are specified in array elements
+	 * and not pixels, e.g. col = x*numBands + band. The causal pass is written into the input image and
+	 * the anti-causal pass into the output image.
+	 *
+	 * @param work Work space with at least 3*(col1-col0) elements
+	 */
+	public static void vertical( float[] input, int inputStart, int inputStride,
+								 float[] output, int outputStart, int outputStride,
+								 int height, int col0, int col1, float[] coef, float[] work ) {
+		if( height == 0 )
+			return;
+		final float B = coef[0], a1 = coef[1], a2 = coef[2], a3 = coef[3];
+		final int N = col1-col0;
+
+		// The previous three rows are saved in work. Instead of shifting the rows, the oldest row is replaced
+		// Border is handled by assuming the first row extends outside the image
+		int s1 = 0, s2 = N, s3 = 2*N;
+		System.arraycopy(input, inputStart + col0, work, s1, N);
+		System.arraycopy(input, inputStart + col0, work, s2, N);
+		System.arraycopy(input, inputStart + col0, work, s3, N);
+
+		for( int y = 0; y < height; y++ ) {
+			int indexIn = inputStart + y*inputStride + col0;
+			for( int i = 0; i < N; i++ ) {
+				float v = B*input[indexIn+i] + a1*work[s1+i] + a2*work[s2+i] + a3*work[s3+i];
+				input[indexIn+i] = v;
+				work[s3+i] = v;
+			}
+			int tmp = s3; s3 = s2; s2 = s1; s1 = tmp;
+		}
+
+		int indexLast = inputStart + (height-1)*inputStride + col0;
+		System.arraycopy(input, indexLast, work, s1, N);
+		System.arraycopy(input, indexLast, work, s2, N);
+		System.arraycopy(input, indexLast, work, s3, N);
+
+		for( int y = height-1; y >= 0; y-- ) {
+			int indexIn = inputStart + y*inputStride + col0;
+			int indexOut = outputStart + y*outputStride + col0;
+			for( int i = 0; i < N; i++ ) {
+				float v = B*input[indexIn+i] + a1*work[s1+i] + a2*work[s2+i] + a3*work[s3+i];
+				work[s3+i] = v;
+				output[indexOut+i] = v;
+			}
+			int tmp = s3; s3 = s2; s2 = s1; s1 = tmp;
+		}
+	}
+
+	/**
+	 * Applies the filter along each column in the range [col0,col1). Columns are specified in array elements
+	 * and not pixels, e.g. col = x*numBands + band. The causal pass is written into the input image and
+	 * the anti-causal pass into the output image.
+	 *
+	 * @param work Work space with at least 3*(col1-col0) elements
+	 */
+	public static void vertical( double[] input, int inputStart, int inputStride,
+								 double[] output, int outputStart, int outputStride,
+								 int height, int col0, int col1, double[] coef, double[] work ) {
+		if( height == 0 )
+			return;
+		final double B = coef[0], a1 = coef[1], a2 = coef[2], a3 = coef[3];
+		final int N = col1-col0;
+
+		// The previous three rows are saved in work. Instead of shifting the rows, the oldest row is replaced
+		// Border is handled by assuming the first row extends outside the image
+		int s1 = 0, s2 = N, s3 = 2*N;
+		System.arraycopy(input, inputStart + col0, work, s1, N);
+		System.arraycopy(input, inputStart + col0, work, s2, N);
+		System.arraycopy(input, inputStart + col0, work, s3, N);
+
+		for( int y = 0; y < height; y++ ) {
+			int indexIn = inputStart + y*inputStride + col0;
+			for( int i = 0; i < N; i++ ) {
+				double v = B*input[indexIn+i] + a1*work[s1+i] + a2*work[s2+i] + a3*work[s3+i];
+				input[indexIn+i] = v;
+				work[s3+i] = v;
+			}
+			int tmp = s3; s3 = s2; s2 = s1; s1 = tmp;
+		}
+
+		int indexLast = inputStart + (height-1)*inputStride + col0;
+		System.arraycopy(input, indexLast, work, s1, N);
+		System.arraycopy(input, indexLast, work, s2, N);
+		System.arraycopy(input, indexLast, work, s3, N);
+
+		for( int y = height-1; y >= 0; y-- ) {
+			int indexIn = inputStart + y*inputStride + col0;
+			int indexOut = outputStart + y*outputStride + col0;
+			for( int i = 0; i < N; i++ ) {
+				double v = B*input[indexIn+i] + a1*work[s1+i] + a2*work[s2+i] + a3*work[s3+i];
+				work[s3+i] = v;
+				output[indexOut+i] = v;
+			}
+			int tmp = s3; s3 = s2; s2 = s1; s1 = tmp;
+		}
+	}
+
+	/**
+	 * Applies the causal and anti-causal filters to a single line, in place. The border is handled by assuming
+	 * the first and last elements extend outside the line.
+	 */
+	public static void filter( float[] line, int length, float[] coef ) {
+		if( length == 0 )
+			return;
+		final float B = coef[0], a1 = coef[1], a2 = coef[2], a3 = coef[3];
+
+		float p1 = line[0], p2 = p1, p3 = p1;
+		for( int i = 0; i < length; i++ ) {
+			float v = B*line[i] + a1*p1 + a2*p2 + a3*p3;
+			line[i] = v;
+			p3 = p2; p2 = p1; p1 = v;
+		}
+
+		p1 = p2 = p3 = line[length-1];
+		for( int i = length-1; i >= 0; i-- ) {
+			float v = B*line[i] + a1*p1 + a2*p2 + a3*p3;
+			line[i] = v;
+			p3 = p2; p2 = p1; p1 = v;
+		}
+	}
+
+	/**
+	 * Applies the causal and anti-causal filters to a single line, in place. The border is handled by assuming
+	 * the first and last elements extend outside the line.
+	 */
+	public static void filter( double[] line, int length, double[] coef ) {
+		if( length == 0 )
+			return;
+		final double B = coef[0], a1 = coef[1], a2 = coef[2], a3 = coef[3];
+
+		double p1 = line[0], p2 = p1, p3 = p1;
+		for( int i = 0; i < length; i++ ) {
+			double v = B*line[i] + a1*p1 + a2*p2 + a3*p3;
+			line[i] = v;
+			p3 = p2; p2 = p1; p1 = v;
+		}
+
+		p1 = p2 = p3 = line[length-1];
+		for( int i = length-1; i >= 0; i-- ) {
+			double v = B*line[i] + a1*p1 + a2*p2 + a3*p3;
+			line[i] = v;
+			p3 = p2; p2 = p1; p1 = v;
+		}
+	}
+}
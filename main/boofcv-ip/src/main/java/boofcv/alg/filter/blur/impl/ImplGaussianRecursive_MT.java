@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_F64;
+
+/**
+ * Concurrent implementation of {@link ImplGaussianRecursive}. Rows are split between threads for the horizontal
+ * pass and columns for the vertical pass.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("Duplicates")
+public class ImplGaussianRecursive_MT {
+
+	public static void horizontal( GrayU8 input, GrayF32 output, float[] coef ) {
+		FastQueue<GrowQueue_F32> work = new FastQueue<>(GrowQueue_F32::new);
+		BoofConcurrency.loopBlocks(0, input.height, work, (line, y0, y1) -> {
+			line.resize(input.width);
+			ImplGaussianRecursive.horizontal(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					input.width, 1, y0, y1, coef, line.data);
+		});
+	}
+
+	public static void horizontal( InterleavedU8 input, InterleavedF32 output, float[] coef ) {
+		FastQueue<GrowQueue_F32> work = new FastQueue<>(GrowQueue_F32::new);
+		BoofConcurrency.loopBlocks(0, input.height, work, (line, y0, y1) -> {
+			line.resize(input.width);
+			ImplGaussianRecursive.horizontal(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					input.width, input.numBands, y0, y1, coef, line.data);
+		});
+	}
+
+	public static void horizontal( GrayU16 input, GrayF32 output, float[] coef ) {
+		FastQueue<GrowQueue_F32> work = new FastQueue<>(GrowQueue_F32::new);
+		BoofConcurrency.loopBlocks(0, input.height, work, (line, y0, y1) -> {
+			line.resize(input.width);
+			ImplGaussianRecursive.horizontal(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					input.width, 1, y0, y1, coef, line.data);
+		});
+	}
+
+	public static void horizontal( InterleavedU16 input, InterleavedF32 output, float[] coef ) {
+		FastQueue<GrowQueue_F32> work = new FastQueue<>(GrowQueue_F32::new);
+		BoofConcurrency.loopBlocks(0, input.height, work, (line, y0, y1) -> {
+			line.resize(input.width);
+			ImplGaussianRecursive.horizontal(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					input.width, input.numBands, y0, y1, coef, line.data);
+		});
+	}
+
+	public static void horizontal( GrayF32 input, GrayF32 output, float[] coef ) {
+		FastQueue<GrowQueue_F32> work = new FastQueue<>(GrowQueue_F32::new);
+		BoofConcurrency.loopBlocks(0, input.height, work, (line, y0, y1) -> {
+			line.resize(input.width);
+			ImplGaussianRecursive.horizontal(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					input.width, 1, y0, y1, coef, line.data);
+		});
+	}
+
+	public static void horizontal( InterleavedF32 input, InterleavedF32 output, float[] coef ) {
+		FastQueue<GrowQueue_F32> work = new FastQueue<>(GrowQueue_F32::new);
+		BoofConcurrency.loopBlocks(0, input.height, work, (line, y0, y1) -> {
+			line.resize(input.width);
+			ImplGaussianRecursive.horizontal(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					input.width, input.numBands, y0, y1, coef, line.data);
+		});
+	}
+
+	public static void horizontal( GrayF64 input, GrayF64 output, double[] coef ) {
+		FastQueue<GrowQueue_F64> work = new FastQueue<>(GrowQueue_F64::new);
+		BoofConcurrency.loopBlocks(0, input.height, work, (line, y0, y1) -> {
+			line.resize(input.width);
+			ImplGaussianRecursive.horizontal(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					input.width, 1, y0, y1, coef, line.data);
+		});
+	}
+
+	public static void horizontal( InterleavedF64 input, InterleavedF64 output, double[] coef ) {
+		FastQueue<GrowQueue_F64> work = new FastQueue<>(GrowQueue_F64::new);
+		BoofConcurrency.loopBlocks(0, input.height, work, (line, y0, y1) -> {
+			line.resize(input.width);
+			ImplGaussianRecursive.horizontal(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					input.width, input.numBands, y0, y1, coef, line.data);
+		});
+	}
+
+	public static void vertical( GrayF32 input, GrayU8 output, float[] coef ) {
+		int columns = output.width;
+		FastQueue<GrowQueue_F32> work = new FastQueue<>(GrowQueue_F32::new);
+		BoofConcurrency.loopBlocks(0, columns, work, (storage, col0, col1) -> {
+			storage.resize(3*(col1-col0));
+			ImplGaussianRecursive.vertical(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					output.height, col0, col1, coef, storage.data);
+		});
+	}
+
+	public static void vertical( InterleavedF32 input, InterleavedU8 output, float[] coef ) {
+		int columns = output.width*output.numBands;
+		FastQueue<GrowQueue_F32> work = new FastQueue<>(GrowQueue_F32::new);
+		BoofConcurrency.loopBlocks(0, columns, work, (storage, col0, col1) -> {
+			storage.resize(3*(col1-col0));
+			ImplGaussianRecursive.vertical(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					output.height, col0, col1, coef, storage.data);
+		});
+	}
+
+	public static void vertical( GrayF32 input, GrayU16 output, float[] coef ) {
+		int columns = output.width;
+		FastQueue<GrowQueue_F32> work = new FastQueue<>(GrowQueue_F32::new);
+		BoofConcurrency.loopBlocks(0, columns, work, (storage, col0, col1) -> {
+			storage.resize(3*(col1-col0));
+			ImplGaussianRecursive.vertical(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					output.height, col0, col1, coef, storage.data);
+		});
+	}
+
+	public static void vertical( InterleavedF32 input, InterleavedU16 output, float[] coef ) {
+		int columns = output.width*output.numBands;
+		FastQueue<GrowQueue_F32> work = new FastQueue<>(GrowQueue_F32::new);
+		BoofConcurrency.loopBlocks(0, columns, work, (storage, col0, col1) -> {
+			storage.resize(3*(col1-col0));
+			ImplGaussianRecursive.vertical(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					output.height, col0, col1, coef, storage.data);
+		});
+	}
+
+	public static void vertical( GrayF32 input, GrayF32 output, float[] coef ) {
+		int columns = output.width;
+		FastQueue<GrowQueue_F32> work = new FastQueue<>(GrowQueue_F32::new);
+		BoofConcurrency.loopBlocks(0, columns, work, (storage, col0, col1) -> {
+			storage.resize(3*(col1-col0));
+			ImplGaussianRecursive.vertical(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					output.height, col0, col1, coef, storage.data);
+		});
+	}
+
+	public static void vertical( InterleavedF32 input, InterleavedF32 output, float[] coef ) {
+		int columns = output.width*output.numBands;
+		FastQueue<GrowQueue_F32> work = new FastQueue<>(GrowQueue_F32::new);
+		BoofConcurrency.loopBlocks(0, columns, work, (storage, col0, col1) -> {
+			storage.resize(3*(col1-col0));
+			ImplGaussianRecursive.vertical(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					output.height, col0, col1, coef, storage.data);
+		});
+	}
+
+	public static void vertical( GrayF64 input, GrayF64 output, double[] coef ) {
+		int columns = output.width;
+		FastQueue<GrowQueue_F64> work = new FastQueue<>(GrowQueue_F64::new);
+		BoofConcurrency.loopBlocks(0, columns, work, (storage, col0, col1) -> {
+			storage.resize(3*(col1-col0));
+			ImplGaussianRecursive.vertical(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					output.height, col0, col1, coef, storage.data);
+		});
+	}
+
+	public static void vertical( InterleavedF64 input, InterleavedF64 output, double[] coef ) {
+		int columns = output.width*output.numBands;
+		FastQueue<GrowQueue_F64> work = new FastQueue<>(GrowQueue_F64::new);
+		BoofConcurrency.loopBlocks(0, columns, work, (storage, col0, col1) -> {
+			storage.resize(3*(col1-col0));
+			ImplGaussianRecursive.vertical(input.data, input.startIndex, input.stride,
+					output.data, output.startIndex, output.stride,
+					output.height, col0, col1, coef, storage.data);
+		});
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+//CONCURRENT_INLINE import boofcv.concurrency.BoofConcurrency;
+
+/**
+ * Per-pixel operations used by the guided filter. All the local statistics are computed with box filters
+ * and these functions combine them into the locally linear model. See {@link boofcv.alg.filter.blur.GuidedFilter}.
+ *
+ * @author Peter Abeles
+ */
+public class ImplGuidedFilter {
+
+	/**
+	 * Computes the element-wise products guide*guide and guide*input
+	 */
+	public static void products( GrayF32 guide, GrayF32 input, GrayF32 guideGuide, GrayF32 guideInput ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,guide.height,y->{
+		for( int y = 0; y < guide.height; y++ ) {
+			int indexG = guide.startIndex + y*guide.stride;
+			int indexI = input.startIndex + y*input.stride;
+			int indexGG = guideGuide.startIndex + y*guideGuide.stride;
+			int indexGI = guideInput.startIndex + y*guideInput.stride;
+
+			for( int x = 0; x < guide.width; x++ ) {
+				float g = guide.data[indexG++];
+				guideGuide.data[indexGG++] = g*g;
+				guideInput.data[indexGI++] = g*input.data[indexI++];
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Computes the coefficients of the local linear model, a = cov(I,p)/(var(I)+&epsilon;) and b = mean(p) - a*mean(I).
+	 * The output images can be the same as the mean guide-guide and guide-input images.
+	 *
+	 * @param meanI Mean of guide
+	 * @param meanP Mean of input
+	 * @param meanII Mean of guide*guide
+	 * @param meanIP Mean of guide*input
+	 * @param epsilon Regularization. Larger values will blur more
+	 * @param a (Output) linear coefficient
+	 * @param b (Output) offset coefficient
+	 */
+	public static void coefficients( GrayF32 meanI, GrayF32 meanP, GrayF32 meanII, GrayF32 meanIP,
+									 float epsilon, GrayF32 a, GrayF32 b ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,meanI.height,y->{
+		for( int y = 0; y < meanI.height; y++ ) {
+			int indexI = meanI.startIndex + y*meanI.stride;
+			int indexP = meanP.startIndex + y*meanP.stride;
+			int indexII = meanII.startIndex + y*meanII.stride;
+			int indexIP = meanIP.startIndex + y*meanIP.stride;
+			int indexA = a.startIndex + y*a.stride;
+			int indexB = b.startIndex + y*b.stride;
+
+			for( int x = 0; x < meanI.width; x++ ) {
+				float mi = meanI.data[indexI++];
+				float mp = meanP.data[indexP++];
+				float variance = meanII.data[indexII++] - mi*mi;
+				float covariance = meanIP.data[indexIP++] - mi*mp;
+
+				float valueA = covariance/(variance + epsilon);
+				a.data[indexA++] = valueA;
+				b.data[indexB++] = mp - valueA*mi;
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Computes the filtered output, q = mean(a)*I + mean(b)
+	 */
+	public static void output( GrayF32 meanA, GrayF32 meanB, GrayF32 guide, GrayF32 output ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,guide.height,y->{
+		for( int y = 0; y < guide.height; y++ ) {
+			int indexA = meanA.startIndex + y*meanA.stride;
+			int indexB = meanB.startIndex + y*meanB.stride;
+			int indexG = guide.startIndex + y*guide.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < guide.width; x++ ) {
+				output.data[indexOut++] = meanA.data[indexA++]*guide.data[indexG++] + meanB.data[indexB++];
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Computes the filtered output, q = mean(a)*I + mean(b), rounded and bounded to the range of an unsigned byte
+	 */
+	public static void output( GrayF32 meanA, GrayF32 meanB, GrayF32 guide, GrayU8 output ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,guide.height,y->{
+		for( int y = 0; y < guide.height; y++ ) {
+			int indexA = meanA.startIndex + y*meanA.stride;
+			int indexB = meanB.startIndex + y*meanB.stride;
+			int indexG = guide.startIndex + y*guide.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < guide.width; x++ ) {
+				int value = (int)(meanA.data[indexA++]*guide.data[indexG++] + meanB.data[indexB++] + 0.5f);
+				if( value < 0 )
+					value = 0;
+				else if( value > 255 )
+					value = 255;
+				output.data[indexOut++] = (byte)value;
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+}
@@ -72,7 +72,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.horizontal(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -100,7 +100,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.vertical(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, work);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, work);
@@ -126,7 +126,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.horizontal(kernel, binput, output, kernel.computeSum());
 		}
 		if (length <= input.width) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -152,7 +152,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.vertical(kernel, binput, output, kernel.computeSum());
 		}
 		if (length <= input.height) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, work);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, work);
@@ -179,7 +179,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.horizontal(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -207,7 +207,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.vertical(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, work);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, work);
@@ -233,7 +233,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.horizontal(kernel, binput, output, kernel.computeSum());
 		}
 		if (length <= input.width) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -259,7 +259,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.vertical(kernel, binput, output, kernel.computeSum());
 		}
 		if (length <= input.height) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, work);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, work);
@@ -286,7 +286,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.horizontal(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -314,7 +314,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.vertical(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, work);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, work);
@@ -340,7 +340,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.horizontal(kernel, binput, output, kernel.computeSum());
 		}
 		if (length <= input.width) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -366,7 +366,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.vertical(kernel, binput, output, kernel.computeSum());
 		}
 		if (length <= input.height) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, work);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, work);
@@ -393,7 +393,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.horizontal(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -421,7 +421,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.vertical(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, work);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, work);
@@ -447,7 +447,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.horizontal(kernel, binput, output);
 		}
 		if (length <= input.width) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -473,7 +473,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.vertical(kernel, binput, output);
 		}
 		if (length <= input.height) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, work);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, work);
@@ -500,7 +500,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.horizontal(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -528,7 +528,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.vertical(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, work);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, work);
@@ -554,7 +554,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.horizontal(kernel, binput, output);
 		}
 		if (length <= input.width) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -580,7 +580,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.vertical(kernel, binput, output);
 		}
 		if (length <= input.height) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, work);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, work);
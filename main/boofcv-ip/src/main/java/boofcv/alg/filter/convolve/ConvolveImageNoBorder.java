@@ -54,7 +54,7 @@ public class ConvolveImageNoBorder {
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_F32_F32.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -67,7 +67,7 @@ public class ConvolveImageNoBorder {
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_F32_F32.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -80,7 +80,7 @@ public class ConvolveImageNoBorder {
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_F32_F32.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -93,7 +93,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedF32 input, InterleavedF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -104,7 +104,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedF32 input, InterleavedF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -115,7 +115,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedF32 input, InterleavedF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -126,7 +126,7 @@ public class ConvolveImageNoBorder {
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_F64_F64.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -139,7 +139,7 @@ public class ConvolveImageNoBorder {
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_F64_F64.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -152,7 +152,7 @@ public class ConvolveImageNoBorder {
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_F64_F64.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -165,7 +165,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedF64 input, InterleavedF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -176,7 +176,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedF64 input, InterleavedF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -187,7 +187,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedF64 input, InterleavedF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -198,7 +198,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I16.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -211,7 +211,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I16.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -224,7 +224,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I16.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -237,7 +237,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -248,7 +248,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -259,7 +259,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -270,7 +270,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 //			if (!ConvolveImageUnrolled_SB_MT_U8_S32.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -283,7 +283,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 //			if (!ConvolveImageUnrolled_SB_MT_U8_S32.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -296,7 +296,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 //			if (!ConvolveImageUnrolled_SB_MT_U8_S32.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -309,7 +309,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -320,7 +320,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -331,7 +331,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -342,7 +342,7 @@ public class ConvolveImageNoBorder {
 								  GrayU16 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 //			if (!ConvolveImageUnrolled_SB_MT_U16_I8_Div.vertical(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
 		} else {
@@ -355,7 +355,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU16 input, InterleavedI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -366,7 +366,7 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -379,7 +379,7 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -392,7 +392,7 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -405,7 +405,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -416,7 +416,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -427,7 +427,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -438,7 +438,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I8_Div.horizontal(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
 		} else {
@@ -451,7 +451,7 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I8_Div.vertical(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
 		} else {
@@ -464,7 +464,7 @@ public class ConvolveImageNoBorder {
 								GrayU8 input, GrayI8 output, int divisor, @Nullable IWorkArrays work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I8_Div.convolve(kernel, input, output, divisor,work))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor,work);
 		} else {
@@ -477,7 +477,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
@@ -488,7 +488,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -499,7 +499,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
@@ -510,7 +510,7 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16_Div.horizontal(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
 		} else {
@@ -523,7 +523,7 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16_Div.vertical(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
 		} else {
@@ -536,7 +536,7 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output, int divisor, @Nullable IWorkArrays work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16_Div.convolve(kernel, input, output, divisor,work))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor, work);
 		} else {
@@ -549,7 +549,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
@@ -560,7 +560,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -571,7 +571,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
@@ -582,7 +582,7 @@ public class ConvolveImageNoBorder {
 								  GrayU16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U16_I16_Div.horizontal(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
 		} else {
@@ -595,7 +595,7 @@ public class ConvolveImageNoBorder {
 								  GrayU16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U16_I16_Div.vertical(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
 		} else {
@@ -609,7 +609,7 @@ public class ConvolveImageNoBorder {
 								@Nullable IWorkArrays work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U16_I16_Div.convolve(kernel, input, output, divisor,work))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor, work);
 		} else {
@@ -622,7 +622,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
@@ -633,7 +633,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -644,7 +644,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedU16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
@@ -655,7 +655,7 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 //			if (!ConvolveImageUnrolled_SB_MT_S32_I16_Div.vertical(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
 		} else {
@@ -668,7 +668,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -679,7 +679,7 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -692,7 +692,7 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -705,7 +705,7 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -718,7 +718,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -729,7 +729,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -740,7 +740,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -751,7 +751,7 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32_Div.horizontal(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
 		} else {
@@ -764,7 +764,7 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32_Div.vertical(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
 		} else {
@@ -778,7 +778,7 @@ public class ConvolveImageNoBorder {
 								@Nullable IWorkArrays work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32_Div.convolve(kernel, input, output, divisor,work))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor, work);
 		} else {
@@ -791,7 +791,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
@@ -802,7 +802,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -813,7 +813,7 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
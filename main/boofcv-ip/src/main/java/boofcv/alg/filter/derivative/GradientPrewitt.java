@@ -80,7 +80,7 @@ public class GradientPrewitt {
 	public static void process(GrayU8 orig, GrayS16 derivX, GrayS16 derivY, @Nullable ImageBorder_S32 border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientPrewitt_Shared_MT.process(orig, derivX, derivY);
 		} else {
 			GradientPrewitt_Shared.process(orig, derivX, derivY);
@@ -104,7 +104,7 @@ public class GradientPrewitt {
 	public static void process(GrayS16 orig, GrayS16 derivX, GrayS16 derivY, @Nullable ImageBorder_S32 border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientPrewitt_Shared_MT.process(orig, derivX, derivY);
 		} else {
 			GradientPrewitt_Shared.process(orig, derivX, derivY);
@@ -128,7 +128,7 @@ public class GradientPrewitt {
 	public static void process(GrayF32 orig, GrayF32 derivX, GrayF32 derivY, @Nullable ImageBorder_F32 border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientPrewitt_Shared_MT.process(orig, derivX, derivY);
 		} else {
 			GradientPrewitt_Shared.process(orig, derivX, derivY);
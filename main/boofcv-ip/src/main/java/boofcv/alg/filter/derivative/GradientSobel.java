@@ -110,7 +110,7 @@ public class GradientSobel {
 	public static void process(GrayU8 orig, GrayS16 derivX, GrayS16 derivY, @Nullable ImageBorder_S32<GrayU8> border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientSobel_Outer_MT.process_sub(orig, derivX, derivY);
 		} else {
 			GradientSobel_Outer.process_sub(orig, derivX, derivY);
@@ -134,7 +134,7 @@ public class GradientSobel {
 	public static void process(GrayS16 orig, GrayS16 derivX, GrayS16 derivY, @Nullable ImageBorder_S32<GrayS16> border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientSobel_Outer_MT.process_sub(orig, derivX, derivY);
 		} else {
 			GradientSobel_Outer.process_sub(orig, derivX, derivY);
@@ -159,7 +159,7 @@ public class GradientSobel {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
 //		GradientSobel_Outer.process_F32(orig, derivX, derivY);
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientSobel_UnrolledOuter_MT.process_F32_sub(orig, derivX, derivY);
 		} else {
 			GradientSobel_UnrolledOuter.process_F32_sub(orig, derivX, derivY);
@@ -88,7 +88,7 @@ public class GradientThree {
 							   GrayS16 derivY, @Nullable ImageBorder_S32 border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientThree_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientThree_Standard.process(orig, derivX, derivY);
@@ -113,7 +113,7 @@ public class GradientThree {
 							   GrayS32 derivY, @Nullable ImageBorder_S32 border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientThree_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientThree_Standard.process(orig, derivX, derivY);
@@ -138,7 +138,7 @@ public class GradientThree {
 							   GrayS16 derivY, @Nullable ImageBorder_S32 border) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientThree_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientThree_Standard.process(orig, derivX, derivY);
@@ -163,7 +163,7 @@ public class GradientThree {
 							   GrayF32 derivY, @Nullable ImageBorder_F32 border) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientThree_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientThree_Standard.process(orig, derivX, derivY);
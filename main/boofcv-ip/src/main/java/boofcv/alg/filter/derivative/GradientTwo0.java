@@ -91,7 +91,7 @@ public class GradientTwo0 {
 							   GrayS16 derivX, GrayS16 derivY, @Nullable ImageBorder_S32 border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientTwo0_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientTwo0_Standard.process(orig, derivX, derivY);
@@ -115,7 +115,7 @@ public class GradientTwo0 {
 							   GrayS16 derivX, GrayS16 derivY, @Nullable ImageBorder_S32 border) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientTwo0_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientTwo0_Standard.process(orig, derivX, derivY);
@@ -140,7 +140,7 @@ public class GradientTwo0 {
 							   GrayF32 derivX, GrayF32 derivY, @Nullable ImageBorder_F32 border) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientTwo0_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientTwo0_Standard.process(orig, derivX, derivY);
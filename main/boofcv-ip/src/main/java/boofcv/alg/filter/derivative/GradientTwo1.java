@@ -91,7 +91,7 @@ public class GradientTwo1 {
 							   GrayS16 derivX, GrayS16 derivY, @Nullable ImageBorder_S32 border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientTwo1_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientTwo1_Standard.process(orig, derivX, derivY);
@@ -115,7 +115,7 @@ public class GradientTwo1 {
 							   GrayS16 derivX, GrayS16 derivY, @Nullable ImageBorder_S32 border) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientTwo1_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientTwo1_Standard.process(orig, derivX, derivY);
@@ -139,7 +139,7 @@ public class GradientTwo1 {
 							   GrayF32 derivX, GrayF32 derivY, @Nullable ImageBorder_F32 border) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			GradientTwo1_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientTwo1_Standard.process(orig, derivX, derivY);
@@ -53,7 +53,7 @@ public class HessianThreeDeterminant {
 	public static void process(GrayU8 orig, GrayS16 deriv, @Nullable ImageBorder_S32<GrayU8> border ) {
 		deriv.reshape(orig.width,orig.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			HessianThreeDeterminant_Inner_MT.process(orig,deriv);
 		} else {
 			HessianThreeDeterminant_Inner.process(orig,deriv);
@@ -71,7 +71,7 @@ public class HessianThreeDeterminant {
 	public static void process(GrayU8 orig, GrayF32 deriv, @Nullable ImageBorder_S32<GrayU8> border) {
 		deriv.reshape(orig.width,orig.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			HessianThreeDeterminant_Inner_MT.process(orig,deriv);
 		} else {
 			HessianThreeDeterminant_Inner.process(orig,deriv);
@@ -91,7 +91,7 @@ public class HessianThreeDeterminant {
 	public static void process(GrayF32 orig, GrayF32 deriv, @Nullable ImageBorder_F32 border) {
 		deriv.reshape(orig.width,orig.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			HessianThreeDeterminant_Inner_MT.process(orig,deriv);
 		} else {
 			HessianThreeDeterminant_Inner.process(orig,deriv);
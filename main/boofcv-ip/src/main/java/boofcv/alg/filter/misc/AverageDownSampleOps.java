@@ -115,7 +115,7 @@ public class AverageDownSampleOps {
 	public static <T extends ImageBase<T>>
 	void down( T input , T output ) {
 		if( ImageGray.class.isAssignableFrom(input.getClass())  ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				if (input instanceof GrayU8) {
 					GrayF32 middle = new GrayF32(output.width, input.height);
 					ImplAverageDownSample_MT.horizontal((GrayU8) input, middle);
@@ -205,13 +205,13 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayU8 input , int sampleWidth , GrayI8 output ) {
 		if( sampleWidth == 2 ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSample2_MT.down(input, output);
 			} else {
 				ImplAverageDownSample2.down(input, output);
 			}
 		} else {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
 			} else {
 				ImplAverageDownSampleN.down(input, sampleWidth, output);
@@ -228,13 +228,13 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayS8 input , int sampleWidth , GrayI8 output ) {
 		if( sampleWidth == 2 ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSample2_MT.down(input, output);
 			} else {
 				ImplAverageDownSample2.down(input, output);
 			}
 		} else {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
 			} else {
 				ImplAverageDownSampleN.down(input, sampleWidth, output);
@@ -251,13 +251,13 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayU16 input , int sampleWidth , GrayI16 output ) {
 		if( sampleWidth == 2 ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSample2_MT.down(input, output);
 			} else {
 				ImplAverageDownSample2.down(input, output);
 			}
 		} else {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
 			} else {
 				ImplAverageDownSampleN.down(input, sampleWidth, output);
@@ -274,13 +274,13 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayS16 input , int sampleWidth , GrayI16 output ) {
 		if( sampleWidth == 2 ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSample2_MT.down(input, output);
 			} else {
 				ImplAverageDownSample2.down(input, output);
 			}
 		} else {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
 			} else {
 				ImplAverageDownSampleN.down(input, sampleWidth, output);
@@ -297,13 +297,13 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayS32 input , int sampleWidth , GrayS32 output ) {
 		if( sampleWidth == 2 ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSample2_MT.down(input, output);
 			} else {
 				ImplAverageDownSample2.down(input, output);
 			}
 		} else {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
 			} else {
 				ImplAverageDownSampleN.down(input, sampleWidth, output);
@@ -320,13 +320,13 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayF32 input , int sampleWidth , GrayF32 output ) {
 		if( sampleWidth == 2 ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSample2_MT.down(input, output);
 			} else {
 				ImplAverageDownSample2.down(input, output);
 			}
 		} else {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
 			} else {
 				ImplAverageDownSampleN.down(input, sampleWidth, output);
@@ -343,13 +343,13 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayF64 input , int sampleWidth , GrayF64 output ) {
 		if( sampleWidth == 2 ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSample2_MT.down(input, output);
 			} else {
 				ImplAverageDownSample2.down(input, output);
 			}
 		} else {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
 			} else {
 				ImplAverageDownSampleN.down(input, sampleWidth, output);
@@ -61,7 +61,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum(Planar<GrayU8> input, GrayU8 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -79,7 +79,7 @@ public class ImageBandMath {
 	public static void minimum(Planar<GrayU8> input, GrayU8 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -94,7 +94,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum(Planar<GrayU8> input, GrayU8 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -112,7 +112,7 @@ public class ImageBandMath {
 	public static void maximum(Planar<GrayU8> input, GrayU8 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -127,7 +127,7 @@ public class ImageBandMath {
 	 */
 	public static void average(Planar<GrayU8> input, GrayU8 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -145,7 +145,7 @@ public class ImageBandMath {
 	public static void average(Planar<GrayU8> input, GrayU8 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -160,7 +160,7 @@ public class ImageBandMath {
 	 */
 	public static void median(Planar<GrayU8> input, GrayU8 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -178,7 +178,7 @@ public class ImageBandMath {
 	public static void median(Planar<GrayU8> input, GrayU8 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -212,7 +212,7 @@ public class ImageBandMath {
 			avg = new GrayU8(input.width,input.height);
 			average(input,avg,startBand,lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input,output,avg,startBand,lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input,output,avg,startBand,lastBand);
@@ -227,7 +227,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum(Planar<GrayS16> input, GrayS16 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -245,7 +245,7 @@ public class ImageBandMath {
 	public static void minimum(Planar<GrayS16> input, GrayS16 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -260,7 +260,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum(Planar<GrayS16> input, GrayS16 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -278,7 +278,7 @@ public class ImageBandMath {
 	public static void maximum(Planar<GrayS16> input, GrayS16 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -293,7 +293,7 @@ public class ImageBandMath {
 	 */
 	public static void average(Planar<GrayS16> input, GrayS16 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -311,7 +311,7 @@ public class ImageBandMath {
 	public static void average(Planar<GrayS16> input, GrayS16 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -326,7 +326,7 @@ public class ImageBandMath {
 	 */
 	public static void median(Planar<GrayS16> input, GrayS16 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -344,7 +344,7 @@ public class ImageBandMath {
 	public static void median(Planar<GrayS16> input, GrayS16 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -378,7 +378,7 @@ public class ImageBandMath {
 			avg = new GrayS16(input.width,input.height);
 			average(input,avg,startBand,lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input,output,avg,startBand,lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input,output,avg,startBand,lastBand);
@@ -393,7 +393,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum(Planar<GrayU16> input, GrayU16 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -411,7 +411,7 @@ public class ImageBandMath {
 	public static void minimum(Planar<GrayU16> input, GrayU16 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -426,7 +426,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum(Planar<GrayU16> input, GrayU16 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -444,7 +444,7 @@ public class ImageBandMath {
 	public static void maximum(Planar<GrayU16> input, GrayU16 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -459,7 +459,7 @@ public class ImageBandMath {
 	 */
 	public static void average(Planar<GrayU16> input, GrayU16 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -477,7 +477,7 @@ public class ImageBandMath {
 	public static void average(Planar<GrayU16> input, GrayU16 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -492,7 +492,7 @@ public class ImageBandMath {
 	 */
 	public static void median(Planar<GrayU16> input, GrayU16 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -510,7 +510,7 @@ public class ImageBandMath {
 	public static void median(Planar<GrayU16> input, GrayU16 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -544,7 +544,7 @@ public class ImageBandMath {
 			avg = new GrayU16(input.width,input.height);
 			average(input,avg,startBand,lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input,output,avg,startBand,lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input,output,avg,startBand,lastBand);
@@ -559,7 +559,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum(Planar<GrayS32> input, GrayS32 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -577,7 +577,7 @@ public class ImageBandMath {
 	public static void minimum(Planar<GrayS32> input, GrayS32 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -592,7 +592,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum(Planar<GrayS32> input, GrayS32 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -610,7 +610,7 @@ public class ImageBandMath {
 	public static void maximum(Planar<GrayS32> input, GrayS32 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -625,7 +625,7 @@ public class ImageBandMath {
 	 */
 	public static void average(Planar<GrayS32> input, GrayS32 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -643,7 +643,7 @@ public class ImageBandMath {
 	public static void average(Planar<GrayS32> input, GrayS32 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -658,7 +658,7 @@ public class ImageBandMath {
 	 */
 	public static void median(Planar<GrayS32> input, GrayS32 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -676,7 +676,7 @@ public class ImageBandMath {
 	public static void median(Planar<GrayS32> input, GrayS32 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -710,7 +710,7 @@ public class ImageBandMath {
 			avg = new GrayS32(input.width,input.height);
 			average(input,avg,startBand,lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input,output,avg,startBand,lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input,output,avg,startBand,lastBand);
@@ -725,7 +725,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum(Planar<GrayS64> input, GrayS64 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -743,7 +743,7 @@ public class ImageBandMath {
 	public static void minimum(Planar<GrayS64> input, GrayS64 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -758,7 +758,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum(Planar<GrayS64> input, GrayS64 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -776,7 +776,7 @@ public class ImageBandMath {
 	public static void maximum(Planar<GrayS64> input, GrayS64 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -791,7 +791,7 @@ public class ImageBandMath {
 	 */
 	public static void average(Planar<GrayS64> input, GrayS64 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -809,7 +809,7 @@ public class ImageBandMath {
 	public static void average(Planar<GrayS64> input, GrayS64 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -824,7 +824,7 @@ public class ImageBandMath {
 	 */
 	public static void median(Planar<GrayS64> input, GrayS64 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -842,7 +842,7 @@ public class ImageBandMath {
 	public static void median(Planar<GrayS64> input, GrayS64 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -876,7 +876,7 @@ public class ImageBandMath {
 			avg = new GrayS64(input.width,input.height);
 			average(input,avg,startBand,lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input,output,avg,startBand,lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input,output,avg,startBand,lastBand);
@@ -891,7 +891,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum(Planar<GrayF32> input, GrayF32 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -909,7 +909,7 @@ public class ImageBandMath {
 	public static void minimum(Planar<GrayF32> input, GrayF32 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -924,7 +924,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum(Planar<GrayF32> input, GrayF32 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -942,7 +942,7 @@ public class ImageBandMath {
 	public static void maximum(Planar<GrayF32> input, GrayF32 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -957,7 +957,7 @@ public class ImageBandMath {
 	 */
 	public static void average(Planar<GrayF32> input, GrayF32 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -975,7 +975,7 @@ public class ImageBandMath {
 	public static void average(Planar<GrayF32> input, GrayF32 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -990,7 +990,7 @@ public class ImageBandMath {
 	 */
 	public static void median(Planar<GrayF32> input, GrayF32 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -1008,7 +1008,7 @@ public class ImageBandMath {
 	public static void median(Planar<GrayF32> input, GrayF32 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -1042,7 +1042,7 @@ public class ImageBandMath {
 			avg = new GrayF32(input.width,input.height);
 			average(input,avg,startBand,lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input,output,avg,startBand,lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input,output,avg,startBand,lastBand);
@@ -1057,7 +1057,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum(Planar<GrayF64> input, GrayF64 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -1075,7 +1075,7 @@ public class ImageBandMath {
 	public static void minimum(Planar<GrayF64> input, GrayF64 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -1090,7 +1090,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum(Planar<GrayF64> input, GrayF64 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -1108,7 +1108,7 @@ public class ImageBandMath {
 	public static void maximum(Planar<GrayF64> input, GrayF64 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -1123,7 +1123,7 @@ public class ImageBandMath {
 	 */
 	public static void average(Planar<GrayF64> input, GrayF64 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -1141,7 +1141,7 @@ public class ImageBandMath {
 	public static void average(Planar<GrayF64> input, GrayF64 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -1156,7 +1156,7 @@ public class ImageBandMath {
 	 */
 	public static void median(Planar<GrayF64> input, GrayF64 output) {
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -1174,7 +1174,7 @@ public class ImageBandMath {
 	public static void median(Planar<GrayF64> input, GrayF64 output, int startBand, int lastBand) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width,input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -1208,7 +1208,7 @@ public class ImageBandMath {
 			avg = new GrayF64(input.width,input.height);
 			average(input,avg,startBand,lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input,output,avg,startBand,lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input,output,avg,startBand,lastBand);
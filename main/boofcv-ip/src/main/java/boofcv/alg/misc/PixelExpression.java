@@ -0,0 +1,553 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Fuses a chain of element-wise operations, like those in {@link PixelMath} and {@link ImageBandMath}, into a
+ * single pass over the images. Operations are only recorded when called and nothing is computed until
+ * {@link #process()}. Then each row is loaded from the input images into row buffers, every operation is applied
+ * to the buffers, and the result is written to the output images. No intermediate images are created, and each
+ * pixel is read and written once instead of once per operation. Rows are split between threads.
+ * </p>
+ *
+ * <pre>
+ * PixelExpression expr = new PixelExpression();
+ * PixelExpression.Value a = expr.input(imageA);
+ * PixelExpression.Value b = expr.input(imageB);
+ * expr.output(a.diffAbs(b).multiply(2.5).bound(0, 255), output);
+ * expr.process();
+ * </pre>
+ *
+ * <p>
+ * Intermediate values are doubles. When written to an integer image a value is rounded and then cast, so results
+ * can differ from a chain of {@link PixelMath} calls, which round after every operation. Use {@link Value#bound}
+ * to saturate instead of overflow. {@link ImageGray} and {@link ImageInterleaved} images of any primitive type are
+ * supported. All inputs must have the same shape and outputs are reshaped to match. An output can be one of the
+ * inputs. The expression can be processed again after its images have been changed with {@link #setInput} and
+ * {@link #setOutput}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PixelExpression {
+	// Operation codes
+	static final int ABS = 0, NEGATIVE = 1, MULTIPLY_S = 2, DIVIDE_S = 3, PLUS_S = 4, MINUS_FROM_S = 5,
+			LOG = 6, LOG_SIGN = 7, SQRT = 8, POW2 = 9, BOUND = 10,
+			ADD = 11, SUBTRACT = 12, MULTIPLY = 13, DIVIDE = 14, DIFF_ABS = 15, MINIMUM = 16, MAXIMUM = 17,
+			STDEV = 18;
+
+	final List<Image> inputs = new ArrayList<>();
+	final List<Image> outputs = new ArrayList<>();
+	final List<Instruction> program = new ArrayList<>();
+	// total number of values which have been declared
+	int numValues;
+
+	// Row buffer each value is stored in. Values which are no longer needed have their buffers recycled
+	int[] valueToBuffer = new int[0];
+	int numBuffers;
+	// true if the program has been changed since buffers were assigned
+	boolean modified = true;
+
+	// Storage for row buffers
+	Rows rows = new Rows();
+	FastQueue<Rows> workspace = new FastQueue<>(Rows::new);
+
+	/**
+	 * Adds an input image
+	 *
+	 * @param image Input image. Not modified.
+	 * @return Value of the input image's pixels
+	 */
+	public Value input( ImageBase image ) {
+		checkSupported(image);
+		Value v = new Value(numValues++);
+		inputs.add(new Image(image, v.id));
+		modified = true;
+		return v;
+	}
+
+	/**
+	 * Writes a value into an output image. Multiple outputs can be specified.
+	 *
+	 * @param value The value that's written
+	 * @param image Output image. Modified.
+	 */
+	public void output( Value value, ImageBase image ) {
+		checkOwner(value);
+		checkSupported(image);
+		outputs.add(new Image(image, value.id));
+		modified = true;
+	}
+
+	/**
+	 * Changes an input image
+	 *
+	 * @param index Index of the input, in the order they were added
+	 * @param image The new image
+	 */
+	public void setInput( int index, ImageBase image ) {
+		checkSupported(image);
+		inputs.get(index).image = image;
+	}
+
+	/**
+	 * Changes an output image
+	 *
+	 * @param index Index of the output, in the order they were added
+	 * @param image The new image
+	 */
+	public void setOutput( int index, ImageBase image ) {
+		checkSupported(image);
+		outputs.get(index).image = image;
+	}
+
+	/**
+	 * The smallest value across all the values. Equivalent to {@link ImageBandMath#minimum}
+	 */
+	public Value minimum( Value... values ) {
+		return reduce(MINIMUM, values);
+	}
+
+	/**
+	 * The largest value across all the values. Equivalent to {@link ImageBandMath#maximum}
+	 */
+	public Value maximum( Value... values ) {
+		return reduce(MAXIMUM, values);
+	}
+
+	/**
+	 * The sum of all the values
+	 */
+	public Value sum( Value... values ) {
+		return reduce(ADD, values);
+	}
+
+	/**
+	 * The average of all the values. Equivalent to {@link ImageBandMath#average}
+	 */
+	public Value average( Value... values ) {
+		return sum(values).divide(values.length);
+	}
+
+	/**
+	 * Standard deviation from the mean and the mean of the squares, sqrt(max(0,pow2-mean<sup>2</sup>)).
+	 * Equivalent to {@link PixelMath#stdev}
+	 *
+	 * @param mean Mean of the values
+	 * @param pow2 Mean of the values squared
+	 */
+	public Value stdev( Value mean, Value pow2 ) {
+		return binary(STDEV, mean, pow2);
+	}
+
+	/**
+	 * Evaluates the expression and writes the results into the output images
+	 */
+	public void process() {
+		if( inputs.isEmpty() )
+			throw new IllegalArgumentException("There are no input images");
+		if( outputs.isEmpty() )
+			throw new IllegalArgumentException("There are no output images");
+
+		ImageBase first = inputs.get(0).image;
+		final int width = first.width;
+		final int height = first.height;
+		final int numBands = first.getImageType().getNumBands();
+
+		for (int i = 0; i < inputs.size(); i++) {
+			ImageBase img = inputs.get(i).image;
+			if( img.width != width || img.height != height || img.getImageType().getNumBands() != numBands )
+				throw new IllegalArgumentException("All inputs must have the same shape");
+			inputs.get(i).update();
+		}
+		for (int i = 0; i < outputs.size(); i++) {
+			ImageBase img = outputs.get(i).image;
+			if( img instanceof ImageInterleaved ) {
+				((ImageInterleaved)img).reshape(width, height, numBands);
+			} else if( numBands != 1 ) {
+				throw new IllegalArgumentException("Output is a gray image but the inputs have multiple bands");
+			} else {
+				img.reshape(width, height);
+			}
+			outputs.get(i).update();
+		}
+
+		if( modified )
+			assignBuffers();
+
+		final int columns = width*numBands;
+		if( BoofConcurrency.isUseConcurrent() && width*height > PixelMath.SMALL_IMAGE ) {
+			BoofConcurrency.loopBlocks(0, height, workspace, ( work, y0, y1 ) -> processRows(work, columns, y0, y1));
+		} else {
+			processRows(rows, columns, 0, height);
+		}
+	}
+
+	/**
+	 * Removes all the operations and images
+	 */
+	public void reset() {
+		inputs.clear();
+		outputs.clear();
+		program.clear();
+		numValues = 0;
+		modified = true;
+	}
+
+	/**
+	 * Applies the entire program to a block of rows
+	 */
+	void processRows( Rows work, int columns, int y0, int y1 ) {
+		work.reshape(numBuffers, columns);
+		final double[][] buffers = work.buffers;
+
+		for (int y = y0; y < y1; y++) {
+			for (int i = 0; i < inputs.size(); i++) {
+				Image in = inputs.get(i);
+				int b = valueToBuffer[in.value];
+				if( b >= 0 )
+					load(in, y, columns, buffers[b]);
+			}
+			for (int i = 0; i < program.size(); i++) {
+				Instruction p = program.get(i);
+				double[] dst = buffers[valueToBuffer[p.dst]];
+				double[] a = buffers[valueToBuffer[p.a]];
+				double[] b = p.b >= 0 ? buffers[valueToBuffer[p.b]] : null;
+				apply(p, a, b, dst, columns);
+			}
+			for (int i = 0; i < outputs.size(); i++) {
+				Image out = outputs.get(i);
+				store(buffers[valueToBuffer[out.value]], columns, out, y);
+			}
+		}
+	}
+
+	/**
+	 * Assigns a row buffer to each value. Once a value isn't used by later operations its buffer is recycled, which
+	 * keeps the number of buffers small enough to stay in the cache.
+	 */
+	void assignBuffers() {
+		final int end = program.size();
+		int[] lastUse = new int[numValues];
+		Arrays.fill(lastUse, -1);
+		for (int i = 0; i < program.size(); i++) {
+			Instruction p = program.get(i);
+			lastUse[p.a] = i;
+			if( p.b >= 0 )
+				lastUse[p.b] = i;
+		}
+		for (int i = 0; i < outputs.size(); i++) {
+			lastUse[outputs.get(i).value] = end;
+		}
+
+		valueToBuffer = new int[numValues];
+		Arrays.fill(valueToBuffer, -1);
+		numBuffers = 0;
+		GrowQueue_I32 available = new GrowQueue_I32();
+
+		// inputs are loaded at the start of every row. Unused inputs aren't loaded
+		for (int i = 0; i < inputs.size(); i++) {
+			int value = inputs.get(i).value;
+			if( lastUse[value] >= 0 )
+				valueToBuffer[value] = numBuffers++;
+		}
+
+		for (int i = 0; i < program.size(); i++) {
+			Instruction p = program.get(i);
+			// Operations are element-wise, so the output can be written into a buffer which is being read
+			if( lastUse[p.a] == i )
+				available.add(valueToBuffer[p.a]);
+			if( p.b >= 0 && p.b != p.a && lastUse[p.b] == i )
+				available.add(valueToBuffer[p.b]);
+
+			int buffer = available.size > 0 ? available.data[--available.size] : numBuffers++;
+			valueToBuffer[p.dst] = buffer;
+			// the result is never used, recycle it right away
+			if( lastUse[p.dst] < 0 )
+				available.add(buffer);
+		}
+		modified = false;
+	}
+
+	static void apply( Instruction p, double[] a, double[] b, double[] dst, int columns ) {
+		final double c0 = p.c0, c1 = p.c1;
+		switch( p.op ) {
+			case ABS: for (int x = 0; x < columns; x++) dst[x] = Math.abs(a[x]); break;
+			case NEGATIVE: for (int x = 0; x < columns; x++) dst[x] = -a[x]; break;
+			case MULTIPLY_S: for (int x = 0; x < columns; x++) dst[x] = a[x]*c0; break;
+			case DIVIDE_S: for (int x = 0; x < columns; x++) dst[x] = a[x]/c0; break;
+			case PLUS_S: for (int x = 0; x < columns; x++) dst[x] = a[x] + c0; break;
+			case MINUS_FROM_S: for (int x = 0; x < columns; x++) dst[x] = c0 - a[x]; break;
+			case LOG: for (int x = 0; x < columns; x++) dst[x] = Math.log(c0 + a[x]); break;
+			case LOG_SIGN:
+				for (int x = 0; x < columns; x++) {
+					double v = a[x];
+					dst[x] = v < 0 ? -Math.log(c0 - v) : Math.log(c0 + v);
+				}
+				break;
+			case SQRT: for (int x = 0; x < columns; x++) dst[x] = Math.sqrt(a[x]); break;
+			case POW2: for (int x = 0; x < columns; x++) dst[x] = a[x]*a[x]; break;
+			case BOUND:
+				for (int x = 0; x < columns; x++) {
+					double v = a[x];
+					dst[x] = v < c0 ? c0 : (v > c1 ? c1 : v);
+				}
+				break;
+			case ADD: for (int x = 0; x < columns; x++) dst[x] = a[x] + b[x]; break;
+			case SUBTRACT: for (int x = 0; x < columns; x++) dst[x] = a[x] - b[x]; break;
+			case MULTIPLY: for (int x = 0; x < columns; x++) dst[x] = a[x]*b[x]; break;
+			case DIVIDE: for (int x = 0; x < columns; x++) dst[x] = a[x]/b[x]; break;
+			case DIFF_ABS: for (int x = 0; x < columns; x++) dst[x] = Math.abs(a[x] - b[x]); break;
+			case MINIMUM: for (int x = 0; x < columns; x++) dst[x] = Math.min(a[x], b[x]); break;
+			case MAXIMUM: for (int x = 0; x < columns; x++) dst[x] = Math.max(a[x], b[x]); break;
+			case STDEV:
+				for (int x = 0; x < columns; x++) {
+					double mu = a[x];
+					dst[x] = Math.sqrt(Math.max(0, b[x] - mu*mu));
+				}
+				break;
+			default: throw new RuntimeException("Unknown operation " + p.op);
+		}
+	}
+
+	static void load( Image in, int y, int columns, double[] row ) {
+		final int index = in.startIndex + y*in.stride;
+		switch( in.type ) {
+			case U8: { byte[] d = (byte[])in.data; for (int x = 0; x < columns; x++) row[x] = d[index + x] & 0xFF; } break;
+			case S8: { byte[] d = (byte[])in.data; for (int x = 0; x < columns; x++) row[x] = d[index + x]; } break;
+			case U16: { short[] d = (short[])in.data; for (int x = 0; x < columns; x++) row[x] = d[index + x] & 0xFFFF; } break;
+			case S16: { short[] d = (short[])in.data; for (int x = 0; x < columns; x++) row[x] = d[index + x]; } break;
+			case S32: { int[] d = (int[])in.data; for (int x = 0; x < columns; x++) row[x] = d[index + x]; } break;
+			case S64: { long[] d = (long[])in.data; for (int x = 0; x < columns; x++) row[x] = d[index + x]; } break;
+			case F32: { float[] d = (float[])in.data; for (int x = 0; x < columns; x++) row[x] = d[index + x]; } break;
+			case F64: System.arraycopy(in.data, index, row, 0, columns); break;
+			default: throw new RuntimeException("Unsupported type " + in.type);
+		}
+	}
+
+	static void store( double[] row, int columns, Image out, int y ) {
+		final int index = out.startIndex + y*out.stride;
+		switch( out.type ) {
+			case U8: case S8: { byte[] d = (byte[])out.data; for (int x = 0; x < columns; x++) d[index + x] = (byte)Math.round(row[x]); } break;
+			case U16: case S16: { short[] d = (short[])out.data; for (int x = 0; x < columns; x++) d[index + x] = (short)Math.round(row[x]); } break;
+			case S32: { int[] d = (int[])out.data; for (int x = 0; x < columns; x++) d[index + x] = (int)Math.round(row[x]); } break;
+			case S64: { long[] d = (long[])out.data; for (int x = 0; x < columns; x++) d[index + x] = Math.round(row[x]); } break;
+			case F32: { float[] d = (float[])out.data; for (int x = 0; x < columns; x++) d[index + x] = (float)row[x]; } break;
+			case F64: System.arraycopy(row, 0, out.data, index, columns); break;
+			default: throw new RuntimeException("Unsupported type " + out.type);
+		}
+	}
+
+	Value unary( int op, Value a, double c0, double c1 ) {
+		checkOwner(a);
+		Value v = new Value(numValues++);
+		program.add(new Instruction(op, v.id, a.id, -1, c0, c1));
+		modified = true;
+		return v;
+	}
+
+	Value binary( int op, Value a, Value b ) {
+		checkOwner(a);
+		checkOwner(b);
+		Value v = new Value(numValues++);
+		program.add(new Instruction(op, v.id, a.id, b.id, 0, 0));
+		modified = true;
+		return v;
+	}
+
+	Value reduce( int op, Value... values ) {
+		if( values.length == 0 )
+			throw new IllegalArgumentException("At least one value is required");
+		Value result = values[0];
+		for (int i = 1; i < values.length; i++) {
+			result = binary(op, result, values[i]);
+		}
+		return result;
+	}
+
+	void checkOwner( Value v ) {
+		if( v.owner() != this )
+			throw new IllegalArgumentException("Value belongs to a different expression");
+	}
+
+	static void checkSupported( ImageBase image ) {
+		if( !(image instanceof ImageGray) && !(image instanceof ImageInterleaved) )
+			throw new IllegalArgumentException("Only gray and interleaved images are supported");
+	}
+
+	/**
+	 * Array that stores the pixels of a supported image
+	 */
+	static Object dataOf( ImageBase image ) {
+		if( image instanceof GrayI8 ) return ((GrayI8)image).data;
+		if( image instanceof GrayI16 ) return ((GrayI16)image).data;
+		if( image instanceof GrayS32 ) return ((GrayS32)image).data;
+		if( image instanceof GrayS64 ) return ((GrayS64)image).data;
+		if( image instanceof GrayF32 ) return ((GrayF32)image).data;
+		if( image instanceof GrayF64 ) return ((GrayF64)image).data;
+		if( image instanceof InterleavedI8 ) return ((InterleavedI8)image).data;
+		if( image instanceof InterleavedI16 ) return ((InterleavedI16)image).data;
+		if( image instanceof InterleavedS32 ) return ((InterleavedS32)image).data;
+		if( image instanceof InterleavedS64 ) return ((InterleavedS64)image).data;
+		if( image instanceof InterleavedF32 ) return ((InterleavedF32)image).data;
+		if( image instanceof InterleavedF64 ) return ((InterleavedF64)image).data;
+		throw new IllegalArgumentException("Unsupported image type " + image.getClass().getSimpleName());
+	}
+
+	/**
+	 * A value computed for every pixel. Operations create a new value and don't modify this one.
+	 */
+	public class Value {
+		final int id;
+
+		Value( int id ) {
+			this.id = id;
+		}
+
+		PixelExpression owner() {
+			return PixelExpression.this;
+		}
+
+		/** |x|. See {@link PixelMath#abs} */
+		public Value abs() { return unary(ABS, this, 0, 0); }
+
+		/** -x. See {@link PixelMath#negative} */
+		public Value negative() { return unary(NEGATIVE, this, 0, 0); }
+
+		/** x*value. See {@link PixelMath#multiply} */
+		public Value multiply( double value ) { return unary(MULTIPLY_S, this, value, 0); }
+
+		/** x/denominator. See {@link PixelMath#divide} */
+		public Value divide( double denominator ) { return unary(DIVIDE_S, this, denominator, 0); }
+
+		/** x + value. See {@link PixelMath#plus} */
+		public Value plus( double value ) { return unary(PLUS_S, this, value, 0); }
+
+		/** x - value. See {@link PixelMath#minus} */
+		public Value minus( double value ) { return unary(PLUS_S, this, -value, 0); }
+
+		/** value - x. See {@link PixelMath#minus} */
+		public Value minusFrom( double value ) { return unary(MINUS_FROM_S, this, value, 0); }
+
+		/** log(val + x). See {@link PixelMath#log} */
+		public Value log( double val ) { return unary(LOG, this, val, 0); }
+
+		/** sgn(x)*log(val + sgn(x)*x). See {@link PixelMath#logSign} */
+		public Value logSign( double val ) { return unary(LOG_SIGN, this, val, 0); }
+
+		/** sqrt(x). See {@link PixelMath#sqrt} */
+		public Value sqrt() { return unary(SQRT, this, 0, 0); }
+
+		/** x*x. See {@link PixelMath#pow2} */
+		public Value pow2() { return unary(POW2, this, 0, 0); }
+
+		/** x bounded to be between min and max, inclusive. See {@link PixelMath#boundImage} */
+		public Value bound( double min, double max ) { return unary(BOUND, this, min, max); }
+
+		/** x + b. See {@link PixelMath#add} */
+		public Value plus( Value b ) { return binary(ADD, this, b); }
+
+		/** x - b. See {@link PixelMath#subtract} */
+		public Value minus( Value b ) { return binary(SUBTRACT, this, b); }
+
+		/** x*b. See {@link PixelMath#multiply} */
+		public Value multiply( Value b ) { return binary(MULTIPLY, this, b); }
+
+		/** x/b. See {@link PixelMath#divide} */
+		public Value divide( Value b ) { return binary(DIVIDE, this, b); }
+
+		/** |x - b|. See {@link PixelMath#diffAbs} */
+		public Value diffAbs( Value b ) { return binary(DIFF_ABS, this, b); }
+
+		/** min(x, b) */
+		public Value minimum( Value b ) { return binary(MINIMUM, this, b); }
+
+		/** max(x, b) */
+		public Value maximum( Value b ) { return binary(MAXIMUM, this, b); }
+	}
+
+	/**
+	 * An image and the value it's read from or written to
+	 */
+	static class Image {
+		ImageBase image;
+		final int value;
+
+		// copied from the image before processing
+		Object data;
+		ImageDataType type;
+		int startIndex, stride;
+
+		Image( ImageBase image, int value ) {
+			this.image = image;
+			this.value = value;
+		}
+
+		void update() {
+			data = dataOf(image);
+			type = image.getImageType().getDataType();
+			startIndex = image.startIndex;
+			stride = image.stride;
+		}
+	}
+
+	/**
+	 * Single operation. Computes 'dst' from 'a' and optionally 'b' and the constants.
+	 */
+	static class Instruction {
+		final int op, dst, a, b;
+		final double c0, c1;
+
+		Instruction( int op, int dst, int a, int b, double c0, double c1 ) {
+			this.op = op;
+			this.dst = dst;
+			this.a = a;
+			this.b = b;
+			this.c0 = c0;
+			this.c1 = c1;
+		}
+	}
+
+	/**
+	 * Row buffers used by a single thread
+	 */
+	static class Rows {
+		double[][] buffers = new double[0][];
+
+		void reshape( int numBuffers, int columns ) {
+			if( buffers.length < numBuffers )
+				buffers = Arrays.copyOf(buffers, numBuffers);
+			for (int i = 0; i < numBuffers; i++) {
+				if( buffers[i] == null || buffers[i].length < columns )
+					buffers[i] = new double[columns];
+			}
+		}
+	}
+}
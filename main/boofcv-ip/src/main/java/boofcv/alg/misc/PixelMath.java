@@ -53,7 +53,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -77,7 +77,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -101,7 +101,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -125,7 +125,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -149,7 +149,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -173,7 +173,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -197,7 +197,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -221,7 +221,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -245,7 +245,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -269,7 +269,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -293,7 +293,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -317,7 +317,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -340,7 +340,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -363,7 +363,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -386,7 +386,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -409,7 +409,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -432,7 +432,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -455,7 +455,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -478,7 +478,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -501,7 +501,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -524,7 +524,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -547,7 +547,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -570,7 +570,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -593,7 +593,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -618,7 +618,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -643,7 +643,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -668,7 +668,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -693,7 +693,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -718,7 +718,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -743,7 +743,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -768,7 +768,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -793,7 +793,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -818,7 +818,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -843,7 +843,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -868,7 +868,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -893,7 +893,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -918,7 +918,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -943,7 +943,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -968,7 +968,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -993,7 +993,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1018,7 +1018,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1043,7 +1043,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1068,7 +1068,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1093,7 +1093,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1118,7 +1118,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1143,7 +1143,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1168,7 +1168,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1193,7 +1193,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1218,7 +1218,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1243,7 +1243,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1268,7 +1268,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1293,7 +1293,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1318,7 +1318,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1343,7 +1343,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1368,7 +1368,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1393,7 +1393,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1418,7 +1418,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1443,7 +1443,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1468,7 +1468,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1493,7 +1493,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1518,7 +1518,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1543,7 +1543,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1568,7 +1568,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1593,7 +1593,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1618,7 +1618,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1643,7 +1643,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1668,7 +1668,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1693,7 +1693,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1717,7 +1717,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1741,7 +1741,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1765,7 +1765,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1789,7 +1789,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1813,7 +1813,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1837,7 +1837,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1861,7 +1861,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1885,7 +1885,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1909,7 +1909,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1933,7 +1933,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1957,7 +1957,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1981,7 +1981,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2005,7 +2005,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2029,7 +2029,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2053,7 +2053,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2077,7 +2077,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2101,7 +2101,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2125,7 +2125,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2149,7 +2149,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2173,7 +2173,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2197,7 +2197,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2221,7 +2221,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2245,7 +2245,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2269,7 +2269,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2293,7 +2293,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2317,7 +2317,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2341,7 +2341,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2365,7 +2365,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2389,7 +2389,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2413,7 +2413,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2437,7 +2437,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2461,7 +2461,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2485,7 +2485,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2509,7 +2509,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2533,7 +2533,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2557,7 +2557,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2581,7 +2581,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2605,7 +2605,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2629,7 +2629,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2653,7 +2653,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2677,7 +2677,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2701,7 +2701,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2725,7 +2725,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2749,7 +2749,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2773,7 +2773,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2797,7 +2797,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2821,7 +2821,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2845,7 +2845,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2869,7 +2869,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2893,7 +2893,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2917,7 +2917,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2941,7 +2941,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2965,7 +2965,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2989,7 +2989,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3013,7 +3013,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3037,7 +3037,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3061,7 +3061,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3085,7 +3085,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3109,7 +3109,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3133,7 +3133,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3157,7 +3157,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3181,7 +3181,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3205,7 +3205,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3229,7 +3229,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3253,7 +3253,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3277,7 +3277,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3301,7 +3301,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3325,7 +3325,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3349,7 +3349,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3373,7 +3373,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3397,7 +3397,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3421,7 +3421,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3445,7 +3445,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3469,7 +3469,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3493,7 +3493,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3517,7 +3517,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3541,7 +3541,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3565,7 +3565,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3589,7 +3589,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3613,7 +3613,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3637,7 +3637,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3661,7 +3661,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3685,7 +3685,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3709,7 +3709,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3733,7 +3733,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3757,7 +3757,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3781,7 +3781,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3805,7 +3805,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3829,7 +3829,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3853,7 +3853,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3877,7 +3877,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3901,7 +3901,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3925,7 +3925,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3949,7 +3949,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3973,7 +3973,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3997,7 +3997,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4021,7 +4021,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4045,7 +4045,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4069,7 +4069,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4093,7 +4093,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4117,7 +4117,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4141,7 +4141,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4165,7 +4165,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4189,7 +4189,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4213,7 +4213,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4237,7 +4237,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4261,7 +4261,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4285,7 +4285,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4309,7 +4309,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4333,7 +4333,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4357,7 +4357,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4381,7 +4381,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4405,7 +4405,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4429,7 +4429,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4453,7 +4453,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4477,7 +4477,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4501,7 +4501,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4525,7 +4525,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4549,7 +4549,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4573,7 +4573,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4597,7 +4597,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4621,7 +4621,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4645,7 +4645,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4669,7 +4669,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4693,7 +4693,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4717,7 +4717,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4741,7 +4741,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4765,7 +4765,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4789,7 +4789,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4813,7 +4813,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4837,7 +4837,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4861,7 +4861,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4885,7 +4885,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4909,7 +4909,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4933,7 +4933,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4957,7 +4957,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4981,7 +4981,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5005,7 +5005,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5029,7 +5029,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5053,7 +5053,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5077,7 +5077,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5101,7 +5101,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5125,7 +5125,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5149,7 +5149,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5173,7 +5173,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5197,7 +5197,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5221,7 +5221,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5245,7 +5245,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5269,7 +5269,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5293,7 +5293,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5317,7 +5317,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5341,7 +5341,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5365,7 +5365,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5389,7 +5389,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5413,7 +5413,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5437,7 +5437,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5461,7 +5461,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5485,7 +5485,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5509,7 +5509,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5533,7 +5533,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5557,7 +5557,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5581,7 +5581,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5605,7 +5605,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5629,7 +5629,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5653,7 +5653,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5677,7 +5677,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5701,7 +5701,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5725,7 +5725,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5749,7 +5749,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5773,7 +5773,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5797,7 +5797,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5821,7 +5821,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5845,7 +5845,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5869,7 +5869,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5893,7 +5893,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5917,7 +5917,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5953,7 +5953,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -5985,7 +5985,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6017,7 +6017,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6049,7 +6049,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6081,7 +6081,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6113,7 +6113,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6145,7 +6145,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6177,7 +6177,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6198,7 +6198,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -6219,7 +6219,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -6240,7 +6240,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -6261,7 +6261,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -6282,7 +6282,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -6303,7 +6303,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -6324,7 +6324,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -6345,7 +6345,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -6366,7 +6366,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -6387,7 +6387,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -6408,7 +6408,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -6429,7 +6429,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -6450,7 +6450,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -6471,7 +6471,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -6492,7 +6492,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply(imgA, imgB, output);
 		} else {
 			ImplPixelMath.multiply(imgA, imgB, output);
@@ -6513,7 +6513,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide(imgA,imgB,output);
 		} else {
 			ImplPixelMath.divide(imgA,imgB,output);
@@ -6532,7 +6532,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.log(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -6558,7 +6558,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.logSign(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -6583,7 +6583,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.sqrt(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -6609,7 +6609,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.log(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -6636,7 +6636,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.logSign(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -6662,7 +6662,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.sqrt(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -6689,7 +6689,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -6710,7 +6710,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -6731,7 +6731,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply(imgA, imgB, output);
 		} else {
 			ImplPixelMath.multiply(imgA, imgB, output);
@@ -6752,7 +6752,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide(imgA,imgB,output);
 		} else {
 			ImplPixelMath.divide(imgA,imgB,output);
@@ -6771,7 +6771,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.log(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -6797,7 +6797,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.logSign(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -6822,7 +6822,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.sqrt(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -6848,7 +6848,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.log(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -6875,7 +6875,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.logSign(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -6901,7 +6901,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.sqrt(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -6926,7 +6926,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -6952,7 +6952,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -6978,7 +6978,7 @@ public class PixelMath {
 		stdev.reshape(mean.width,mean.height);
 
 		int N = mean.width*mean.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.stdev(mean,pow2,stdev);
 		} else {
 			ImplPixelMath.stdev(mean,pow2,stdev);
@@ -6997,7 +6997,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7023,7 +7023,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7049,7 +7049,7 @@ public class PixelMath {
 		stdev.reshape(mean.width,mean.height);
 
 		int N = mean.width*mean.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.stdev(mean,pow2,stdev);
 		} else {
 			ImplPixelMath.stdev(mean,pow2,stdev);
@@ -7068,7 +7068,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7094,7 +7094,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7120,7 +7120,7 @@ public class PixelMath {
 		stdev.reshape(mean.width,mean.height);
 
 		int N = mean.width*mean.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.stdev(mean,pow2,stdev);
 		} else {
 			ImplPixelMath.stdev(mean,pow2,stdev);
@@ -7139,7 +7139,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7165,7 +7165,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7191,7 +7191,7 @@ public class PixelMath {
 		stdev.reshape(mean.width,mean.height);
 
 		int N = mean.width*mean.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.stdev(mean,pow2,stdev);
 		} else {
 			ImplPixelMath.stdev(mean,pow2,stdev);
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.LargeImage;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Runs regular image operations across a {@link LargeImage} one tile at a time, so that only a few tiles are ever
+ * in memory. Each tile is read along with a border of the surrounding pixels. The operation is applied to the
+ * tile and its border, and only the interior of the result is written to the output. If the border is at least as
+ * large as the operation's radius, e.g. the radius of a convolution kernel, then the result is identical to
+ * processing the whole image at once. Along the image's edges the border is cropped, so the operation's own
+ * border handling is used just like it would be for the whole image.
+ * </p>
+ *
+ * <p>
+ * Tiles are processed in parallel when concurrency is turned on. Each thread has its own storage for a tile, so
+ * memory is bounded by the number of threads times the size of a tile with its border.
+ * </p>
+ *
+ * <pre>
+ * TileScheduler scheduler = new TileScheduler(1024, 1024, radius);
+ * scheduler.process(input, output, ( in, out ) -&gt; GBlurImageOps.gaussian(in, out, -1, radius, null));
+ * </pre>
+ *
+ * @author Peter Abeles
+ * @see TiledImageOps
+ */
+public class TileScheduler {
+	/**
+	 * Operation which converts an input tile into an output tile
+	 */
+	@FunctionalInterface
+	public interface Operation<In extends ImageBase<In>, Out extends ImageBase<Out>> {
+		/**
+		 * @param input Tile with its border. Don't modify.
+		 * @param output Storage for the result, reshaped to match the input
+		 */
+		void process( In input, Out output );
+	}
+
+	/**
+	 * Examines a tile and doesn't write any output. Can be called by multiple threads at once.
+	 */
+	@FunctionalInterface
+	public interface Visitor<In extends ImageBase<In>> {
+		/**
+		 * @param input Tile with its border. Don't modify.
+		 * @param tile Location of the tile
+		 */
+		void process( In input, Tile tile );
+	}
+
+	// Size of the interior of a tile
+	int tileWidth, tileHeight;
+	// number of pixels in the border around each tile
+	int border;
+	// if true tiles will be processed in parallel
+	boolean parallel = true;
+
+	/**
+	 * @param tileWidth Width of a tile, not including the border
+	 * @param tileHeight Height of a tile, not including the border
+	 * @param border Number of pixels around each tile which are read but not written
+	 */
+	public TileScheduler( int tileWidth, int tileHeight, int border ) {
+		if( tileWidth <= 0 || tileHeight <= 0 || border < 0 )
+			throw new IllegalArgumentException("Tile size must be positive and border not negative");
+		this.tileWidth = tileWidth;
+		this.tileHeight = tileHeight;
+		this.border = border;
+	}
+
+	/**
+	 * Applies the operation to each tile in the input and writes the results to the output
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Must be the same size as the input.
+	 * @param operation Operation which is applied to each tile
+	 */
+	public <In extends ImageBase<In>, Out extends ImageBase<Out>>
+	void process( LargeImage<In> input, LargeImage<Out> output, Operation<In, Out> operation ) {
+		if( input.getWidth() != output.getWidth() || input.getHeight() != output.getHeight() )
+			throw new IllegalArgumentException("Input and output must be the same size");
+
+		FastQueue<Work<In, Out>> workspace = new FastQueue<>(() -> new Work<>(input, output));
+		forEach(input.getWidth(), input.getHeight(), workspace, work -> {
+			Tile t = work.tile;
+			input.readRegion(t.x0 - t.left, t.y0 - t.top, t.x1 + t.right, t.y1 + t.bottom, work.input);
+			work.output.reshape(work.input.width, work.input.height);
+			operation.process(work.input, work.output);
+			output.writeRegion(t.x0, t.y0, work.output.subimage(
+					t.left, t.top, t.left + t.x1 - t.x0, t.top + t.y1 - t.y0));
+		});
+	}
+
+	/**
+	 * Passes every tile to the visitor. Use this to compute statistics or to detect features. A tile and its
+	 * border are passed in, so a feature near the edge of a tile can be detected in more than one tile. Only
+	 * keep features which are inside the interior, see {@link Tile#isInterior}, and offset their coordinates
+	 * by {@link Tile#getInputX0()} and {@link Tile#getInputY0()} to convert them into image coordinates.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param visitor Examines each tile
+	 */
+	public <In extends ImageBase<In>> void forEachTile( LargeImage<In> input, Visitor<In> visitor ) {
+		FastQueue<Work<In, In>> workspace = new FastQueue<>(() -> new Work<>(input, null));
+		forEach(input.getWidth(), input.getHeight(), workspace, work -> {
+			Tile t = work.tile;
+			input.readRegion(t.x0 - t.left, t.y0 - t.top, t.x1 + t.right, t.y1 + t.bottom, work.input);
+			visitor.process(work.input, t);
+		});
+	}
+
+	/**
+	 * Number of tiles needed to cover an image of this size
+	 */
+	public int countTiles( int width, int height ) {
+		return tilesX(width)*tilesY(height);
+	}
+
+	int tilesX( int width ) {
+		return (width + tileWidth - 1)/tileWidth;
+	}
+
+	int tilesY( int height ) {
+		return (height + tileHeight - 1)/tileHeight;
+	}
+
+	<In extends ImageBase<In>, Out extends ImageBase<Out>>
+	void forEach( int width, int height, FastQueue<Work<In, Out>> workspace, Consumer<Work<In, Out>> action ) {
+		final int tilesX = tilesX(width);
+		final int total = countTiles(width, height);
+		if( total == 0 )
+			return;
+
+		if( parallel && BoofConcurrency.isUseConcurrent() && total > 1 ) {
+			BoofConcurrency.loopBlocks(0, total, 1, workspace, ( work, i0, i1 ) -> {
+				for (int i = i0; i < i1; i++) {
+					work.tile.set(i, tilesX, width, height);
+					action.accept(work);
+				}
+			});
+		} else {
+			Work<In, Out> work = workspace.grow();
+			for (int i = 0; i < total; i++) {
+				work.tile.set(i, tilesX, width, height);
+				action.accept(work);
+			}
+		}
+	}
+
+	/**
+	 * Storage used by a single thread
+	 */
+	class Work<In extends ImageBase<In>, Out extends ImageBase<Out>> {
+		final In input;
+		final Out output;
+		final Tile tile = new Tile();
+
+		Work( LargeImage<In> input, LargeImage<Out> output ) {
+			this.input = input.getImageType().createImage(1, 1);
+			this.output = output == null ? null : output.getImageType().createImage(1, 1);
+		}
+	}
+
+	/**
+	 * Location of a tile inside the image
+	 */
+	public class Tile {
+		/** Index of the tile. Tiles are ordered by row then column */
+		public int index;
+		/** Interior of the tile in image coordinates. Lower extent inclusive, upper exclusive */
+		public int x0, y0, x1, y1;
+		/** Size of the border on each side, which is smaller along the image's edges */
+		public int left, top, right, bottom;
+
+		void set( int index, int tilesX, int width, int height ) {
+			this.index = index;
+			x0 = (index%tilesX)*tileWidth;
+			y0 = (index/tilesX)*tileHeight;
+			x1 = Math.min(width, x0 + tileWidth);
+			y1 = Math.min(height, y0 + tileHeight);
+			left = Math.min(border, x0);
+			top = Math.min(border, y0);
+			right = Math.min(border, width - x1);
+			bottom = Math.min(border, height - y1);
+		}
+
+		/**
+		 * Image x-coordinate of the first column in the tile's image, which includes the border
+		 */
+		public int getInputX0() {
+			return x0 - left;
+		}
+
+		/**
+		 * Image y-coordinate of the first row in the tile's image, which includes the border
+		 */
+		public int getInputY0() {
+			return y0 - top;
+		}
+
+		/**
+		 * True if the pixel, in the tile's image coordinates, is inside the interior and not the border
+		 */
+		public boolean isInterior( double x, double y ) {
+			return x >= left && y >= top && x < left + x1 - x0 && y < top + y1 - y0;
+		}
+	}
+
+	public int getTileWidth() {
+		return tileWidth;
+	}
+
+	public int getTileHeight() {
+		return tileHeight;
+	}
+
+	public int getBorder() {
+		return border;
+	}
+
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * If true then tiles are processed in parallel. If false then tiles are processed one at a time and the
+	 * operation can be concurrent internally.
+	 */
+	public void setParallel( boolean parallel ) {
+		this.parallel = parallel;
+	}
+}
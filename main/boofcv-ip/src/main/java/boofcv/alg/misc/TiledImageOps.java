@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.alg.filter.binary.GThresholdImageOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.LargeImage;
+
+import java.util.Arrays;
+
+/**
+ * Common image operations applied to a {@link LargeImage} one tile at a time using a {@link TileScheduler}.
+ * Operations which are applied to each pixel independently don't need a border, so the scheduler's border
+ * is ignored for efficiency.
+ *
+ * @author Peter Abeles
+ */
+public class TiledImageOps {
+
+	/**
+	 * Thresholds the large image. See {@link GThresholdImageOps#threshold(ImageGray, GrayU8, double, boolean)}.
+	 *
+	 * @param scheduler Specifies the tile size
+	 * @param input Input image. Not modified.
+	 * @param output Binary output image. Must be the same size as the input.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality &le; is used, otherwise if false then &gt; is used.
+	 */
+	public static <T extends ImageGray<T>>
+	void threshold( TileScheduler scheduler, LargeImage<T> input, LargeImage<GrayU8> output,
+					double threshold, boolean down ) {
+		interior(scheduler).process(input, output, ( in, out ) ->
+				GThresholdImageOps.threshold(in, out, threshold, down));
+	}
+
+	/**
+	 * Sum of all the pixels in the image across all bands. See {@link GImageStatistics#sum(ImageBase)}.
+	 *
+	 * @param scheduler Specifies the tile size
+	 * @param input Input image. Not modified.
+	 * @return Sum of pixel intensity values
+	 */
+	public static <T extends ImageBase<T>> double sum( TileScheduler scheduler, LargeImage<T> input ) {
+		double[] total = new double[1];
+		interior(scheduler).forEachTile(input, ( tile, info ) -> {
+			double found = GImageStatistics.sum(tile);
+			synchronized (total) {
+				total[0] += found;
+			}
+		});
+		return total[0];
+	}
+
+	/**
+	 * Mean pixel intensity value across all bands. See {@link GImageStatistics#mean(ImageBase)}.
+	 *
+	 * @param scheduler Specifies the tile size
+	 * @param input Input image. Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static <T extends ImageBase<T>> double mean( TileScheduler scheduler, LargeImage<T> input ) {
+		int numBands = input.getImageType().getNumBands();
+		return sum(scheduler, input)/((double)input.getWidth()*input.getHeight()*numBands);
+	}
+
+	/**
+	 * Maximum pixel value across all bands. See {@link GImageStatistics#max(ImageBase)}.
+	 *
+	 * @param scheduler Specifies the tile size
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value
+	 */
+	public static <T extends ImageBase<T>> double max( TileScheduler scheduler, LargeImage<T> input ) {
+		double[] best = new double[]{-Double.MAX_VALUE};
+		interior(scheduler).forEachTile(input, ( tile, info ) -> {
+			double found = GImageStatistics.max(tile);
+			synchronized (best) {
+				best[0] = Math.max(best[0], found);
+			}
+		});
+		return best[0];
+	}
+
+	/**
+	 * Minimum pixel value across all bands. See {@link GImageStatistics#min(ImageBase)}.
+	 *
+	 * @param scheduler Specifies the tile size
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value
+	 */
+	public static <T extends ImageBase<T>> double min( TileScheduler scheduler, LargeImage<T> input ) {
+		double[] best = new double[]{Double.MAX_VALUE};
+		interior(scheduler).forEachTile(input, ( tile, info ) -> {
+			double found = GImageStatistics.min(tile);
+			synchronized (best) {
+				best[0] = Math.min(best[0], found);
+			}
+		});
+		return best[0];
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.
+	 * See {@link GImageStatistics#histogram(ImageGray, double, int[])}.
+	 *
+	 * @param scheduler Specifies the tile size
+	 * @param input Input image. Not modified.
+	 * @param minValue Minimum possible intensity value
+	 * @param histogram (Output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static <T extends ImageGray<T>>
+	void histogram( TileScheduler scheduler, LargeImage<T> input, double minValue, int[] histogram ) {
+		Arrays.fill(histogram, 0);
+		interior(scheduler).forEachTile(input, ( tile, info ) -> {
+			int[] local = new int[histogram.length];
+			GImageStatistics.histogram(tile, minValue, local);
+			synchronized (histogram) {
+				for (int i = 0; i < local.length; i++) {
+					histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	/**
+	 * Scheduler with the same settings but no border, since the operations here don't look at neighbors
+	 */
+	static TileScheduler interior( TileScheduler scheduler ) {
+		if( scheduler.border == 0 )
+			return scheduler;
+		TileScheduler out = new TileScheduler(scheduler.tileWidth, scheduler.tileHeight, 0);
+		out.parallel = scheduler.parallel;
+		return out;
+	}
+}
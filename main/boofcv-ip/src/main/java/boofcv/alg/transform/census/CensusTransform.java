@@ -108,7 +108,7 @@ public class CensusTransform {
 	public static void dense3x3(final GrayU8 input , final GrayU8 output , @Nullable ImageBorder_S32<GrayU8> border ) {
 		InputSanityCheck.checkReshape(input,output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplCensusTransformInner_MT.dense3x3(input,output);
 		} else {
 			ImplCensusTransformInner.dense3x3(input,output);
@@ -130,7 +130,7 @@ public class CensusTransform {
 	public static void dense3x3(final GrayU16 input , final GrayU8 output , @Nullable ImageBorder_S32<GrayU16> border ) {
 		InputSanityCheck.checkReshape(input,output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplCensusTransformInner_MT.dense3x3(input,output);
 		} else {
 			ImplCensusTransformInner.dense3x3(input,output);
@@ -153,7 +153,7 @@ public class CensusTransform {
 	public static void dense5x5(final GrayU8 input , final GrayS32 output , @Nullable ImageBorder_S32<GrayU8> border ) {
 		InputSanityCheck.checkReshape(input,output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplCensusTransformInner_MT.dense5x5(input,output);
 		} else {
 			ImplCensusTransformInner.dense5x5(input,output);
@@ -175,7 +175,7 @@ public class CensusTransform {
 	public static void dense5x5(final GrayU16 input , final GrayS32 output , @Nullable ImageBorder_S32<GrayU16> border ) {
 		InputSanityCheck.checkReshape(input,output);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplCensusTransformInner_MT.dense5x5(input,output);
 		} else {
 			ImplCensusTransformInner.dense5x5(input,output);
@@ -206,7 +206,7 @@ public class CensusTransform {
 
 		int borderRadius = computeRadiusWorkspace(input, sample, workSpace);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplCensusTransformInner_MT.sample_S64(input,borderRadius,workSpace,output);
 		} else {
 			ImplCensusTransformInner.sample_S64(input,borderRadius,workSpace,output);
@@ -237,7 +237,7 @@ public class CensusTransform {
 
 		int borderRadius = computeRadiusWorkspace(input, sample, workSpace);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplCensusTransformInner_MT.sample_S64(input,borderRadius,workSpace,output);
 		} else {
 			ImplCensusTransformInner.sample_S64(input,borderRadius,workSpace,output);
@@ -270,7 +270,7 @@ public class CensusTransform {
 
 		int borderRadius = computeRadiusWorkspace(input, sample, workSpace);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplCensusTransformInner_MT.sample_IU16(input,borderRadius,workSpace,output);
 		} else {
 			ImplCensusTransformInner.sample_IU16(input,borderRadius,workSpace,output);
@@ -303,7 +303,7 @@ public class CensusTransform {
 
 		int borderRadius = computeRadiusWorkspace(input, sample, workSpace);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplCensusTransformInner_MT.sample_IU16(input,borderRadius,workSpace,output);
 		} else {
 			ImplCensusTransformInner.sample_IU16(input,borderRadius,workSpace,output);
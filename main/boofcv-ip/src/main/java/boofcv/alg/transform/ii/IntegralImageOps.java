@@ -126,7 +126,7 @@ public class IntegralImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(integral,output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolve(integral, kernel, output);
 		} else {
 			ImplIntegralImageConvolve.convolve(integral, kernel, output);
@@ -149,7 +149,7 @@ public class IntegralImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(integral,output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolve(integral, kernel, output);
 		} else {
 			ImplIntegralImageConvolve.convolve(integral, kernel, output);
@@ -172,7 +172,7 @@ public class IntegralImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(integral,output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolve(integral, kernel, output);
 		} else {
 			ImplIntegralImageConvolve.convolve(integral, kernel, output);
@@ -195,7 +195,7 @@ public class IntegralImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(integral,output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolve(integral, kernel, output);
 		} else {
 			ImplIntegralImageConvolve.convolve(integral, kernel, output);
@@ -219,7 +219,7 @@ public class IntegralImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(integral,output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolveBorder(integral, kernel, output, borderX, borderY);
 		} else {
 			ImplIntegralImageConvolve.convolveBorder(integral, kernel, output, borderX, borderY);
@@ -243,7 +243,7 @@ public class IntegralImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(integral,output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolveBorder(integral, kernel, output, borderX, borderY);
 		} else {
 			ImplIntegralImageConvolve.convolveBorder(integral, kernel, output, borderX, borderY);
@@ -267,7 +267,7 @@ public class IntegralImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(integral,output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolveBorder(integral, kernel, output, borderX, borderY);
 		} else {
 			ImplIntegralImageConvolve.convolveBorder(integral, kernel, output, borderX, borderY);
@@ -291,7 +291,7 @@ public class IntegralImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(integral,output);
 
-		if(BoofConcurrency.USE_CONCURRENT) {
+		if(BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolveBorder(integral, kernel, output, borderX, borderY);
 		} else {
 			ImplIntegralImageConvolve.convolveBorder(integral, kernel, output, borderX, borderY);
@@ -109,9 +109,16 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 		super.initialize(input.width,input.height);
 		lazyDeclareSigmas(this.sigma);
 
-		if( temp == null ) {
-			// declare it to be the latest image that it might need to be, resize below
-			temp = (T)input.createNew(1,1);
+		// the image pool is intended for short lived instances so don't hold onto its images between calls
+		T temp;
+		if( pool != null ) {
+			temp = pool.borrow(getImageType(), input.width, input.height);
+		} else {
+			if( this.temp == null ) {
+				// declare it to be the latest image that it might need to be, resize below
+				this.temp = (T)input.createNew(1,1);
+			}
+			temp = this.temp;
 		}
 
 		if (levelScales[0] == 1) {
@@ -142,6 +149,9 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 			horizontal.process(prev,temp);
 			vertical.process(temp,getLayer(index));
 		}
+
+		if( pool != null )
+			pool.release(temp);
 	}
 
 	/**
@@ -155,13 +155,13 @@ public class PyramidOps {
 	public static <T extends ImageGray<T>>
 	void scaleDown2(T input , T output ) {
 		if( input instanceof GrayF32) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplPyramidOps_MT.scaleDown2((GrayF32) input, (GrayF32) output);
 			} else {
 				ImplPyramidOps.scaleDown2((GrayF32) input, (GrayF32) output);
 			}
 		} else if( input instanceof GrayU8) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplPyramidOps_MT.scaleDown2((GrayU8) input, (GrayU8) output);
 			} else {
 				ImplPyramidOps.scaleDown2((GrayU8) input, (GrayU8) output);
@@ -181,13 +181,13 @@ public class PyramidOps {
 		if( scale <= 1 )
 			throw new IllegalArgumentException("Scale must be >= 2");
 		if( input instanceof GrayF32) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplPyramidOps_MT.scaleImageUp((GrayF32) input, (GrayF32) output, scale, (InterpolatePixelS) interp);
 			} else {
 				ImplPyramidOps.scaleImageUp((GrayF32) input, (GrayF32) output, scale, (InterpolatePixelS) interp);
 			}
 		} else if( input instanceof GrayU8) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplPyramidOps_MT.scaleImageUp((GrayU8) input, (GrayU8) output, scale, (InterpolatePixelS) interp);
 			} else {
 				ImplPyramidOps.scaleImageUp((GrayU8) input, (GrayU8) output, scale, (InterpolatePixelS) interp);
@@ -114,7 +114,7 @@ public class ConvertNV21 {
 			output = new GrayU8(width,height);
 		}
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertNV21_MT.nv21ToGray(data, output);
 		} else {
 			ImplConvertNV21.nv21ToGray(data, output);
@@ -139,7 +139,7 @@ public class ConvertNV21 {
 			output = new GrayF32(width,height);
 		}
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertNV21_MT.nv21ToGray(data, output);
 		} else {
 			ImplConvertNV21.nv21ToGray(data, output);
@@ -187,7 +187,7 @@ public class ConvertNV21 {
 			output.reshape(width, height, 3);
 		}
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertNV21_MT.nv21ToPlanarYuv_U8(data, output);
 		} else {
 			ImplConvertNV21.nv21ToPlanarYuv_U8(data, output);
@@ -211,7 +211,7 @@ public class ConvertNV21 {
 			output.reshape(width, height, 3);
 		}
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertNV21_MT.nv21ToPlanarRgb_U8(data, output);
 		} else {
 			ImplConvertNV21.nv21ToPlanarRgb_U8(data, output);
@@ -235,7 +235,7 @@ public class ConvertNV21 {
 		} else {
 			output.reshape(width, height, 3);
 		}
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertNV21_MT.nv21ToInterleaved_U8(data, output);
 		} else {
 			ImplConvertNV21.nv21ToInterleaved_U8(data, output);
@@ -260,7 +260,7 @@ public class ConvertNV21 {
 			output.reshape(width, height, 3);
 		}
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertNV21_MT.nv21ToPlanarYuv_F32(data, output);
 		} else {
 			ImplConvertNV21.nv21ToPlanarYuv_F32(data, output);
@@ -285,7 +285,7 @@ public class ConvertNV21 {
 			output.reshape(width, height, 3);
 		}
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertNV21_MT.nv21ToPlanarRgb_F32(data, output);
 		} else {
 			ImplConvertNV21.nv21ToPlanarRgb_F32(data, output);
@@ -310,7 +310,7 @@ public class ConvertNV21 {
 			output.reshape(width, height, 3);
 		}
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertNV21_MT.nv21ToInterleaved_F32(data, output);
 		} else {
 			ImplConvertNV21.nv21ToInterleaved_F32(data, output);
@@ -48,7 +48,7 @@ public class ConvertYV12 {
             Planar ms = (Planar) output;
             ms.reshape(width,height,3);
 
-            if( BoofConcurrency.USE_CONCURRENT ) {
+            if( BoofConcurrency.isUseConcurrent() ) {
                 if (ms.getBandType() == GrayU8.class) {
                     ImplConvertYV12_MT.yv12ToPlanarRgb_U8(data, ms);
                 } else if (ms.getBandType() == GrayF32.class) {
@@ -76,7 +76,7 @@ public class ConvertYV12 {
         } else if( output instanceof ImageInterleaved ) {
             ((ImageMultiBand)output).reshape(width,height,3);
 
-            if( BoofConcurrency.USE_CONCURRENT ) {
+            if( BoofConcurrency.isUseConcurrent() ) {
                 if (output.getClass() == InterleavedU8.class) {
                     ImplConvertYV12_MT.yv12ToInterleaved(data, (InterleavedU8) output);
                 } else if (output.getClass() == InterleavedF32.class) {
@@ -115,7 +115,7 @@ public class ConvertYV12 {
             output = new GrayU8(width,height);
         }
 
-        if(BoofConcurrency.USE_CONCURRENT ) {
+        if(BoofConcurrency.isUseConcurrent() ) {
             ImplConvertNV21_MT.nv21ToGray(data, output);
         } else {
             ImplConvertNV21.nv21ToGray(data, output);
@@ -141,7 +141,7 @@ public class ConvertYV12 {
             output = new GrayF32(width,height);
         }
 
-        if(BoofConcurrency.USE_CONCURRENT ) {
+        if(BoofConcurrency.isUseConcurrent() ) {
             ImplConvertNV21_MT.nv21ToGray(data, output);
         } else {
             ImplConvertNV21.nv21ToGray(data, output);
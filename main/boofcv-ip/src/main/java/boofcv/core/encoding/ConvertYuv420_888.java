@@ -266,7 +266,7 @@ public class ConvertYuv420_888
 			}
 		};
 
-//		if(BoofConcurrency.USE_CONCURRENT) {
+//		if(BoofConcurrency.isUseConcurrent()) {
 //			ImplConvertYuv420_888_MT.processYuv(bufferY, bufferU, bufferV, width, height, strideY, strideUV, stridePixelUV, workArrays, processor);
 //		} else {
 			ImplConvertYuv420_888.processYuv(bufferY, bufferU, bufferV, width, height, strideY, strideUV, stridePixelUV, workArrays, processor);
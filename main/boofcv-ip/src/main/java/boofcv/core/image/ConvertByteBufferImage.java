@@ -21,6 +21,7 @@ package boofcv.core.image;
 import boofcv.struct.image.*;
 import org.ddogleg.struct.GrowQueue_I8;
 
+import javax.annotation.Nullable;
 import java.nio.ByteBuffer;
 
 /**
@@ -31,6 +32,40 @@ import java.nio.ByteBuffer;
  */
 public class ConvertByteBufferImage {
 
+	/**
+	 * Converts an image stored in a {@link ByteBuffer} into any other image type, using the same rules as
+	 * {@link GConvertImage#convert(ImageBase, ImageBase)}. If the types match the rows are copied directly,
+	 * otherwise it's done a strip at a time so that a full size copy of the input is never created.
+	 *
+	 * @param src Input image. Not modified.
+	 * @param dst Output image. Reshaped to match the input.
+	 * @param work (Optional) Storage for a strip of the input
+	 */
+	public static <T extends ImageBase<T>> void convert( ImageByteBuffer<T> src, ImageBase dst, @Nullable T work ) {
+		convert(src, dst, 0, work);
+	}
+
+	/**
+	 * Same as {@link #convert(ImageByteBuffer, ImageBase, ImageBase)} but the number of rows in each strip
+	 * can be specified.
+	 *
+	 * @param src Input image. Not modified.
+	 * @param dst Output image. Reshaped to match the input.
+	 * @param stripRows Maximum number of rows in a strip. If &le; 0 then {@link ImageByteBuffer#defaultStripRows()} is used.
+	 * @param work (Optional) Storage for a strip of the input
+	 */
+	public static <T extends ImageBase<T>> void convert( ImageByteBuffer<T> src, ImageBase dst,
+														 int stripRows, @Nullable T work ) {
+		if( dst.getImageType().isSameType(src.getImageType()) ) {
+			src.copyTo((T)dst);
+			return;
+		}
+
+		dst.reshape(src.getWidth(), src.getHeight());
+		src.processStrips(stripRows, work, ( strip, y0, y1 ) ->
+				GConvertImage.convert(strip, dst.subimage(0, y0, dst.width, y1)));
+	}
+
 	public static void from_3BU8_to_U8(ByteBuffer src , int srcOffset , int srcStride ,
 									   GrayU8 dst , GrowQueue_I8 work )
 	{
@@ -360,7 +360,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -383,7 +383,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -407,7 +407,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -430,7 +430,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -796,7 +796,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -819,7 +819,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -843,7 +843,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -866,7 +866,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -1232,7 +1232,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -1255,7 +1255,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -1279,7 +1279,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -1302,7 +1302,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -1668,7 +1668,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -1691,7 +1691,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -1715,7 +1715,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -1738,7 +1738,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2104,7 +2104,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -2127,7 +2127,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2151,7 +2151,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -2174,7 +2174,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2540,7 +2540,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -2563,7 +2563,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2587,7 +2587,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -2610,7 +2610,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2976,7 +2976,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -2999,7 +2999,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -3023,7 +3023,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -3046,7 +3046,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -3412,7 +3412,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -3435,7 +3435,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -3459,7 +3459,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -3482,7 +3482,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -3539,7 +3539,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convertU8F32(input,output);
 		} else {
 			ImplConvertImage.convertU8F32(input,output);
@@ -3562,7 +3562,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convertF32U8(input,output);
 		} else {
 			ImplConvertImage.convertF32U8(input,output);
@@ -3585,7 +3585,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convertU8F32(input,output);
 		} else {
 			ImplConvertImage.convertU8F32(input,output);
@@ -3608,7 +3608,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convertF32U8(input,output);
 		} else {
 			ImplConvertImage.convertF32U8(input,output);
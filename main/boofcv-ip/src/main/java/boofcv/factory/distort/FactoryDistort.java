@@ -108,7 +108,7 @@ public class FactoryDistort {
 			throw new IllegalArgumentException("Output type not supported: "+outputType.getSimpleName());
 		}
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			if( cached ) {
 				return new ImageDistortCache_SB_MT<>(assigner,interp);
 			} else {
@@ -158,7 +158,7 @@ public class FactoryDistort {
 					throw new RuntimeException("Not yet supported "+outputType);
 			}
 
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				return new ImageDistortBasic_IL_MT<>(assigner,interp);
 			} else {
 				return new ImageDistortBasic_IL<>(assigner,interp);
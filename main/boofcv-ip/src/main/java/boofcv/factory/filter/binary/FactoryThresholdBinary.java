@@ -72,7 +72,7 @@ public class FactoryThresholdBinary {
 			return BOverrideFactoryThresholdBinary.localSauvola.handle(width, k, down, inputType);
 
 		InputToBinary<GrayF32> sauvola;
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			sauvola = new ThresholdSauvola_MT(width, k, down);
 		} else {
 			sauvola = new ThresholdSauvola(width, k, down);
@@ -131,7 +131,7 @@ public class FactoryThresholdBinary {
 			return BOverrideFactoryThresholdBinary.localOtsu.handle(otsu2,regionWidth, tuning, scale, down, inputType);
 
 		ThresholdLocalOtsu otsu;
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			otsu = new ThresholdLocalOtsu_MT(otsu2, regionWidth, tuning, scale, down);
 		} else {
 			otsu = new ThresholdLocalOtsu(otsu2, regionWidth, tuning, scale, down);
@@ -165,7 +165,7 @@ public class FactoryThresholdBinary {
 		else
 			processor = new ThresholdBlockMinMax_F32((float)minimumSpread,(float)scale,down);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			return new ThresholdBlock_MT(processor, regionWidth, thresholdFromLocalBlocks, inputType);
 		} else {
 			return new ThresholdBlock(processor, regionWidth, thresholdFromLocalBlocks, inputType);
@@ -196,7 +196,7 @@ public class FactoryThresholdBinary {
 		else
 			processor = new ThresholdBlockMean_F32((float)scale,down);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			return new ThresholdBlock_MT(processor, regionWidth, thresholdFromLocalBlocks, inputType);
 		} else {
 			return new ThresholdBlock(processor, regionWidth, thresholdFromLocalBlocks, inputType);
@@ -224,7 +224,7 @@ public class FactoryThresholdBinary {
 		BlockProcessor processor = new ThresholdBlockOtsu(otsu2,tuning,scale,down);
 		InputToBinary<GrayU8> otsu;
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			otsu = new ThresholdBlock_MT<>(processor, regionWidth, thresholdFromLocalBlocks, GrayU8.class);
 		} else {
 			otsu = new ThresholdBlock<>(processor, regionWidth, thresholdFromLocalBlocks, GrayU8.class);
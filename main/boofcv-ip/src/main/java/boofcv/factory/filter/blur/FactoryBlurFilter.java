@@ -18,7 +18,9 @@
 
 package boofcv.factory.filter.blur;
 
+import boofcv.abst.filter.blur.BilateralGridBlurFilter;
 import boofcv.abst.filter.blur.BlurStorageFilter;
+import boofcv.abst.filter.blur.GuidedBlurFilter;
 import boofcv.struct.border.ImageBorder;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageGray;
@@ -99,4 +101,61 @@ public class FactoryBlurFilter {
 	gaussian(Class<T> type , double sigmaX , int radiusX , double sigmaY, int radiusY) {
 		return gaussian(ImageType.single(type), sigmaX, radiusX, sigmaY, radiusY);
 	}
+
+	/**
+	 * Creates a Gaussian filter which uses a recursive (IIR) approximation. The cost per pixel is independent of
+	 * sigma, making it faster than {@link #gaussian} for large sigma.
+	 *
+	 * @param type Image type.
+	 * @param sigma Gaussian distribution's sigma. Must be &ge; 0.5
+	 * @return Gaussian image filter.
+	 */
+	public static <T extends ImageBase<T>> BlurStorageFilter<T> gaussianRecursive(ImageType<T> type , double sigma ) {
+		return gaussianRecursive(type, sigma, sigma);
+	}
+
+	public static <T extends ImageGray<T>> BlurStorageFilter<T> gaussianRecursive(Class<T> type , double sigma ) {
+		return gaussianRecursive(ImageType.single(type), sigma);
+	}
+
+	public static <T extends ImageBase<T>> BlurStorageFilter<T>
+	gaussianRecursive(ImageType<T> type , double sigmaX , double sigmaY ) {
+		return new BlurStorageFilter<>("gaussianRecursive", type, sigmaX, -1, sigmaY, -1);
+	}
+
+	/**
+	 * Creates an edge preserving guided filter which uses the input image as its own guide. The cost per pixel
+	 * is independent of the radius. Supports U8 and F32 gray and planar images.
+	 *
+	 * @param type Image type.
+	 * @param radius Radius of the local window.
+	 * @param epsilon Regularization in units of pixel value squared. Larger values will smooth more.
+	 * @return Guided image filter.
+	 */
+	public static <T extends ImageBase<T>> GuidedBlurFilter<T> guided(ImageType<T> type , int radius , double epsilon ) {
+		return new GuidedBlurFilter<>(type, radius, epsilon);
+	}
+
+	public static <T extends ImageGray<T>> GuidedBlurFilter<T> guided(Class<T> type , int radius , double epsilon ) {
+		return guided(ImageType.single(type), radius, epsilon);
+	}
+
+	/**
+	 * Creates an edge preserving filter which approximates a bilateral filter using a bilateral grid. The cost
+	 * per pixel is independent of the spatial sigma. Supports U8 and F32 gray and planar images.
+	 *
+	 * @param type Image type.
+	 * @param sigmaSpatial Spatial standard deviation in pixels. Must be &ge; 1
+	 * @param sigmaRange Range standard deviation in pixel values. Must be &gt; 0
+	 * @return Bilateral image filter.
+	 */
+	public static <T extends ImageBase<T>> BilateralGridBlurFilter<T>
+	bilateralGrid(ImageType<T> type , double sigmaSpatial , double sigmaRange ) {
+		return new BilateralGridBlurFilter<>(type, sigmaSpatial, sigmaRange);
+	}
+
+	public static <T extends ImageGray<T>> BilateralGridBlurFilter<T>
+	bilateralGrid(Class<T> type , double sigmaSpatial , double sigmaRange ) {
+		return bilateralGrid(ImageType.single(type), sigmaSpatial, sigmaRange);
+	}
 }
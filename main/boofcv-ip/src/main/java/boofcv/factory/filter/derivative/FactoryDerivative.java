@@ -25,6 +25,7 @@ import boofcv.struct.border.ImageBorder_F32;
 import boofcv.struct.border.ImageBorder_S32;
 import boofcv.struct.image.*;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Method;
 
 /**
@@ -54,6 +55,21 @@ public class FactoryDerivative {
 									   DerivativeReduceType type,
 									   Class<D> outputType )
 	{
+		return gradientReduce(gradient, type, outputType, null);
+	}
+
+	/**
+	 * Same as {@link #gradientReduce(ImageGradient, DerivativeReduceType, Class)} but the intermediate
+	 * multi-band gradient is borrowed from the pool each time it's called.
+	 *
+	 * @param pool (Optional) Source of images for intermediate results. If null they are owned by the filter.
+	 */
+	public static <I extends ImageMultiBand<I>, M extends ImageMultiBand<M>, D extends ImageGray<D>>
+	ImageGradient<I,D> gradientReduce( ImageGradient<I,M> gradient ,
+									   DerivativeReduceType type,
+									   Class<D> outputType,
+									   @Nullable ImagePool pool )
+	{
 
 		String name;
 
@@ -81,7 +97,7 @@ public class FactoryDerivative {
 		GradientMultiToSingleBand_Reflection<M,D> reducer =
 				new GradientMultiToSingleBand_Reflection<>(m, gradient.getDerivativeType(), outputType);
 
-		return new ImageGradientThenReduce<>(gradient, reducer);
+		return new ImageGradientThenReduce<>(gradient, reducer, pool);
 	}
 
 	/**
@@ -28,11 +28,14 @@ import boofcv.struct.border.BorderType;
 import boofcv.struct.convolve.Kernel1D;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.ConfigDiscreteLevels;
 import boofcv.struct.pyramid.PyramidDiscrete;
 import boofcv.struct.pyramid.PyramidFloat;
 
+import javax.annotation.Nullable;
+
 
 /**
  * Factory for creating classes related to image pyramids.
@@ -61,6 +64,23 @@ public class FactoryPyramid {
 		return new PyramidDiscreteSampleBlur<>(kernel, sigma, imageType, saveOriginalReference, configLevels);
 	}
 
+	/**
+	 * Same as {@link #discreteGaussian(ConfigDiscreteLevels, double, int, boolean, ImageType)} but layers and
+	 * internal work space are borrowed from the pool. Call {@link PyramidDiscrete#releaseLayers()} when finished
+	 * with the pyramid to return the layers.
+	 *
+	 * @param pool (Optional) Source of images. If null images are declared as usual.
+	 */
+	public static <T extends ImageBase<T>>
+	PyramidDiscrete<T> discreteGaussian(ConfigDiscreteLevels configLevels, double sigma , int radius ,
+										boolean saveOriginalReference, ImageType<T> imageType,
+										@Nullable ImagePool pool )
+	{
+		PyramidDiscrete<T> pyramid = discreteGaussian(configLevels, sigma, radius, saveOriginalReference, imageType);
+		pyramid.setImagePool(pool);
+		return pyramid;
+	}
+
 	/**
 	 * Creates a float pyramid where each layer is blurred using a Gaussian with the specified
 	 * sigma.  Bilinear interpolation is used when sub-sampling.
@@ -79,6 +99,20 @@ public class FactoryPyramid {
 		return new PyramidFloatGaussianScale<>(interp, scaleFactors, sigmas, imageType);
 	}
 
+	/**
+	 * Same as {@link #floatGaussian(double[], double[], Class)} but layers are borrowed from the pool.
+	 * Call {@link PyramidFloat#releaseLayers()} when finished with the pyramid to return the layers.
+	 *
+	 * @param pool (Optional) Source of images. If null images are declared as usual.
+	 */
+	public static <T extends ImageGray<T>>
+	PyramidFloat<T> floatGaussian( double[] scaleFactors, double []sigmas , Class<T> imageType,
+								   @Nullable ImagePool pool ) {
+		PyramidFloat<T> pyramid = floatGaussian(scaleFactors, sigmas, imageType);
+		pyramid.setImagePool(pool);
+		return pyramid;
+	}
+
 	/**
 	 * Constructs an image pyramid which is designed to mimic a {@link boofcv.struct.gss.GaussianScaleSpace}.  Each layer in the pyramid
 	 * should have the equivalent amount of blur that a space-space constructed with the same parameters would have.
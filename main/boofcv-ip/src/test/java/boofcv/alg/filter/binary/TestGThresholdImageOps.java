@@ -18,11 +18,18 @@
 
 package boofcv.alg.filter.binary;
 
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.ImageByteBuffer;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
 import org.junit.jupiter.api.Test;
 
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -32,6 +39,52 @@ public class TestGThresholdImageOps {
 
 	Random rand = new Random(234);
 
+	/**
+	 * Threshold an image in a direct buffer, which has to be processed in strips
+	 */
+	@Test
+	public void threshold_ByteBuffer() {
+		GrayU16 input = new GrayU16(40,30);
+		ImageMiscOps.fillUniform(input,rand,0,1000);
+
+		GrayU8 expected = GThresholdImageOps.threshold(input,null,400,true);
+
+		ImageByteBuffer<GrayU16> buffer = ImageByteBuffer.allocate(ImageType.SB_U16,40,30);
+		buffer.copyFrom(input);
+		assertFalse(buffer.isViewable());
+		assertTrue(buffer.defaultStripRows() > 30);
+
+		// the work image is left with the last strip, which reveals how the image was split up
+		for( int stripRows : new int[]{0,7,30} ) {
+			GrayU8 found = new GrayU8(1,1);
+			GrayU16 work = new GrayU16(1,1);
+			GThresholdImageOps.threshold(buffer,found,400,true,stripRows,work);
+			BoofTesting.assertEquals(expected,found,0);
+			assertEquals(stripRows == 7 ? 2 : 30, work.height);
+		}
+	}
+
+	/**
+	 * The image is taller than the default strip size, so it's split into several strips
+	 */
+	@Test
+	public void threshold_ByteBuffer_defaultStrips() {
+		GrayU16 input = new GrayU16(2000,150);
+		ImageMiscOps.fillUniform(input,rand,0,1000);
+
+		GrayU8 expected = GThresholdImageOps.threshold(input,null,400,false);
+
+		ImageByteBuffer<GrayU16> buffer = ImageByteBuffer.allocate(ImageType.SB_U16,2000,150);
+		buffer.copyFrom(input);
+		int stripRows = buffer.defaultStripRows();
+		assertTrue(stripRows < 150);
+
+		GrayU16 work = new GrayU16(1,1);
+		GrayU8 found = GThresholdImageOps.threshold(buffer,null,400,false,work);
+		BoofTesting.assertEquals(expected,found,0);
+		assertEquals(150 - stripRows*((150-1)/stripRows), work.height);
+	}
+
 	/**
 	 * Compare otsu against a brute force algorithm for computing variance directly.
 	 */
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestBilateralGrid {
+	Random rand = new Random(234);
+	int width = 60, height = 50;
+
+	@Test
+	void constant() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fill(input,120);
+
+		GrayU8 found = new GrayU8(1,1);
+		new BilateralGrid().process(input,3,10,found);
+
+		BoofTesting.assertEquals(input,found,0);
+	}
+
+	/**
+	 * Pixels on opposite sides of a step edge should not be mixed together while noise in flat regions is removed
+	 */
+	@Test
+	void preserveEdges() {
+		GrayF32 input = new GrayF32(width,height);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				input.set(x,y,(x < width/2 ? 50 : 200) + (float)rand.nextGaussian()*3);
+			}
+		}
+
+		GrayF32 found = new GrayF32(width,height);
+		new BilateralGrid().process(input,4,20,found);
+
+		double errorIn = 0, errorOut = 0;
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				float expected = x < width/2 ? 50 : 200;
+				assertEquals(expected, found.get(x,y), 5);
+				errorIn += Math.abs(input.get(x,y)-expected);
+				errorOut += Math.abs(found.get(x,y)-expected);
+			}
+		}
+		assertTrue(errorOut < errorIn*0.5);
+	}
+
+	/**
+	 * Reusing the same instance on images with different shapes and ranges should not change the results
+	 */
+	@Test
+	void reuse() {
+		GrayU8 imageA = new GrayU8(width,height);
+		GrayU8 imageB = new GrayU8(width/2+3,height+7);
+		ImageMiscOps.fillUniform(imageA,rand,0,255);
+		ImageMiscOps.fillUniform(imageB,rand,100,120);
+
+		GrayU8 expected = new GrayU8(1,1);
+		new BilateralGrid().process(imageA,2.5,15,expected);
+
+		BilateralGrid alg = new BilateralGrid();
+		GrayU8 found = new GrayU8(1,1);
+		alg.process(imageB,4,15,found);
+		alg.process(imageA,2.5,15,found);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	void subimage() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		GrayF32 expected = new GrayF32(width,height);
+		BilateralGrid alg = new BilateralGrid();
+		alg.process(input,3,10,expected);
+
+		GrayF32 subInput = BoofTesting.createSubImageOf(input);
+		GrayF32 found = BoofTesting.createSubImageOf(expected);
+		ImageMiscOps.fill(found,0);
+		alg.process(subInput,3,10,found);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	void badArguments() {
+		GrayU8 input = new GrayU8(width,height);
+		assertThrows(IllegalArgumentException.class,()->new BilateralGrid().process(input,0.5,10,input.createSameShape()));
+		assertThrows(IllegalArgumentException.class,()->new BilateralGrid().process(input,2,0,input.createSameShape()));
+	}
+
+	/**
+	 * A large span of values with a small range sigma would create an enormous grid and should be rejected
+	 */
+	@Test
+	void gridTooLarge() {
+		GrayF32 input = new GrayF32(width,height);
+		input.set(5,6,1e9f);
+		var alg = new BilateralGrid();
+		assertThrows(IllegalArgumentException.class,()->alg.process(input,2,0.01,input.createSameShape()));
+
+		// the limit can be changed
+		input.set(5,6,1000f);
+		alg.maxGridSize = 1000;
+		assertThrows(IllegalArgumentException.class,()->alg.process(input,2,1,input.createSameShape()));
+		alg.maxGridSize = 1 << 28;
+		alg.process(input,2,1,input.createSameShape());
+	}
+}
@@ -211,6 +211,96 @@ class TestBlurImageOps {
 		}
 	}
 
+	/**
+	 * Compares the recursive approximation against convolution with a Gaussian kernel. Borders are skipped
+	 * since the two approaches handle them differently
+	 */
+	@Test
+	void gaussianRecursive() {
+		double sigma = 3;
+		int radius = 9;
+		for( ImageType type : imageTypesGaussian ) {
+			ImageBase input = type.createImage(60,50);
+			ImageBase found = type.createImage(60,50);
+			ImageBase expected = type.createImage(60,50);
+
+			GImageMiscOps.fillUniform(input, rand, 0, 20);
+
+			Kernel2D kernel = FactoryKernelGaussian.gaussian2D(type.getDataType(),sigma,radius);
+			GConvolveImageOps.convolveNormalized(kernel, input, expected);
+			try {
+				Class storage;
+				switch( type.getFamily() ) {
+					case PLANAR: storage = ImageGray.class; break;
+					case GRAY: storage = GrayF32.class; break;
+					default: storage = InterleavedF32.class; break;
+				}
+
+				Method m = BlurImageOps.class.getMethod("gaussianRecursive",
+						input.getClass(), found.getClass(), double.class, double.class, storage);
+
+				m.invoke(null,input,found, sigma, sigma, null);
+				BoofTesting.assertEqualsInner(expected,found,1,radius,radius,radius,radius,false);
+			} catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * Compare to directly calling the algorithm on each band
+	 */
+	@Test
+	void guided() {
+		for( ImageType type : imageTypes ) {
+			ImageBase input = type.createImage(width,height);
+			ImageBase found = type.createImage(width,height);
+			ImageBase expected = type.createImage(width,height);
+
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+			GuidedFilter alg = new GuidedFilter();
+			for( int band = 0; band < input.getImageType().getNumBands(); band++ ) {
+				ImageGray bandIn = band(input, band);
+				ImageGray bandOut = band(expected, band);
+				if( bandIn instanceof GrayU8 )
+					alg.process((GrayU8)bandIn,(GrayU8)bandIn,2,50,(GrayU8)bandOut);
+				else
+					alg.process((GrayF32)bandIn,(GrayF32)bandIn,2,50,(GrayF32)bandOut);
+			}
+
+			GBlurImageOps.guided(input,found,2,50,null);
+			BoofTesting.assertEquals(expected,found,1e-4);
+		}
+	}
+
+	/**
+	 * Compare to directly calling the algorithm on each band
+	 */
+	@Test
+	void bilateralGrid() {
+		for( ImageType type : imageTypes ) {
+			ImageBase input = type.createImage(width,height);
+			ImageBase found = type.createImage(width,height);
+			ImageBase expected = type.createImage(width,height);
+
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+			BilateralGrid alg = new BilateralGrid();
+			for( int band = 0; band < input.getImageType().getNumBands(); band++ ) {
+				ImageGray bandIn = band(input, band);
+				ImageGray bandOut = band(expected, band);
+				if( bandIn instanceof GrayU8 )
+					alg.process((GrayU8)bandIn,2,10,(GrayU8)bandOut);
+				else
+					alg.process((GrayF32)bandIn,2,10,(GrayF32)bandOut);
+			}
+
+			GBlurImageOps.bilateralGrid(input,found,2,10,null);
+			BoofTesting.assertEquals(expected,found,1e-4);
+		}
+	}
+
 	@Test
 	void median() {
 		for( ImageType type : imageTypes ) {
@@ -247,4 +337,10 @@ class TestBlurImageOps {
 			}
 		}
 	}
+
+	private static ImageGray band( ImageBase image, int band ) {
+		if( image instanceof Planar )
+			return ((Planar)image).getBand(band);
+		return (ImageGray)image;
+	}
 }
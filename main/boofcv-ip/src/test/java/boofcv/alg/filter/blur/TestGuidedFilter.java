@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Peter Abeles
+ */
+class TestGuidedFilter {
+	Random rand = new Random(234);
+	int width = 30, height = 25;
+
+	/**
+	 * Compare against a straight forward implementation of the equations
+	 */
+	@Test
+	void compareToNaive() {
+		GrayF32 guide = new GrayF32(width,height);
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(guide,rand,0,100);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		for( int radius = 1; radius <= 4; radius++ ) {
+			GrayF32 expected = naive(guide,input,radius,20);
+			GrayF32 found = new GrayF32(1,1);
+			new GuidedFilter().process(guide,input,radius,20,found);
+
+			BoofTesting.assertEquals(expected,found,1e-2);
+		}
+	}
+
+	@Test
+	void subimage() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		GrayF32 expected = new GrayF32(width,height);
+		GuidedFilter alg = new GuidedFilter();
+		alg.process(input,input,3,50,expected);
+
+		GrayF32 subInput = BoofTesting.createSubImageOf(input);
+		GrayF32 found = BoofTesting.createSubImageOf(expected);
+		ImageMiscOps.fill(found,0);
+		alg.process(subInput,subInput,3,50,found);
+
+		BoofTesting.assertEquals(expected,found,1e-4);
+	}
+
+	/**
+	 * Edges should be preserved while noise inside of flat regions is removed
+	 */
+	@Test
+	void preserveEdges() {
+		GrayF32 input = new GrayF32(width,height);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				input.set(x,y,(x < width/2 ? 50 : 200) + (float)rand.nextGaussian()*3);
+			}
+		}
+
+		GrayF32 found = new GrayF32(width,height);
+		new GuidedFilter().process(input,input,3,100,found);
+
+		for( int y = 0; y < height; y++ ) {
+			assertEquals(50, found.get(width/2-1,y), 8);
+			assertEquals(200, found.get(width/2,y), 8);
+			assertEquals(50, found.get(2,y), 3);
+			assertEquals(200, found.get(width-3,y), 3);
+		}
+	}
+
+	/**
+	 * The integer version should produce the same results as the floating point version, after rounding
+	 */
+	@Test
+	void compare_U8_F32() {
+		GrayU8 input = new GrayU8(width,height);
+		GrayU8 guide = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+		ImageMiscOps.fillUniform(guide,rand,0,255);
+
+		GrayF32 inputF = new GrayF32(width,height);
+		GrayF32 guideF = new GrayF32(width,height);
+		for( int i = 0; i < input.data.length; i++ ) {
+			inputF.data[i] = input.data[i] & 0xFF;
+			guideF.data[i] = guide.data[i] & 0xFF;
+		}
+
+		GuidedFilter alg = new GuidedFilter();
+		GrayU8 found = new GrayU8(1,1);
+		GrayF32 expected = new GrayF32(1,1);
+		alg.process(guide,input,2,200,found);
+		alg.process(guideF,inputF,2,200,expected);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				float e = Math.max(0,Math.min(255,expected.get(x,y)));
+				assertEquals(e, found.get(x,y), 0.51);
+			}
+		}
+	}
+
+	@Test
+	void checkShape() {
+		assertThrows(IllegalArgumentException.class,()->
+				new GuidedFilter().process(new GrayF32(10,12),new GrayF32(10,11),2,1,new GrayF32(1,1)));
+	}
+
+	private static GrayF32 naive( GrayF32 guide, GrayF32 input, int radius, float epsilon ) {
+		GrayF32 a = new GrayF32(guide.width,guide.height);
+		GrayF32 b = new GrayF32(guide.width,guide.height);
+
+		for( int y = 0; y < guide.height; y++ ) {
+			for( int x = 0; x < guide.width; x++ ) {
+				double meanI=0,meanP=0,meanII=0,meanIP=0;
+				int total = 0;
+				for( int i = Math.max(0,y-radius); i <= Math.min(guide.height-1,y+radius); i++ ) {
+					for( int j = Math.max(0,x-radius); j <= Math.min(guide.width-1,x+radius); j++ ) {
+						double I = guide.get(j,i), P = input.get(j,i);
+						meanI += I; meanP += P; meanII += I*I; meanIP += I*P;
+						total++;
+					}
+				}
+				meanI /= total; meanP /= total; meanII /= total; meanIP /= total;
+
+				double valueA = (meanIP-meanI*meanP)/(meanII-meanI*meanI+epsilon);
+				a.set(x,y,(float)valueA);
+				b.set(x,y,(float)(meanP-valueA*meanI));
+			}
+		}
+
+		GrayF32 output = new GrayF32(guide.width,guide.height);
+		for( int y = 0; y < guide.height; y++ ) {
+			for( int x = 0; x < guide.width; x++ ) {
+				double meanA=0, meanB=0;
+				int total = 0;
+				for( int i = Math.max(0,y-radius); i <= Math.min(guide.height-1,y+radius); i++ ) {
+					for( int j = Math.max(0,x-radius); j <= Math.min(guide.width-1,x+radius); j++ ) {
+						meanA += a.get(j,i); meanB += b.get(j,i);
+						total++;
+					}
+				}
+				output.set(x,y,(float)((meanA*guide.get(x,y)+meanB)/total));
+			}
+		}
+		return output;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestImplBilateralGrid_MT {
+	Random rand = new Random(234);
+	int width = 100, height = 110;
+
+	float spatial = 3.5f, range = 12;
+	int numRows = (int)((height-1)/spatial + 0.5f) + 1;
+	int gridWidth = (int)((width-1)/spatial + 0.5f) + 1 + 2*ImplBilateralGrid.PAD;
+	int gridHeight = numRows + 2*ImplBilateralGrid.PAD;
+	int gridDepth = (int)(255/range + 0.5f) + 1 + 2*ImplBilateralGrid.PAD;
+	int[] rowStart = new int[numRows+1];
+
+	TestImplBilateralGrid_MT() {
+		int row = 0;
+		for( int y = 0; y < height; y++ ) {
+			int r = (int)(y/spatial + 0.5f);
+			while( row <= r ) {
+				rowStart[row++] = y;
+			}
+		}
+		rowStart[numRows] = height;
+	}
+
+	@Test
+	void process_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+
+		float[] expected = new float[2*gridWidth*gridHeight*gridDepth];
+		float[] found = new float[expected.length];
+
+		ImplBilateralGrid.splat(input,0,spatial,range,rowStart,numRows,expected,gridWidth,gridDepth);
+		ImplBilateralGrid_MT.splat(input,0,spatial,range,rowStart,numRows,found,gridWidth,gridDepth);
+		assertArrayEquals(expected,found,0.0f);
+
+		ImplBilateralGrid.blurRange(expected,gridWidth,gridHeight,gridDepth);
+		ImplBilateralGrid_MT.blurRange(found,gridWidth,gridHeight,gridDepth);
+		assertArrayEquals(expected,found,0.0f);
+
+		ImplBilateralGrid.blurX(expected,gridWidth,gridHeight,gridDepth);
+		ImplBilateralGrid_MT.blurX(found,gridWidth,gridHeight,gridDepth);
+		assertArrayEquals(expected,found,0.0f);
+
+		ImplBilateralGrid.blurY(expected,gridWidth,gridHeight,gridDepth);
+		ImplBilateralGrid_MT.blurY(found,gridWidth,gridHeight,gridDepth);
+		assertArrayEquals(expected,found,0.0f);
+
+		GrayU8 outputExpected = input.createSameShape();
+		GrayU8 outputFound = input.createSameShape();
+		ImplBilateralGrid.slice(input,0,spatial,range,expected,gridWidth,gridDepth,outputExpected);
+		ImplBilateralGrid_MT.slice(input,0,spatial,range,found,gridWidth,gridDepth,outputFound);
+		BoofTesting.assertEquals(outputExpected,outputFound,0);
+	}
+
+	@Test
+	void process_F32() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+
+		float[] expected = new float[2*gridWidth*gridHeight*gridDepth];
+		float[] found = new float[expected.length];
+
+		ImplBilateralGrid.splat(input,0,spatial,range,rowStart,numRows,expected,gridWidth,gridDepth);
+		ImplBilateralGrid_MT.splat(input,0,spatial,range,rowStart,numRows,found,gridWidth,gridDepth);
+		assertArrayEquals(expected,found,0.0f);
+
+		GrayF32 outputExpected = input.createSameShape();
+		GrayF32 outputFound = input.createSameShape();
+		ImplBilateralGrid.slice(input,0,spatial,range,expected,gridWidth,gridDepth,outputExpected);
+		ImplBilateralGrid_MT.slice(input,0,spatial,range,found,gridWidth,gridDepth,outputFound);
+		BoofTesting.assertEquals(outputExpected,outputFound,0);
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplGaussianRecursive {
+	Random rand = new Random(234);
+
+	/**
+	 * The filter should have a gain of one, otherwise constant images would change value
+	 */
+	@Test
+	void coefficients_gain() {
+		for( double sigma : new double[]{0.5,1,2.5,10,50} ) {
+			double[] coef64 = ImplGaussianRecursive.coefficients_F64(sigma);
+			assertEquals(1.0, coef64[0]+coef64[1]+coef64[2]+coef64[3], 1e-12);
+			float[] coef32 = ImplGaussianRecursive.coefficients_F32(sigma);
+			assertEquals(1.0f, coef32[0]+coef32[1]+coef32[2]+coef32[3], 1e-6f);
+		}
+		assertThrows(IllegalArgumentException.class, ()->ImplGaussianRecursive.coefficients_F64(0.4));
+	}
+
+	/**
+	 * Compare the impulse response to a sampled Gaussian
+	 */
+	@Test
+	void filter_impulse() {
+		for( double sigma : new double[]{3,10,25} ) {
+			int N = (int)(10*sigma);
+			double[] line = new double[2*N+1];
+			line[N] = 1;
+			ImplGaussianRecursive.filter(line, line.length, ImplGaussianRecursive.coefficients_F64(sigma));
+
+			double total = 0;
+			for( int i = 0; i < line.length; i++ ) {
+				total += line[i];
+			}
+			assertEquals(1.0, total, 1e-5);
+
+			double peak = 1.0/(Math.sqrt(2*Math.PI)*sigma);
+			for( int i = 0; i < line.length; i++ ) {
+				double x = i-N;
+				double expected = peak*Math.exp(-0.5*x*x/(sigma*sigma));
+				assertEquals(expected, line[i], peak*0.05);
+				// should be symmetric
+				assertEquals(line[line.length-1-i], line[i], 1e-5);
+			}
+		}
+	}
+
+	/**
+	 * A constant image should not be modified, including along the border
+	 */
+	@Test
+	void constant() {
+		GrayU8 input = new GrayU8(30,25);
+		GrayF32 storage = new GrayF32(30,25);
+		GrayU8 output = new GrayU8(30,25);
+		ImageMiscOps.fill(input,123);
+
+		float[] coef = ImplGaussianRecursive.coefficients_F32(4);
+		ImplGaussianRecursive.horizontal(input, storage, coef);
+		ImplGaussianRecursive.vertical(storage, output, coef);
+
+		BoofTesting.assertEquals(input, output, 0);
+	}
+
+	/**
+	 * Each band in an interleaved image should produce the same results as a gray image
+	 */
+	@Test
+	void interleaved_compareToGray() {
+		InterleavedU16 input = new InterleavedU16(30,25,3);
+		ImageMiscOps.fillUniform(input,rand,0,5000);
+
+		float[] coefX = ImplGaussianRecursive.coefficients_F32(2);
+		float[] coefY = ImplGaussianRecursive.coefficients_F32(3);
+
+		InterleavedF32 storage = new InterleavedF32(30,25,3);
+		InterleavedU16 found = new InterleavedU16(30,25,3);
+		ImplGaussianRecursive.horizontal(input, storage, coefX);
+		ImplGaussianRecursive.vertical(storage, found, coefY);
+
+		GrayU16 band = new GrayU16(30,25);
+		GrayF32 storageBand = new GrayF32(30,25);
+		GrayU16 expected = new GrayU16(30,25);
+		for( int b = 0; b < 3; b++ ) {
+			for( int y = 0; y < input.height; y++ ) {
+				for( int x = 0; x < input.width; x++ ) {
+					band.set(x,y,input.getBand(x,y,b));
+				}
+			}
+			ImplGaussianRecursive.horizontal(band, storageBand, coefX);
+			ImplGaussianRecursive.vertical(storageBand, expected, coefY);
+
+			for( int y = 0; y < input.height; y++ ) {
+				for( int x = 0; x < input.width; x++ ) {
+					assertEquals(expected.get(x,y), found.getBand(x,y,b));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sub-images and images which are larger than needed should be handled correctly
+	 */
+	@Test
+	void subimage() {
+		GrayF64 input = new GrayF64(30,25);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		GrayF64 storage = new GrayF64(30,25);
+		GrayF64 expected = new GrayF64(30,25);
+
+		double[] coef = ImplGaussianRecursive.coefficients_F64(2.5);
+		ImplGaussianRecursive.horizontal(input, storage, coef);
+		ImplGaussianRecursive.vertical(storage, expected, coef);
+
+		GrayF64 subInput = BoofTesting.createSubImageOf(input);
+		GrayF64 subStorage = BoofTesting.createSubImageOf(storage);
+		GrayF64 found = BoofTesting.createSubImageOf(expected);
+		ImageMiscOps.fill(found,0);
+
+		ImplGaussianRecursive.horizontal(subInput, subStorage, coef);
+		ImplGaussianRecursive.vertical(subStorage, found, coef);
+
+		BoofTesting.assertEquals(expected, found, 1e-8);
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplGaussianRecursive_MT {
+	Random rand = new Random(234);
+
+	@Test
+	void compareToSingle_U8() {
+		GrayU8 input = new GrayU8(200,210);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		float[] coefX = ImplGaussianRecursive.coefficients_F32(3);
+		float[] coefY = ImplGaussianRecursive.coefficients_F32(20);
+
+		GrayF32 storage = new GrayF32(200,210);
+		GrayU8 expected = input.createSameShape();
+		ImplGaussianRecursive.horizontal(input, storage, coefX);
+		ImplGaussianRecursive.vertical(storage, expected, coefY);
+
+		GrayU8 found = BoofTesting.createSubImageOf(expected);
+		ImageMiscOps.fill(found,0);
+		ImplGaussianRecursive_MT.horizontal(input, storage, coefX);
+		ImplGaussianRecursive_MT.vertical(storage, found, coefY);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test
+	void compareToSingle_IL_F64() {
+		InterleavedF64 input = new InterleavedF64(200,210,2);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		double[] coef = ImplGaussianRecursive.coefficients_F64(8);
+
+		InterleavedF64 storage = input.createSameShape();
+		InterleavedF64 expected = input.createSameShape();
+		ImplGaussianRecursive.horizontal(input, storage, coef);
+		ImplGaussianRecursive.vertical(storage, expected, coef);
+
+		InterleavedF64 found = BoofTesting.createSubImageOf(expected);
+		ImageMiscOps.fill(found,0);
+		ImplGaussianRecursive_MT.horizontal(input, storage, coef);
+		ImplGaussianRecursive_MT.vertical(storage, found, coef);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+}
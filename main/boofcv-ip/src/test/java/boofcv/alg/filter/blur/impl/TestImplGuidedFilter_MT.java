@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+class TestImplGuidedFilter_MT {
+	Random rand = new Random(234);
+	int width = 100, height = 110;
+
+	GrayF32 imageA = new GrayF32(width,height);
+	GrayF32 imageB = new GrayF32(width,height);
+	GrayF32 imageC = new GrayF32(width,height);
+	GrayF32 imageD = new GrayF32(width,height);
+
+	TestImplGuidedFilter_MT() {
+		ImageMiscOps.fillUniform(imageA,rand,0,100);
+		ImageMiscOps.fillUniform(imageB,rand,0,100);
+		ImageMiscOps.fillUniform(imageC,rand,0,10000);
+		ImageMiscOps.fillUniform(imageD,rand,0,10000);
+	}
+
+	@Test
+	void products() {
+		GrayF32 expectedA = imageA.createSameShape(), expectedB = imageA.createSameShape();
+		GrayF32 foundA = imageA.createSameShape(), foundB = imageA.createSameShape();
+
+		ImplGuidedFilter.products(imageA,imageB,expectedA,expectedB);
+		ImplGuidedFilter_MT.products(imageA,imageB,foundA,foundB);
+
+		BoofTesting.assertEquals(expectedA,foundA,0);
+		BoofTesting.assertEquals(expectedB,foundB,0);
+	}
+
+	@Test
+	void coefficients() {
+		GrayF32 expectedA = imageA.createSameShape(), expectedB = imageA.createSameShape();
+		GrayF32 foundA = imageA.createSameShape(), foundB = imageA.createSameShape();
+
+		ImplGuidedFilter.coefficients(imageA,imageB,imageC,imageD,20,expectedA,expectedB);
+		ImplGuidedFilter_MT.coefficients(imageA,imageB,imageC,imageD,20,foundA,foundB);
+
+		BoofTesting.assertEquals(expectedA,foundA,0);
+		BoofTesting.assertEquals(expectedB,foundB,0);
+	}
+
+	@Test
+	void output() {
+		GrayF32 expected = imageA.createSameShape();
+		GrayF32 found = imageA.createSameShape();
+		ImplGuidedFilter.output(imageA,imageB,imageC,expected);
+		ImplGuidedFilter_MT.output(imageA,imageB,imageC,found);
+		BoofTesting.assertEquals(expected,found,0);
+
+		GrayU8 expectedU8 = new GrayU8(width,height);
+		GrayU8 foundU8 = new GrayU8(width,height);
+		ImplGuidedFilter.output(imageA,imageB,imageC,expectedU8);
+		ImplGuidedFilter_MT.output(imageA,imageB,imageC,foundU8);
+		BoofTesting.assertEquals(expectedU8,foundU8,0);
+	}
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestPixelExpression {
+	Random rand = BoofTesting.createRandom(234);
+	int width = 30, height = 25;
+
+	@Test
+	void chain_U8() {
+		GrayU8 a = new GrayU8(width, height);
+		GrayU8 b = new GrayU8(width, height);
+		ImageMiscOps.fillUniform(a, rand, 0, 255);
+		ImageMiscOps.fillUniform(b, rand, 0, 255);
+
+		GrayU8 expected = new GrayU8(width, height);
+		PixelMath.diffAbs(a, b, expected);
+		PixelMath.multiply(expected, 2.0, 0, 255, expected);
+
+		// test it on a sub-image too
+		GrayU8 found = BoofTesting.createSubImageOf(new GrayU8(width, height));
+		var alg = new PixelExpression();
+		alg.output(alg.input(BoofTesting.createSubImageOf(a)).diffAbs(alg.input(b)).multiply(2).bound(0, 255), found);
+		alg.process();
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test
+	void chain_S16() {
+		GrayS16 a = new GrayS16(width, height);
+		ImageMiscOps.fillUniform(a, rand, -1000, 1000);
+
+		GrayS16 expected = new GrayS16(width, height);
+		PixelMath.multiply(a, 3.0, expected);
+		PixelMath.plus(expected, -5, expected);
+		PixelMath.abs(expected, expected);
+
+		GrayS16 found = new GrayS16(1, 1);
+		var alg = new PixelExpression();
+		alg.output(alg.input(a).multiply(3).minus(5).abs(), found);
+		alg.process();
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test
+	void chain_F32() {
+		GrayF32 a = new GrayF32(width, height);
+		ImageMiscOps.fillUniform(a, rand, -10, 10);
+
+		GrayF32 expected = new GrayF32(width, height);
+		PixelMath.logSign(a, 1.0f, expected);
+		PixelMath.multiply(expected, 2.5f, expected);
+		PixelMath.minus(1.5f, expected, expected);
+		PixelMath.pow2(expected, expected);
+		PixelMath.divide(expected, 4.0f, expected);
+
+		GrayF32 found = new GrayF32(width, height);
+		var alg = new PixelExpression();
+		alg.output(alg.input(a).logSign(1.0).multiply(2.5).minusFrom(1.5).pow2().divide(4.0), found);
+		alg.process();
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	@Test
+	void binary_F64() {
+		GrayF64 a = new GrayF64(width, height);
+		GrayF64 b = new GrayF64(width, height);
+		ImageMiscOps.fillUniform(a, rand, 1, 10);
+		ImageMiscOps.fillUniform(b, rand, 1, 10);
+
+		GrayF64 sum = new GrayF64(width, height);
+		GrayF64 expected = new GrayF64(width, height);
+		GrayF64 tmp = new GrayF64(width, height);
+		PixelMath.add(a, b, sum);
+		PixelMath.subtract(a, b, tmp);
+		PixelMath.multiply(sum, tmp, expected);
+		PixelMath.divide(expected, b, expected);
+		PixelMath.log(expected, 100.0, expected);
+
+		GrayF64 stdev = new GrayF64(width, height);
+		PixelMath.pow2(a, tmp);
+		PixelMath.stdev(b, tmp, stdev);
+
+		GrayF64 found = new GrayF64(width, height);
+		GrayF64 foundSum = new GrayF64(width, height);
+		GrayF64 foundStdev = new GrayF64(width, height);
+		var alg = new PixelExpression();
+		PixelExpression.Value va = alg.input(a);
+		PixelExpression.Value vb = alg.input(b);
+		PixelExpression.Value vsum = va.plus(vb);
+		alg.output(vsum.multiply(va.minus(vb)).divide(vb).log(100.0), found);
+		alg.output(vsum, foundSum);
+		alg.output(alg.stdev(vb, va.pow2()), foundStdev);
+		alg.process();
+
+		BoofTesting.assertEquals(expected, found, 1e-8);
+		BoofTesting.assertEquals(sum, foundSum, 1e-8);
+		BoofTesting.assertEquals(stdev, foundStdev, 1e-8);
+	}
+
+	@Test
+	void bandMath() {
+		Planar<GrayF32> input = new Planar<>(GrayF32.class, width, height, 3);
+		GImageMiscOps.fillUniform(input, rand, -5, 5);
+
+		GrayF32 expectedAve = new GrayF32(width, height);
+		GrayF32 expectedMin = new GrayF32(width, height);
+		GrayF32 expectedMax = new GrayF32(width, height);
+		ImageBandMath.average(input, expectedAve);
+		ImageBandMath.minimum(input, expectedMin);
+		ImageBandMath.maximum(input, expectedMax);
+
+		GrayF32 foundAve = new GrayF32(width, height);
+		GrayF32 foundMin = new GrayF32(width, height);
+		GrayF32 foundMax = new GrayF32(width, height);
+		var alg = new PixelExpression();
+		PixelExpression.Value[] bands = new PixelExpression.Value[3];
+		for (int i = 0; i < bands.length; i++) {
+			bands[i] = alg.input(input.getBand(i));
+		}
+		alg.output(alg.average(bands), foundAve);
+		alg.output(alg.minimum(bands), foundMin);
+		alg.output(alg.maximum(bands), foundMax);
+		alg.process();
+
+		BoofTesting.assertEquals(expectedAve, foundAve, 1e-4);
+		BoofTesting.assertEquals(expectedMin, foundMin, 0);
+		BoofTesting.assertEquals(expectedMax, foundMax, 0);
+	}
+
+	@Test
+	void interleaved() {
+		InterleavedU8 a = new InterleavedU8(width, height, 3);
+		ImageMiscOps.fillUniform(a, rand, 0, 255);
+
+		InterleavedU8 expected = new InterleavedU8(width, height, 3);
+		PixelMath.minus(255, a, expected);
+
+		InterleavedU8 found = new InterleavedU8(1, 1, 1);
+		var alg = new PixelExpression();
+		alg.output(alg.input(a).minusFrom(255), found);
+		alg.process();
+
+		assertEquals(3, found.numBands);
+		BoofTesting.assertEquals(expected, found, 0);
+
+		// can't write multiple bands into a gray image
+		alg.setOutput(0, new GrayU8(width, height));
+		assertThrows(IllegalArgumentException.class, alg::process);
+	}
+
+	/**
+	 * The output is also an input
+	 */
+	@Test
+	void inPlace() {
+		GrayF32 a = new GrayF32(width, height);
+		ImageMiscOps.fillUniform(a, rand, -10, 10);
+		GrayF32 expected = a.clone();
+		PixelMath.negative(expected, expected);
+		PixelMath.boundImage(expected, -2, 3);
+
+		var alg = new PixelExpression();
+		alg.output(alg.input(a).negative().bound(-2, 3), a);
+		alg.process();
+
+		BoofTesting.assertEquals(expected, a, 0);
+	}
+
+	@Test
+	void concurrent() {
+		GrayU8 a = new GrayU8(400, 300);
+		GrayF32 b = new GrayF32(400, 300);
+		ImageMiscOps.fillUniform(a, rand, 0, 255);
+		ImageMiscOps.fillUniform(b, rand, -10, 10);
+
+		GrayF32 found = new GrayF32(1, 1);
+		var alg = new PixelExpression();
+		PixelExpression.Value va = alg.input(a);
+		alg.output(va.multiply(alg.input(b)).plus(va.sqrt()).bound(-50, 200), found);
+
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.process();
+			GrayF32 expected = found.clone();
+			BoofConcurrency.USE_CONCURRENT = true;
+			ImageMiscOps.fill(found, 0);
+			alg.process();
+			BoofTesting.assertEquals(expected, found, 0);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+		}
+	}
+
+	/**
+	 * Row buffers should be recycled once a value is no longer needed
+	 */
+	@Test
+	void assignBuffers() {
+		var alg = new PixelExpression();
+		PixelExpression.Value v = alg.input(new GrayF32(width, height));
+		for (int i = 0; i < 10; i++) {
+			v = v.multiply(2).plus(1);
+		}
+		alg.output(v, new GrayF32(width, height));
+		alg.process();
+		assertEquals(1, alg.numBuffers);
+
+		// 'a' has to be kept around until the end
+		alg = new PixelExpression();
+		PixelExpression.Value a = alg.input(new GrayF32(width, height));
+		v = a.abs().sqrt().pow2();
+		alg.output(v.plus(a), new GrayF32(width, height));
+		alg.process();
+		assertEquals(2, alg.numBuffers);
+
+		// inputs which aren't used don't get a buffer
+		alg = new PixelExpression();
+		alg.input(new GrayF32(width, height));
+		alg.output(alg.input(new GrayF32(width, height)), new GrayF32(width, height));
+		alg.process();
+		assertEquals(1, alg.numBuffers);
+	}
+
+	/**
+	 * Change the images and process again
+	 */
+	@Test
+	void setInput() {
+		GrayU8 a = new GrayU8(width, height);
+		GrayU8 b = new GrayU8(width + 2, height);
+		ImageMiscOps.fillUniform(a, rand, 0, 100);
+		ImageMiscOps.fillUniform(b, rand, 0, 100);
+
+		GrayU8 found = new GrayU8(1, 1);
+		var alg = new PixelExpression();
+		alg.output(alg.input(a).plus(10), found);
+		alg.process();
+		GrayU8 expected = new GrayU8(1, 1);
+		PixelMath.plus(a, 10, expected);
+		BoofTesting.assertEquals(expected, found, 0);
+
+		alg.setInput(0, b);
+		alg.process();
+		PixelMath.plus(b, 10, expected);
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test
+	void errors() {
+		var alg = new PixelExpression();
+		var other = new PixelExpression();
+		PixelExpression.Value a = alg.input(new GrayU8(width, height));
+		PixelExpression.Value b = other.input(new GrayU8(width, height));
+		assertThrows(IllegalArgumentException.class, () -> a.plus(b));
+		assertThrows(IllegalArgumentException.class, () -> alg.input(new Planar<>(GrayU8.class, 2, 2, 2)));
+
+		// no outputs
+		assertThrows(IllegalArgumentException.class, alg::process);
+
+		// inputs with different shapes
+		alg.output(a.plus(alg.input(new GrayU8(width, height + 1))), new GrayU8(1, 1));
+		assertThrows(IllegalArgumentException.class, alg::process);
+	}
+}
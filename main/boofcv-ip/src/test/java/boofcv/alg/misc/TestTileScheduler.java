@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageByteBuffer;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestTileScheduler {
+	Random rand = new Random(234);
+	int width = 83, height = 61;
+
+	ImageByteBuffer<GrayF32> createInput() {
+		GrayF32 image = new GrayF32(width, height);
+		ImageMiscOps.fillUniform(image, rand, 0, 100);
+		var input = ImageByteBuffer.allocate(ImageType.SB_F32, width, height);
+		input.copyFrom(image);
+		return input;
+	}
+
+	/**
+	 * If the border is as large as the kernel's radius then tiling should produce identical results
+	 */
+	@Test
+	void process_blur() {
+		int radius = 3;
+		var input = createInput();
+		GrayF32 expected = BlurImageOps.gaussian(input.copyTo(null), null, -1, radius, null);
+
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for (boolean concurrent : new boolean[]{false, true}) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+				var output = ImageByteBuffer.allocate(ImageType.SB_F32, width, height);
+				var alg = new TileScheduler(20, 15, radius);
+				alg.process(input, output, ( in, out ) -> BlurImageOps.gaussian(in, out, -1, radius, null));
+				BoofTesting.assertEquals(expected, output.copyTo(null), 1e-4);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+		}
+	}
+
+	/**
+	 * The size of the tile and border should be cropped along the image's edges
+	 */
+	@Test
+	void forEachTile() {
+		var input = createInput();
+		var alg = new TileScheduler(20, 15, 2);
+		List<int[]> found = new ArrayList<>();
+		alg.forEachTile(input, ( in, tile ) -> {
+			synchronized (found) {
+				found.add(new int[]{tile.index, tile.x0, tile.y0, tile.x1, tile.y1, in.width, in.height,
+						tile.getInputX0(), tile.getInputY0()});
+			}
+			assertTrue(tile.isInterior(tile.left, tile.top));
+			assertFalse(tile.isInterior(tile.left + tile.x1 - tile.x0, tile.top));
+		});
+
+		assertEquals(5*5, alg.countTiles(width, height));
+		assertEquals(25, found.size());
+		for (int[] f : found) {
+			if( f[0] == 0 ) {
+				assertArrayEquals(new int[]{0, 0, 0, 20, 15, 22, 17, 0, 0}, f);
+			} else if( f[0] == 6 ) {
+				assertArrayEquals(new int[]{6, 20, 15, 40, 30, 24, 19, 18, 13}, f);
+			} else if( f[0] == 24 ) {
+				assertArrayEquals(new int[]{24, 80, 60, 83, 61, 5, 3, 78, 58}, f);
+			}
+		}
+	}
+
+	@Test
+	void process_mismatchedShape() {
+		var input = createInput();
+		var output = ImageByteBuffer.allocate(ImageType.SB_F32, width + 1, height);
+		assertThrows(IllegalArgumentException.class, () ->
+				new TileScheduler(10, 10, 0).process(input, output, ( in, out ) -> out.setTo(in)));
+	}
+}
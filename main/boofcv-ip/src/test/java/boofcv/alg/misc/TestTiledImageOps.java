@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageByteBuffer;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestTiledImageOps {
+	Random rand = new Random(234);
+	int width = 83, height = 61;
+
+	GrayU8 image = new GrayU8(width, height);
+	ImageByteBuffer<GrayU8> input = ImageByteBuffer.allocate(ImageType.SB_U8, width, height);
+	TileScheduler scheduler = new TileScheduler(20, 15, 3);
+
+	TestTiledImageOps() {
+		ImageMiscOps.fillUniform(image, rand, 0, 200);
+		input.copyFrom(image);
+	}
+
+	@Test
+	void threshold() {
+		var output = ImageByteBuffer.allocate(ImageType.SB_U8, width, height);
+		TiledImageOps.threshold(scheduler, input, output, 90, true);
+		GrayU8 expected = ThresholdImageOps.threshold(image, null, 90, true);
+		BoofTesting.assertEquals(expected, output.copyTo(null), 0);
+	}
+
+	@Test
+	void sum_mean() {
+		assertEquals(ImageStatistics.sum(image), TiledImageOps.sum(scheduler, input), 1e-8);
+		assertEquals(ImageStatistics.mean(image), TiledImageOps.mean(scheduler, input), 1e-8);
+	}
+
+	@Test
+	void min_max() {
+		assertEquals(ImageStatistics.min(image), TiledImageOps.min(scheduler, input), 1e-8);
+		assertEquals(ImageStatistics.max(image), TiledImageOps.max(scheduler, input), 1e-8);
+	}
+
+	@Test
+	void histogram() {
+		int[] expected = new int[256];
+		int[] found = new int[256];
+		found[4] = 10; // should be zeroed
+		ImageStatistics.histogram(image, 0, expected);
+		TiledImageOps.histogram(scheduler, input, 0, found);
+		assertArrayEquals(expected, found);
+	}
+}
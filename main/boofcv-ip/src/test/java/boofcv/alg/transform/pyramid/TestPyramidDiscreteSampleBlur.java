@@ -21,14 +21,19 @@ package boofcv.alg.transform.pyramid;
 import boofcv.alg.filter.convolve.ConvolveImageNormalized;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.ConfigDiscreteLevels;
 import boofcv.struct.pyramid.ImagePyramid;
 import boofcv.testing.BoofTesting;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 /**
  * @author Peter Abeles
@@ -108,6 +113,36 @@ public class TestPyramidDiscreteSampleBlur extends GenericPyramidTests<GrayF32>
 		assertEquals(6.7082,alg.getSigma(2),1e-3);
 	}
 
+	/**
+	 * Results should be the same when images come from a pool and the layers are returned to the pool
+	 */
+	@Test
+	void imagePool() {
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,3);
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+
+		var expected = new PyramidDiscreteSampleBlur<>(kernel,3, ImageType.single(GrayF32.class),true,configLevels);
+		expected.process(input);
+
+		var pool = new ImagePool();
+		for (int trial = 0; trial < 2; trial++) {
+			var alg = new PyramidDiscreteSampleBlur<>(kernel,3, ImageType.single(GrayF32.class),true,configLevels);
+			alg.setImagePool(pool);
+			alg.process(input);
+
+			for (int i = 0; i < alg.getNumLayers(); i++) {
+				BoofTesting.assertEquals(expected.getLayer(i), alg.getLayer(i), 1e-4f);
+			}
+			alg.releaseLayers();
+		}
+		// the second time everything should have come from the pool
+		assertEquals(3, pool.getMisses());
+		assertEquals(3, pool.getHits());
+		// the input image is referenced by the first layer and should not be added to the pool
+		assertNotSame(input, pool.borrow(GrayF32.class, width, height));
+	}
+
 	@Override
 	protected ImagePyramid<GrayF32> createPyramid(int numLevels) {
 		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,3);
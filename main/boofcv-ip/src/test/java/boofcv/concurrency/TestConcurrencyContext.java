@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestConcurrencyContext {
+	/**
+	 * Loops should run inside the context's pool, including nested loops
+	 */
+	@Test
+	void loopsUseContextPool() {
+		var context = new ConcurrencyContext(3);
+		Set<ForkJoinPool> pools = new HashSet<>();
+
+		context.run(() -> BoofConcurrency.loopFor(0, 20, i -> {
+			BoofConcurrency.loopBlocks(0, 10, ( i0, i1 ) -> {
+				synchronized (pools) {
+					pools.add(ForkJoinTask.getPool());
+				}
+			});
+			synchronized (pools) {
+				pools.add(ForkJoinTask.getPool());
+			}
+		}));
+
+		assertEquals(1, pools.size());
+		assertSame(context.getPool(), pools.iterator().next());
+		context.shutdown();
+	}
+
+	@Test
+	void useContext_settings() {
+		boolean defaultUse = BoofConcurrency.isUseConcurrent();
+		int defaultThreads = BoofConcurrency.getMaxThreads();
+
+		var single = new ConcurrencyContext(1, 50);
+		var multi = new ConcurrencyContext(5, 20);
+
+		try (var a = BoofConcurrency.useContext(single)) {
+			assertSame(single, BoofConcurrency.getContext());
+			assertFalse(BoofConcurrency.isUseConcurrent());
+			assertEquals(1, BoofConcurrency.getMaxThreads());
+			assertEquals(50, BoofConcurrency.getSmallImage());
+
+			// scopes can be nested
+			try (var b = BoofConcurrency.useContext(multi)) {
+				assertTrue(BoofConcurrency.isUseConcurrent());
+				assertEquals(5, BoofConcurrency.getMaxThreads());
+				assertEquals(20, BoofConcurrency.getSmallImage());
+			}
+			assertSame(single, BoofConcurrency.getContext());
+		}
+
+		// back to the default
+		assertNull(BoofConcurrency.getContext());
+		assertEquals(defaultUse, BoofConcurrency.isUseConcurrent());
+		assertEquals(defaultThreads, BoofConcurrency.getMaxThreads());
+		assertEquals(BoofConcurrency.SMALL_IMAGE, BoofConcurrency.getSmallImage());
+		single.shutdown();
+		multi.shutdown();
+	}
+
+	/**
+	 * A context on one thread should not affect other threads
+	 */
+	@Test
+	void otherThreadsNotAffected() throws InterruptedException {
+		var context = new ConcurrencyContext(2);
+		Set<ForkJoinPool> pools = new HashSet<>();
+
+		try (var scope = BoofConcurrency.useContext(context)) {
+			var thread = new Thread(() -> BoofConcurrency.loopFor(0, 10, i -> {
+				synchronized (pools) {
+					pools.add(ForkJoinTask.getPool());
+				}
+			}));
+			thread.start();
+			thread.join();
+		}
+		assertEquals(1, pools.size());
+		assertNotSame(context.getPool(), pools.iterator().next());
+		context.shutdown();
+	}
+
+	/**
+	 * Results should be the same when it isn't concurrent
+	 */
+	@Test
+	void singleThread_results() {
+		var context = new ConcurrencyContext(1);
+		context.run(() -> {
+			assertEquals(45, BoofConcurrency.sum(5, 10, int.class, i -> i + 2).intValue());
+			assertEquals(11, BoofConcurrency.max(5, 10, int.class, i -> i + 2).intValue());
+
+			int[] total = new int[1];
+			BoofConcurrency.loopBlocks(10, 100, 12, ( i0, i1 ) -> {
+				synchronized (total) {
+					total[0] += i1 - i0;
+				}
+			});
+			assertEquals(90, total[0]);
+		});
+		context.shutdown();
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.core.image;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestConvertByteBufferImage {
+	Random rand = new Random(234);
+	int width = 20, height = 15;
+
+	/**
+	 * Compare against converting a copy of the image
+	 */
+	@Test
+	void convert_ImageByteBuffer() {
+		InterleavedU8 input = new InterleavedU8(width, height, 3);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		// direct buffers are processed in strips. heap buffers are viewed
+		for (boolean direct : new boolean[]{true, false}) {
+			ImageType<InterleavedU8> type = ImageType.il(3, InterleavedU8.class);
+			ByteBuffer bb = direct ? ByteBuffer.allocateDirect(width*height*3) : ByteBuffer.allocate(width*height*3);
+			ImageByteBuffer<InterleavedU8> buffer = new ImageByteBuffer<>(type).wrap(bb, width, height, 0, width*3);
+			buffer.copyFrom(input);
+
+			ImageBase[] outputs = new ImageBase[]{new GrayF32(1, 1), new GrayU8(1, 1),
+					new Planar<>(GrayF32.class, 1, 1, 3), new InterleavedU8(1, 1, 3)};
+			for (ImageBase found : outputs) {
+				ImageBase expected = found.createNew(width, height);
+				GConvertImage.convert(input, expected);
+
+				// 4 rows will split the image up into several strips, with a partial one at the end
+				for (int stripRows : new int[]{0, 4}) {
+					GImageMiscOps.fill(found, 0);
+					ConvertByteBufferImage.convert(buffer, found, stripRows, null);
+					BoofTesting.assertEquals(expected, found, 1e-4);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The image is taller than the default strip size, so it's split into several strips
+	 */
+	@Test
+	void convert_ImageByteBuffer_defaultStrips() {
+		int width = 1000, height = 300;
+		InterleavedU8 input = new InterleavedU8(width, height, 3);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ImageByteBuffer<InterleavedU8> buffer = ImageByteBuffer.allocate(ImageType.il(3, InterleavedU8.class), width, height);
+		buffer.copyFrom(input);
+		int stripRows = buffer.defaultStripRows();
+		assertTrue(stripRows < height);
+
+		Planar<GrayF32> expected = new Planar<>(GrayF32.class, width, height, 3);
+		GConvertImage.convert(input, expected);
+
+		Planar<GrayF32> found = new Planar<>(GrayF32.class, 1, 1, 3);
+		InterleavedU8 work = new InterleavedU8(1, 1, 3);
+		ConvertByteBufferImage.convert(buffer, found, work);
+		BoofTesting.assertEquals(expected, found, 1e-4);
+		// the work image is left with the last strip
+		assertEquals(height - stripRows*((height - 1)/stripRows), work.height);
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.fiducial.calib;
+
+import boofcv.alg.fiducial.calib.chess.DetectChessboardXCornerPatterns;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.io.UtilIO;
+import boofcv.struct.image.GrayF32;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures how much memory is allocated each frame by the chessboard x-corner pipeline after it has warmed up.
+ * After warm up the detector is expected to not allocate any memory. Concurrency is turned off since
+ * the thread pool will allocate memory when tasks are submitted. A few bytes can show up in a round while the JIT
+ * is still recompiling, which is why several rounds are printed.
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkChessboardAllocations {
+	public static final int WARM_UP = 500;
+	public static final int ROUNDS = 10;
+	public static final int TRIALS = 100;
+
+	public static void main(String[] args) {
+		BoofConcurrency.USE_CONCURRENT = false;
+
+		String chess = UtilIO.pathExample("calibration/stereo/Bumblebee2_Chess/left01.jpg");
+		GrayF32 image = BenchmarkCalibrationDetectors.loadImage(chess);
+
+		DetectChessboardXCornerPatterns<GrayF32> detector =
+				new DetectChessboardXCornerPatterns<>(new ConfigChessboardX(),GrayF32.class);
+
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long threadID = Thread.currentThread().getId();
+
+		for (int i = 0; i < WARM_UP; i++) {
+			detector.findPatterns(image);
+		}
+
+		System.out.println("Found patterns     = "+detector.getFoundChessboard().size);
+		for (int round = 0; round < ROUNDS; round++) {
+			long before = bean.getThreadAllocatedBytes(threadID);
+			for (int i = 0; i < TRIALS; i++) {
+				detector.findPatterns(image);
+			}
+			long after = bean.getThreadAllocatedBytes(threadID);
+
+			System.out.printf("Bytes per frame    = %.1f\n",(after-before)/(double)TRIALS);
+		}
+	}
+}
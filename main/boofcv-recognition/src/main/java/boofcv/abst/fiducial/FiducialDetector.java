@@ -19,6 +19,7 @@
 package boofcv.abst.fiducial;
 
 import boofcv.alg.distort.LensDistortionNarrowFOV;
+import boofcv.misc.ProfileStages;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 import georegression.struct.point.Point2D_F64;
@@ -37,7 +38,7 @@ import javax.annotation.Nullable;
  *
  * @author Peter Abeles
  */
-public interface FiducialDetector<T extends ImageBase<T>>
+public interface FiducialDetector<T extends ImageBase<T>> extends ProfileStages
 {
 	/**
 	 * Detects fiducials inside the image. Each call to this function only depends upon the input image. The
@@ -19,6 +19,7 @@
 package boofcv.abst.fiducial;
 
 import boofcv.alg.fiducial.qrcode.QrCode;
+import boofcv.misc.ProfileStages;
 import boofcv.struct.image.ImageGray;
 
 import java.util.List;
@@ -28,7 +29,7 @@ import java.util.List;
  *
  * @author Peter Abeles
  */
-public interface QrCodeDetector<T extends ImageGray<T>> {
+public interface QrCodeDetector<T extends ImageGray<T>> extends ProfileStages {
 
 	/**
 	 * Processes the image and searches for fiducials
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -21,6 +21,7 @@ package boofcv.abst.fiducial;
 import boofcv.alg.distort.LensDistortionNarrowFOV;
 import boofcv.alg.fiducial.qrcode.QrCode;
 import boofcv.alg.fiducial.qrcode.QrPose3DUtils;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.distort.Point2Transform2_F64;
 import boofcv.struct.geo.Point2D3D;
 import boofcv.struct.geo.PointIndex2D_F64;
@@ -48,7 +49,9 @@ import java.util.List;
  *
  * @author Peter Abeles
  */
-public class QrCodeDetectorPnP<T extends ImageGray<T>> extends FiducialDetectorPnP<T> {
+public class QrCodeDetectorPnP<T extends ImageGray<T>> extends FiducialDetectorPnP<T>
+		implements FiducialTracker<T>
+{
 
 	QrCodeDetector<T> detector;
 	ImageType<T> imageType;
@@ -127,6 +130,20 @@ public class QrCodeDetectorPnP<T extends ImageGray<T>> extends FiducialDetectorP
 		detector.process(input);
 	}
 
+	@Override
+	public void setStageProfiler( StageProfiler profiler ) {
+		detector.setStageProfiler(profiler);
+	}
+
+	/**
+	 * Discards past detections. Only has an effect if the detector is tracking regions of interest
+	 */
+	@Override
+	public void reset() {
+		if( detector instanceof QrCodePreciseDetector )
+			((QrCodePreciseDetector)detector).resetTracking();
+	}
+
 	@Override
 	public int totalFound() {
 		return detector.getDetections().size();
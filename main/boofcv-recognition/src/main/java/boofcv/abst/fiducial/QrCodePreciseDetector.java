@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -24,10 +24,16 @@ import boofcv.alg.distort.LensDistortionNarrowFOV;
 import boofcv.alg.fiducial.qrcode.QrCode;
 import boofcv.alg.fiducial.qrcode.QrCodeDecoderImage;
 import boofcv.alg.fiducial.qrcode.QrCodePositionPatternDetector;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.shapes.polygon.DetectPolygonBinaryGrayRefine;
 import boofcv.misc.MovingAverage;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
+import georegression.struct.point.Point2D_F64;
+import georegression.struct.shapes.Polygon2D_F64;
+import georegression.struct.shapes.Rectangle2D_I32;
+import org.ddogleg.struct.FastQueue;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -35,6 +41,12 @@ import java.util.List;
 /**
  * A QR-Code detector which is designed to find the location of corners in the finder pattern precisely.
  *
+ * <p>When processing a video sequence, region of interest (ROI) tracking can be turned on with
+ * {@link #setRoiTracking}. Once markers have been found, only the regions around the previous detections are
+ * binarized and searched in the following frames. Each region is processed as a sub-image, avoiding a copy.
+ * A full frame search is done periodically, when a previously seen marker is lost, and when no
+ * markers have been seen. ROI tracking is disabled if a lens distortion model has been specified.</p>
+ *
  * @param <T>
  */
 public class QrCodePreciseDetector<T extends ImageGray<T>> implements QrCodeDetector<T>
@@ -50,20 +62,74 @@ public class QrCodePreciseDetector<T extends ImageGray<T>> implements QrCodeDete
 	boolean profiler = false;
 	protected MovingAverage milliBinary = new MovingAverage(0.8);
 	protected MovingAverage milliDecoding = new MovingAverage(0.8);
+	StageProfiler stageProfiler = StageProfiler.NONE;
+	int stageBinary, stagePatterns, stageDecoding;
+
+	// Region of interest tracking
+	boolean roiTracking = false;
+	// a full frame search is forced once every this many frames
+	int roiFullSearchPeriod = 10;
+	// how much each region is grown around the previous detection, relative to its bounding box's size
+	double roiMargin = 0.5;
+	// number of frames since the last full frame search
+	int framesSinceFullSearch;
+	// true if there is lens distortion. ROI is then disabled since pixels coordinates are used
+	boolean lensDistortion = false;
+	// Regions that will be searched in the next frame
+	FastQueue<Rectangle2D_I32> regions = new FastQueue<>(Rectangle2D_I32::new);
+	// number of markers found in the previous frame
+	int previousTotal;
+	// view into the input image for a single region
+	T roiGray;
+	// true if the most recent frame was a full frame search
+	boolean fullSearch = true;
 
 	public QrCodePreciseDetector(InputToBinary<T> inputToBinary,
 								 QrCodePositionPatternDetector<T> detectPositionPatterns,
 								 String defaultEncoding,
 								 boolean copyBinary, Class<T> imageType) {
+		this(inputToBinary,detectPositionPatterns,new QrCodeDecoderImage<>(defaultEncoding,imageType),
+				copyBinary,imageType);
+	}
+
+	public QrCodePreciseDetector(InputToBinary<T> inputToBinary,
+								 QrCodePositionPatternDetector<T> detectPositionPatterns,
+								 QrCodeDecoderImage<T> decoder,
+								 boolean copyBinary, Class<T> imageType) {
 		this.inputToBinary = inputToBinary;
 		this.detectPositionPatterns = detectPositionPatterns;
-		this.decoder = new QrCodeDecoderImage<>(defaultEncoding,imageType);
+		this.decoder = decoder;
 		this.imageType = imageType;
 		this.contourHelper = new BinaryContourHelper(detectPositionPatterns.getSquareDetector().getDetector().getContourFinder(),copyBinary);
 	}
 
 	@Override
 	public void process(T gray) {
+		fullSearch = !roiTracking || lensDistortion || regions.size == 0 ||
+				framesSinceFullSearch+1 >= roiFullSearchPeriod;
+
+		if( !fullSearch ) {
+			processRegions(gray);
+			// If a marker was lost then it might have moved outside of the regions. Search the whole image
+			fullSearch = decoder.getFound().size() < previousTotal;
+		}
+
+		if( fullSearch ) {
+			framesSinceFullSearch = 0;
+			processFullFrame(gray);
+		} else {
+			framesSinceFullSearch++;
+		}
+
+		previousTotal = decoder.getFound().size();
+		if( roiTracking )
+			selectRegions(gray.width, gray.height);
+	}
+
+	/**
+	 * Searches the entire image for QR Codes
+	 */
+	void processFullFrame(T gray) {
 		long time0 = System.nanoTime();
 		contourHelper.reshape(gray.width,gray.height);
 		inputToBinary.process(gray,contourHelper.withoutPadding());
@@ -74,15 +140,152 @@ public class QrCodePreciseDetector<T extends ImageGray<T>> implements QrCodeDete
 			System.out.printf("qrcode: binary %5.2f ",milliBinary.getAverage());
 
 		detectPositionPatterns.process(gray,contourHelper.padded());
-		time0 = System.nanoTime();
+		long time2 = System.nanoTime();
 		decoder.process(detectPositionPatterns.getPositionPatterns(),gray);
-		time1 = System.nanoTime();
-		milliDecoding.update((time1-time0)*1e-6);
+		long time3 = System.nanoTime();
+		milliDecoding.update((time3-time2)*1e-6);
+
+		if( stageProfiler.isEnabled() ) {
+			stageProfiler.record(stageBinary, time1-time0);
+			stageProfiler.record(stagePatterns, time2-time1);
+			stageProfiler.record(stageDecoding, time3-time2);
+		}
 
 		if( profiler )
 			System.out.printf(" decoding %5.1f\n",milliDecoding.getAverage());
 	}
 
+	/**
+	 * Only searches inside the regions around previously detected QR Codes. Each region is processed as
+	 * a sub-image of the input.
+	 */
+	void processRegions(T gray) {
+		if( roiGray == null )
+			roiGray = gray.createNew(-1,-1);
+
+		long nanoBinary = 0, nanoPatterns = 0, nanoDecoding = 0;
+
+		decoder.resetResults();
+		for (int i = 0; i < regions.size; i++) {
+			Rectangle2D_I32 r = regions.get(i);
+			gray.subimage(r.x0,r.y0,r.x1,r.y1,roiGray);
+
+			long time0 = System.nanoTime();
+			contourHelper.reshape(roiGray.width,roiGray.height);
+			// the binary image is recycled between regions of different sizes. Make sure the padding is zero
+			ImageMiscOps.fillBorder(contourHelper.padded(),0,1);
+			inputToBinary.process(roiGray,contourHelper.withoutPadding());
+			long time1 = System.nanoTime();
+			nanoBinary += time1-time0;
+
+			detectPositionPatterns.process(roiGray,contourHelper.padded());
+			long time2 = System.nanoTime();
+			nanoPatterns += time2-time1;
+			decoder.processRegion(detectPositionPatterns.getPositionPatterns(),roiGray,r.x0,r.y0);
+			nanoDecoding += System.nanoTime()-time2;
+		}
+		milliBinary.update(nanoBinary*1e-6);
+		milliDecoding.update(nanoDecoding*1e-6);
+
+		if( stageProfiler.isEnabled() ) {
+			stageProfiler.record(stageBinary, nanoBinary);
+			stageProfiler.record(stagePatterns, nanoPatterns);
+			stageProfiler.record(stageDecoding, nanoDecoding);
+		}
+
+		if( profiler )
+			System.out.printf("qrcode: regions %d binary %5.2f decoding %5.1f\n",
+					regions.size,milliBinary.getAverage(),milliDecoding.getAverage());
+	}
+
+	/**
+	 * Selects the regions which will be searched in the next frame by expanding the bounding box around each
+	 * detected QR Code. Overlapping regions are merged together so that a marker can't be detected twice.
+	 */
+	void selectRegions( int width , int height ) {
+		regions.reset();
+
+		List<QrCode> found = decoder.getFound();
+		for (int i = 0; i < found.size(); i++) {
+			Polygon2D_F64 bounds = found.get(i).bounds;
+
+			double x0 = Double.MAX_VALUE, y0 = Double.MAX_VALUE;
+			double x1 = -Double.MAX_VALUE, y1 = -Double.MAX_VALUE;
+			for (int j = 0; j < bounds.size(); j++) {
+				Point2D_F64 p = bounds.get(j);
+				x0 = Math.min(x0,p.x); y0 = Math.min(y0,p.y);
+				x1 = Math.max(x1,p.x); y1 = Math.max(y1,p.y);
+			}
+
+			double margin = roiMargin*Math.max(x1-x0,y1-y0);
+
+			Rectangle2D_I32 r = regions.grow();
+			r.x0 = Math.max(0,(int)(x0-margin));
+			r.y0 = Math.max(0,(int)(y0-margin));
+			r.x1 = Math.min(width,(int)(x1+margin+1));
+			r.y1 = Math.min(height,(int)(y1+margin+1));
+
+			if( r.x1 <= r.x0 || r.y1 <= r.y0 )
+				regions.removeTail();
+		}
+
+		// Merge overlapping regions until none of them overlap
+		boolean merged = true;
+		while( merged ) {
+			merged = false;
+			for (int i = 0; i < regions.size && !merged; i++) {
+				Rectangle2D_I32 a = regions.get(i);
+				for (int j = i+1; j < regions.size; j++) {
+					Rectangle2D_I32 b = regions.get(j);
+					if( a.x0 >= b.x1 || b.x0 >= a.x1 || a.y0 >= b.y1 || b.y0 >= a.y1 )
+						continue;
+					a.x0 = Math.min(a.x0,b.x0); a.y0 = Math.min(a.y0,b.y0);
+					a.x1 = Math.max(a.x1,b.x1); a.y1 = Math.max(a.y1,b.y1);
+					regions.remove(j);
+					merged = true;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Turns on or off region of interest tracking.
+	 *
+	 * @param enabled true to turn on ROI tracking
+	 * @param fullSearchPeriod A full frame search is forced once every this many frames. 1 = every frame
+	 * @param margin How much the region around a previous detection is expanded by. Relative to its bounding box.
+	 */
+	public void setRoiTracking( boolean enabled , int fullSearchPeriod , double margin ) {
+		this.roiTracking = enabled;
+		this.roiFullSearchPeriod = fullSearchPeriod;
+		this.roiMargin = margin;
+		resetTracking();
+	}
+
+	/**
+	 * Discards previous detections so that the next image will be searched entirely
+	 */
+	public void resetTracking() {
+		regions.reset();
+		previousTotal = 0;
+		framesSinceFullSearch = 0;
+	}
+
+	/**
+	 * Returns true if the last image processed had the full frame searched
+	 */
+	public boolean isFullSearch() {
+		return fullSearch;
+	}
+
+	/**
+	 * Returns the regions that will be searched in the next frame if ROI tracking is turned on
+	 */
+	public List<Rectangle2D_I32> getRegions() {
+		return regions.toList();
+	}
+
 	@Override
 	public List<QrCode> getDetections() {
 		return decoder.getFound();
@@ -105,12 +308,25 @@ public class QrCodePreciseDetector<T extends ImageGray<T>> implements QrCodeDete
 								  @Nullable LensDistortionNarrowFOV model) {
 		detectPositionPatterns.setLensDistortion(width, height,model);
 		decoder.setLensDistortion(width, height, model);
+		lensDistortion = model != null;
+		resetTracking();
 	}
 
+	/**
+	 * Returns the binary image. If ROI tracking searched regions then this will only be the last region processed
+	 */
 	public GrayU8 getBinary() {
 		return contourHelper.withoutPadding();
 	}
 
+	@Override
+	public void setStageProfiler( StageProfiler profiler ) {
+		this.stageProfiler = profiler;
+		stageBinary = profiler.stage("qrcode.binary");
+		stagePatterns = profiler.stage("qrcode.patterns");
+		stageDecoding = profiler.stage("qrcode.decoding");
+	}
+
 	public void setProfilerState( boolean active ) {
 		profiler = active;
 		detectPositionPatterns.setProfilerState(active);
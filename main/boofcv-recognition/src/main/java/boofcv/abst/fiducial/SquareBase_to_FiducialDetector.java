@@ -22,6 +22,7 @@ import boofcv.alg.distort.LensDistortionNarrowFOV;
 import boofcv.alg.fiducial.square.BaseDetectFiducialSquare;
 import boofcv.alg.fiducial.square.FoundFiducial;
 import boofcv.alg.fiducial.square.QuadPoseEstimator;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.geo.Point2D3D;
 import boofcv.struct.geo.PointIndex2D_F64;
 import boofcv.struct.image.ImageGray;
@@ -63,6 +64,9 @@ public abstract class SquareBase_to_FiducialDetector<T extends ImageGray<T>,Dete
 
 	List<Point2D3D> points2D3D;
 
+	StageProfiler profiler = StageProfiler.NONE;
+	int stageDetect;
+
 	public SquareBase_to_FiducialDetector(Detector alg) {
 		this.alg = alg;
 		this.type = ImageType.single(alg.getInputType());
@@ -81,8 +85,17 @@ public abstract class SquareBase_to_FiducialDetector<T extends ImageGray<T>,Dete
 
 	@Override
 	public void detect(T input) {
+		long time = profiler.start();
 		alg.process(input);
+		profiler.lap(stageDetect,time);
 	}
+
+	@Override
+	public void setStageProfiler( StageProfiler profiler ) {
+		this.profiler = profiler;
+		stageDetect = profiler.stage("square.detect");
+	}
+
 	/**
 	 * Return the intersection of two lines defined by opposing corners.  This should also be the geometric center
 	 * @param which Fiducial's index
@@ -131,6 +131,14 @@ public class ChessboardCornerClusterFinder<T extends ImageGray<T>> {
 	private FastQueue<PairIdx> pairs = new FastQueue<>(PairIdx.class, PairIdx::new);
 	private GrowQueue_B matched = new GrowQueue_B();
 
+	// Workspace for pyramidal search. Recycled between calls so that there's no allocation in steady state
+	private FastQueue<GrowQueue_I32> cornersInLevel = new FastQueue<>(GrowQueue_I32.class, GrowQueue_I32::new);
+	private List<ChessboardCorner> cornersUpToLevel = new ArrayList<>();
+	private GrowQueue_I32 indexesUpToLevel = new GrowQueue_I32();
+
+	// Workspace for ambiguous vertexes
+	private List<Vertex> ambiguousCandidates = new ArrayList<>();
+
 	public ChessboardCornerClusterFinder( Class<T> imageType ) {
 		this(new ChessboardCornerEdgeIntensity<>(imageType));
 	}
@@ -148,15 +156,10 @@ public class ChessboardCornerClusterFinder<T extends ImageGray<T>> {
 	public void process( T image , List<ChessboardCorner> corners , int numLevels ) {
 		this.corners = corners;
 
-		List<GrowQueue_I32> cornersInLevel = new ArrayList<>();
-
-		initalizeStructures(image, corners, numLevels, cornersInLevel);
-
+		initalizeStructures(image, corners, numLevels);
 
 		// Find neighbor corners starting at low resolution layers going to high resolution
-		List<ChessboardCorner> cornersUpToLevel = new ArrayList<>();
-		GrowQueue_I32 indexesUpToLevel = new GrowQueue_I32();
-		pyramidalFindNeighbors(corners, numLevels, cornersInLevel, cornersUpToLevel, indexesUpToLevel);
+		pyramidalFindNeighbors(corners, numLevels);
 
 		//		if( indexesUpToLevel.size != corners.size() )
 //			throw new RuntimeException("BUG!");
@@ -227,7 +230,10 @@ public class ChessboardCornerClusterFinder<T extends ImageGray<T>> {
 		}
 	}
 
-	private void pyramidalFindNeighbors(List<ChessboardCorner> corners, int numLevels, List<GrowQueue_I32> cornersInLevel, List<ChessboardCorner> cornersUpToLevel, GrowQueue_I32 indexesUpToLevel) {
+	private void pyramidalFindNeighbors(List<ChessboardCorner> corners, int numLevels) {
+		cornersUpToLevel.clear();
+		indexesUpToLevel.reset();
+
 		// start from top of the pyramid, which is the lowest resolution
 		for (int level = numLevels-1; level >= 0; level--) {
 			GrowQueue_I32 levelCornerIdx = cornersInLevel.get(level);
@@ -250,14 +256,14 @@ public class ChessboardCornerClusterFinder<T extends ImageGray<T>> {
 		}
 	}
 
-	private void initalizeStructures(T image, List<ChessboardCorner> corners, int numLevels, List<GrowQueue_I32> cornersInLevel) {
+	private void initalizeStructures(T image, List<ChessboardCorner> corners, int numLevels) {
 		// reset internal data structures
 		vertexes.reset();
 		edges.reset();
 		lines.reset();
 		clusters.reset();
 		computeConnInten.setImage(image);
-		cornersInLevel.clear();
+		cornersInLevel.reset();
 
 		// Create a vertex for each corner
 		for (int idx = 0; idx < corners.size(); idx++) {
@@ -268,7 +274,7 @@ public class ChessboardCornerClusterFinder<T extends ImageGray<T>> {
 
 		// declare queues to store the corner index that appears in each level
 		for (int level = 0; level < numLevels; level++) {
-			cornersInLevel.add( new GrowQueue_I32());
+			cornersInLevel.grow().reset();
 		}
 
 		// Add corners to the pyramid at the lowest resolution level they appear at
@@ -416,7 +422,7 @@ public class ChessboardCornerClusterFinder<T extends ImageGray<T>> {
 	 * score and remove the rest
 	 */
 	void handleAmbiguousVertexes(List<ChessboardCorner> corners) {
-		List<Vertex> candidates = new ArrayList<>();
+		final List<Vertex> candidates = ambiguousCandidates;
 		for (int idx = 0; idx < vertexes.size(); idx++) {
 			Vertex target = vertexes.get(idx);
 			if( target.perpendicular.size() == 0 )
@@ -543,7 +549,7 @@ public class ChessboardCornerClusterFinder<T extends ImageGray<T>> {
 				}
 			}
 			openVertexes.clear();
-			openVertexes.addAll(dirtyVertexes);
+			copyInto(dirtyVertexes,openVertexes);
 		}
 
 	}
@@ -779,7 +785,7 @@ public class ChessboardCornerClusterFinder<T extends ImageGray<T>> {
 
 				if( solution.size() > bestSolution.size() ) {
 					bestSolution.clear();
-					bestSolution.addAll(solution);
+					copyInto(solution,bestSolution);
 				}
 			}
 
@@ -798,7 +804,7 @@ public class ChessboardCornerClusterFinder<T extends ImageGray<T>> {
 
 				// Save the new connections
 				v.connections.edges.clear();
-				v.connections.edges.addAll(bestSolution);
+				copyInto(bestSolution,v.connections.edges);
 			}
 		}
 	}
@@ -1079,6 +1085,15 @@ public class ChessboardCornerClusterFinder<T extends ImageGray<T>> {
 		}
 	}
 
+	/**
+	 * Adds all elements in src to dst. Unlike {@link List#addAll} this doesn't create a temporary array
+	 */
+	static <E> void copyInto( List<E> src , List<E> dst ) {
+		for (int i = 0; i < src.size(); i++) {
+			dst.add(src.get(i));
+		}
+	}
+
 	public static class Edge {
 
 		// Descriptor of the line
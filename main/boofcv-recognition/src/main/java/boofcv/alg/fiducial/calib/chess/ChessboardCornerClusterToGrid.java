@@ -23,6 +23,7 @@ import georegression.metric.UtilAngle;
 import org.ddogleg.sorting.QuickSort_F64;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_I32;
 
 import java.io.PrintStream;
 import java.util.*;
@@ -58,7 +59,8 @@ public class ChessboardCornerClusterToGrid {
 
 	// Indicates which corners have been added to the sparse grd
 	GrowQueue_B marked = new GrowQueue_B();
-	Queue<Node> open = new LinkedList<>(); // FIFO queue
+	// FIFO queue. ArrayDeque is used instead of LinkedList since it doesn't create a new object for each element
+	Queue<Node> open = new ArrayDeque<>();
 
 	// Workspace for isCornerValidOrigin
 	List<Node> edgeList = new ArrayList<>();
@@ -79,6 +81,10 @@ public class ChessboardCornerClusterToGrid {
 	int sparseCols,sparseRows;
 	GridElement[] denseGrid = new GridElement[0];
 
+	// Workspace for finding the largest rectangle
+	GrowQueue_I32 rowZeros = new GrowQueue_I32();
+	GrowQueue_I32 colZeros = new GrowQueue_I32();
+
 	/**
 	 * Puts cluster nodes into grid order and computes the number of rows and columns. If the cluster is not
 	 * a complete grid this function will fail and return false
@@ -230,8 +236,10 @@ public class ChessboardCornerClusterToGrid {
 		int col0 = 0;
 		int col1 = sparseCols;
 
-		int[] rowZeros = new int[sparseRows];
-		int[] colZeros = new int[sparseCols];
+		this.rowZeros.resize(sparseRows);
+		this.colZeros.resize(sparseCols);
+		final int[] rowZeros = this.rowZeros.data;
+		final int[] colZeros = this.colZeros.data;
 
 		for (int i = 0; i < sparseRows; i++) {
 			rowZeros[i] = countZeros(i,i+1,0,sparseCols,0,1);
@@ -609,7 +617,7 @@ public class ChessboardCornerClusterToGrid {
 		grid.cols = tmp;
 
 		grid.nodes.clear();
-		grid.nodes.addAll(cornerList);
+		ChessboardCornerClusterFinder.copyInto(cornerList,grid.nodes);
 	}
 
 	public void setVerbose(PrintStream verbose) {
@@ -19,12 +19,16 @@
 package boofcv.alg.fiducial.calib.chess;
 
 import boofcv.abst.fiducial.calib.ConfigChessboardX;
+import boofcv.alg.feature.detect.chess.ChessboardCorner;
 import boofcv.alg.feature.detect.chess.DetectChessboardCornersXPyramid;
 import boofcv.alg.fiducial.calib.chess.ChessboardCornerClusterToGrid.GridInfo;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
 import org.ddogleg.struct.FastQueue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Chessboard detector that uses X-Corners and finds all valid chessboard patterns inside the image.
  * 
@@ -38,6 +42,9 @@ public class DetectChessboardXCornerPatterns<T extends ImageGray<T>> {
 
 	protected FastQueue<GridInfo> found = new FastQueue<>(GridInfo::new);
 
+	// Reference to detected corners. Used instead of toList() to avoid creating a new list each frame
+	protected List<ChessboardCorner> cornerList = new ArrayList<>();
+
 	public DetectChessboardXCornerPatterns(ConfigChessboardX config , Class<T> imageType ) {
 
 		detector = new DetectChessboardCornersXPyramid<>(ImageType.single(imageType));
@@ -73,7 +80,12 @@ public class DetectChessboardXCornerPatterns<T extends ImageGray<T>> {
 		found.reset();
 		detector.process(input);
 //		T blurred = detector.getDetector().getBlurred();
-		clusterFinder.process(input,detector.getCorners().toList(),detector.getNumberOfLevels());
+		FastQueue<ChessboardCorner> corners = detector.getCorners();
+		cornerList.clear();
+		for (int i = 0; i < corners.size; i++) {
+			cornerList.add(corners.get(i));
+		}
+		clusterFinder.process(input,cornerList,detector.getNumberOfLevels());
 		FastQueue<ChessboardCornerGraph> clusters = clusterFinder.getOutputClusters();
 
 		for (int clusterIdx = 0; clusterIdx < clusters.size; clusterIdx++) {
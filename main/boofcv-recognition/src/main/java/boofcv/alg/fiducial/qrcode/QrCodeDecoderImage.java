@@ -22,6 +22,7 @@ import boofcv.alg.distort.LensDistortionNarrowFOV;
 import boofcv.struct.image.ImageGray;
 import georegression.geometry.UtilPolygons2D_F64;
 import georegression.metric.Intersection2D_F64;
+import georegression.struct.homography.Homography2D_F64;
 import georegression.struct.point.Point2D_F64;
 import georegression.struct.point.Point2D_I32;
 import georegression.struct.shapes.Polygon2D_F64;
@@ -55,12 +56,18 @@ public class QrCodeDecoderImage<T extends ImageGray<T>> {
 	QrCodeAlignmentPatternLocator<T> alignmentLocator;
 	QrCodeBinaryGridReader<T> gridReader;
 
+	// parameters used to construct the decoder
+	String forceEncoding;
+	Class<T> imageType;
+
 	/**
 	 *
 	 * @param forceEncoding Force the default encoding to be this. Null for default
 	 * @param imageType
 	 */
 	public QrCodeDecoderImage( String forceEncoding, Class<T> imageType ) {
+		this.forceEncoding = forceEncoding;
+		this.imageType = imageType;
 		decoder = new QrCodeDecoderBits(forceEncoding);
 		gridReader = new QrCodeBinaryGridReader<>(imageType);
 		alignmentLocator = new QrCodeAlignmentPatternLocator<>(imageType);
@@ -73,21 +80,55 @@ public class QrCodeDecoderImage<T extends ImageGray<T>> {
 	 * @param gray Gray input image
 	 */
 	public void process(FastQueue<PositionPatternNode> pps , T gray ) {
-		gridReader.setImage(gray);
+		resetResults();
+		decodeCandidates(pps, gray);
+	}
+
+	/**
+	 * Detects QR Codes inside a region of the original image. Results are appended to the found and failure lists,
+	 * which are not cleared, and all pixel coordinates are shifted from the region's frame into the original
+	 * image's frame. Call {@link #resetResults()} before processing the first region in a new image.
+	 *
+	 * @param pps position pattern graph found inside the region
+	 * @param region Sub-image of the original image that the graph was found inside of
+	 * @param offsetX x-coordinate of the region's top-left corner in the original image
+	 * @param offsetY y-coordinate of the region's top-left corner in the original image
+	 */
+	public void processRegion(FastQueue<PositionPatternNode> pps , T region , int offsetX , int offsetY ) {
+		int startSuccess = successes.size();
+		int startFailures = failures.size();
+
+		decodeCandidates(pps, region);
+
+		for (int i = startSuccess; i < successes.size(); i++) {
+			shiftPixelCoordinates(successes.get(i),offsetX,offsetY);
+		}
+		for (int i = startFailures; i < failures.size(); i++) {
+			shiftPixelCoordinates(failures.get(i),offsetX,offsetY);
+		}
+	}
+
+	/**
+	 * Discards all previously found and failed QR Codes
+	 */
+	public void resetResults() {
 		storageQR.reset();
 		successes.clear();
 		failures.clear();
+	}
+
+	/**
+	 * Decodes every candidate QR Code in the graph and adds them to the success or failure list
+	 */
+	void decodeCandidates(FastQueue<PositionPatternNode> pps , T gray ) {
+		gridReader.setImage(gray);
 
 		for (int i = 0; i < pps.size; i++) {
 			PositionPatternNode ppn = pps.get(i);
 
 			for (int j = 3,k=0; k < 4; j=k,k++) {
 				if( ppn.edges[j] != null && ppn.edges[k] != null ) {
-					QrCode qr = storageQR.grow();
-					qr.reset();
-
-					setPositionPatterns(ppn, j, k, qr);
-					computeBoundingBox(qr);
+					QrCode qr = createCandidate(ppn, j, k);
 
 					// Decode the entire marker now
 					if( decode(gray,qr)) {
@@ -101,6 +142,18 @@ public class QrCodeDecoderImage<T extends ImageGray<T>> {
 		}
 	}
 
+	/**
+	 * Creates a new candidate QR Code from the position pattern and two of its edges
+	 */
+	QrCode createCandidate( PositionPatternNode ppn , int cornerToRight , int cornerToDown ) {
+		QrCode qr = storageQR.grow();
+		qr.reset();
+
+		setPositionPatterns(ppn, cornerToRight, cornerToDown, qr);
+		computeBoundingBox(qr);
+		return qr;
+	}
+
 	/**
 	 * <p>Specifies transforms which can be used to change coordinates from distorted to undistorted and the opposite
 	 * coordinates.  The undistorted image is never explicitly created.</p>
@@ -139,6 +192,35 @@ public class QrCodeDecoderImage<T extends ImageGray<T>> {
 		rotateUntilAt(qr.ppDown,indexD,0);
 	}
 
+	/**
+	 * Translates all the pixel coordinates in the QR Code by the specified amount. The grid to pixel homography
+	 * is updated by pre-multiplying it by the translation.
+	 */
+	static void shiftPixelCoordinates( QrCode qr , double dx , double dy ) {
+		shift(qr.ppCorner,dx,dy);
+		shift(qr.ppRight,dx,dy);
+		shift(qr.ppDown,dx,dy);
+		shift(qr.bounds,dx,dy);
+
+		for (int i = 0; i < qr.alignment.size; i++) {
+			Point2D_F64 p = qr.alignment.get(i).pixel;
+			p.x += dx;
+			p.y += dy;
+		}
+
+		Homography2D_F64 H = qr.Hinv;
+		H.a11 += dx*H.a31; H.a12 += dx*H.a32; H.a13 += dx*H.a33;
+		H.a21 += dy*H.a31; H.a22 += dy*H.a32; H.a23 += dy*H.a33;
+	}
+
+	private static void shift( Polygon2D_F64 polygon , double dx , double dy ) {
+		for (int i = 0; i < polygon.size(); i++) {
+			Point2D_F64 p = polygon.get(i);
+			p.x += dx;
+			p.y += dy;
+		}
+	}
+
 	static void rotateUntilAt(Polygon2D_F64 square , int current , int desired ) {
 		while( current != desired ) {
 			UtilPolygons2D_F64.shiftDown(square);
@@ -160,7 +242,7 @@ public class QrCodeDecoderImage<T extends ImageGray<T>> {
 		qr.bounds.get(3).set(qr.ppDown.get(3));
 	}
 
-	private boolean decode( T gray , QrCode qr ) {
+	boolean decode( T gray , QrCode qr ) {
 		if( !extractFormatInfo(qr) ) {
 			qr.failureCause = QrCode.Failure.FORMAT;
 			return false;
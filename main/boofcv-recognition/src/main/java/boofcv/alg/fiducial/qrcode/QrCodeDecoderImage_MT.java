@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.fiducial.qrcode;
+
+import boofcv.alg.distort.LensDistortionNarrowFOV;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Concurrent implementation of {@link QrCodeDecoderImage}. Candidates are found from the position pattern graph
+ * in a single thread then decoded in parallel. Each thread has its own grid reader, alignment pattern locator and
+ * error correction workspace. The order of the found and failure lists is the same as the single threaded
+ * version.</p>
+ *
+ * @author Peter Abeles
+ */
+public class QrCodeDecoderImage_MT<T extends ImageGray<T>> extends QrCodeDecoderImage<T> {
+
+	// Decoders with workspace for each thread
+	FastQueue<QrCodeDecoderImage<T>> workers;
+
+	// Candidate QR Codes in the order they were found in the graph
+	List<QrCode> candidates = new ArrayList<>();
+	// true if the candidate at the same index was successfully decoded
+	GrowQueue_B decoded = new GrowQueue_B();
+
+	// lens distortion which is passed to every worker
+	int distortionWidth, distortionHeight;
+	@Nullable LensDistortionNarrowFOV distortion;
+
+	public QrCodeDecoderImage_MT( String forceEncoding, Class<T> imageType ) {
+		super(forceEncoding, imageType);
+		workers = new FastQueue<>(()-> {
+			QrCodeDecoderImage<T> w = new QrCodeDecoderImage<>(this.forceEncoding,this.imageType);
+			if( distortion != null )
+				w.setLensDistortion(distortionWidth,distortionHeight,distortion);
+			return w;
+		});
+	}
+
+	@Override
+	void decodeCandidates(FastQueue<PositionPatternNode> pps, T gray) {
+		// Creating the candidates is inexpensive and is done in the same order as the single thread version
+		candidates.clear();
+		for (int i = 0; i < pps.size; i++) {
+			PositionPatternNode ppn = pps.get(i);
+
+			for (int j = 3,k=0; k < 4; j=k,k++) {
+				if( ppn.edges[j] != null && ppn.edges[k] != null ) {
+					candidates.add(createCandidate(ppn, j, k));
+				}
+			}
+		}
+
+		decoded.resize(candidates.size());
+
+		// Decoding is where all the time is spent
+		BoofConcurrency.loopBlocks(0,candidates.size(),1,workers,(worker,idx0,idx1)->{
+			worker.gridReader.setImage(gray);
+			for (int i = idx0; i < idx1; i++) {
+				decoded.data[i] = worker.decode(gray,candidates.get(i));
+			}
+		});
+
+		for (int i = 0; i < candidates.size(); i++) {
+			if( decoded.data[i] ) {
+				successes.add(candidates.get(i));
+			} else {
+				failures.add(candidates.get(i));
+			}
+		}
+	}
+
+	@Override
+	public void setLensDistortion(int width, int height, @Nullable LensDistortionNarrowFOV model) {
+		super.setLensDistortion(width, height, model);
+		this.distortionWidth = width;
+		this.distortionHeight = height;
+		this.distortion = model;
+
+		// update workers which have already been declared
+		for (int i = 0; i < workers.data.length; i++) {
+			if( workers.data[i] != null )
+				workers.data[i].setLensDistortion(width, height, model);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -58,6 +58,24 @@ public class ConfigQrCode implements Configuration {
 	 */
 	public String forceEncoding = null;
 
+	/**
+	 * If true then region of interest tracking is used when processing a sequence of images. After QR Codes
+	 * have been found only the regions around them are searched in the next frame.
+	 */
+	public boolean roiTracking = false;
+
+	/**
+	 * When ROI tracking, the entire image is searched once every this many frames. The entire image is also
+	 * searched whenever a previously found QR Code is lost.
+	 */
+	public int roiFullSearchPeriod = 10;
+
+	/**
+	 * When ROI tracking, how much the bounding box around a previous detection is expanded by in each direction.
+	 * Relative to the size of the bounding box.
+	 */
+	public double roiMargin = 0.5;
+
 	{
 
 		// 40% slower but better at detecting fiducials by a few percentage points
@@ -103,6 +121,10 @@ public class ConfigQrCode implements Configuration {
 
 	@Override
 	public void checkValidity() {
+		if( roiFullSearchPeriod < 1 )
+			throw new IllegalArgumentException("roiFullSearchPeriod must be at least 1");
+		if( roiMargin < 0 )
+			throw new IllegalArgumentException("roiMargin can't be negative");
 		// this is now manually set by the detector. previous settings don't matter
 //		if( polygon.detector.clockwise )
 //			throw new IllegalArgumentException("Must be counter clockwise");
@@ -25,12 +25,15 @@ import boofcv.alg.feature.describe.llah.LlahHasher;
 import boofcv.alg.feature.describe.llah.LlahOperations;
 import boofcv.alg.fiducial.dots.UchiyaMarkerImageTracker;
 import boofcv.alg.fiducial.dots.UchiyaMarkerTracker;
+import boofcv.alg.fiducial.qrcode.QrCodeDecoderImage;
+import boofcv.alg.fiducial.qrcode.QrCodeDecoderImage_MT;
 import boofcv.alg.fiducial.qrcode.QrCodePositionPatternDetector;
 import boofcv.alg.fiducial.square.DetectFiducialSquareBinary;
 import boofcv.alg.fiducial.square.DetectFiducialSquareImage;
 import boofcv.alg.shapes.ellipse.BinaryEllipseDetectorPixel;
 import boofcv.alg.shapes.ellipse.EdgeIntensityEllipse;
 import boofcv.alg.shapes.polygon.DetectPolygonBinaryGrayRefine;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.filter.binary.ConfigThreshold;
 import boofcv.factory.filter.binary.FactoryThresholdBinary;
 import boofcv.factory.filter.binary.ThresholdType;
@@ -200,7 +203,17 @@ public class FactoryFiducial {
 		QrCodePositionPatternDetector<T> detectPositionPatterns =
 				new QrCodePositionPatternDetector<>(squareDetector,config.versionMaximum);
 
-		return new QrCodePreciseDetector<>(inputToBinary,detectPositionPatterns, config.forceEncoding,false, imageType);
+		QrCodeDecoderImage<T> decoder;
+		if( BoofConcurrency.isUseConcurrent() ) {
+			decoder = new QrCodeDecoderImage_MT<>(config.forceEncoding,imageType);
+		} else {
+			decoder = new QrCodeDecoderImage<>(config.forceEncoding,imageType);
+		}
+
+		QrCodePreciseDetector<T> detector =
+				new QrCodePreciseDetector<>(inputToBinary,detectPositionPatterns,decoder,false, imageType);
+		detector.setRoiTracking(config.roiTracking,config.roiFullSearchPeriod,config.roiMargin);
+		return detector;
 	}
 
 	/**
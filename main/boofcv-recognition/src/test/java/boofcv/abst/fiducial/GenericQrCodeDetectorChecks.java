@@ -171,7 +171,7 @@ public abstract class GenericQrCodeDetectorChecks {
 		assertEquals(2,detections.size());
 	}
 
-	private GrayF32 generateMarker() {
+	protected GrayF32 generateMarker() {
 		QrCodeGeneratorImage generator = new QrCodeGeneratorImage(4);
 //		generator.renderData = false;
 		generator.render(expected);
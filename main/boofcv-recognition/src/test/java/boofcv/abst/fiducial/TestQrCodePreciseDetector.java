@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -18,9 +18,21 @@
 
 package boofcv.abst.fiducial;
 
+import boofcv.alg.fiducial.qrcode.QrCode;
 import boofcv.factory.fiducial.ConfigQrCode;
 import boofcv.factory.fiducial.FactoryFiducial;
+import boofcv.io.calibration.CalibrationIO;
+import boofcv.simulation.SimulatePlanarWorld;
+import boofcv.struct.calib.CameraPinholeBrown;
 import boofcv.struct.image.GrayF32;
+import georegression.geometry.ConvertRotation3D_F64;
+import georegression.struct.EulerType;
+import georegression.struct.se.Se3_F64;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class TestQrCodePreciseDetector extends GenericQrCodeDetectorChecks {
 
@@ -30,4 +42,67 @@ public class TestQrCodePreciseDetector extends GenericQrCodeDetectorChecks {
 
 		return FactoryFiducial.qrcode(config,GrayF32.class);
 	}
+
+	/**
+	 * Moves two markers through a sequence and sees if ROI tracking only searches the regions while
+	 * producing the same results as a full frame search
+	 */
+	@Test
+	public void roiTracking() {
+		ConfigQrCode config = new ConfigQrCode();
+		config.roiTracking = true;
+		config.roiFullSearchPeriod = 5;
+		config.roiMargin = 0.1;
+		QrCodePreciseDetector<GrayF32> tracker = FactoryFiducial.qrcode(config,GrayF32.class);
+		QrCodePreciseDetector<GrayF32> full = FactoryFiducial.qrcode(null,GrayF32.class);
+
+		CameraPinholeBrown model = CalibrationIO.load(getClass().getResource("calib/pinhole_radial.yaml"));
+		SimulatePlanarWorld simulator = new SimulatePlanarWorld();
+		simulator.setCamera(model);
+
+		simulator.resetScene();
+		Se3_F64 markerToWorld0 = new Se3_F64();
+		Se3_F64 markerToWorld1 = new Se3_F64();
+		simulator.addSurface(markerToWorld0, simulatedTargetWidth, generateMarker());
+		simulator.addSurface(markerToWorld1, simulatedTargetWidth, generateMarker());
+
+		ConvertRotation3D_F64.eulerToMatrix(EulerType.XYZ,0,Math.PI,0,markerToWorld0.R);
+		ConvertRotation3D_F64.eulerToMatrix(EulerType.XYZ,0,Math.PI,0,markerToWorld1.R);
+
+		for (int frame = 0; frame < 12; frame++) {
+			markerToWorld0.T.set(0.2+frame*0.005, 0, 0.6);
+			markerToWorld1.T.set(-0.2, frame*0.005, 0.6);
+			simulator.render();
+
+			tracker.process(simulator.getOutput());
+			full.process(simulator.getOutput());
+
+			// full frame search on the first frame and when the period is reached
+			assertEquals(frame%5 == 0, tracker.isFullSearch());
+			assertEquals(2,tracker.getRegions().size());
+
+			List<QrCode> found = tracker.getDetections();
+			List<QrCode> expected = full.getDetections();
+			assertEquals(2,found.size());
+			assertEquals(expected.size(),found.size());
+
+			for (QrCode a : found) {
+				assertEquals(message,a.message);
+				// find the matching detection and see if it's at the same location
+				boolean matched = false;
+				for (QrCode b : expected) {
+					if( a.ppCorner.get(0).distance(b.ppCorner.get(0)) < 0.5 ) {
+						matched = true;
+						break;
+					}
+				}
+				assertTrue(matched);
+			}
+		}
+
+		// after a reset it should search the full frame again
+		tracker.resetTracking();
+		tracker.process(simulator.getOutput());
+		assertTrue(tracker.isFullSearch());
+	}
 }
@@ -19,9 +19,12 @@
 package boofcv.alg.fiducial.qrcode;
 
 import boofcv.alg.fiducial.calib.squares.SquareEdge;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import georegression.struct.point.Point2D_F64;
 import georegression.struct.shapes.Polygon2D_F64;
+import georegression.transform.homography.HomographyPointOps_F64;
 import org.ddogleg.struct.FastQueue;
 import org.ejml.UtilEjml;
 import org.junit.jupiter.api.Test;
@@ -286,6 +289,56 @@ public class TestQrCodeDecoderImage {
 
 	}
 
+	/**
+	 * Decode the QR Code inside of a sub-image and see if the results are shifted back into the original image
+	 */
+	@Test
+	public void processRegion() {
+		QrCode expected = new QrCodeEncoder().setVersion(2).
+				setError(QrCode.ErrorLevel.M).
+				setMask(QrCodeMaskPattern.M011).
+				addNumeric("01234").fixate();
+
+		QrCodeGeneratorImage generator = new QrCodeGeneratorImage(4);
+		generator.render(expected);
+		GrayU8 rendered = generator.getGray();
+
+		// Place the QR code inside a larger image
+		int offX = 30, offY = 17;
+		GrayU8 image = new GrayU8(rendered.width+60,rendered.height+40);
+		ImageMiscOps.fill(image,255);
+		image.subimage(offX,offY,offX+rendered.width,offY+rendered.height).setTo(rendered);
+
+		QrCodeDecoderImage<GrayU8> decoder = new QrCodeDecoderImage<>(null,GrayU8.class);
+		decoder.process(createPositionPatterns(generator),rendered);
+		assertEquals(1,decoder.getFound().size());
+		QrCode local = decoder.getFound().get(0).clone();
+
+		// Decode it a second time, appending the results, with the region being the sub-image
+		GrayU8 region = image.subimage(offX,offY,offX+rendered.width,offY+rendered.height);
+		decoder.processRegion(createPositionPatterns(generator),region,offX,offY);
+		assertEquals(2,decoder.getFound().size());
+		QrCode found = decoder.getFound().get(1);
+
+		assertEquals("01234",found.message);
+		for (int i = 0; i < 4; i++) {
+			assertEquals(local.bounds.get(i).x+offX,found.bounds.get(i).x, UtilEjml.TEST_F64);
+			assertEquals(local.bounds.get(i).y+offY,found.bounds.get(i).y, UtilEjml.TEST_F64);
+			assertEquals(local.ppCorner.get(i).x+offX,found.ppCorner.get(i).x, UtilEjml.TEST_F64);
+		}
+
+		// the grid to pixel transform should also be shifted
+		Point2D_F64 a = new Point2D_F64();
+		Point2D_F64 b = new Point2D_F64();
+		HomographyPointOps_F64.transform(local.Hinv,3,4,a);
+		HomographyPointOps_F64.transform(found.Hinv,3,4,b);
+		assertEquals(a.x+offX,b.x, UtilEjml.TEST_F64);
+		assertEquals(a.y+offY,b.y, UtilEjml.TEST_F64);
+
+		decoder.resetResults();
+		assertEquals(0,decoder.getFound().size());
+	}
+
 	private FastQueue<PositionPatternNode> createPositionPatterns(QrCodeGeneratorImage generator) {
 		FastQueue<PositionPatternNode> pps = new FastQueue<>(PositionPatternNode::new);
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.fiducial.qrcode;
+
+import boofcv.abst.fiducial.QrCodePreciseDetector;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.fiducial.FactoryFiducial;
+import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.FastQueue;
+import org.ejml.UtilEjml;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestQrCodeDecoderImage_MT {
+	/**
+	 * Decode an image with many QR Codes in it and see if the results are identical and in the same order
+	 */
+	@Test
+	public void compareToSingleThread() {
+		GrayU8 image = new GrayU8(800,600);
+		ImageMiscOps.fill(image,255);
+
+		int total = 0;
+		for (int y = 0; y+180 <= image.height; y += 200) {
+			for (int x = 0; x+180 <= image.width; x += 200) {
+				QrCode qr = new QrCodeEncoder().addAutomatic("message "+total++).fixate();
+				QrCodeGeneratorImage generator = new QrCodeGeneratorImage(5);
+				generator.render(qr);
+				GrayU8 rendered = generator.getGray();
+				image.subimage(x,y,x+rendered.width,y+rendered.height).setTo(rendered);
+			}
+		}
+
+		QrCodePreciseDetector<GrayU8> detector = FactoryFiducial.qrcode(null,GrayU8.class);
+		detector.process(image);
+		FastQueue<PositionPatternNode> pps = detector.getDetectPositionPatterns().getPositionPatterns();
+
+		QrCodeDecoderImage<GrayU8> single = new QrCodeDecoderImage<>(null,GrayU8.class);
+		QrCodeDecoderImage_MT<GrayU8> multi = new QrCodeDecoderImage_MT<>(null,GrayU8.class);
+
+		single.process(pps,image);
+		multi.process(pps,image);
+
+		assertEquals(total,single.getFound().size());
+		compare(single,multi);
+
+		// process it a second time to make sure workspace is correctly recycled
+		multi.process(pps,image);
+		compare(single,multi);
+	}
+
+	private void compare( QrCodeDecoderImage<GrayU8> expected , QrCodeDecoderImage<GrayU8> found ) {
+		assertEquals(expected.getFound().size(),found.getFound().size());
+		assertEquals(expected.getFailures().size(),found.getFailures().size());
+
+		for (int i = 0; i < expected.getFound().size(); i++) {
+			QrCode a = expected.getFound().get(i);
+			QrCode b = found.getFound().get(i);
+			assertEquals(a.message,b.message);
+			for (int j = 0; j < 4; j++) {
+				assertTrue(a.bounds.get(j).distance(b.bounds.get(j)) <= UtilEjml.TEST_F64);
+			}
+		}
+		for (int i = 0; i < expected.getFailures().size(); i++) {
+			QrCode a = expected.getFailures().get(i);
+			QrCode b = found.getFailures().get(i);
+			assertEquals(a.failureCause,b.failureCause);
+			assertTrue(a.bounds.get(0).distance(b.bounds.get(0)) <= UtilEjml.TEST_F64);
+		}
+	}
+}
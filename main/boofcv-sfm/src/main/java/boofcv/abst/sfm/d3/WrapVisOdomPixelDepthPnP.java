@@ -23,6 +23,7 @@ import boofcv.abst.tracker.PointTrack;
 import boofcv.alg.geo.DistanceFromModelMultiView;
 import boofcv.alg.sfm.StereoSparse3D;
 import boofcv.alg.sfm.d3.VisOdomPixelDepthPnP;
+import boofcv.misc.StageProfiler;
 import boofcv.struct.calib.StereoParameters;
 import boofcv.struct.geo.Point2D3D;
 import boofcv.struct.image.ImageGray;
@@ -53,6 +54,9 @@ public class WrapVisOdomPixelDepthPnP<T extends ImageGray<T>>
 
 	List<PointTrack> active = new ArrayList<>();
 
+	StageProfiler profiler = StageProfiler.NONE;
+	int stageProcess;
+
 	public WrapVisOdomPixelDepthPnP(VisOdomPixelDepthPnP<T> alg,
 									StereoSparse3D<T> stereo,
 									DistanceFromModelMultiView<Se3_F64,Point2D3D> distance,
@@ -112,8 +116,10 @@ public class WrapVisOdomPixelDepthPnP<T extends ImageGray<T>>
 
 	@Override
 	public boolean process(T leftImage, T rightImage) {
+		long time = profiler.start();
 		stereo.setImages(leftImage,rightImage);
 		success = alg.process(leftImage);
+		profiler.lap(stageProcess,time);
 
 		active.clear();
 		alg.getTracker().getActiveTracks(active);
@@ -121,6 +127,16 @@ public class WrapVisOdomPixelDepthPnP<T extends ImageGray<T>>
 		return success;
 	}
 
+	/**
+	 * Time for the whole frame is recorded as "vo.process". The tracker's stages are nested inside of it.
+	 */
+	@Override
+	public void setStageProfiler( StageProfiler profiler ) {
+		this.profiler = profiler;
+		stageProcess = profiler.stage("vo.process");
+		alg.getTracker().setStageProfiler(profiler);
+	}
+
 	@Override
 	public ImageType<T> getImageType() {
 		return ImageType.single(imageType);
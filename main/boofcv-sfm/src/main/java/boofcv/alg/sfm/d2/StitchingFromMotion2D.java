@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -29,6 +29,7 @@ import georegression.struct.InvertibleTransform;
 import georegression.struct.homography.Homography2D_F64;
 import georegression.struct.point.Point2D_F32;
 import georegression.struct.point.Point2D_F64;
+import georegression.struct.shapes.Rectangle2D_I32;
 import georegression.struct.shapes.RectangleLength2D_I32;
 
 /**
@@ -44,6 +45,10 @@ import georegression.struct.shapes.RectangleLength2D_I32;
  * jump larger than the user specified threshold is detected then {@link #process(boofcv.struct.image.ImageBase)}
  * will return false.
  *
+ * Instead of a single stitched image a {@link TiledMosaic} can be used by calling
+ * {@link #configureTiled(TiledMosaic, InvertibleTransform)}. The mosaic has no fixed size and only the tiles
+ * touched by the current frame are modified, allowing it to run indefinitely with bounded memory.
+ *
  * @author Peter Abeles
  */
 
@@ -84,6 +89,10 @@ public class StitchingFromMotion2D<I extends ImageBase<I>, IT extends Invertible
 	// storage for the stitched image
 	private I stitchedImage;
 	private I workImage;
+	// If not null then images are rendered into this mosaic instead of the stitched image
+	private TiledMosaic<I> mosaic;
+	// bounding box of the current frame in the mosaic
+	private Rectangle2D_I32 mosaicBounds = new Rectangle2D_I32();
 
 	// first time that it has been called
 	private boolean first = true;
@@ -123,6 +132,22 @@ public class StitchingFromMotion2D<I extends ImageBase<I>, IT extends Invertible
 			this.worldToInit.set(worldToInit);
 		this.widthStitch = widthStitch;
 		this.heightStitch = heightStitch;
+		this.mosaic = null;
+	}
+
+	/**
+	 * Renders into a tiled mosaic instead of a single fixed size stitched image. The mosaic can grow in any
+	 * direction so parts of the scene are never clipped.
+	 *
+	 * @param mosaic The mosaic that images are rendered into
+	 * @param worldToInit (Option) Used to change the location of the initial frame in the mosaic.
+	 *                    null means no transform.
+	 */
+	public void configureTiled( TiledMosaic<I> mosaic , IT worldToInit ) {
+		this.worldToInit = (IT)worldToCurr.createInstance();
+		if( worldToInit != null )
+			this.worldToInit.set(worldToInit);
+		this.mosaic = mosaic;
 	}
 
 	/**
@@ -134,7 +159,7 @@ public class StitchingFromMotion2D<I extends ImageBase<I>, IT extends Invertible
 	 * @return True if the stitched image is updated and false if it failed and was not
 	 */
 	public boolean process( I image ) {
-		if( stitchedImage == null ) {
+		if( mosaic == null && stitchedImage == null ) {
 			stitchedImage = (I)image.createNew(widthStitch, heightStitch);
 			workImage = (I)image.createNew(widthStitch, heightStitch);
 		}
@@ -155,6 +180,8 @@ public class StitchingFromMotion2D<I extends ImageBase<I>, IT extends Invertible
 	public void reset() {
 		if( stitchedImage != null )
 			GImageMiscOps.fill(stitchedImage, 0);
+		if( mosaic != null )
+			mosaic.reset();
 		motion.reset();
 		worldToCurr.reset();
 		first = true;
@@ -200,6 +227,11 @@ public class StitchingFromMotion2D<I extends ImageBase<I>, IT extends Invertible
 	private void update(I image) {
 		computeCurrToInit_PixelTran();
 
+		if( mosaic != null ) {
+			updateMosaic(image);
+			return;
+		}
+
 		// only process a cropped portion to speed up processing
 		RectangleLength2D_I32 box = DistortImageOps.boundBox(image.width, image.height,
 				stitchedImage.width, stitchedImage.height,work, tranCurrToWorld);
@@ -213,6 +245,25 @@ public class StitchingFromMotion2D<I extends ImageBase<I>, IT extends Invertible
 		distorter.apply(image, stitchedImage,x0,y0,x1,y1);
 	}
 
+	/**
+	 * Renders the image into the tiles it overlaps
+	 */
+	private void updateMosaic(I image) {
+		getImageCorners(image.width, image.height, corners);
+
+		double x0 = Math.min(Math.min(corners.p0.x, corners.p1.x), Math.min(corners.p2.x, corners.p3.x));
+		double y0 = Math.min(Math.min(corners.p0.y, corners.p1.y), Math.min(corners.p2.y, corners.p3.y));
+		double x1 = Math.max(Math.max(corners.p0.x, corners.p1.x), Math.max(corners.p2.x, corners.p3.x));
+		double y1 = Math.max(Math.max(corners.p0.y, corners.p1.y), Math.max(corners.p2.y, corners.p3.y));
+
+		mosaicBounds.x0 = (int)Math.floor(x0);
+		mosaicBounds.y0 = (int)Math.floor(y0);
+		mosaicBounds.x1 = (int)Math.ceil(x1)+1;
+		mosaicBounds.y1 = (int)Math.ceil(y1)+1;
+
+		mosaic.render(image, tranWorldToCurr, mosaicBounds);
+	}
+
 	private void computeCurrToInit_PixelTran() {
 		IT initToCurr = motion.getFirstToCurrent();
 		worldToInit.concat(initToCurr, worldToCurr);
@@ -228,8 +279,19 @@ public class StitchingFromMotion2D<I extends ImageBase<I>, IT extends Invertible
 	 * Sets the current image to be the origin of the stitched coordinate system.  The background is filled
 	 * with a value of 0.
 	 * Must be called after {@link #process(boofcv.struct.image.ImageBase)}.
+	 *
+	 * When rendering into a {@link TiledMosaic} the mosaic is not modified. Only the motion estimate is
+	 * reset so that it's relative to the current frame, which stays at the same location in the mosaic.
 	 */
 	public void setOriginToCurrent() {
+		if( mosaic != null ) {
+			worldToInit.set(worldToCurr);
+			motion.setToFirst();
+			first = true;
+			computeCurrToInit_PixelTran();
+			return;
+		}
+
 		IT currToWorld = (IT)worldToCurr.invert(null);
 		IT oldWorldToNewWorld = (IT) worldToInit.concat(currToWorld,null);
 
@@ -262,6 +324,8 @@ public class StitchingFromMotion2D<I extends ImageBase<I>, IT extends Invertible
 	 * @param newToOldStitch (Optional) Transform from new stitch image pixels to old stick pixels.  Can be null.
 	 */
 	public void resizeStitchImage( int widthStitch, int heightStitch , IT newToOldStitch ) {
+		if( mosaic != null )
+			throw new IllegalArgumentException("Can't resize a tiled mosaic");
 
 		// copy the old image into the new one
 		workImage.reshape(widthStitch,heightStitch);
@@ -329,6 +393,13 @@ public class StitchingFromMotion2D<I extends ImageBase<I>, IT extends Invertible
 		return stitchedImage;
 	}
 
+	/**
+	 * The tiled mosaic images are rendered into or null if a single stitched image is used
+	 */
+	public TiledMosaic<I> getMosaic() {
+		return mosaic;
+	}
+
 	public ImageMotion2D<I, IT> getMotion() {
 		return motion;
 	}
@@ -0,0 +1,598 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.sfm.d2;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.distort.PixelTransform;
+import boofcv.struct.image.*;
+import georegression.struct.point.Point2D_F32;
+import georegression.struct.shapes.Rectangle2D_I32;
+import org.ddogleg.struct.Factory;
+import org.ddogleg.struct.FastQueue;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.*;
+
+/**
+ * <p>
+ * Mosaic image which is broken up into square tiles of a fixed size. A tile is only allocated when a pixel
+ * inside of it is rendered, which allows the mosaic to grow in any direction without a predefined size. To
+ * keep memory bounded only a fixed number of tiles are kept in memory. When that number is exceeded the least
+ * recently used tile is written to a file on disk and is read back in when it's needed again.
+ * </p>
+ *
+ * <p>
+ * Tile (tx,ty) contains the mosaic pixels from (tx*tileSize, ty*tileSize) inclusive to
+ * ((tx+1)*tileSize, (ty+1)*tileSize) exclusive. Tile coordinates can be negative. Pixels which have never
+ * been rendered have a value of zero.
+ * </p>
+ *
+ * <p>
+ * When an image is rendered only the tiles it touches are modified, so the cost is proportional to the size of
+ * the image and not the mosaic. Tiles are independent of each other and are rendered in parallel when
+ * concurrency is turned on.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class TiledMosaic<I extends ImageBase<I>> implements Closeable {
+	// width and height of each tile
+	private final int tileSize;
+	// maximum number of tiles which can be in memory at once
+	private final int maxInMemory;
+	// type of image stored in each tile
+	private final ImageType<I> imageType;
+
+	// Tiles which are in memory. Iteration order is from least to most recently used
+	private final LinkedHashMap<Long,Tile<I>> resident = new LinkedHashMap<>(16,0.75f,true);
+	// Location of tiles inside the spill file. Once assigned a tile always uses the same location
+	private final Map<Long,Integer> spilled = new HashMap<>();
+	// Tiles which have been allocated but are not in use
+	private final List<Tile<I>> unused = new ArrayList<>();
+
+	// Directory the spill file is created in. null means the system's temporary directory
+	private final File spillDirectory;
+	private File spillFile;
+	private RandomAccessFile spillAccess;
+	// number of bytes needed to store a single tile
+	private final long tileBytes;
+	// Storage for a single tile when it's being moved to or from the spill file. Declared lazily
+	private ByteBuffer spillBuffer;
+
+	// Bounds of all the tiles which have been created. Inclusive.
+	private int minTileX, minTileY, maxTileX, maxTileY;
+
+	// Creates the image distortion used by each thread
+	private final Factory<ImageDistort<I,I>> factoryDistort;
+	private final FastQueue<RenderWorker> workers;
+
+	// Tiles touched by the image being rendered
+	private final List<Tile<I>> touched = new ArrayList<>();
+
+	/**
+	 * Configures the mosaic
+	 *
+	 * @param imageType Type of image stored in the mosaic
+	 * @param tileSize Width and height of each tile
+	 * @param maxInMemory Maximum number of tiles which can be in memory at once. Must be at least 1.
+	 * @param spillDirectory (Optional) Directory that tiles are written to when evicted from memory.
+	 *                       If null then the system's temporary directory is used.
+	 * @param factoryDistort Creates the distortion used to render images into a tile. One is created for each thread.
+	 */
+	public TiledMosaic( ImageType<I> imageType, int tileSize, int maxInMemory,
+						File spillDirectory, Factory<ImageDistort<I,I>> factoryDistort ) {
+		if( tileSize <= 0 )
+			throw new IllegalArgumentException("tileSize must be more than zero");
+		if( maxInMemory <= 0 )
+			throw new IllegalArgumentException("maxInMemory must be more than zero");
+		this.imageType = imageType;
+		this.tileSize = tileSize;
+		this.maxInMemory = maxInMemory;
+		this.spillDirectory = spillDirectory;
+		this.factoryDistort = factoryDistort;
+		this.workers = new FastQueue<>(RenderWorker::new);
+		this.tileBytes = (long)tileSize*tileSize*imageType.getNumBands()*imageType.getDataType().getNumBits()/8;
+		resetBounds();
+	}
+
+	/**
+	 * Renders an image into the mosaic. Only the tiles which intersect the image's bounding box are modified.
+	 *
+	 * @param image The image being added to the mosaic
+	 * @param mosaicToImage Transform from mosaic pixels into image pixels
+	 * @param bounds Bounding box of the image in mosaic pixels. x0,y0 inclusive and x1,y1 exclusive.
+	 */
+	public void render( I image, PixelTransform<Point2D_F32> mosaicToImage, Rectangle2D_I32 bounds ) {
+		if( bounds.x1 <= bounds.x0 || bounds.y1 <= bounds.y0 )
+			return;
+
+		int tx0 = Math.floorDiv(bounds.x0, tileSize);
+		int ty0 = Math.floorDiv(bounds.y0, tileSize);
+		int tx1 = Math.floorDiv(bounds.x1-1, tileSize);
+		int ty1 = Math.floorDiv(bounds.y1-1, tileSize);
+
+		// If an image touches more tiles than can be in memory at once then it's rendered in batches
+		touched.clear();
+		for( int ty = ty0; ty <= ty1; ty++ ) {
+			for( int tx = tx0; tx <= tx1; tx++ ) {
+				Tile<I> tile = fetch(tx,ty,true);
+				tile.dirty = true;
+				touched.add(tile);
+				if( touched.size() == maxInMemory ) {
+					renderTouched(image, mosaicToImage, bounds);
+					touched.clear();
+				}
+			}
+		}
+		renderTouched(image, mosaicToImage, bounds);
+		touched.clear();
+	}
+
+	private void renderTouched( I image, PixelTransform<Point2D_F32> mosaicToImage, Rectangle2D_I32 bounds ) {
+		if( touched.isEmpty() )
+			return;
+
+		if( BoofConcurrency.isUseConcurrent() ) {
+			BoofConcurrency.loopBlocks(0, touched.size(), 1, workers, (worker, idx0, idx1) -> {
+				// the transform might have internal state so each thread needs its own copy
+				worker.offset.worldToImage = mosaicToImage.copyConcurrent();
+				for( int i = idx0; i < idx1; i++ ) {
+					worker.render(image, touched.get(i), bounds);
+				}
+			});
+		} else {
+			workers.resize(1);
+			RenderWorker worker = workers.get(0);
+			worker.offset.worldToImage = mosaicToImage;
+			for( int i = 0; i < touched.size(); i++ ) {
+				worker.render(image, touched.get(i), bounds);
+			}
+		}
+	}
+
+	/**
+	 * Copies a region of the mosaic into the output image. Pixels inside of tiles which don't exist are set to zero.
+	 *
+	 * @param x0 x-coordinate of the region's top left corner in mosaic pixels
+	 * @param y0 y-coordinate of the region's top left corner in mosaic pixels
+	 * @param output (Output) Storage for the region. Its shape specifies the region's size.
+	 */
+	public void extract( int x0, int y0, I output ) {
+		int x1 = x0 + output.width;
+		int y1 = y0 + output.height;
+
+		int tx0 = Math.floorDiv(x0, tileSize);
+		int ty0 = Math.floorDiv(y0, tileSize);
+		int tx1 = Math.floorDiv(x1-1, tileSize);
+		int ty1 = Math.floorDiv(y1-1, tileSize);
+
+		for( int ty = ty0; ty <= ty1; ty++ ) {
+			int regionY0 = Math.max(y0, ty*tileSize);
+			int regionY1 = Math.min(y1, (ty+1)*tileSize);
+			for( int tx = tx0; tx <= tx1; tx++ ) {
+				int regionX0 = Math.max(x0, tx*tileSize);
+				int regionX1 = Math.min(x1, (tx+1)*tileSize);
+
+				Tile<I> tile = fetch(tx,ty,false);
+				if( tile == null ) {
+					GImageMiscOps.fillRectangle(output, 0, regionX0-x0, regionY0-y0,
+							regionX1-regionX0, regionY1-regionY0);
+				} else {
+					GImageMiscOps.copy(regionX0-tx*tileSize, regionY0-ty*tileSize, regionX0-x0, regionY0-y0,
+							regionX1-regionX0, regionY1-regionY0, tile.image, output);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the image for the specified tile, loading it from disk if needed. The returned image is only
+	 * valid until the next call which modifies or reads from the mosaic, since the tile might be evicted.
+	 *
+	 * @param tx tile x-coordinate
+	 * @param ty tile y-coordinate
+	 * @return The tile's image or null if the tile doesn't exist
+	 */
+	public I lookupTile( int tx, int ty ) {
+		Tile<I> tile = fetch(tx,ty,false);
+		return tile == null ? null : tile.image;
+	}
+
+	/**
+	 * Returns true if the specified tile has been created
+	 */
+	public boolean isTile( int tx, int ty ) {
+		long key = key(tx,ty);
+		return resident.containsKey(key) || spilled.containsKey(key);
+	}
+
+	/**
+	 * Discards all the tiles. Allocated memory is saved for later use.
+	 */
+	public void reset() {
+		unused.addAll(resident.values());
+		resident.clear();
+		spilled.clear();
+		resetBounds();
+		if( spillAccess != null ) {
+			try {
+				spillAccess.setLength(0);
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * Discards all tiles and deletes the spill file
+	 */
+	@Override
+	public void close() {
+		reset();
+		if( spillAccess != null ) {
+			try {
+				spillAccess.close();
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+			spillAccess = null;
+			if( !spillFile.delete() )
+				spillFile.deleteOnExit();
+			spillFile = null;
+		}
+	}
+
+	/**
+	 * Looks up a tile and makes sure it's in memory. If the tile has been spilled to disk it's read back in.
+	 *
+	 * @param create If true a tile will be created if it doesn't exist
+	 * @return the tile or null if it doesn't exist and create is false
+	 */
+	private Tile<I> fetch( int tx, int ty, boolean create ) {
+		long key = key(tx,ty);
+		// this also marks it as the most recently used tile
+		Tile<I> tile = resident.get(key);
+		if( tile != null )
+			return tile;
+
+		Integer slot = spilled.get(key);
+		if( slot == null && !create )
+			return null;
+
+		tile = allocate();
+		tile.tx = tx;
+		tile.ty = ty;
+		if( slot != null ) {
+			readTile(slot, tile.image);
+			tile.dirty = false;
+		} else {
+			GImageMiscOps.fill(tile.image, 0);
+			// must be saved when evicted since there's no copy on disk
+			tile.dirty = true;
+			minTileX = Math.min(minTileX, tx);
+			minTileY = Math.min(minTileY, ty);
+			maxTileX = Math.max(maxTileX, tx);
+			maxTileY = Math.max(maxTileY, ty);
+		}
+		resident.put(key, tile);
+		return tile;
+	}
+
+	/**
+	 * Provides a tile which can be used. If the memory limit has been reached the least recently used tile
+	 * is written to disk and recycled.
+	 */
+	private Tile<I> allocate() {
+		if( resident.size() >= maxInMemory ) {
+			Iterator<Tile<I>> iter = resident.values().iterator();
+			Tile<I> eldest = iter.next();
+			iter.remove();
+			spill(eldest);
+			return eldest;
+		}
+		if( !unused.isEmpty() )
+			return unused.remove(unused.size()-1);
+		return new Tile<>(imageType.createImage(tileSize, tileSize));
+	}
+
+	/**
+	 * Writes the tile to the spill file if it has been modified since it was last written
+	 */
+	private void spill( Tile<I> tile ) {
+		if( !tile.dirty )
+			return;
+		long key = key(tile.tx,tile.ty);
+		Integer slot = spilled.get(key);
+		if( slot == null ) {
+			slot = spilled.size();
+			spilled.put(key, slot);
+		}
+		try {
+			FileChannel channel = openSpill().getChannel();
+			ByteBuffer buffer = spillBuffer();
+			writeImage(tile.image, buffer);
+			buffer.flip();
+			long position = slot*tileBytes;
+			while( buffer.hasRemaining() ) {
+				position += channel.write(buffer, position);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		tile.dirty = false;
+	}
+
+	private void readTile( int slot, I image ) {
+		try {
+			FileChannel channel = openSpill().getChannel();
+			ByteBuffer buffer = spillBuffer();
+			long position = slot*tileBytes;
+			while( buffer.hasRemaining() ) {
+				int read = channel.read(buffer, position);
+				if( read < 0 )
+					throw new IOException("Unexpected end of spill file");
+				position += read;
+			}
+			buffer.flip();
+			readImage(buffer, image);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Returns the buffer used to move a tile to and from the spill file, cleared and ready to be filled
+	 */
+	private ByteBuffer spillBuffer() {
+		if( spillBuffer == null ) {
+			if( tileBytes > Integer.MAX_VALUE )
+				throw new IllegalArgumentException("Tile is too large to be written to disk");
+			spillBuffer = ByteBuffer.allocateDirect((int)tileBytes).order(ByteOrder.nativeOrder());
+		}
+		spillBuffer.clear();
+		return spillBuffer;
+	}
+
+	private RandomAccessFile openSpill() throws IOException {
+		if( spillAccess == null ) {
+			spillFile = File.createTempFile("mosaic", ".tiles", spillDirectory);
+			spillFile.deleteOnExit();
+			spillAccess = new RandomAccessFile(spillFile, "rw");
+		}
+		return spillAccess;
+	}
+
+	private void resetBounds() {
+		minTileX = minTileY = Integer.MAX_VALUE;
+		maxTileX = maxTileY = Integer.MIN_VALUE;
+	}
+
+	private static long key( int tx, int ty ) {
+		return ((long)tx << 32) | (ty & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Writes the image's pixels into the buffer. The image must not be a sub-image.
+	 */
+	static void writeImage( ImageBase image, ByteBuffer buffer ) {
+		if( image instanceof Planar ) {
+			Planar planar = (Planar)image;
+			for( int i = 0; i < planar.getNumBands(); i++ ) {
+				writeImage(planar.getBand(i), buffer);
+			}
+			return;
+		}
+
+		Object data = dataArray(image);
+		if( data instanceof byte[] ) {
+			buffer.put((byte[])data);
+		} else if( data instanceof short[] ) {
+			short[] a = (short[])data;
+			buffer.asShortBuffer().put(a);
+			buffer.position(buffer.position() + a.length*2);
+		} else if( data instanceof int[] ) {
+			int[] a = (int[])data;
+			buffer.asIntBuffer().put(a);
+			buffer.position(buffer.position() + a.length*4);
+		} else if( data instanceof long[] ) {
+			long[] a = (long[])data;
+			buffer.asLongBuffer().put(a);
+			buffer.position(buffer.position() + a.length*8);
+		} else if( data instanceof float[] ) {
+			float[] a = (float[])data;
+			buffer.asFloatBuffer().put(a);
+			buffer.position(buffer.position() + a.length*4);
+		} else {
+			double[] a = (double[])data;
+			buffer.asDoubleBuffer().put(a);
+			buffer.position(buffer.position() + a.length*8);
+		}
+	}
+
+	/**
+	 * Reads the image's pixels from the buffer. The image must not be a sub-image.
+	 */
+	static void readImage( ByteBuffer buffer, ImageBase image ) {
+		if( image instanceof Planar ) {
+			Planar planar = (Planar)image;
+			for( int i = 0; i < planar.getNumBands(); i++ ) {
+				readImage(buffer, planar.getBand(i));
+			}
+			return;
+		}
+
+		Object data = dataArray(image);
+		if( data instanceof byte[] ) {
+			buffer.get((byte[])data);
+		} else if( data instanceof short[] ) {
+			short[] a = (short[])data;
+			buffer.asShortBuffer().get(a);
+			buffer.position(buffer.position() + a.length*2);
+		} else if( data instanceof int[] ) {
+			int[] a = (int[])data;
+			buffer.asIntBuffer().get(a);
+			buffer.position(buffer.position() + a.length*4);
+		} else if( data instanceof long[] ) {
+			long[] a = (long[])data;
+			buffer.asLongBuffer().get(a);
+			buffer.position(buffer.position() + a.length*8);
+		} else if( data instanceof float[] ) {
+			float[] a = (float[])data;
+			buffer.asFloatBuffer().get(a);
+			buffer.position(buffer.position() + a.length*4);
+		} else {
+			double[] a = (double[])data;
+			buffer.asDoubleBuffer().get(a);
+			buffer.position(buffer.position() + a.length*8);
+		}
+	}
+
+	private static Object dataArray( ImageBase image ) {
+		if( image instanceof GrayI8 ) return ((GrayI8)image).data;
+		if( image instanceof GrayI16 ) return ((GrayI16)image).data;
+		if( image instanceof GrayS32 ) return ((GrayS32)image).data;
+		if( image instanceof GrayS64 ) return ((GrayS64)image).data;
+		if( image instanceof GrayF32 ) return ((GrayF32)image).data;
+		if( image instanceof GrayF64 ) return ((GrayF64)image).data;
+		if( image instanceof InterleavedI8 ) return ((InterleavedI8)image).data;
+		if( image instanceof InterleavedI16 ) return ((InterleavedI16)image).data;
+		if( image instanceof InterleavedS32 ) return ((InterleavedS32)image).data;
+		if( image instanceof InterleavedS64 ) return ((InterleavedS64)image).data;
+		if( image instanceof InterleavedF32 ) return ((InterleavedF32)image).data;
+		if( image instanceof InterleavedF64 ) return ((InterleavedF64)image).data;
+		throw new IllegalArgumentException("Unsupported image type "+image.getClass().getSimpleName());
+	}
+
+	/**
+	 * Bounds of all the tiles which have been created, in tile coordinates. Inclusive.
+	 *
+	 * @param bounds (Output) Storage for the bounds. If there are no tiles then x1 < x0.
+	 */
+	public Rectangle2D_I32 getTileBounds( Rectangle2D_I32 bounds ) {
+		if( bounds == null )
+			bounds = new Rectangle2D_I32();
+		bounds.x0 = minTileX;
+		bounds.y0 = minTileY;
+		bounds.x1 = maxTileX;
+		bounds.y1 = maxTileY;
+		return bounds;
+	}
+
+	/**
+	 * Total number of tiles which have been created, in memory or on disk
+	 */
+	public int getTotalTiles() {
+		int total = spilled.size();
+		for( Long key : resident.keySet() ) {
+			if( !spilled.containsKey(key) )
+				total++;
+		}
+		return total;
+	}
+
+	/**
+	 * Number of tiles currently in memory
+	 */
+	public int getTotalInMemory() {
+		return resident.size();
+	}
+
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	public int getMaxInMemory() {
+		return maxInMemory;
+	}
+
+	public ImageType<I> getImageType() {
+		return imageType;
+	}
+
+	/**
+	 * A single tile in the mosaic
+	 */
+	private static class Tile<I extends ImageBase<I>> {
+		// tile coordinate
+		int tx, ty;
+		// pixels inside the tile
+		final I image;
+		// true if modified since it was last written to disk
+		boolean dirty;
+
+		Tile( I image ) {
+			this.image = image;
+		}
+	}
+
+	/**
+	 * Renders an image into tiles. Each thread has its own instance.
+	 */
+	private class RenderWorker {
+		final ImageDistort<I,I> distorter = factoryDistort.newInstance();
+		final TileToImage offset = new TileToImage();
+
+		void render( I image, Tile<I> tile, Rectangle2D_I32 bounds ) {
+			int originX = tile.tx*tileSize;
+			int originY = tile.ty*tileSize;
+
+			// only render the portion of the tile the image can touch
+			int x0 = Math.max(0, bounds.x0-originX);
+			int y0 = Math.max(0, bounds.y0-originY);
+			int x1 = Math.min(tileSize, bounds.x1-originX);
+			int y1 = Math.min(tileSize, bounds.y1-originY);
+
+			offset.originX = originX;
+			offset.originY = originY;
+			distorter.setModel(offset);
+			distorter.apply(image, tile.image, x0, y0, x1, y1);
+		}
+	}
+
+	/**
+	 * Converts tile pixel coordinates into mosaic coordinates then applies the mosaic to image transform
+	 */
+	private static class TileToImage implements PixelTransform<Point2D_F32> {
+		PixelTransform<Point2D_F32> worldToImage;
+		int originX, originY;
+
+		@Override
+		public void compute( int x, int y, Point2D_F32 output ) {
+			worldToImage.compute(x + originX, y + originY, output);
+		}
+
+		@Override
+		public PixelTransform<Point2D_F32> copyConcurrent() {
+			TileToImage ret = new TileToImage();
+			ret.worldToImage = worldToImage.copyConcurrent();
+			ret.originX = originX;
+			ret.originY = originY;
+			return ret;
+		}
+	}
+}
@@ -27,6 +27,8 @@ import boofcv.struct.calib.CameraPinholeBrown;
 import georegression.struct.point.Point2D_F64;
 import georegression.struct.point.Point4D_F64;
 import georegression.struct.se.Se3_F64;
+import georegression.transform.se.SePointOps_F64;
+import gnu.trove.list.array.TLongArrayList;
 import gnu.trove.set.hash.TLongHashSet;
 import lombok.Getter;
 import lombok.Setter;
@@ -36,9 +38,25 @@ import org.ddogleg.struct.FastQueue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
+ * <p>
  * Bundle adjustment specifically intended for use with visual odometry algorithms.
+ * </p>
+ *
+ * <p>
+ * Optimization can be run synchronously with {@link #optimize()} or in a background thread with
+ * {@link #optimizeAsync()}. When run asynchronously the scene is copied into the bundle adjustment data structures
+ * by the calling thread, which is then free to keep on modifying frames and tracks. Results are copied back when
+ * {@link #applyAsync(boolean)} is called. Frames and tracks which were removed while optimizing are skipped.
+ * Frames and tracks which were added after it started are moved by the same correction as the most recent
+ * optimized frame, since they were estimated relative to its old location. The background thread is stopped by
+ * {@link #reset()}. The number of frames which are optimized can be bounded using {@link #setWindowSize(int)}.
+ * </p>
  *
  * @author Peter Abeles
  */
@@ -52,6 +70,14 @@ public class VisOdomBundleAdjustment<T extends VisOdomBundleAdjustment.BTrack> {
 	/** Minimum number of observations a feature must have to be included */
 	@Getter @Setter private int minObservations = 2;
 
+	/** If more than zero then only the most recent 'windowSize' frames are optimized and older frames are fixed */
+	@Getter @Setter private int windowSize = 0;
+
+	/** Time in milliseconds spent inside of bundle adjustment the last time it was run */
+	@Getter private double timeOptimizeMS;
+	/** Time in milliseconds from when the last asynchronous optimization was started until its results were applied */
+	@Getter private double asyncLatencyMS;
+
 	// Reference to the original camera model passed in
 	CameraPinholeBrown originalCamera;
 	// The camera model which is being optimized
@@ -66,6 +92,29 @@ public class VisOdomBundleAdjustment<T extends VisOdomBundleAdjustment.BTrack> {
 	// Reduce the number of tracks feed into bundle adjustment to make it run at a reasonable speed
 	@Getter VisOdomSelectFrameTracks selectTracks = new VisOdomSelectFrameTracks(0xBEEF);
 
+	// Index of the first frame which is not fixed
+	int firstOptimizedFrame;
+
+	//=================================================================
+	// Asynchronous optimization
+	// Runs bundle adjustment in the background. Lazily created.
+	private ExecutorService asyncExecutor;
+	// The optimization which is being run. null if there is none
+	private Future<?> asyncTask;
+	private long asyncStartTime;
+	// Frames and tracks which were passed to the optimization and their ID at the time. Used to detect removal
+	final FastArray<BFrame> asyncFrames = new FastArray<>(BFrame.class);
+	final TLongArrayList asyncFrameIds = new TLongArrayList();
+	final FastArray<BTrack> asyncTracks = new FastArray<>(BTrack.class);
+	final TLongArrayList asyncTrackIds = new TLongArrayList();
+	// Tracks which were added after the optimization started
+	final FastArray<BTrack> asyncNewTracks = new FastArray<>(BTrack.class);
+	// Location of the most recent frame before optimization
+	final Se3_F64 asyncLastToWorld = new Se3_F64();
+	// workspace
+	final Se3_F64 correction = new Se3_F64();
+	final Se3_F64 tmp = new Se3_F64();
+
 	public VisOdomBundleAdjustment( BundleAdjustment<SceneStructureMetric> bundleAdjustment,
 									Factory<T> factoryTracks ) {
 		this.tracks = new FastQueue<>(factoryTracks,BTrack::reset);
@@ -82,15 +131,152 @@ public class VisOdomBundleAdjustment<T extends VisOdomBundleAdjustment.BTrack> {
 	 * Performs bundle adjustment on the scene and updates parameters
 	 */
 	public void optimize() {
+		// results from a background optimization would be overwritten anyways
+		cancelAsync();
+
 		selectTracks.selectTracks(this,originalCamera.width,originalCamera.height,selectedTracks);
 		setupBundleStructure();
 
+		long time0 = System.nanoTime();
 		bundleAdjustment.setParameters(structure,observations);
 		bundleAdjustment.optimize(structure);
+		timeOptimizeMS = (System.nanoTime()-time0)*1e-6;
 
 		copyResults();
 	}
 
+	/**
+	 * Starts bundle adjustment in a background thread. Frames and tracks can be modified while it runs. Call
+	 * {@link #applyAsync(boolean)} to update the scene with the results. If an optimization is already running
+	 * then nothing happens.
+	 *
+	 * @return true if a new optimization was started
+	 */
+	public boolean optimizeAsync() {
+		if( asyncTask != null || frames.size == 0 )
+			return false;
+
+		selectTracks.selectTracks(this,originalCamera.width,originalCamera.height,selectedTracks);
+		setupBundleStructure();
+
+		// Remember what's being optimized so that results can be matched up after the scene has changed
+		asyncFrames.reset();
+		asyncFrameIds.reset();
+		for (int frameIdx = 0; frameIdx < frames.size; frameIdx++) {
+			BFrame frame = frames.get(frameIdx);
+			asyncFrames.add(frame);
+			asyncFrameIds.add(frame.id);
+		}
+		asyncTracks.reset();
+		asyncTrackIds.reset();
+		for (int trackIdx = 0; trackIdx < tracks.size; trackIdx++) {
+			BTrack t = tracks.get(trackIdx);
+			if( !t.selected )
+				continue;
+			asyncTracks.add(t);
+			asyncTrackIds.add(t.id);
+		}
+		asyncLastToWorld.set(getLastFrame().frame_to_world);
+		asyncNewTracks.reset();
+
+		bundleAdjustment.setParameters(structure,observations);
+
+		if( asyncExecutor == null ) {
+			asyncExecutor = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r,"VisOdomBundleAdjustment");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		asyncStartTime = System.nanoTime();
+		asyncTask = asyncExecutor.submit(() -> {
+			long time0 = System.nanoTime();
+			bundleAdjustment.optimize(structure);
+			timeOptimizeMS = (System.nanoTime()-time0)*1e-6;
+		});
+		return true;
+	}
+
+	/**
+	 * If an asynchronous optimization has finished then its results are copied into the frames and tracks.
+	 *
+	 * @param block If true it will wait for the optimization to finish. If false it returns immediately
+	 * when it's still running.
+	 * @return true if results were applied
+	 */
+	public boolean applyAsync( boolean block ) {
+		if( asyncTask == null || (!block && !asyncTask.isDone()) )
+			return false;
+
+		waitAsync();
+
+		// Copy the state of frames which have not been removed
+		final int lastIdx = asyncFrames.size-1;
+		for (int frameIdx = firstOptimizedFrame; frameIdx < asyncFrames.size; frameIdx++) {
+			BFrame frame = asyncFrames.get(frameIdx);
+			if( frame.id != asyncFrameIds.get(frameIdx) )
+				continue;
+			structure.views.get(frameIdx).worldToView.invert(frame.frame_to_world);
+		}
+
+		for (int trackIdx = 0; trackIdx < asyncTracks.size; trackIdx++) {
+			BTrack t = asyncTracks.get(trackIdx);
+			if( t.id != asyncTrackIds.get(trackIdx) )
+				continue;
+			structure.points.get(trackIdx).get(t.worldLoc);
+		}
+
+		// Frames added after the optimization started were estimated relative to the old location of the
+		// most recent frame. Move them by the same amount that frame moved
+		BFrame lastFrame = asyncFrames.get(lastIdx);
+		int index = frames.indexOf(lastFrame);
+		if( index >= 0 && lastFrame.id == asyncFrameIds.get(lastIdx) ) {
+			asyncLastToWorld.invert(tmp);
+			tmp.concat(lastFrame.frame_to_world, correction);
+			for (int frameIdx = index+1; frameIdx < frames.size; frameIdx++) {
+				BFrame frame = frames.get(frameIdx);
+				frame.frame_to_world.concat(correction, tmp);
+				frame.frame_to_world.set(tmp);
+			}
+			// Skip tracks which have been removed since they were added
+			for (int trackIdx = 0; trackIdx < asyncNewTracks.size; trackIdx++) {
+				BTrack t = asyncNewTracks.get(trackIdx);
+				if( tracks.isUnused((T)t) )
+					continue;
+				SePointOps_F64.transform(correction, t.worldLoc, t.worldLoc);
+			}
+		}
+		asyncNewTracks.reset();
+
+		asyncLatencyMS = (System.nanoTime()-asyncStartTime)*1e-6;
+		return true;
+	}
+
+	/**
+	 * Returns true if an asynchronous optimization has been started and its results have not been applied yet
+	 */
+	public boolean isAsyncPending() {
+		return asyncTask != null;
+	}
+
+	/**
+	 * Waits for an asynchronous optimization to finish and discards the results
+	 */
+	public void cancelAsync() {
+		if( asyncTask != null )
+			waitAsync();
+	}
+
+	private void waitAsync() {
+		try {
+			asyncTask.get();
+		} catch (InterruptedException | ExecutionException e) {
+			throw new RuntimeException(e);
+		} finally {
+			asyncTask = null;
+		}
+	}
+
 	/**
 	 * Converts input data into a format that bundle adjustment can understand
 	 */
@@ -103,11 +289,14 @@ public class VisOdomBundleAdjustment<T extends VisOdomBundleAdjustment.BTrack> {
 		structure.initialize(1,frames.size,totalBundleTracks);
 		structure.setCamera(0,true, bundleCamera);
 
+		// Frames outside the window are fixed. The first frame is always fixed
+		firstOptimizedFrame = windowSize > 0 ? Math.max(1, frames.size-windowSize) : 1;
+
 		// TODO make the first frame at origin. This is done to avoid numerical after traveling a good distance
 		final var worldToFrame = new Se3_F64();
 		for (int frameIdx = 0; frameIdx < frames.size; frameIdx++) {
 			frames.get(frameIdx).frame_to_world.invert(worldToFrame);
-			structure.setView(frameIdx,frameIdx==0,worldToFrame);
+			structure.setView(frameIdx,frameIdx < firstOptimizedFrame,worldToFrame);
 			structure.connectViewToCamera(frameIdx,0);
 			frames.get(frameIdx).listIndex = frameIdx; // save the index since it's needed in the next loop
 		}
@@ -139,8 +328,8 @@ public class VisOdomBundleAdjustment<T extends VisOdomBundleAdjustment.BTrack> {
 	 * Copies results back on to the local data structures
 	 */
 	private void copyResults() {
-		// skip the first frame since it's fixed
-		for (int frameIdx = 1; frameIdx < frames.size; frameIdx++) {
+		// skip frames which are fixed
+		for (int frameIdx = firstOptimizedFrame; frameIdx < frames.size; frameIdx++) {
 			BFrame frame = frames.get(frameIdx);
 			structure.views.get(frameIdx).worldToView.invert(frame.frame_to_world);
 		}
@@ -157,9 +346,16 @@ public class VisOdomBundleAdjustment<T extends VisOdomBundleAdjustment.BTrack> {
 	}
 
 	/**
-	 * Returns to its original state with new views. The camera model is saved
+	 * Returns to its original state with new views. The camera model is saved. If there is a background
+	 * thread for asynchronous optimization it is stopped.
 	 */
 	public void reset() {
+		cancelAsync();
+		if( asyncExecutor != null ) {
+			asyncExecutor.shutdown();
+			asyncExecutor = null;
+		}
+		asyncNewTracks.reset();
 		frames.reset();
 		tracks.reset();
 	}
@@ -183,6 +379,9 @@ public class VisOdomBundleAdjustment<T extends VisOdomBundleAdjustment.BTrack> {
 	public T addTrack( double x , double y , double z , double w ) {
 		T track = tracks.grow();
 		track.worldLoc.set(x,y,z,w);
+		// A recycled track could already be in the list
+		if( asyncTask != null && asyncNewTracks.indexOf(track) < 0 )
+			asyncNewTracks.add(track);
 		return track;
 	}
 
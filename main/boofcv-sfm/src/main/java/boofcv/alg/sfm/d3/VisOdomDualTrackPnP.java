@@ -24,6 +24,7 @@ import boofcv.abst.geo.Triangulate2ViewsMetric;
 import boofcv.abst.tracker.PointTrack;
 import boofcv.abst.tracker.PointTracker;
 import boofcv.alg.feature.associate.StereoConsistencyCheck;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.distort.LensDistortionFactory;
 import boofcv.struct.calib.StereoParameters;
 import boofcv.struct.distort.Point2Transform2_F64;
@@ -54,6 +55,9 @@ import java.util.List;
  *
  * Estimated motion is relative to left camera.
  *
+ * If concurrency is turned on then the left and right trackers are updated and spawn new tracks at the same time.
+ * The two trackers share no state so the estimated motion is identical to when it's run in a single thread.
+ *
  * @author Peter Abeles
  */
 public class VisOdomDualTrackPnP<T extends ImageBase<T>,Desc extends TupleDesc> {
@@ -184,8 +188,17 @@ public class VisOdomDualTrackPnP<T extends ImageBase<T>,Desc extends TupleDesc>
 		this.inputLeft = left;
 		this.inputRight = right;
 
-		trackerLeft.process(left);
-		trackerRight.process(right);
+		if( BoofConcurrency.isUseConcurrent() ) {
+			BoofConcurrency.loopFor(0,2,i->{
+				if( i == 0 )
+					trackerLeft.process(left);
+				else
+					trackerRight.process(right);
+			});
+		} else {
+			trackerLeft.process(left);
+			trackerRight.process(right);
+		}
 
 		if( first ) {
 			addNewTracks();
@@ -391,8 +404,17 @@ public class VisOdomDualTrackPnP<T extends ImageBase<T>,Desc extends TupleDesc>
 	 */
 	private void addNewTracks() {
 		final long frameID = getFrameID();
-		trackerLeft.spawnTracks();
-		trackerRight.spawnTracks();
+		if( BoofConcurrency.isUseConcurrent() ) {
+			BoofConcurrency.loopFor(0,2,i->{
+				if( i == 0 )
+					trackerLeft.spawnTracks();
+				else
+					trackerRight.spawnTracks();
+			});
+		} else {
+			trackerLeft.spawnTracks();
+			trackerRight.spawnTracks();
+		}
 
 		List<PointTrack> newLeft = trackerLeft.getNewTracks(null);
 		List<PointTrack> newRight = trackerRight.getNewTracks(null);
@@ -89,6 +89,13 @@ public class VisOdomPixelDepthPnP<T extends ImageBase<T>> {
 	/** Maximum number of key frames */
 	private @Getter @Setter int maxKeyFrames = 5;
 
+	/**
+	 * If true then bundle adjustment is run in a background thread and its results are applied in a later frame.
+	 * This removes the cost of bundle adjustment from the per frame latency at the cost of the results being
+	 * slightly out of date.
+	 */
+	private @Getter @Setter boolean asyncBundle = false;
+
 	private @Getter final VisOdomBundleAdjustment<Track> bundle;
 	private BFrame frameCurrent;
 	private BFrame framePrevious;
@@ -181,6 +188,10 @@ public class VisOdomPixelDepthPnP<T extends ImageBase<T>> {
 		visibleTracks.clear();
 		initialVisible.clear();
 
+		// If a background optimization has finished then update the scene before it's used
+		if( asyncBundle )
+			bundle.applyAsync(false);
+
 		// TODO don't always use previous. Use frame that it has the most common tracks. This will enable it to skip
 		//      over bad frames
 		// Previous key frame is the most recently added one, which is the last
@@ -221,7 +232,11 @@ public class VisOdomPixelDepthPnP<T extends ImageBase<T>> {
 		timeEstimate = (time2-time1)*1e-6;
 
 		// Update the state estimate
-		bundle.optimize();
+		if( asyncBundle ) {
+			bundle.optimizeAsync();
+		} else {
+			bundle.optimize();
+		}
 		// Save the output
 		current_to_world.set(frameCurrent.frame_to_world);
 
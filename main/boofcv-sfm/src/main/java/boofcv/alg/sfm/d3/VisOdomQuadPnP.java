@@ -23,6 +23,7 @@ import boofcv.abst.feature.detdesc.DetectDescribeMulti;
 import boofcv.abst.feature.detdesc.PointDescSet;
 import boofcv.abst.geo.Triangulate2ViewsMetric;
 import boofcv.alg.descriptor.UtilFeature;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.distort.LensDistortionFactory;
 import boofcv.struct.calib.StereoParameters;
 import boofcv.struct.distort.Point2Transform2_F64;
@@ -59,6 +60,11 @@ import org.ddogleg.struct.GrowQueue_I32;
  *
  * Estimated motion is relative to left camera.
  *
+ * If concurrency is turned on and the optional right camera detector and associator have been provided then
+ * features are detected in the left and right images at the same time, and left to right, left to left, and
+ * right to right association are all run at the same time. None of these stages share state so the estimated
+ * motion is identical to when it's run in a single thread.
+ *
  * @author Peter Abeles
  */
 public class VisOdomQuadPnP<T extends ImageGray<T>,TD extends TupleDesc> {
@@ -79,6 +85,10 @@ public class VisOdomQuadPnP<T extends ImageGray<T>,TD extends TupleDesc> {
 	// Associates features from left to right camera
 	private AssociateDescription2D<TD> assocL2R;
 
+	// Optional detector and associator for the right camera. Used when running concurrently.
+	private DetectDescribeMulti<T,TD> detectorRight;
+	private AssociateDescription2D<TD> assocSameRight;
+
 	// Set of associated features across all views
 	private FastQueue<QuadView> quadViews = new FastQueue<>(10, QuadView::new);
 
@@ -129,8 +139,36 @@ public class VisOdomQuadPnP<T extends ImageGray<T>,TD extends TupleDesc> {
 						  ModelMatcher<Se3_F64, Stereo2D3D> matcher,
 						  ModelFitter<Se3_F64, Stereo2D3D> modelRefiner )
 	{
+		this(detector, null, assocSame, null, assocL2R, triangulate, matcher, modelRefiner);
+	}
+
+	/**
+	 * Specifies internal algorithms, including separate instances for processing the right camera so that the
+	 * left and right cameras can be processed at the same time.
+	 *
+	 * @param detector Estimates image features
+	 * @param detectorRight (Optional) Estimates image features in the right camera. Can be null.
+	 * @param assocSame Association algorithm used for left to left and right to right
+	 * @param assocSameRight (Optional) Association algorithm used for right to right. Can be null.
+	 * @param assocL2R Assocation algorithm used for left to right
+	 * @param triangulate Used to estimate 3D location of a feature using stereo correspondence
+	 * @param matcher Robust model estimation.  Often RANSAC
+	 * @param modelRefiner Non-linear refinement of motion estimation
+	 */
+	public VisOdomQuadPnP(DetectDescribeMulti<T,TD> detector, DetectDescribeMulti<T,TD> detectorRight,
+						  AssociateDescription2D<TD> assocSame , AssociateDescription2D<TD> assocSameRight,
+						  AssociateDescription2D<TD> assocL2R ,
+						  Triangulate2ViewsMetric triangulate,
+						  ModelMatcher<Se3_F64, Stereo2D3D> matcher,
+						  ModelFitter<Se3_F64, Stereo2D3D> modelRefiner )
+	{
+		if( detectorRight != null && detectorRight.getNumberOfSets() != detector.getNumberOfSets() )
+			throw new IllegalArgumentException("Left and right detectors must have the same number of sets");
+
 		this.detector = detector;
+		this.detectorRight = detectorRight;
 		this.assocSame = assocSame;
+		this.assocSameRight = assocSameRight;
 		this.assocL2R = assocL2R;
 		this.triangulate = triangulate;
 		this.matcher = matcher;
@@ -178,14 +216,26 @@ public class VisOdomQuadPnP<T extends ImageGray<T>,TD extends TupleDesc> {
 	 */
 	public boolean process( T left , T right ) {
 		frameID++;
+		describeImages(left, right);
 		if( first ) {
-			associateL2R(left, right);
+			associateL2R();
 			first = false;
 		} else {
 //			long time0 = System.currentTimeMillis();
-			associateL2R(left, right);
+			if( BoofConcurrency.isUseConcurrent() && assocSameRight != null ) {
+				quadViews.reset();
+				BoofConcurrency.loopFor(0,3,i->{
+					switch( i ) {
+						case 0: associateL2R(); break;
+						case 1: associateF2F(true, assocSame); break;
+						default: associateF2F(false, assocSameRight); break;
+					}
+				});
+			} else {
+				associateL2R();
 //			long time1 = System.currentTimeMillis();
-			associateF2F();
+				associateF2F();
+			}
 //			long time2 = System.currentTimeMillis();
 			cyclicConsistency();
 //			long time3 = System.currentTimeMillis();
@@ -201,28 +251,40 @@ public class VisOdomQuadPnP<T extends ImageGray<T>,TD extends TupleDesc> {
 	}
 
 	/**
-	 * Associates image features from the left and right camera together while applying epipolar constraints.
+	 * Detects and describes image features in the left and right cameras. The previous features become
+	 * the old ones.
 	 *
 	 * @param left Image from left camera
 	 * @param right Image from right camera
 	 */
-	private void associateL2R( T left , T right ) {
+	private void describeImages( T left , T right ) {
 		// make the previous new observations into the new old ones
 		ImageInfo<TD> tmp = featsLeft1;
 		featsLeft1 = featsLeft0; featsLeft0 = tmp;
 		tmp = featsRight1;
 		featsRight1 = featsRight0; featsRight0 = tmp;
 
-		// detect and associate features in the two images
 		featsLeft1.reset();
 		featsRight1.reset();
 
-//		long time0 = System.currentTimeMillis();
-		describeImage(left,featsLeft1);
-		describeImage(right,featsRight1);
-//		long time1 = System.currentTimeMillis();
+		if( BoofConcurrency.isUseConcurrent() && detectorRight != null ) {
+			BoofConcurrency.loopFor(0,2,i->{
+				if( i == 0 )
+					describeImage(detector,left,featsLeft1);
+				else
+					describeImage(detectorRight,right,featsRight1);
+			});
+		} else {
+			describeImage(detector,left,featsLeft1);
+			describeImage(detector,right,featsRight1);
+		}
+	}
 
-		// detect and associate features in the current stereo pair
+	/**
+	 * Associates image features from the left and right camera together while applying epipolar constraints.
+	 */
+	private void associateL2R() {
+		// associate features in the current stereo pair
 		for( int i = 0; i < detector.getNumberOfSets(); i++ ) {
 			SetMatches matches = setMatches[i];
 			matches.swap();
@@ -240,8 +302,6 @@ public class VisOdomQuadPnP<T extends ImageGray<T>,TD extends TupleDesc> {
 //			removeUnassociated(leftLoc,featsLeft1.description[i],rightLoc,featsRight1.description[i],found);
 			setMatches(matches.match2to3, found, leftLoc.size);
 		}
-//		long time2 = System.currentTimeMillis();
-//		System.out.println("  desc "+(time1-time0)+" assoc "+(time2-time1));
 	}
 
 	private void removeUnassociated( FastQueue<Point2D_F64> leftLoc , FastQueue<TD> leftDesc ,
@@ -307,22 +367,28 @@ public class VisOdomQuadPnP<T extends ImageGray<T>,TD extends TupleDesc> {
 	{
 		quadViews.reset();
 
-		for( int i = 0; i < detector.getNumberOfSets(); i++ ) {
-			SetMatches matches = setMatches[i];
+		associateF2F(true, assocSame);
+		associateF2F(false, assocSame);
+	}
 
-			// old left to new left
-			assocSame.setSource(featsLeft0.location[i],featsLeft0.description[i]);
-			assocSame.setDestination(featsLeft1.location[i], featsLeft1.description[i]);
-			assocSame.associate();
+	/**
+	 * Associates features between the previous and current image in the same camera
+	 *
+	 * @param leftCamera true for left to left and false for right to right
+	 * @param assoc Association algorithm that's used
+	 */
+	private void associateF2F( boolean leftCamera , AssociateDescription2D<TD> assoc ) {
+		ImageInfo<TD> feats0 = leftCamera ? featsLeft0 : featsRight0;
+		ImageInfo<TD> feats1 = leftCamera ? featsLeft1 : featsRight1;
 
-			setMatches(matches.match0to2, assocSame.getMatches(), featsLeft0.location[i].size);
+		for( int i = 0; i < detector.getNumberOfSets(); i++ ) {
+			SetMatches matches = setMatches[i];
 
-			// old right to new right
-			assocSame.setSource(featsRight0.location[i],featsRight0.description[i]);
-			assocSame.setDestination(featsRight1.location[i], featsRight1.description[i]);
-			assocSame.associate();
+			assoc.setSource(feats0.location[i],feats0.description[i]);
+			assoc.setDestination(feats1.location[i], feats1.description[i]);
+			assoc.associate();
 
-			setMatches(matches.match1to3, assocSame.getMatches(), featsRight0.location[i].size);
+			setMatches(leftCamera ? matches.match0to2 : matches.match1to3, assoc.getMatches(), feats0.location[i].size);
 		}
 	}
 
@@ -383,8 +449,8 @@ public class VisOdomQuadPnP<T extends ImageGray<T>,TD extends TupleDesc> {
 	/**
 	 * Computes image features and stores the results in info
 	 */
-	private void describeImage(T left , ImageInfo<TD> info ) {
-		detector.process(left);
+	private void describeImage(DetectDescribeMulti<T,TD> detector, T image , ImageInfo<TD> info ) {
+		detector.process(image);
 		for( int i = 0; i < detector.getNumberOfSets(); i++ ) {
 			PointDescSet<TD> set = detector.getFeatureSet(i);
 			FastQueue<Point2D_F64> l = info.location[i];
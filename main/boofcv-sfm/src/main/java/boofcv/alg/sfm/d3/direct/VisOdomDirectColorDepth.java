@@ -24,6 +24,7 @@ import boofcv.alg.InputSanityCheck;
 import boofcv.alg.filter.derivative.DerivativeType;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.InterpolationType;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.FactoryGImageMultiBand;
 import boofcv.core.image.GImageMultiBand;
 import boofcv.factory.filter.derivative.FactoryDerivative;
@@ -43,9 +44,15 @@ import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.factory.LinearSolverFactory_DDRM;
 import org.ejml.interfaces.linsol.LinearSolverDense;
 
+import java.util.Arrays;
+
 /**
  * TODO Fill in
  *
+ * If concurrency is turned on then the linear system isn't explicitly constructed. Instead each thread
+ * accumulates the 6x6 normal equations for a block of key frame pixels, the partial sums are added together,
+ * and the small system is solved using a Cholesky decomposition.
+ *
  * @author Peter Abeles
  */
 // TODO Handle pathological situations that will basically never happen in real life
@@ -62,6 +69,13 @@ public class VisOdomDirectColorDepth<I extends ImageGray<I>, D extends ImageGray
 	private DMatrixRMaj y = new DMatrixRMaj(1,1);
 	private DMatrixRMaj twistMatrix = new DMatrixRMaj(6,1);
 
+	// Normal equations A'*A and A'*y. Used when running concurrently
+	private LinearSolverDense<DMatrixRMaj> solverNormal;
+	DMatrixRMaj AtA = new DMatrixRMaj(6,6);
+	DMatrixRMaj Aty = new DMatrixRMaj(6,1);
+	// Storage for each thread's partial sums
+	FastQueue<NormalWorker> workers = new FastQueue<>(NormalWorker::new);
+
 	private ImageGradient<Planar<I>,Planar<D>> computeD;
 
 	private InterpolatePixelS<I> interpI;
@@ -253,9 +267,15 @@ public class VisOdomDirectColorDepth<I extends ImageGray<I>, D extends ImageGray
 		boolean foundSolution = false;
 		float previousError = Float.MAX_VALUE;
 		for (int i = 0; i < maxIterations; i++) {
-			constructLinearSystem(input, keyToCurrent);
-			if (!solveSystem())
-				break;
+			if( BoofConcurrency.isUseConcurrent() ) {
+				constructNormalEquations_MT(input, keyToCurrent);
+				if (!solveNormalEquations())
+					break;
+			} else {
+				constructLinearSystem(input, keyToCurrent);
+				if (!solveSystem())
+					break;
+			}
 
 			if( Math.abs(previousError-errorOptical)/previousError < convergeTol )
 				break;
@@ -276,6 +296,7 @@ public class VisOdomDirectColorDepth<I extends ImageGray<I>, D extends ImageGray
 	void initMotion(Planar<I> input) {
 		if( solver == null ) {
 			solver = LinearSolverFactory_DDRM.qr(input.width*input.height*input.getNumBands(),6);
+			solverNormal = LinearSolverFactory_DDRM.chol(6);
 		}
 
 		// compute image derivative and setup interpolation functions
@@ -377,12 +398,64 @@ public class VisOdomDirectColorDepth<I extends ImageGray<I>, D extends ImageGray
 		y.numRows = row;
 	}
 
+	/**
+	 * Computes the normal equations A'*A and A'*y for the same linear system as {@link #constructLinearSystem}
+	 * without saving A or y. Key frame pixels are split into blocks and each thread computes partial sums.
+	 *
+	 * @param g initial transform applied to pixel locations.  keyframe to current frame
+	 */
+	void constructNormalEquations_MT( Planar<I> input , Se3_F32 g ) {
+		workers.reset();
+		BoofConcurrency.loopBlocks(0,keypixels.size,200,workers,(worker,idx0,idx1)->
+				worker.accumulate(input,g,idx0,idx1));
+
+		// add together the results from each thread
+		AtA.zero();
+		Aty.zero();
+		inboundsPixels = 0;
+		double sumError = 0;
+		int rows = 0;
+		for (int workerIdx = 0; workerIdx < workers.size; workerIdx++) {
+			NormalWorker w = workers.get(workerIdx);
+			for (int i = 0; i < 36; i++) {
+				AtA.data[i] += w.AtA[i];
+			}
+			for (int i = 0; i < 6; i++) {
+				Aty.data[i] += w.Aty[i];
+			}
+			inboundsPixels += w.inbounds;
+			sumError += w.sumError;
+			rows += w.rows;
+		}
+		// only the upper triangle was computed
+		for (int i = 0; i < 6; i++) {
+			for (int j = 0; j < i; j++) {
+				AtA.data[i*6+j] = AtA.data[j*6+i];
+			}
+		}
+		errorOptical = (float)(sumError/rows);
+	}
+
+	boolean solveNormalEquations() {
+		if( !solverNormal.setA(AtA) )
+			return false;
+
+		solverNormal.solve(Aty,twistMatrix);
+		return updateMotionTwist();
+	}
+
 	boolean solveSystem() {
 		if( !solver.setA(A))
 			return false;
 
 		solver.solve(y,twistMatrix);
+		return updateMotionTwist();
+	}
 
+	/**
+	 * Converts the solution into a motion
+	 */
+	private boolean updateMotionTwist() {
 		twist.set((float)twistMatrix.data[0], (float)twistMatrix.data[1], (float)twistMatrix.data[2],
 				(float)twistMatrix.data[3], (float)twistMatrix.data[4], (float)twistMatrix.data[5]);
 
@@ -404,6 +477,116 @@ public class VisOdomDirectColorDepth<I extends ImageGray<I>, D extends ImageGray
 		return keypixels.size;
 	}
 
+	/**
+	 * Workspace for a single thread. Computes the partial sums of the normal equations for a block of pixels
+	 */
+	class NormalWorker {
+		// interpolation is not thread safe so each thread has its own copy
+		InterpolatePixelS<I> interpI;
+		InterpolatePixelS<D> interpDX, interpDY;
+		// the instance which interpI is a copy of
+		InterpolatePixelS<I> source;
+
+		// upper triangle of A'*A in a row-major 6x6 array
+		double[] AtA = new double[36];
+		double[] Aty = new double[6];
+		float[] a = new float[6];
+		double sumError;
+		int rows;
+		int inbounds;
+
+		Point3D_F32 S = new Point3D_F32();
+
+		void accumulate( Planar<I> input , Se3_F32 g , int idx0 , int idx1 ) {
+			if( source != VisOdomDirectColorDepth.this.interpI ) {
+				source = VisOdomDirectColorDepth.this.interpI;
+				interpI = source.copy();
+				interpDX = VisOdomDirectColorDepth.this.interpDX.copy();
+				interpDY = VisOdomDirectColorDepth.this.interpDY.copy();
+			}
+			Arrays.fill(AtA,0);
+			Arrays.fill(Aty,0);
+			sumError = 0;
+			rows = 0;
+			inbounds = 0;
+
+			// first precompute everything that does not depend on pixel values
+			for (int i = idx0; i < idx1; i++) {
+				Pixel p = keypixels.data[i];
+
+				SePointOps_F32.transform(g, p.p3, S);
+
+				if( S.z <= 0 ) {
+					p.valid = false;
+					continue;
+				}
+
+				p.proj.x = (S.x / S.z) * fx + cx;
+				p.proj.y = (S.y / S.z) * fy + cy;
+
+				if (p.proj.x < 0 || p.proj.x > input.width - 1 || p.proj.y < 0 || p.proj.y > input.height - 1) {
+					p.valid = false;
+					continue;
+				} else {
+					p.valid = true;
+				}
+				inbounds++;
+
+				float ZZ = S.z * S.z;
+
+				p.dP11 = fx / S.z;
+				p.dP13 = -S.x * fx / ZZ;
+				p.dP22 = fy / S.z;
+				p.dP23 = -S.y * fy / ZZ;
+			}
+
+			for (int band = 0; band < input.getNumBands(); band++) {
+				interpDX.setImage(derivX.getBand(band));
+				interpDY.setImage(derivY.getBand(band));
+				interpI.setImage(input.getBand(band));
+
+				for (int i = idx0; i < idx1; i++) {
+					Pixel p = keypixels.data[i];
+
+					if( !p.valid )
+						continue;
+
+					SePointOps_F32.transform(g, p.p3, S);
+
+					float current = interpI.get( p.proj.x, p.proj.y);
+					float dx      = interpDX.get(p.proj.x, p.proj.y);
+					float dy      = interpDY.get(p.proj.x, p.proj.y);
+
+					float b1 = dx*p.dP11;
+					float b2 = dy*p.dP22;
+					float b3 = dx*p.dP13 + dy*p.dP23;
+
+					// Same row of A as in constructLinearSystem()
+					a[0] = -b2*S.z + b3*S.y;
+					a[1] =  b1*S.z - b3*S.x;
+					a[2] = -b1*S.y + b2*S.x;
+					a[3] = b1;
+					a[4] = b2;
+					a[5] = b3;
+
+					float error = -(current - p.bands[band]);
+
+					for (int row = 0; row < 6; row++) {
+						double a_row = a[row];
+						int index = row*6;
+						for (int col = row; col < 6; col++) {
+							AtA[index+col] += a_row*a[col];
+						}
+						Aty[row] += a_row*error;
+					}
+
+					sumError += Math.abs(error);
+					rows++;
+				}
+			}
+		}
+	}
+
 	static class Pixel {
 		float bands[]; // pixel intensity in each band
 		int x,y; // pixel coordinate
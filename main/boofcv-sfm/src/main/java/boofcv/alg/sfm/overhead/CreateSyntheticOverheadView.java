@@ -28,7 +28,8 @@ import georegression.struct.point.Point2D_F64;
 import georegression.struct.point.Point3D_F64;
 import georegression.struct.se.Se3_F64;
 import georegression.transform.se.SePointOps_F64;
-import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_I32;
 
 /**
  * <p>
@@ -50,8 +51,10 @@ import org.ddogleg.struct.FastQueue;
  *
  * <p>
  * Implementation Notes:<br>
- * The transform is precomputed and stored in an array which is w*h*2*8 bytes, where (w,h) is the size of the overhead
- * image.
+ * The transform is precomputed and only overhead pixels which can be seen by the camera are saved. They are stored
+ * in raster order in primitive arrays, the overhead pixel's index and the camera pixel's (x,y) coordinate, for a
+ * total of 12 bytes per visible pixel. The start of each row in these arrays is also saved so that rows can be
+ * rendered independently.
  * </p>
 
  * @author Peter Abeles
@@ -62,11 +65,12 @@ public abstract class CreateSyntheticOverheadView<T extends ImageBase<T>>
 	protected int overheadWidth;
 	protected int overheadHeight;
 
-	// pixel coordinate for each pixel in the overhead image
-	// if an element is null that means there is no corresponding image pixel
-	protected Point2D_F32 mapPixels[];
-
-	private FastQueue<Point2D_F32> points = new FastQueue<>(Point2D_F32::new);
+	// index of each overhead pixel which is visible in the camera
+	protected GrowQueue_I32 mapIndexes = new GrowQueue_I32();
+	// pixel coordinate (x,y) in the camera image for each visible overhead pixel
+	protected GrowQueue_F32 mapPixels = new GrowQueue_F32();
+	// Index in mapIndexes of the first visible pixel in each row. Has overheadHeight+1 elements
+	protected GrowQueue_I32 mapRows = new GrowQueue_I32();
 
 	/**
 	 * Specifies camera configurations.
@@ -88,12 +92,10 @@ public abstract class CreateSyntheticOverheadView<T extends ImageBase<T>>
 
 		Point2Transform2_F64 normToPixel = LensDistortionFactory.narrow(intrinsic).distort_F64(false, true);
 
-		// Declare storage for precomputed pixel locations
-		int overheadPixels = overheadHeight*overheadWidth;
-		if( mapPixels == null || mapPixels.length < overheadPixels) {
-			mapPixels = new Point2D_F32[overheadPixels];
-		}
-		points.reset();
+		// Storage for precomputed pixel locations
+		mapIndexes.reset();
+		mapPixels.reset();
+		mapRows.resize(overheadHeight+1);
 
 		// -------- storage for intermediate results
 		Point2D_F64 pixel = new Point2D_F64();
@@ -104,6 +106,7 @@ public abstract class CreateSyntheticOverheadView<T extends ImageBase<T>>
 
 		int indexOut = 0;
 		for( int i = 0; i < overheadHeight; i++ ) {
+			mapRows.data[i] = mapIndexes.size;
 			pt_plane.x = -(i*cellSize - centerY);
 			for( int j = 0; j < overheadWidth; j++ , indexOut++ ) {
 				pt_plane.z = j*cellSize - centerX;
@@ -121,25 +124,46 @@ public abstract class CreateSyntheticOverheadView<T extends ImageBase<T>>
 
 					// make sure it's in the image
 					if(BoofMiscOps.isInside(intrinsic.width,intrinsic.height,x,y) ){
-						Point2D_F32 p = points.grow();
-						p.set(x,y);
-						mapPixels[ indexOut ]= p;
-					} else {
-						mapPixels[ indexOut ]= null;
+						mapIndexes.add(indexOut);
+						mapPixels.add(x);
+						mapPixels.add(y);
 					}
 				}
 			}
 		}
+		mapRows.data[overheadHeight] = mapIndexes.size;
 	}
 
 	/**
 	 * Returns corresponding pixel to pixel coordinate in overhead image
 	 * @param x overhead pixel x-coordinate
 	 * @param y overhead pixel y-coordinate
-	 * @return Pixel in camera image
+	 * @return Pixel in camera image or null if it can't be seen by the camera
 	 */
 	public Point2D_F32 getOverheadToPixel( int x , int y ) {
-		return mapPixels[y*overheadWidth + x];
+		int target = y*overheadWidth + x;
+
+		// visible pixels are saved in raster order so a binary search within the row will find it
+		int low = mapRows.data[y];
+		int high = mapRows.data[y+1]-1;
+		while( low <= high ) {
+			int middle = (low+high) >>> 1;
+			int index = mapIndexes.data[middle];
+			if( index < target )
+				low = middle+1;
+			else if( index > target )
+				high = middle-1;
+			else
+				return new Point2D_F32(mapPixels.data[middle*2], mapPixels.data[middle*2+1]);
+		}
+		return null;
+	}
+
+	/**
+	 * Number of overhead pixels which can be seen by the camera
+	 */
+	public int getTotalVisible() {
+		return mapIndexes.size;
 	}
 
 	/**
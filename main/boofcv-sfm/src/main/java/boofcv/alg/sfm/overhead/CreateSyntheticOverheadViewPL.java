@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -26,7 +26,6 @@ import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.Planar;
-import georegression.struct.point.Point2D_F32;
 
 /**
  * Implementation of {@link CreateSyntheticOverheadView} for {@link Planar}.
@@ -38,10 +37,10 @@ public class CreateSyntheticOverheadViewPL<T extends ImageGray<T>>
 {
 	// computes interpolated pixel value.
 	// have one for each band so that you don't need to constantly change the image it's set to
-	private InterpolatePixelS<T> interp[];
+	protected InterpolatePixelS<T> interp[];
 
 	// local variables
-	private GImageGray output[];
+	protected GImageGray output[];
 
 	/**
 	 * Constructor which allows the interpolator for each band to be specified
@@ -82,15 +81,30 @@ public class CreateSyntheticOverheadViewPL<T extends ImageGray<T>>
 			interp[i].setImage(input.getBand(i));
 		}
 
-		int indexMap = 0;
-		for( int i = 0; i < output.height; i++ ) {
-			int indexOut = output.startIndex + i*output.stride;
-			for( int j = 0; j < output.width; j++ , indexOut++,indexMap++ ) {
-				Point2D_F32 p = mapPixels[indexMap];
-				if( p != null ) {
-					for( int k = 0; k < N; k++ ) {
-						this.output[k].set(indexOut, interp[k].get( p.x, p.y));
-					}
+		render(interp, output, 0, overheadHeight);
+	}
+
+	/**
+	 * Renders the specified rows in the overhead image
+	 *
+	 * @param interp Interpolation for each band which has been set to the input image
+	 * @param output Overhead image
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 */
+	protected void render( InterpolatePixelS<T>[] interp , Planar<T> output , int y0 , int y1 ) {
+		final int N = output.getNumBands();
+		final float[] pixels = mapPixels.data;
+		for( int y = y0; y < y1; y++ ) {
+			// converts the index in the overhead map into the index in the output image
+			int offset = output.startIndex + y*(output.stride - overheadWidth);
+			int end = mapRows.data[y+1];
+			for( int i = mapRows.data[y]; i < end; i++ ) {
+				int indexOut = offset + mapIndexes.data[i];
+				float x = pixels[i*2];
+				float yy = pixels[i*2+1];
+				for( int k = 0; k < N; k++ ) {
+					this.output[k].set(indexOut, interp[k].get(x, yy));
 				}
 			}
 		}
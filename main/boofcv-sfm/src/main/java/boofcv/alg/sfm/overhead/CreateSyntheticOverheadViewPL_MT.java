@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.sfm.overhead;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.FactoryGImageGray;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.Planar;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link CreateSyntheticOverheadViewPL}. Blocks of rows are rendered in parallel.
+ *
+ * @author Peter Abeles
+ */
+public class CreateSyntheticOverheadViewPL_MT<T extends ImageGray<T>> extends CreateSyntheticOverheadViewPL<T>
+{
+	// interpolation is not thread safe so each thread gets its own copy for every band
+	private final FastQueue<InterpolatePixelS<T>[]> interps = new FastQueue<>(this::copyInterpolation);
+
+	public CreateSyntheticOverheadViewPL_MT(InterpolatePixelS<T>[] interp) {
+		super(interp);
+	}
+
+	public CreateSyntheticOverheadViewPL_MT(InterpolationType type, int numBands, Class<T> imageType) {
+		super(type, numBands, imageType);
+	}
+
+	@Override
+	public void process(Planar<T> input, Planar<T> output) {
+		final int N = input.getNumBands();
+		for( int i = 0; i < N; i++ ) {
+			this.output[i] = FactoryGImageGray.wrap(output.getBand(i),this.output[i]);
+		}
+
+		BoofConcurrency.loopBlocks(0, overheadHeight, interps, (interp, y0, y1) -> {
+			for( int i = 0; i < N; i++ ) {
+				interp[i].setImage(input.getBand(i));
+			}
+			render(interp, output, y0, y1);
+		});
+	}
+
+	private InterpolatePixelS<T>[] copyInterpolation() {
+		InterpolatePixelS<T>[] copy = new InterpolatePixelS[interp.length];
+		for( int i = 0; i < interp.length; i++ ) {
+			copy[i] = interp[i].copy();
+		}
+		return copy;
+	}
+}
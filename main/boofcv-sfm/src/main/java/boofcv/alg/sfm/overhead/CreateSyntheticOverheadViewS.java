@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -22,7 +22,6 @@ import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.core.image.FactoryGImageGray;
 import boofcv.core.image.GImageGray;
 import boofcv.struct.image.ImageGray;
-import georegression.struct.point.Point2D_F32;
 
 /**
  * Implementation of {@link CreateSyntheticOverheadView} for {@link ImageGray}.
@@ -32,10 +31,10 @@ import georegression.struct.point.Point2D_F32;
 public class CreateSyntheticOverheadViewS<T extends ImageGray<T>> extends CreateSyntheticOverheadView<T>
 {
 	// computes interpolated pixel value
-	private InterpolatePixelS<T> interp;
+	protected InterpolatePixelS<T> interp;
 
 	// local variables
-	private GImageGray output;
+	protected GImageGray output;
 
 	/**
 	 * Constructor
@@ -56,14 +55,25 @@ public class CreateSyntheticOverheadViewS<T extends ImageGray<T>> extends Create
 		this.output = FactoryGImageGray.wrap(output,this.output);
 		interp.setImage(input);
 
-		int indexMap = 0;
-		for( int i = 0; i < output.height; i++ ) {
-			int indexOut = output.startIndex + i*output.stride;
-			for( int j = 0; j < output.width; j++ , indexOut++,indexMap++ ) {
-				Point2D_F32 p = mapPixels[indexMap];
-				if( p != null ) {
-					this.output.set(indexOut,interp.get( p.x, p.y));
-				}
+		render(interp, output, 0, overheadHeight);
+	}
+
+	/**
+	 * Renders the specified rows in the overhead image
+	 *
+	 * @param interp Interpolation which has been set to the input image
+	 * @param output Overhead image
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 */
+	protected void render( InterpolatePixelS<T> interp , T output , int y0 , int y1 ) {
+		final float[] pixels = mapPixels.data;
+		for( int y = y0; y < y1; y++ ) {
+			// converts the index in the overhead map into the index in the output image
+			int offset = output.startIndex + y*(output.stride - overheadWidth);
+			int end = mapRows.data[y+1];
+			for( int i = mapRows.data[y]; i < end; i++ ) {
+				this.output.set(offset + mapIndexes.data[i], interp.get(pixels[i*2], pixels[i*2+1]));
 			}
 		}
 	}
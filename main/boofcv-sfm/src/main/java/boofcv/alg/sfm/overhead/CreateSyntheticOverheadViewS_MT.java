@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.sfm.overhead;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.FactoryGImageGray;
+import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link CreateSyntheticOverheadViewS}. Blocks of rows are rendered in parallel.
+ *
+ * @author Peter Abeles
+ */
+public class CreateSyntheticOverheadViewS_MT<T extends ImageGray<T>> extends CreateSyntheticOverheadViewS<T>
+{
+	// interpolation is not thread safe so each thread gets its own copy
+	private final FastQueue<InterpolatePixelS<T>> interps;
+
+	/**
+	 * Constructor
+	 *
+	 * @param interp Interpolation used when sampling camera image
+	 */
+	public CreateSyntheticOverheadViewS_MT(InterpolatePixelS<T> interp) {
+		super(interp);
+		interps = new FastQueue<>(interp::copy);
+	}
+
+	@Override
+	public void process(T input, T output) {
+		this.output = FactoryGImageGray.wrap(output,this.output);
+
+		BoofConcurrency.loopBlocks(0, overheadHeight, interps, (interp, y0, y1) -> {
+			interp.setImage(input);
+			render(interp, output, y0, y1);
+		});
+	}
+}
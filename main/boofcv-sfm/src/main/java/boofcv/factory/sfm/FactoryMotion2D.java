@@ -44,6 +44,9 @@ import georegression.struct.point.Point2D_F64;
 import georegression.struct.se.Se2_F64;
 import org.ddogleg.fitting.modelset.*;
 import org.ddogleg.fitting.modelset.ransac.Ransac;
+import org.ddogleg.struct.Factory;
+
+import java.io.File;
 
 /**
  * Factory for creating algorithms related to 2D image motion.  Typically used for image stabilization, mosaic, and
@@ -143,6 +146,31 @@ public class FactoryMotion2D {
 			transform = (StitchingTransform)FactoryStitchingTransform.createHomography_F64();
 		}
 
+		ImageDistort<I,I> distorter = createStitchDistort(imageType);
+
+		return new StitchingFromMotion2D<>(motion2D, distorter, transform, maxJumpFraction);
+	}
+
+	/**
+	 * Creates a mosaic which is broken up into tiles that are allocated on demand. Pass it into
+	 * {@link StitchingFromMotion2D#configureTiled} to create mosaics of unbounded size using bounded memory.
+	 *
+	 * @param imageType Type of image processed
+	 * @param tileSize Width and height of each tile. Try 512.
+	 * @param maxInMemory Maximum number of tiles in memory. Additional tiles are written to disk.
+	 * @param spillDirectory (Optional) Directory tiles are written to. If null the temporary directory is used.
+	 * @param <I> Image input type.
+	 * @return TiledMosaic
+	 */
+	public static <I extends ImageBase<I>>
+	TiledMosaic<I> createTiledMosaic( ImageType<I> imageType , int tileSize , int maxInMemory , File spillDirectory ) {
+		// interpolation isn't thread safe so each distort gets its own
+		Factory<ImageDistort<I,I>> factory = ()->createStitchDistort(imageType);
+		return new TiledMosaic<>(imageType, tileSize, maxInMemory, spillDirectory, factory);
+	}
+
+	private static <I extends ImageBase<I>>
+	ImageDistort<I,I> createStitchDistort( ImageType<I> imageType ) {
 		InterpolatePixel<I> interp;
 
 		if( imageType.getFamily() == ImageType.Family.GRAY || imageType.getFamily() == ImageType.Family.PLANAR ) {
@@ -154,7 +182,6 @@ public class FactoryMotion2D {
 
 		ImageDistort<I,I> distorter = FactoryDistort.distort(false, interp, imageType);
 		distorter.setRenderAll(false);
-
-		return new StitchingFromMotion2D<>(motion2D, distorter, transform, maxJumpFraction);
+		return distorter;
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2019, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -22,7 +22,10 @@ import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.InterpolationType;
 import boofcv.alg.sfm.overhead.CreateSyntheticOverheadView;
 import boofcv.alg.sfm.overhead.CreateSyntheticOverheadViewPL;
+import boofcv.alg.sfm.overhead.CreateSyntheticOverheadViewPL_MT;
 import boofcv.alg.sfm.overhead.CreateSyntheticOverheadViewS;
+import boofcv.alg.sfm.overhead.CreateSyntheticOverheadViewS_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.image.ImageBase;
@@ -43,11 +46,17 @@ public class FactorySfmMisc {
 			case GRAY:
 			{
 				InterpolatePixelS interp = FactoryInterpolation.bilinearPixelS(classType, BorderType.EXTENDED);
-				return new CreateSyntheticOverheadViewS(interp);
+				if( BoofConcurrency.isUseConcurrent() )
+					return new CreateSyntheticOverheadViewS_MT(interp);
+				else
+					return new CreateSyntheticOverheadViewS(interp);
 			}
 
 			case PLANAR:
-				return new CreateSyntheticOverheadViewPL(InterpolationType.BILINEAR,imageType.getNumBands(),classType);
+				if( BoofConcurrency.isUseConcurrent() )
+					return new CreateSyntheticOverheadViewPL_MT(InterpolationType.BILINEAR,imageType.getNumBands(),classType);
+				else
+					return new CreateSyntheticOverheadViewPL(InterpolationType.BILINEAR,imageType.getNumBands(),classType);
 
 			default:
 				throw new IllegalArgumentException(imageType.getFamily()+" is not supported");
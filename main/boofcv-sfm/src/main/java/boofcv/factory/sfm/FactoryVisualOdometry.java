@@ -414,6 +414,31 @@ public class FactoryVisualOdometry {
 										   int refineIterations ,
 										   DetectDescribeMulti<T,Desc> detector,
 										   Class<T> imageType )
+	{
+		return stereoQuadPnP(inlierPixelTol, epipolarPixelTol, maxDistanceF2F, maxAssociationError,
+				ransacIterations, refineIterations, detector, null, imageType);
+	}
+
+	/**
+	 * Same as {@link #stereoQuadPnP(double, double, double, double, int, int, DetectDescribeMulti, Class)} but
+	 * with a second detector for the right camera. When concurrency is turned on this allows features to be
+	 * detected in the left and right images at the same time.
+	 *
+	 * @see VisOdomQuadPnP
+	 *
+	 * @param detectorRight (Optional) Feature detector for the right camera. Must be configured the same as
+	 *                      'detector' but be a different instance. Can be null.
+	 */
+	public static <T extends ImageGray<T>,Desc extends TupleDesc>
+	StereoVisualOdometry<T> stereoQuadPnP( double inlierPixelTol ,
+										   double epipolarPixelTol ,
+										   double maxDistanceF2F,
+										   double maxAssociationError,
+										   int ransacIterations ,
+										   int refineIterations ,
+										   DetectDescribeMulti<T,Desc> detector,
+										   DetectDescribeMulti<T,Desc> detectorRight,
+										   Class<T> imageType )
 	{
 		EstimateNofPnP pnp = FactoryMultiView.pnp_N(EnumPNP.P3P_FINSTERWALDER, -1);
 		DistanceFromModelMultiView<Se3_F64,Point2D3D> distanceMono = new PnPDistanceReprojectionSq();
@@ -438,16 +463,9 @@ public class FactoryVisualOdometry {
 
 		ScoreAssociation<Desc> scorer = FactoryAssociation.defaultScore(descType);
 
-		// TODO need a better way to keep track of what error is squared and not
-		AssociateDescription2D<Desc> assocSame;
-		if( maxDistanceF2F > 0 ) {
-			AssociateMaxDistanceNaive<Desc> a = new AssociateMaxDistanceNaive<>(scorer, true, maxAssociationError);
-			a.setSquaredDistance(true);
-			a.setMaxDistance(maxDistanceF2F);
-			assocSame = a;
-		} else {
-			assocSame = new AssociateDescTo2D<>(FactoryAssociation.greedy(new ConfigAssociateGreedy(true,maxAssociationError),scorer));
-		}
+		// left to left and right to right association get their own instance so that they can run concurrently
+		AssociateDescription2D<Desc> assocSame = createAssocSame(scorer, maxDistanceF2F, maxAssociationError);
+		AssociateDescription2D<Desc> assocSameRight = createAssocSame(scorer, maxDistanceF2F, maxAssociationError);
 
 		AssociateStereo2D<Desc> associateStereo = new AssociateStereo2D<>(scorer, epipolarPixelTol, descType);
 		Triangulate2ViewsMetric triangulate = FactoryMultiView.triangulate2ViewMetric(
@@ -455,12 +473,25 @@ public class FactoryVisualOdometry {
 
 		associateStereo.setMaxScoreThreshold(maxAssociationError);
 
-		VisOdomQuadPnP<T,Desc> alg = new VisOdomQuadPnP<>(
-				detector, assocSame, associateStereo, triangulate, motion, refinePnP);
+		VisOdomQuadPnP<T,Desc> alg = new VisOdomQuadPnP<>(detector, detectorRight,
+				assocSame, assocSameRight, associateStereo, triangulate, motion, refinePnP);
 
 		return new WrapVisOdomQuadPnP<>(alg, refinePnP, associateStereo, distanceStereo, distanceMono, imageType);
 	}
 
+	private static <Desc extends TupleDesc> AssociateDescription2D<Desc>
+	createAssocSame( ScoreAssociation<Desc> scorer, double maxDistanceF2F, double maxAssociationError ) {
+		// TODO need a better way to keep track of what error is squared and not
+		if( maxDistanceF2F > 0 ) {
+			AssociateMaxDistanceNaive<Desc> a = new AssociateMaxDistanceNaive<>(scorer, true, maxAssociationError);
+			a.setSquaredDistance(true);
+			a.setMaxDistance(maxDistanceF2F);
+			return a;
+		} else {
+			return new AssociateDescTo2D<>(FactoryAssociation.greedy(new ConfigAssociateGreedy(true,maxAssociationError),scorer));
+		}
+	}
+
 	/**
 	 * Wraps around a {@link StereoVisualOdometry} instance and will rescale the input images and adjust the cameras
 	 * intrinsic parameters automatically.  Rescaling input images is often an easy way to improve runtime performance
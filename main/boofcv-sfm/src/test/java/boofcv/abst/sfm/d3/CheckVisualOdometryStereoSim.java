@@ -30,6 +30,7 @@ import georegression.struct.se.Se3_F64;
 import org.ejml.dense.row.MatrixFeatures_DDRM;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -137,6 +138,47 @@ public abstract class CheckVisualOdometryStereoSim<I extends ImageGray<I>>
 	}
 
 
+	/**
+	 * Processes the same sequence with and without concurrency and checks to see if the estimated motion is identical.
+	 */
+	protected void checkConcurrentIdentical() {
+		StereoVisualOdometry<I> single = createAlgorithm();
+		StereoVisualOdometry<I> concurrent = createAlgorithm();
+
+		single.setCalibration(param);
+		concurrent.setCalibration(param);
+
+		Se3_F64 worldToLeft = new Se3_F64();
+		Se3_F64 worldToRight = new Se3_F64();
+		Se3_F64 leftToRight = param.getRightToLeft().invert(null);
+
+		try {
+			for( int i = 0; i < 6; i++ ) {
+				worldToLeft.getT().z = i*0.05;
+				worldToLeft.concat(leftToRight,worldToRight);
+
+				setIntrinsic(param.getLeft());
+				left.setTo(render(worldToLeft));
+				setIntrinsic(param.getRight());
+				right.setTo(render(worldToRight));
+
+				BoofConcurrency.USE_CONCURRENT = false;
+				boolean successSingle = single.process(left,right);
+				BoofConcurrency.USE_CONCURRENT = true;
+				boolean successConcurrent = concurrent.process(left,right);
+
+				assertEquals(successSingle,successConcurrent);
+
+				Se3_F64 expected = single.getCameraToWorld();
+				Se3_F64 found = concurrent.getCameraToWorld();
+				assertEquals(0.0,expected.getT().distance(found.getT()));
+				assertTrue(MatrixFeatures_DDRM.isIdentical(expected.getR(),found.getR(),0.0));
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+		}
+	}
+
 	public StereoParameters createStereoParam() {
 		StereoParameters ret = new StereoParameters();
 
@@ -27,6 +27,7 @@ import boofcv.factory.sfm.FactoryVisualOdometry;
 import boofcv.factory.tracker.FactoryPointTracker;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.pyramid.ConfigDiscreteLevels;
+import org.junit.jupiter.api.Test;
 
 /**
  * @author Peter Abeles
@@ -55,4 +56,9 @@ public class TestWrapVisOdomDualTrackPnP extends CheckVisualOdometryStereoSim<Gr
 		return FactoryVisualOdometry.stereoDualTrackerPnP(90, 2, 1.5, 1.5, 200, 50,
 				trackerLeft, trackerRight, describe,11.0,GrayF32.class);
 	}
+
+	@Test
+	void concurrentIdentical() {
+		checkConcurrentIdentical();
+	}
 }
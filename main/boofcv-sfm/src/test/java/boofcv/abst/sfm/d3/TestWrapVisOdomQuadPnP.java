@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -32,6 +32,7 @@ import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.factory.feature.detect.intensity.FactoryIntensityPoint;
 import boofcv.factory.sfm.FactoryVisualOdometry;
 import boofcv.struct.image.GrayF32;
+import org.junit.jupiter.api.Test;
 
 /**
  * @author Peter Abeles
@@ -44,6 +45,11 @@ public class TestWrapVisOdomQuadPnP extends CheckVisualOdometryStereoSim<GrayF32
 
 	@Override
 	public StereoVisualOdometry<GrayF32> createAlgorithm() {
+		return FactoryVisualOdometry.stereoQuadPnP(1.5, 0.5, 200, Double.MAX_VALUE, 300, 50,
+				createDetector(), createDetector(), GrayF32.class);
+	}
+
+	private DetectDescribeMulti createDetector() {
 		GeneralFeatureIntensity intensity =
 				FactoryIntensityPoint.shiTomasi(1, false, GrayF32.class);
 		NonMaxSuppression nonmax = FactoryFeatureExtractor.nonmax(new ConfigExtract(2, 1, 0, true, false, true));
@@ -52,8 +58,11 @@ public class TestWrapVisOdomQuadPnP extends CheckVisualOdometryStereoSim<GrayF32
 		general.setMaxFeatures(600);
 		DetectorInterestPointMulti detector = new GeneralToInterestMulti(general,2,GrayF32.class,GrayF32.class);
 		DescribeRegionPoint describe = FactoryDescribeRegionPoint.surfFast(null, GrayF32.class);
-		DetectDescribeMulti detDescMulti =  new DetectDescribeMultiFusion(detector,null,describe);
+		return new DetectDescribeMultiFusion(detector,null,describe);
+	}
 
-		return FactoryVisualOdometry.stereoQuadPnP(1.5, 0.5, 200, Double.MAX_VALUE, 300, 50, detDescMulti, GrayF32.class);
+	@Test
+	void concurrentIdentical() {
+		checkConcurrentIdentical();
 	}
 }
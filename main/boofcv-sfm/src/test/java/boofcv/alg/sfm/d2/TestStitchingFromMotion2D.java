@@ -25,14 +25,18 @@ import boofcv.alg.interpolate.InterpolationType;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.distort.FactoryDistort;
 import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.factory.sfm.FactoryMotion2D;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.distort.PixelTransform;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
 import georegression.struct.affine.Affine2D_F64;
 import georegression.struct.point.Point2D_F32;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -217,6 +221,41 @@ public class TestStitchingFromMotion2D {
 		assertEquals(-2+4,found.ty,1e-5);
 	}
 
+	/**
+	 * Render into a tiled mosaic and compare against the stitched image
+	 */
+	@Test
+	public void tiled_compareToStitched() {
+		ImageMiscOps.fillUniform(image,new Random(234),0,200);
+		StitchingTransform trans = FactoryStitchingTransform.createAffine_F64();
+
+		InterpolatePixelS interp = FactoryInterpolation.createPixelS(0, 255,
+				InterpolationType.BILINEAR, BorderType.EXTENDED, GrayF32.class);
+		ImageDistort distorter = FactoryDistort.distortSB(false, interp, GrayF32.class);
+		distorter.setRenderAll(false);
+
+		StitchingFromMotion2D<GrayF32,Affine2D_F64> expected =
+				new StitchingFromMotion2D<>(new HelperMotion(), distorter, trans, 0.3);
+		expected.configure(200,300,null);
+		assertTrue(expected.process(image));
+
+		try( TiledMosaic<GrayF32> mosaic = FactoryMotion2D.createTiledMosaic(image.getImageType(),32,4,null) ) {
+			StitchingFromMotion2D<GrayF32,Affine2D_F64> alg =
+					new StitchingFromMotion2D<>(new HelperMotion(), distorter, trans, 0.3);
+			alg.configureTiled(mosaic,null);
+			assertTrue(alg.process(image));
+
+			assertNull(alg.getStitchedImage());
+			assertSame(mosaic, alg.getMosaic());
+			// the image starts at (-1,2) so it should extend outside of where the stitched image would be
+			assertTrue(mosaic.isTile(-1,0));
+
+			GrayF32 found = new GrayF32(200,300);
+			mosaic.extract(0,0,found);
+			BoofTesting.assertEquals(expected.getStitchedImage(), found, 1e-4);
+		}
+	}
+
 	private void checkBlock( int x0 , int y0 , int x1 , int y1 , GrayF32 image ) {
 
 		for( int y = 0; y < image.height; y++ ) {
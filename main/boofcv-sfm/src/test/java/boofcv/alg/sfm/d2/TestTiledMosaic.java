@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.sfm.d2;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.PixelTransformAffine_F32;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.factory.sfm.FactoryMotion2D;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import georegression.struct.affine.Affine2D_F32;
+import georegression.struct.shapes.Rectangle2D_I32;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTiledMosaic {
+	Random rand = new Random(234);
+
+	/**
+	 * Render an image into the mosaic with fewer tiles allowed in memory than it touches, forcing tiles to be
+	 * written to and read from disk. Compare against rendering into a single large image.
+	 */
+	@Test
+	public void render_compareToSingleImage() {
+		GrayF32 image = new GrayF32(50,40);
+		ImageMiscOps.fillUniform(image,rand,0,200);
+
+		// location of the image in the mosaic
+		float offX = 13.5f, offY = -7.25f;
+
+		try( TiledMosaic<GrayF32> alg = FactoryMotion2D.createTiledMosaic(ImageType.single(GrayF32.class),20,3,null) ) {
+			PixelTransformAffine_F32 mosaicToImage = new PixelTransformAffine_F32(
+					new Affine2D_F32(1,0,0,1,-offX,-offY));
+			alg.render(image, mosaicToImage, new Rectangle2D_I32(13,-8,65,34));
+
+			assertEquals(12, alg.getTotalTiles());
+			assertTrue(alg.getTotalInMemory() <= 3);
+			Rectangle2D_I32 bounds = alg.getTileBounds(null);
+			assertEquals(0, bounds.x0);
+			assertEquals(-1, bounds.y0);
+			assertEquals(3, bounds.x1);
+			assertEquals(1, bounds.y1);
+
+			// expected results. The region's top left corner is at (-40,-40) in the mosaic
+			GrayF32 expected = new GrayF32(120,100);
+			ImageDistort<GrayF32,GrayF32> distort = createDistort();
+			distort.setModel(new PixelTransformAffine_F32(new Affine2D_F32(1,0,0,1,-40-offX,-40-offY)));
+			distort.apply(image, expected);
+
+			GrayF32 found = new GrayF32(120,100);
+			ImageMiscOps.fill(found,-1);
+			alg.extract(-40,-40,found);
+
+			BoofTesting.assertEquals(expected, found, 1e-3);
+		}
+	}
+
+	/**
+	 * Rendering an image twice should touch the same tiles and not create new ones
+	 */
+	@Test
+	public void render_twice() {
+		GrayU8 image = new GrayU8(30,30);
+		ImageMiscOps.fillUniform(image,rand,0,200);
+
+		try( TiledMosaic<GrayU8> alg = FactoryMotion2D.createTiledMosaic(ImageType.single(GrayU8.class),16,2,null) ) {
+			PixelTransformAffine_F32 mosaicToImage = new PixelTransformAffine_F32(new Affine2D_F32(1,0,0,1,0,0));
+			alg.render(image, mosaicToImage, new Rectangle2D_I32(0,0,31,31));
+			assertEquals(4, alg.getTotalTiles());
+			alg.render(image, mosaicToImage, new Rectangle2D_I32(0,0,31,31));
+			assertEquals(4, alg.getTotalTiles());
+
+			GrayU8 found = new GrayU8(30,30);
+			alg.extract(0,0,found);
+			BoofTesting.assertEquals(image, found, 0);
+		}
+	}
+
+	/**
+	 * Tiles which don't exist should be filled with zero and not be created
+	 */
+	@Test
+	public void extract_noTiles() {
+		try( TiledMosaic<GrayF32> alg = FactoryMotion2D.createTiledMosaic(ImageType.single(GrayF32.class),20,3,null) ) {
+			GrayF32 found = new GrayF32(45,30);
+			ImageMiscOps.fill(found,2);
+			alg.extract(-5,-5,found);
+
+			for( int i = 0; i < found.data.length; i++ ) {
+				assertEquals(0, found.data[i]);
+			}
+			assertEquals(0, alg.getTotalTiles());
+			assertNull(alg.lookupTile(0,0));
+			assertFalse(alg.isTile(0,0));
+		}
+	}
+
+	@Test
+	public void reset() {
+		GrayF32 image = new GrayF32(50,40);
+		ImageMiscOps.fillUniform(image,rand,0,200);
+
+		try( TiledMosaic<GrayF32> alg = FactoryMotion2D.createTiledMosaic(ImageType.single(GrayF32.class),20,2,null) ) {
+			PixelTransformAffine_F32 mosaicToImage = new PixelTransformAffine_F32(new Affine2D_F32(1,0,0,1,0,0));
+			alg.render(image, mosaicToImage, new Rectangle2D_I32(0,0,51,41));
+			assertTrue(alg.isTile(2,2));
+
+			alg.reset();
+			assertEquals(0, alg.getTotalTiles());
+			assertEquals(0, alg.getTotalInMemory());
+			assertFalse(alg.isTile(2,2));
+			assertTrue(alg.getTileBounds(null).x1 < alg.getTileBounds(null).x0);
+
+			// recycled tiles must be zero
+			alg.render(image.subimage(0,0,5,5), mosaicToImage, new Rectangle2D_I32(0,0,6,6));
+			GrayF32 tile = alg.lookupTile(0,0);
+			assertEquals(0, tile.get(10,10));
+		}
+	}
+
+	/**
+	 * Write and read different image types to a buffer and see if they are the same
+	 */
+	@Test
+	public void writeRead() {
+		writeRead(ImageType.single(GrayU8.class));
+		writeRead(ImageType.single(GrayS16.class));
+		writeRead(ImageType.single(GrayS32.class));
+		writeRead(ImageType.single(GrayS64.class));
+		writeRead(ImageType.single(GrayF32.class));
+		writeRead(ImageType.single(GrayF64.class));
+		writeRead(ImageType.pl(3,GrayF32.class));
+		writeRead(ImageType.il(2,InterleavedU8.class));
+		writeRead(ImageType.il(3,InterleavedF64.class));
+	}
+
+	private <T extends ImageBase<T>> void writeRead( ImageType<T> type ) {
+		T original = type.createImage(15,10);
+		GImageMiscOps.fillUniform(original,rand,0,100);
+
+		int bytes = 15*10*type.getNumBands()*type.getDataType().getNumBits()/8;
+		ByteBuffer buffer = ByteBuffer.allocate(bytes);
+		TiledMosaic.writeImage(original, buffer);
+		assertEquals(bytes, buffer.position());
+
+		buffer.position(0);
+		T found = type.createImage(15,10);
+		TiledMosaic.readImage(buffer, found);
+		assertEquals(bytes, buffer.position());
+
+		BoofTesting.assertEquals(original, found, 0);
+	}
+
+	private ImageDistort<GrayF32,GrayF32> createDistort() {
+		InterpolatePixelS<GrayF32> interp = FactoryInterpolation.createPixelS(0, 255,
+				InterpolationType.BILINEAR, BorderType.EXTENDED, GrayF32.class);
+		ImageDistort<GrayF32,GrayF32> distort = FactoryDistort.distortSB(false, interp, GrayF32.class);
+		distort.setRenderAll(false);
+		return distort;
+	}
+}
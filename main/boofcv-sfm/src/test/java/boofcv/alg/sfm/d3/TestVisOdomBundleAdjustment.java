@@ -34,6 +34,9 @@ import georegression.struct.EulerType;
 import georegression.struct.point.Point2D_F64;
 import georegression.struct.point.Point3D_F64;
 import georegression.struct.point.Point4D_F64;
+import georegression.struct.se.Se3_F64;
+import georegression.struct.se.SpecialEuclideanOps_F64;
+import georegression.transform.se.SePointOps_F64;
 import org.ejml.UtilEjml;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -93,6 +96,145 @@ class TestVisOdomBundleAdjustment {
 		assertEquals(0.0, alg.bundleAdjustment.getFitScore(), 0.001);
 	}
 
+	/**
+	 * Asynchronous optimization should produce the same results as synchronous
+	 */
+	@Test
+	void optimizeAsync_compareToSync() {
+		var expected = new VisOdomBundleAdjustment<>(bundleAdjustment,BTrack::new);
+		var found = new VisOdomBundleAdjustment<>(FactoryMultiView.bundleSparseMetric(null),BTrack::new);
+		expected.bundleAdjustment.configure(1e-6,1e-6,10);
+		found.bundleAdjustment.configure(1e-6,1e-6,10);
+
+		rand = BoofTesting.createRandom(2);
+		createPerfectScene(expected);
+		rand = BoofTesting.createRandom(2);
+		createPerfectScene(found);
+		for (int i = 5; i < expected.tracks.size-5; i++) {
+			double dx = rand.nextGaussian()*0.02;
+			expected.tracks.get(i).worldLoc.x += dx;
+			found.tracks.get(i).worldLoc.x += dx;
+		}
+
+		expected.optimize();
+		assertTrue(found.optimizeAsync());
+		assertTrue(found.isAsyncPending());
+		// can't start a second one while the first is running
+		assertFalse(found.optimizeAsync());
+		assertTrue(found.applyAsync(true));
+		assertFalse(found.isAsyncPending());
+		assertTrue(found.getAsyncLatencyMS() >= found.getTimeOptimizeMS());
+
+		for (int i = 0; i < expected.frames.size; i++) {
+			Se3_F64 a = expected.frames.get(i).frame_to_world;
+			Se3_F64 b = found.frames.get(i).frame_to_world;
+			assertEquals(0.0, a.T.distance(b.T), UtilEjml.TEST_F64);
+		}
+		for (int i = 0; i < expected.tracks.size; i++) {
+			assertEquals(0.0, expected.tracks.get(i).worldLoc.distance(found.tracks.get(i).worldLoc), UtilEjml.TEST_F64);
+		}
+	}
+
+	/**
+	 * Frames which are added while optimizing should be moved with the last optimized frame and removed frames
+	 * should be ignored
+	 */
+	@Test
+	void applyAsync_modifiedScene() {
+		var alg = new VisOdomBundleAdjustment<>(bundleAdjustment,BTrack::new);
+		createPerfectScene(alg);
+		alg.bundleAdjustment.configure(1e-6,1e-6,10);
+
+		// perturb the last frame so that optimization will move it
+		BFrame last = alg.getLastFrame();
+		Se3_F64 truthLast = last.frame_to_world.copy();
+		last.frame_to_world.T.x += 0.05;
+
+		assertTrue(alg.optimizeAsync());
+
+		// new frame is defined relative to the last frame
+		Se3_F64 lastToNew = SpecialEuclideanOps_F64.eulerXyz(0.1,0,0.02,0,0.01,0,null);
+		BFrame added = alg.addFrame(100);
+		lastToNew.concat(last.frame_to_world, added.frame_to_world);
+
+		// remove the first frame while it's running
+		BFrame first = alg.getFirstFrame();
+		alg.removeFrame(first, new ArrayList<>());
+
+		assertTrue(alg.applyAsync(true));
+
+		// The last frame should have been moved back to its true location and the added frame with it
+		assertEquals(0.0, last.frame_to_world.T.distance(truthLast.T), 1e-3);
+		Se3_F64 expected = lastToNew.concat(last.frame_to_world, null);
+		assertEquals(0.0, added.frame_to_world.T.distance(expected.T), UtilEjml.TEST_F64);
+	}
+
+	/**
+	 * Tracks which are added while optimizing were located using the old location of the last frame and should
+	 * be moved with it. Tracks which are added and then removed should be ignored.
+	 */
+	@Test
+	void applyAsync_addedTracks() {
+		var alg = new VisOdomBundleAdjustment<>(bundleAdjustment,BTrack::new);
+		createPerfectScene(alg);
+		alg.bundleAdjustment.configure(1e-6,1e-6,10);
+
+		// perturb the last frame so that optimization will move it
+		BFrame last = alg.getLastFrame();
+		last.frame_to_world.T.x += 0.05;
+
+		assertTrue(alg.optimizeAsync());
+
+		// The new track is triangulated in the last frame then converted into world coordinates
+		Point4D_F64 inLast = new Point4D_F64(0.1,-0.2,2.0,1.0);
+		BTrack added = alg.addTrack(0,0,0,0);
+		SePointOps_F64.transform(last.frame_to_world, inLast, added.worldLoc);
+		BFrame frame = alg.addFrame(100);
+		alg.addObservation(frame,added,10,20);
+
+		// This track will be removed before the results are applied
+		BTrack removed = alg.addTrack(1,2,3,1);
+		alg.addObservation(frame,removed,30,40);
+		alg.tracks.remove(alg.tracks.indexOf(removed));
+
+		assertTrue(alg.applyAsync(true));
+
+		// The location relative to the last frame should not have changed
+		Point4D_F64 expected = new Point4D_F64();
+		SePointOps_F64.transform(last.frame_to_world, inLast, expected);
+		assertEquals(0.0, added.worldLoc.distance(expected), UtilEjml.TEST_F64);
+		assertEquals(0.0, removed.worldLoc.distance(new Point4D_F64(1,2,3,1)), UtilEjml.TEST_F64);
+	}
+
+	/**
+	 * Frames outside of the window should not be modified
+	 */
+	@Test
+	void optimize_window() {
+		var alg = new VisOdomBundleAdjustment<>(bundleAdjustment,BTrack::new);
+		createPerfectScene(alg);
+		alg.bundleAdjustment.configure(1e-6,1e-6,10);
+		alg.setWindowSize(2);
+
+		for (int i = 0; i < alg.frames.size; i++) {
+			alg.frames.get(i).frame_to_world.T.x += 0.01;
+		}
+		List<Se3_F64> original = new ArrayList<>();
+		for (int i = 0; i < alg.frames.size; i++) {
+			original.add(alg.frames.get(i).frame_to_world.copy());
+		}
+
+		alg.optimize();
+
+		for (int i = 0; i < alg.frames.size; i++) {
+			double distance = alg.frames.get(i).frame_to_world.T.distance(original.get(i).T);
+			if( i < alg.frames.size-2 )
+				assertEquals(0.0, distance, UtilEjml.TEST_F64);
+			else
+				assertNotEquals(0.0, distance, UtilEjml.TEST_F64);
+		}
+	}
+
 	@Test
 	void addObservation() {
 		var alg = new VisOdomBundleAdjustment<>(bundleAdjustment,BTrack::new);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -48,6 +48,8 @@ public class TestVisOdomDirectColorDepth {
 	float fy = 100;
 	float cx = width/2;
 	float cy = height/2;
+	// number of synthetic key frame pixels
+	int numKeyPixels = 100;
 
 	/**
 	 * Generate low level synthetic data that should simulate a translation along one axis.  Then check to see if
@@ -85,7 +87,53 @@ public class TestVisOdomDirectColorDepth {
 		assertTrue( 1.5f*Math.abs(a.T.x) < Math.abs(d.T.x) );
 	}
 
+	/**
+	 * The concurrent normal equations should produce the same solution as the explicit linear system
+	 */
+	@Test
+	public void constructNormalEquations_MT() {
+		// enough pixels that it will be split between threads
+		numKeyPixels = 2000;
+		VisOdomDirectColorDepth<GrayF32,GrayF32> alg = createSyntheticScene(10,20,6,2);
+		Planar<GrayF32> input = new Planar<>(GrayF32.class,width,height,numBands);
+		GImageMiscOps.fillUniform(input,rand,0,50);
+
+		Se3_F32 g = new Se3_F32();
+		g.T.set(0.01f,-0.02f,0.005f);
+
+		alg.constructLinearSystem(input, g);
+		assertTrue(alg.solveSystem());
+		float expectedError = alg.getErrorOptical();
+		int expectedInbounds = alg.getInboundsPixels();
+		Se3_F32 expected = alg.motionTwist.copy();
+
+		alg.constructNormalEquations_MT(input, g);
+		assertTrue(alg.solveNormalEquations());
+
+		assertEquals(expectedError, alg.getErrorOptical(), 1e-4f);
+		assertEquals(expectedInbounds, alg.getInboundsPixels());
+		assertEquals(0.0f, expected.T.distance(alg.motionTwist.T), 1e-4f);
+		assertTrue(rotationMag(expected.concat(alg.motionTwist.invert(null),null)) < 1e-4f);
+	}
+
 	public Se3_F32 computeMotion( float colorBefore , float colorAfter , float dx , float dy ) {
+		VisOdomDirectColorDepth<GrayF32,GrayF32> alg = createSyntheticScene(colorBefore,colorAfter,dx,dy);
+
+		Planar<GrayF32> input = new Planar<>(GrayF32.class,width,height,numBands);
+		GImageMiscOps.fill(input,colorAfter);
+
+		// estimate the motion
+		alg.constructLinearSystem(input, new Se3_F32());
+		assertTrue(alg.solveSystem());
+
+		assertEquals(Math.abs(colorAfter-colorBefore), alg.getErrorOptical(), 1e-4f);
+		assertTrue(alg.getInboundsPixels() > 95 ); // counting error can cause a drop
+
+		return alg.motionTwist;
+	}
+
+	private VisOdomDirectColorDepth<GrayF32,GrayF32> createSyntheticScene( float colorBefore , float colorAfter ,
+																		   float dx , float dy ) {
 		VisOdomDirectColorDepth<GrayF32,GrayF32> alg = new VisOdomDirectColorDepth<>(numBands,imageType,imageType);
 		alg.setCameraParameters(fx,fy,cx,cy,width,height);
 
@@ -99,7 +147,7 @@ public class TestVisOdomDirectColorDepth {
 		GImageMiscOps.addUniform(alg.derivY, rand, 0f,0.1f);
 
 		// generate some synthetic data.  This will be composed of random points in front of the camera
-		for (int i = 0; i < 100; i++) {
+		for (int i = 0; i < numKeyPixels; i++) {
 			VisOdomDirectColorDepth.Pixel p = alg.keypixels.grow();
 
 			for (int band = 0; band < numBands; band++) {
@@ -118,14 +166,7 @@ public class TestVisOdomDirectColorDepth {
 			p.p3.z = z;
 		}
 
-		// estimate the motion
-		alg.constructLinearSystem(input, new Se3_F32());
-		assertTrue(alg.solveSystem());
-
-		assertEquals(Math.abs(colorAfter-colorBefore), alg.getErrorOptical(), 1e-4f);
-		assertTrue(alg.getInboundsPixels() > 95 ); // counting error can cause a drop
-
-		return alg.motionTwist;
+		return alg;
 	}
 
 	public float rotationMag(Se3_F32 motion ) {
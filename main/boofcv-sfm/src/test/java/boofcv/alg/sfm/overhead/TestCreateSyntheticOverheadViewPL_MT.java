@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.sfm.overhead;
+
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.calib.CameraPinholeBrown;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
+import georegression.struct.se.Se3_F64;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCreateSyntheticOverheadViewPL_MT {
+	Random rand = new Random(234);
+
+	int width = 800;
+	int height = 850;
+	CameraPinholeBrown param = new CameraPinholeBrown(200,201,0,width/2,height/2,width,height).fsetRadial(0.002,0);
+
+	int overheadW = 500;
+	int overheadH = 600;
+	double cellSize = 0.05;
+	double centerX = 1;
+	double centerY = overheadH*cellSize/2.0;
+
+	@Test
+	public void compareToSingleThread() {
+		Se3_F64 planeToCamera = new Se3_F64();
+		planeToCamera.getT().set(0,5,0);
+
+		var single = new CreateSyntheticOverheadViewPL<>(InterpolationType.BILINEAR,3,GrayF32.class);
+		var concurrent = new CreateSyntheticOverheadViewPL_MT<>(InterpolationType.BILINEAR,3,GrayF32.class);
+
+		single.configure(param,planeToCamera,centerX,centerY,cellSize,overheadW,overheadH);
+		concurrent.configure(param,planeToCamera,centerX,centerY,cellSize,overheadW,overheadH);
+
+		Planar<GrayF32> input = new Planar<>(GrayF32.class,width,height,3);
+		GImageMiscOps.fillUniform(input,rand,0,200);
+
+		Planar<GrayF32> expected = new Planar<>(GrayF32.class,overheadW,overheadH,3);
+		Planar<GrayF32> found = BoofTesting.createSubImageOf(expected);
+
+		single.process(input,expected);
+		concurrent.process(input,found);
+
+		BoofTesting.assertEquals(expected,found,0.0);
+	}
+}
@@ -184,7 +184,7 @@ public class SimulatePlanarWorld {
 			r.rectInCamera();
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			renderMultiThread();
 		} else {
 			renderSingleThread();
@@ -20,13 +20,24 @@ package boofcv.concurrency;
 
 import org.ddogleg.struct.FastQueue;
 
+import javax.annotation.Nullable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
 
 /**
+ * <p>
  * Location of controls for turning on and off concurrent (i.e. threaded) algorithms.
+ * </p>
+ *
+ * <p>
+ * The static settings define the default context. A {@link ConcurrencyContext} can be assigned to a thread with
+ * {@link #useContext}, after which concurrent loops called by that thread run inside the context's thread pool.
+ * Code which decides between a concurrent and single threaded implementation must call
+ * {@link #isUseConcurrent()} and {@link #getSmallImage()} so that the context's settings are honored. The
+ * {@link #USE_CONCURRENT} and {@link #SMALL_IMAGE} fields only configure the default context.
+ * </p>
  *
  * -Djava.util.concurrent.ForkJoinPool.common.parallelism=16
  *
@@ -45,11 +56,15 @@ public class BoofConcurrency {
 	// Custom thread pool for streams so that the number of threads can be controlled
 	private static ForkJoinPool pool = new ForkJoinPool();
 
+	// Context assigned to each thread. If null then the static settings are used
+	static final ThreadLocal<ConcurrencyContext> context = new ThreadLocal<>();
+
 	/**
 	 * Sets the maximum number of threads available in the thread pool and adjusts USE_CONCURRENT. If
 	 * the number of threads is less than 2 then USE_CONCURRENT will be set to false and the single thread
 	 * version of code will be called. Otherwise USE_CONCURRENT will be true and the max threads in the pool
-	 * set to the specified number.
+	 * set to the specified number. This only changes the default context.
+	 *
 	 * @param maxThreads Maximum number of threads. &le 1 means it will not be threaded.
 	 */
 	public static void setMaxThreads( int maxThreads ) {
@@ -62,14 +77,60 @@ public class BoofConcurrency {
 	}
 
 	/**
-	 * Returns the maximum number of threads which can be run at once in this pool
+	 * Returns the maximum number of threads which can be run at once in the current context's pool
 	 */
 	public static int getMaxThreads() {
-		return pool.getParallelism();
+		return pool().getParallelism();
 	}
 
+	/**
+	 * If a concurrent algorithm should be used according to the current context
+	 */
 	public static boolean isUseConcurrent() {
-		return USE_CONCURRENT;
+		ConcurrencyContext c = context.get();
+		return c == null ? USE_CONCURRENT : c.isUseConcurrent();
+	}
+
+	/**
+	 * Images with fewer pixels than this should not be processed concurrently, according to the current context
+	 */
+	public static int getSmallImage() {
+		ConcurrencyContext c = context.get();
+		return c == null ? SMALL_IMAGE : c.getSmallImage();
+	}
+
+	/**
+	 * Assigns the context to the calling thread until the returned scope is closed. Scopes can be nested.
+	 *
+	 * @param context The context. If null then the default context is used.
+	 * @return Closing it restores the previous context
+	 */
+	public static Scope useContext( @Nullable ConcurrencyContext context ) {
+		Scope scope = new Scope(BoofConcurrency.context.get());
+		setContext(context);
+		return scope;
+	}
+
+	/**
+	 * Returns the context assigned to the calling thread or null if it's using the default context
+	 */
+	public static @Nullable ConcurrencyContext getContext() {
+		return context.get();
+	}
+
+	private static void setContext( @Nullable ConcurrencyContext c ) {
+		if( c == null )
+			context.remove();
+		else
+			context.set(c);
+	}
+
+	/**
+	 * Pool used by the calling thread
+	 */
+	static ForkJoinPool pool() {
+		ConcurrencyContext c = context.get();
+		return c == null ? pool : c.pool;
 	}
 
 	/**
@@ -81,7 +142,7 @@ public class BoofConcurrency {
 	 */
 	public static void loopFor(int start , int endExclusive , IntConsumer consumer ) {
 		try {
-			pool.submit(() ->IntStream.range(start, endExclusive).parallel().forEach(consumer)).get();
+			pool().submit(() ->IntStream.range(start, endExclusive).parallel().forEach(consumer)).get();
 		} catch (InterruptedException | ExecutionException e) {
 			e.printStackTrace();
 		}
@@ -97,7 +158,7 @@ public class BoofConcurrency {
 	public static void loopFor(int start , int endExclusive , int step , IntConsumer consumer ) {
 		try {
 			int range = endExclusive-start;
-			pool.submit(() ->IntStream.range(0, range/step).parallel().forEach(i-> consumer.accept(start+i*step))).get();
+			pool().submit(() ->IntStream.range(0, range/step).parallel().forEach(i-> consumer.accept(start+i*step))).get();
 		} catch (InterruptedException | ExecutionException e) {
 			e.printStackTrace();
 		}
@@ -122,7 +183,7 @@ public class BoofConcurrency {
 	 */
 	public static void loopBlocks(int start , int endExclusive , int minBlock,
 								  IntRangeConsumer consumer ) {
-		final ForkJoinPool pool = BoofConcurrency.pool;
+		final ForkJoinPool pool = pool();
 		int numThreads = pool.getParallelism();
 
 		int range = endExclusive-start;
@@ -156,7 +217,7 @@ public class BoofConcurrency {
 	 * @param consumer The consumer
 	 */
 	public static void loopBlocks(int start , int endExclusive , IntRangeConsumer consumer ) {
-		final ForkJoinPool pool = BoofConcurrency.pool;
+		final ForkJoinPool pool = pool();
 		int numThreads = pool.getParallelism();
 
 		int range = endExclusive-start;
@@ -185,7 +246,7 @@ public class BoofConcurrency {
 	 * @param consumer The consumer
 	 */
 	public static <T>void loopBlocks(int start , int endExclusive , FastQueue<T> workspace, IntRangeObjectConsumer<T> consumer ) {
-		final ForkJoinPool pool = BoofConcurrency.pool;
+		final ForkJoinPool pool = pool();
 		int numThreads = pool.getParallelism();
 
 		int range = endExclusive-start;
@@ -216,7 +277,7 @@ public class BoofConcurrency {
 	 */
 	public static <T>void loopBlocks(int start , int endExclusive , int minBlock ,
 									 FastQueue<T> workspace, IntRangeObjectConsumer<T> consumer ) {
-		final ForkJoinPool pool = BoofConcurrency.pool;
+		final ForkJoinPool pool = pool();
 		int numThreads = pool.getParallelism();
 
 		int range = endExclusive-start;
@@ -245,7 +306,7 @@ public class BoofConcurrency {
 	 */
 	public static Number sum(int start , int endExclusive , Class type, IntProducerNumber producer ) {
 		try {
-			return pool.submit(new IntOperatorTask.Sum(start,endExclusive,type,producer)).get();
+			return pool().submit(new IntOperatorTask.Sum(start,endExclusive,type,producer)).get();
 		} catch (InterruptedException | ExecutionException e) {
 			throw new RuntimeException(e);
 		}
@@ -262,7 +323,7 @@ public class BoofConcurrency {
 	 */
 	public static Number max(int start , int endExclusive , Class type, IntProducerNumber producer ) {
 		try {
-			return pool.submit(new IntOperatorTask.Max(start,endExclusive,type,producer)).get();
+			return pool().submit(new IntOperatorTask.Max(start,endExclusive,type,producer)).get();
 		} catch (InterruptedException | ExecutionException e) {
 			throw new RuntimeException(e);
 		}
@@ -279,10 +340,25 @@ public class BoofConcurrency {
 	 */
 	public static Number min(int start , int endExclusive , Class type, IntProducerNumber producer ) {
 		try {
-			return pool.submit(new IntOperatorTask.Min(start,endExclusive,type,producer)).get();
+			return pool().submit(new IntOperatorTask.Min(start,endExclusive,type,producer)).get();
 		} catch (InterruptedException | ExecutionException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Restores the previous context when closed. See {@link #useContext}.
+	 */
+	public static class Scope implements AutoCloseable {
+		final @Nullable ConcurrencyContext previous;
+
+		Scope( @Nullable ConcurrencyContext previous ) {
+			this.previous = previous;
+		}
+
+		@Override
+		public void close() {
+			setContext(previous);
+		}
+	}
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * <p>
+ * Thread pool and settings used by the concurrent loops in {@link BoofConcurrency}. Different contexts can be used
+ * to limit separate pipelines running in the same JVM to their own set of threads. When no context has been
+ * assigned to a thread the static settings in {@link BoofConcurrency} are used.
+ * </p>
+ *
+ * <pre>
+ * ConcurrencyContext context = new ConcurrencyContext(4);
+ * try( var scope = BoofConcurrency.useContext(context) ) {
+ *     detector.process(image);
+ * }
+ * </pre>
+ *
+ * <p>
+ * Threads in the context's pool are automatically assigned to the context, so nested loops use the same pool.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConcurrencyContext {
+	// Pool that loops are run inside of
+	final ForkJoinPool pool;
+	// If an image has fewer pixels than this it will not run a concurrent algorithm
+	final int smallImage;
+
+	/**
+	 * Creates a context with its own thread pool
+	 *
+	 * @param maxThreads Maximum number of threads. &le; 1 means concurrent algorithms will not be used.
+	 * @param smallImage Images with fewer pixels than this are not processed concurrently.
+	 */
+	public ConcurrencyContext( int maxThreads, int smallImage ) {
+		this.smallImage = smallImage;
+		this.pool = new ForkJoinPool(Math.max(1, maxThreads), p -> new Worker(p, this), null, false);
+	}
+
+	/**
+	 * Creates a context with its own thread pool and the default small image size
+	 *
+	 * @param maxThreads Maximum number of threads. &le; 1 means concurrent algorithms will not be used.
+	 */
+	public ConcurrencyContext( int maxThreads ) {
+		this(maxThreads, BoofConcurrency.SMALL_IMAGE);
+	}
+
+	/**
+	 * Runs the code with this context assigned to the calling thread
+	 */
+	public void run( Runnable code ) {
+		try (BoofConcurrency.Scope ignored = BoofConcurrency.useContext(this)) {
+			code.run();
+		}
+	}
+
+	/**
+	 * If false then algorithms should not use their concurrent implementation
+	 */
+	public boolean isUseConcurrent() {
+		return pool.getParallelism() > 1;
+	}
+
+	public int getMaxThreads() {
+		return pool.getParallelism();
+	}
+
+	public int getSmallImage() {
+		return smallImage;
+	}
+
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Stops the threads in the pool once they are done with their current task
+	 */
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Assigns the context to each thread in its pool
+	 */
+	private static class Worker extends ForkJoinWorkerThread {
+		final ConcurrencyContext context;
+
+		Worker( ForkJoinPool pool, ConcurrencyContext context ) {
+			super(pool);
+			this.context = context;
+		}
+
+		@Override
+		protected void onStart() {
+			super.onStart();
+			BoofConcurrency.context.set(context);
+		}
+	}
+}
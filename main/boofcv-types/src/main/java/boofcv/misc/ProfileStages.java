@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.misc;
+
+/**
+ * Algorithms which can report the time spent in their internal stages to a {@link StageProfiler}. Stage names
+ * are prefixed by the algorithm, e.g. "klt.track". Algorithms which don't support it ignore the profiler.
+ *
+ * @author Peter Abeles
+ */
+public interface ProfileStages {
+	/**
+	 * Specifies where the time spent in each stage is reported. Stages are registered when this is called.
+	 *
+	 * @param profiler The profiler. {@link StageProfiler#NONE} to turn off profiling.
+	 */
+	default void setStageProfiler( StageProfiler profiler ) {}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.misc;
+
+/**
+ * <p>
+ * Receives the time spent inside named stages of an algorithm. Stages are looked up once when the profiler
+ * is assigned and referred to by their index afterwards, so recording a time doesn't create any objects. By
+ * default algorithms use {@link #NONE}, which doesn't even read the clock.
+ * </p>
+ *
+ * <pre>
+ * long time = profiler.start();
+ * computeBinary();
+ * time = profiler.lap(stageBinary, time);
+ * findContours();
+ * profiler.lap(stageContour, time);
+ * </pre>
+ *
+ * @author Peter Abeles
+ * @see StageProfilerRecorder
+ * @see ProfileStages
+ */
+public interface StageProfiler {
+	/**
+	 * Profiler which does nothing
+	 */
+	StageProfiler NONE = new StageProfiler() {
+		@Override public int stage( String name ) { return 0; }
+
+		@Override public void record( int stage, long elapsedNano ) {}
+
+		@Override public boolean isEnabled() { return false; }
+	};
+
+	/**
+	 * Returns the index of the stage with this name, adding it if it's unknown. Might create new objects, so call
+	 * it when the profiler is assigned and not while processing.
+	 *
+	 * @param name Unique name of the stage, e.g. "qrcode.binary"
+	 * @return index of the stage
+	 */
+	int stage( String name );
+
+	/**
+	 * Adds time spent in a stage
+	 *
+	 * @param stage Index of the stage
+	 * @param elapsedNano Time spent in the stage in nanoseconds
+	 */
+	void record( int stage, long elapsedNano );
+
+	/**
+	 * If false then times are ignored and there's no need to read the clock
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Returns the current time in nanoseconds, or 0 if it's not enabled
+	 */
+	default long start() {
+		return isEnabled() ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the time since 'startNano' for the stage and returns the current time, so that the next stage
+	 * can be timed from it.
+	 *
+	 * @param stage Index of the stage
+	 * @param startNano Value returned by {@link #start()} or a previous call to lap
+	 * @return The current time in nanoseconds, or 0 if it's not enabled
+	 */
+	default long lap( int stage, long startNano ) {
+		if( !isEnabled() )
+			return 0;
+		long now = System.nanoTime();
+		record(stage, now - startNano);
+		return now;
+	}
+}
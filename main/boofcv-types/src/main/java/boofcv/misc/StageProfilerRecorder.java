@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.misc;
+
+import javax.annotation.Nullable;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * {@link StageProfiler} which keeps the number of calls, total time, minimum time, and maximum time for each
+ * stage. Optionally a histogram of times is kept, where bin 'i' counts times from 2<sup>i</sup> up to
+ * 2<sup>i+1</sup> nanoseconds. Recording doesn't create new objects.
+ * </p>
+ *
+ * <p>
+ * All functions are thread safe, so statistics can be polled from a different thread, e.g. by a metrics
+ * system, using {@link #export}. The same recorder can be shared by multiple algorithms.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class StageProfilerRecorder implements StageProfiler {
+	/**
+	 * Number of bins in the histogram. The last bin contains all times &ge; 2<sup>39</sup> ns, about 9 minutes.
+	 */
+	public static final int HISTOGRAM_BINS = 40;
+
+	// should a histogram of times be computed
+	final boolean histogram;
+	// statistics for each stage. Index in the list is the stage's index
+	final List<Stage> stages = new ArrayList<>();
+	// If false times are not recorded
+	volatile boolean enabled = true;
+
+	/**
+	 * @param histogram If true then a histogram of times is kept for each stage
+	 */
+	public StageProfilerRecorder( boolean histogram ) {
+		this.histogram = histogram;
+	}
+
+	public StageProfilerRecorder() {
+		this(false);
+	}
+
+	@Override
+	public synchronized int stage( String name ) {
+		for (int i = 0; i < stages.size(); i++) {
+			if( stages.get(i).name.equals(name) )
+				return i;
+		}
+		stages.add(new Stage(name, histogram));
+		return stages.size() - 1;
+	}
+
+	@Override
+	public synchronized void record( int stage, long elapsedNano ) {
+		Stage s = stages.get(stage);
+		s.count++;
+		s.totalNano += elapsedNano;
+		s.minNano = Math.min(s.minNano, elapsedNano);
+		s.maxNano = Math.max(s.maxNano, elapsedNano);
+		if( s.histogram != null ) {
+			s.histogram[histogramBin(elapsedNano)]++;
+		}
+	}
+
+	/**
+	 * Bin in the histogram for the time
+	 */
+	static int histogramBin( long elapsedNano ) {
+		int bin = 63 - Long.numberOfLeadingZeros(Math.max(1, elapsedNano));
+		return Math.min(HISTOGRAM_BINS - 1, bin);
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled( boolean enabled ) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Passes the statistics of every stage to the exporter. Stages which haven't been called are included.
+	 */
+	public synchronized void export( Exporter exporter ) {
+		for (int i = 0; i < stages.size(); i++) {
+			Stage s = stages.get(i);
+			exporter.stage(s.name, s.count, s.totalNano,
+					s.count == 0 ? 0 : s.minNano, s.count == 0 ? 0 : s.maxNano, s.histogram);
+		}
+	}
+
+	/**
+	 * Sets all the statistics to zero. Stages are not removed.
+	 */
+	public synchronized void reset() {
+		for (int i = 0; i < stages.size(); i++) {
+			stages.get(i).reset();
+		}
+	}
+
+	/**
+	 * Prints a table with the average time of each stage in milliseconds
+	 */
+	public void printSummary( PrintStream out ) {
+		out.printf("%-30s %8s %10s %10s %10s\n", "stage", "count", "mean ms", "min ms", "max ms");
+		export(( name, count, totalNano, minNano, maxNano, histogram ) -> {
+			double mean = count == 0 ? 0 : totalNano*1e-6/count;
+			out.printf("%-30s %8d %10.3f %10.3f %10.3f\n", name, count, mean, minNano*1e-6, maxNano*1e-6);
+		});
+	}
+
+	public synchronized int getNumberOfStages() {
+		return stages.size();
+	}
+
+	public synchronized String getStageName( int stage ) {
+		return stages.get(stage).name;
+	}
+
+	public synchronized long getCount( int stage ) {
+		return stages.get(stage).count;
+	}
+
+	public synchronized long getTotalNano( int stage ) {
+		return stages.get(stage).totalNano;
+	}
+
+	public boolean isHistogram() {
+		return histogram;
+	}
+
+	/**
+	 * Receives statistics for a stage
+	 */
+	@FunctionalInterface
+	public interface Exporter {
+		/**
+		 * @param name Name of the stage
+		 * @param count Number of times the stage was recorded
+		 * @param totalNano Total time spent in the stage
+		 * @param minNano Shortest time, or 0 if count is 0
+		 * @param maxNano Longest time, or 0 if count is 0
+		 * @param histogram Number of times in each bin, or null if not enabled. Don't modify or save a reference.
+		 */
+		void stage( String name, long count, long totalNano, long minNano, long maxNano,
+					@Nullable long[] histogram );
+	}
+
+	/**
+	 * Statistics for a single stage
+	 */
+	static class Stage {
+		final String name;
+		long count;
+		long totalNano;
+		long minNano;
+		long maxNano;
+		final @Nullable long[] histogram;
+
+		Stage( String name, boolean histogram ) {
+			this.name = name;
+			this.histogram = histogram ? new long[HISTOGRAM_BINS] : null;
+			reset();
+		}
+
+		void reset() {
+			count = 0;
+			totalNano = 0;
+			minNano = Long.MAX_VALUE;
+			maxNano = 0;
+			if( histogram != null )
+				Arrays.fill(histogram, 0);
+		}
+	}
+}
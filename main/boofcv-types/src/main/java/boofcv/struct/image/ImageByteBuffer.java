@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import boofcv.concurrency.BoofConcurrency;
+
+import javax.annotation.Nullable;
+import java.nio.*;
+
+/**
+ * <p>
+ * Describes a gray or interleaved image stored inside a {@link ByteBuffer}, such as a frame from a camera driver
+ * or native library, without copying it. Offset and stride are in bytes. Multi-byte pixels are read using the
+ * buffer's byte order.
+ * </p>
+ *
+ * <p>
+ * Algorithms need the pixels in an array. If the buffer is backed by a heap byte array and the pixels are 8-bit,
+ * then {@link #view} creates an image which shares the array and nothing is copied. Otherwise the rows are
+ * copied using bulk transfers with {@link #copyTo}, or a few rows at a time with {@link #processStrips} so that
+ * only a small part of a large image is in memory at once. As a {@link LargeImage} it can be accessed a region
+ * at a time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImageByteBuffer<T extends ImageBase<T>> implements LargeImage<T> {
+	/**
+	 * Called for each block of rows by {@link #processStrips}
+	 */
+	@FunctionalInterface
+	public interface StripProcessor<T> {
+		/**
+		 * @param strip Image containing rows y0 to y1-1
+		 * @param y0 First row in the strip, inclusive
+		 * @param y1 Last row in the strip, exclusive
+		 */
+		void process( T strip, int y0, int y1 );
+	}
+
+	// Type of image the pixels are stored as
+	final ImageType<T> imageType;
+	// number of bytes in each element
+	final int bytesPerElement;
+
+	ByteBuffer buffer;
+	int width, height;
+	// location of the first pixel in bytes
+	int offset;
+	// bytes between the start of each row
+	int stride;
+
+	public ImageByteBuffer( ImageType<T> imageType ) {
+		if( imageType.getFamily() == ImageType.Family.PLANAR )
+			throw new IllegalArgumentException("Planar images are not supported");
+		this.imageType = imageType;
+		this.bytesPerElement = imageType.getDataType().getNumBits()/8;
+	}
+
+	/**
+	 * Allocates a direct buffer in the native byte order with no padding between rows
+	 */
+	public static <T extends ImageBase<T>> ImageByteBuffer<T> allocate( ImageType<T> imageType, int width, int height ) {
+		ImageByteBuffer<T> out = new ImageByteBuffer<>(imageType);
+		int stride = width*out.getNumBands()*out.bytesPerElement;
+		ByteBuffer buffer = ByteBuffer.allocateDirect(stride*height).order(ByteOrder.nativeOrder());
+		return out.wrap(buffer, width, height, 0, stride);
+	}
+
+	/**
+	 * Specifies the memory that the image is stored in. The buffer's position and limit are ignored.
+	 *
+	 * @param buffer Buffer containing the pixels
+	 * @param width Image width
+	 * @param height Image height
+	 * @param offset Byte index of the first pixel
+	 * @param stride Number of bytes between the start of each row
+	 * @return this
+	 */
+	public ImageByteBuffer<T> wrap( ByteBuffer buffer, int width, int height, int offset, int stride ) {
+		if( width < 0 || height < 0 || offset < 0 )
+			throw new IllegalArgumentException("Negative shape or offset");
+		int rowBytes = width*getNumBands()*bytesPerElement;
+		if( stride < rowBytes )
+			throw new IllegalArgumentException("Stride is less than the number of bytes in a row");
+		if( offset%bytesPerElement != 0 || stride%bytesPerElement != 0 )
+			throw new IllegalArgumentException("Offset and stride must be a multiple of the element size");
+		if( height > 0 && offset + (long)(height - 1)*stride + rowBytes > buffer.capacity() )
+			throw new IllegalArgumentException("Buffer is too small");
+
+		this.buffer = buffer;
+		this.width = width;
+		this.height = height;
+		this.offset = offset;
+		this.stride = stride;
+		return this;
+	}
+
+	/**
+	 * Returns true if {@link #view} can be called, i.e. the pixels are 8-bit and stored in an accessible array
+	 */
+	public boolean isViewable() {
+		return bytesPerElement == 1 && buffer.hasArray();
+	}
+
+	/**
+	 * Makes 'output' reference the same memory as the buffer. Nothing is copied and changes to one are seen by the
+	 * other. The output is marked as a sub-image so that it can't be reshaped.
+	 *
+	 * @param output (Optional) Storage for the view. Its array is replaced.
+	 * @return The view
+	 * @throws IllegalArgumentException if {@link #isViewable()} is false
+	 */
+	public T view( @Nullable T output ) {
+		if( !isViewable() )
+			throw new IllegalArgumentException("Pixels must be 8-bit and stored in an accessible array");
+		if( output == null )
+			output = imageType.createImage(1, 1);
+		checkCompatible(output);
+
+		if( output instanceof GrayI8 ) {
+			((GrayI8)output).data = buffer.array();
+		} else {
+			((InterleavedI8)output).data = buffer.array();
+		}
+		output.startIndex = buffer.arrayOffset() + offset;
+		output.stride = stride;
+		output.width = width;
+		output.height = height;
+		output.subImage = true;
+		return output;
+	}
+
+	/**
+	 * Returns a view if possible, otherwise copies the pixels into 'storage'. Use this to pass the image into any
+	 * algorithm.
+	 *
+	 * @param storage (Optional) Storage for the image. Must not be a sub-image, since it might be reshaped.
+	 * @return Image containing the pixels
+	 */
+	public T toImage( @Nullable T storage ) {
+		if( isViewable() )
+			return view(storage);
+		return copyTo(storage);
+	}
+
+	/**
+	 * Copies the pixels into the image
+	 *
+	 * @param output (Optional) The output image. Reshaped to match.
+	 * @return The output image
+	 */
+	public T copyTo( @Nullable T output ) {
+		if( output == null )
+			output = imageType.createImage(width, height);
+		checkCompatible(output);
+		output.reshape(width, height);
+
+		final T dst = output;
+		if( BoofConcurrency.isUseConcurrent() && width*height > BoofConcurrency.getSmallImage() ) {
+			BoofConcurrency.loopBlocks(0, height, ( y0, y1 ) -> transferRows(dst, y0, y1, true));
+		} else {
+			transferRows(dst, 0, height, true);
+		}
+		return output;
+	}
+
+	/**
+	 * Copies the pixels from the image into the buffer
+	 *
+	 * @param input Image with the same shape as this one. Not modified.
+	 */
+	public void copyFrom( T input ) {
+		checkCompatible(input);
+		if( input.width != width || input.height != height )
+			throw new IllegalArgumentException("Input must have the same shape");
+		if( buffer.isReadOnly() )
+			throw new ReadOnlyBufferException();
+
+		if( BoofConcurrency.isUseConcurrent() && width*height > BoofConcurrency.getSmallImage() ) {
+			BoofConcurrency.loopBlocks(0, height, ( y0, y1 ) -> transferRows(input, y0, y1, false));
+		} else {
+			transferRows(input, 0, height, false);
+		}
+	}
+
+	/**
+	 * Creates a view of a rectangular region inside this image. No pixels are copied.
+	 *
+	 * @param x0 Lower x-coordinate, inclusive
+	 * @param y0 Lower y-coordinate, inclusive
+	 * @param x1 Upper x-coordinate, exclusive
+	 * @param y1 Upper y-coordinate, exclusive
+	 * @param output (Optional) Storage for the sub-image
+	 * @return The sub-image
+	 */
+	public ImageByteBuffer<T> subimage( int x0, int y0, int x1, int y1, @Nullable ImageByteBuffer<T> output ) {
+		if( x0 < 0 || y0 < 0 || x1 > width || y1 > height || x1 < x0 || y1 < y0 )
+			throw new IllegalArgumentException("Region is outside the image or has a negative size");
+		if( output == null )
+			output = new ImageByteBuffer<>(imageType);
+		int pixelBytes = getNumBands()*bytesPerElement;
+		return output.wrap(buffer, x1 - x0, y1 - y0, offset + y0*stride + x0*pixelBytes, stride);
+	}
+
+	@Override
+	public void readRegion( int x0, int y0, int x1, int y1, T output ) {
+		subimage(x0, y0, x1, y1, null).copyTo(output);
+	}
+
+	@Override
+	public void writeRegion( int x0, int y0, T input ) {
+		subimage(x0, y0, x0 + input.width, y0 + input.height, null).copyFrom(input);
+	}
+
+	/**
+	 * Splits the image into strips of rows and passes each one to the processor. If the image can be viewed
+	 * then the entire image is passed in at once, otherwise the rows are copied into 'work' first. Only one
+	 * strip is in memory at any time.
+	 *
+	 * @param stripRows Maximum number of rows in a strip. If &le; 0 then {@link #defaultStripRows()} is used.
+	 * @param work (Optional) Storage for a strip. Must not be a sub-image.
+	 * @param processor Processes each strip
+	 */
+	public void processStrips( int stripRows, @Nullable T work, StripProcessor<T> processor ) {
+		if( isViewable() ) {
+			processor.process(view(work), 0, height);
+			return;
+		}
+		if( stripRows <= 0 )
+			stripRows = defaultStripRows();
+
+		ImageByteBuffer<T> strip = new ImageByteBuffer<>(imageType);
+		for (int y0 = 0; y0 < height; y0 += stripRows) {
+			int y1 = Math.min(height, y0 + stripRows);
+			work = subimage(0, y0, width, y1, strip).copyTo(work);
+			processor.process(work, y0, y1);
+		}
+	}
+
+	/**
+	 * Number of rows in a strip so that it's about 256 KiB, which should fit inside a CPU cache
+	 */
+	public int defaultStripRows() {
+		int rowBytes = Math.max(1, width*getNumBands()*bytesPerElement);
+		return Math.max(1, (256*1024)/rowBytes);
+	}
+
+	/**
+	 * Copies rows between the buffer and an image. Each call uses its own view of the buffer so that multiple
+	 * threads can transfer at once.
+	 *
+	 * @param toImage true to copy from the buffer into the image, false to go the other way
+	 */
+	void transferRows( T image, int y0, int y1, boolean toImage ) {
+		ByteBuffer bb = buffer.duplicate().order(buffer.order());
+		bb.clear();
+
+		final int columns = width*getNumBands();
+		switch( imageType.getDataType() ) {
+			case U8: case S8: {
+				byte[] data = image instanceof GrayI8 ? ((GrayI8)image).data : ((InterleavedI8)image).data;
+				for (int y = y0; y < y1; y++) {
+					bb.position(offset + y*stride);
+					if( toImage ) bb.get(data, image.startIndex + y*image.stride, columns);
+					else bb.put(data, image.startIndex + y*image.stride, columns);
+				}
+			} break;
+
+			case U16: case S16: {
+				short[] data = image instanceof GrayI16 ? ((GrayI16)image).data : ((InterleavedI16)image).data;
+				ShortBuffer typed = bb.asShortBuffer();
+				for (int y = y0; y < y1; y++) {
+					typed.position((offset + y*stride)/2);
+					if( toImage ) typed.get(data, image.startIndex + y*image.stride, columns);
+					else typed.put(data, image.startIndex + y*image.stride, columns);
+				}
+			} break;
+
+			case S32: {
+				int[] data = image instanceof GrayS32 ? ((GrayS32)image).data : ((InterleavedS32)image).data;
+				IntBuffer typed = bb.asIntBuffer();
+				for (int y = y0; y < y1; y++) {
+					typed.position((offset + y*stride)/4);
+					if( toImage ) typed.get(data, image.startIndex + y*image.stride, columns);
+					else typed.put(data, image.startIndex + y*image.stride, columns);
+				}
+			} break;
+
+			case S64: {
+				long[] data = image instanceof GrayS64 ? ((GrayS64)image).data : ((InterleavedS64)image).data;
+				LongBuffer typed = bb.asLongBuffer();
+				for (int y = y0; y < y1; y++) {
+					typed.position((offset + y*stride)/8);
+					if( toImage ) typed.get(data, image.startIndex + y*image.stride, columns);
+					else typed.put(data, image.startIndex + y*image.stride, columns);
+				}
+			} break;
+
+			case F32: {
+				float[] data = image instanceof GrayF32 ? ((GrayF32)image).data : ((InterleavedF32)image).data;
+				FloatBuffer typed = bb.asFloatBuffer();
+				for (int y = y0; y < y1; y++) {
+					typed.position((offset + y*stride)/4);
+					if( toImage ) typed.get(data, image.startIndex + y*image.stride, columns);
+					else typed.put(data, image.startIndex + y*image.stride, columns);
+				}
+			} break;
+
+			case F64: {
+				double[] data = image instanceof GrayF64 ? ((GrayF64)image).data : ((InterleavedF64)image).data;
+				DoubleBuffer typed = bb.asDoubleBuffer();
+				for (int y = y0; y < y1; y++) {
+					typed.position((offset + y*stride)/8);
+					if( toImage ) typed.get(data, image.startIndex + y*image.stride, columns);
+					else typed.put(data, image.startIndex + y*image.stride, columns);
+				}
+			} break;
+
+			default:
+				throw new RuntimeException("Unsupported data type " + imageType.getDataType());
+		}
+	}
+
+	void checkCompatible( T image ) {
+		ImageType<?> type = image.getImageType();
+		if( type.getFamily() != imageType.getFamily() || type.getDataType() != imageType.getDataType() )
+			throw new IllegalArgumentException("Image type doesn't match. " + type + " vs " + imageType);
+		if( type.getFamily() == ImageType.Family.INTERLEAVED && type.getNumBands() != imageType.getNumBands() )
+			throw new IllegalArgumentException("Number of bands doesn't match");
+	}
+
+	public int getNumBands() {
+		return imageType.getFamily() == ImageType.Family.GRAY ? 1 : imageType.getNumBands();
+	}
+
+	@Override
+	public ImageType<T> getImageType() {
+		return imageType;
+	}
+
+	public ByteBuffer getBuffer() {
+		return buffer;
+	}
+
+	@Override
+	public int getWidth() {
+		return width;
+	}
+
+	@Override
+	public int getHeight() {
+		return height;
+	}
+
+	public int getOffset() {
+		return offset;
+	}
+
+	public int getStride() {
+		return stride;
+	}
+}
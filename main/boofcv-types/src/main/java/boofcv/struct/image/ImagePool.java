@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Pool of images which can be borrowed and then returned, so that short lived algorithms don't need to declare
+ * new images each time they are used. Images are matched by their {@link ImageType} and shape. If no image
+ * with the exact shape is available then an image of the same type with enough storage is reshaped. A new
+ * image is declared only if neither is available.
+ * </p>
+ *
+ * <p>
+ * Each thread keeps a small number of returned images which only it can borrow, avoiding the lock for the
+ * common case of an image being borrowed and returned by the same thread. Additional images are moved into
+ * a shared list which is bounded in size. When full, the image which was returned the longest time ago is
+ * discarded. All functions are thread safe.
+ * </p>
+ *
+ * <p>
+ * Sub-images can't be returned to the pool. After an image has been returned it must not be used again.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class ImagePool {
+	// Maximum number of images stored in the shared list
+	final int maxShared;
+	// Maximum number of images stored by each thread
+	final int maxPerThread;
+
+	// Images which can be borrowed by any thread. Ordered from the least to the most recently returned
+	final List<ImageBase> shared = new ArrayList<>();
+	// Images which can only be borrowed by the thread which returned them
+	final ThreadLocal<List<ImageBase>> local = ThreadLocal.withInitial(ArrayList::new);
+
+	// Number of times an image was borrowed that was in the pool
+	final AtomicLong hits = new AtomicLong();
+	// Number of times a new image needed to be declared
+	final AtomicLong misses = new AtomicLong();
+	// Number of images discarded because the pool was full
+	final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * Creates a pool
+	 *
+	 * @param maxShared Maximum number of images stored in the shared list. Try 32
+	 * @param maxPerThread Maximum number of images stored by each thread. 0 disables the per-thread cache. Try 4
+	 */
+	public ImagePool( int maxShared, int maxPerThread ) {
+		if( maxShared < 0 || maxPerThread < 0 )
+			throw new IllegalArgumentException("Maximum number of images can't be negative");
+		this.maxShared = maxShared;
+		this.maxPerThread = maxPerThread;
+	}
+
+	public ImagePool() {
+		this(32, 4);
+	}
+
+	/**
+	 * Borrows an image with the specified type and shape. The contents of the image are not defined.
+	 *
+	 * @param type Type of image
+	 * @param width Image width
+	 * @param height Image height
+	 * @return An image which is owned by the caller until it's returned with {@link #release}.
+	 */
+	public <T extends ImageBase<T>> T borrow( ImageType<T> type, int width, int height ) {
+		ImageBase found = null;
+		if( maxPerThread > 0 ) {
+			found = take(local.get(), type, width, height);
+		}
+		if( found == null ) {
+			synchronized (shared) {
+				found = take(shared, type, width, height);
+			}
+		}
+
+		if( found == null ) {
+			misses.incrementAndGet();
+			return type.createImage(width, height);
+		}
+
+		hits.incrementAndGet();
+		found.reshape(width, height);
+		return (T)found;
+	}
+
+	/**
+	 * Borrows a single band image. See {@link #borrow(ImageType, int, int)}.
+	 */
+	public <T extends ImageGray<T>> T borrow( Class<T> type, int width, int height ) {
+		return borrow(ImageType.single(type), width, height);
+	}
+
+	/**
+	 * Returns an image to the pool so that it can be borrowed again. The image doesn't need to have come from
+	 * the pool.
+	 *
+	 * @param image The image. If null nothing happens.
+	 */
+	public void release( @Nullable ImageBase image ) {
+		if( image == null )
+			return;
+		if( image.isSubimage() )
+			throw new IllegalArgumentException("Sub-images can't be returned to the pool");
+
+		if( maxPerThread > 0 ) {
+			List<ImageBase> cache = local.get();
+			cache.add(image);
+			if( cache.size() <= maxPerThread )
+				return;
+			// move the least recently returned image into the shared list
+			image = cache.remove(0);
+		}
+
+		synchronized (shared) {
+			shared.add(image);
+			if( shared.size() > maxShared ) {
+				shared.remove(0);
+				evictions.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Returns all the images to the pool. Null elements are skipped.
+	 */
+	public void release( ImageBase... images ) {
+		for (int i = 0; i < images.length; i++) {
+			release(images[i]);
+		}
+	}
+
+	/**
+	 * Removes the best match from the list. The most recently returned image with the exact same shape is
+	 * preferred. Otherwise the most recently returned image which can be reshaped without declaring memory.
+	 *
+	 * @return The image or null if none matched
+	 */
+	static @Nullable ImageBase take( List<ImageBase> images, ImageType type, int width, int height ) {
+		int bestIndex = -1;
+		for (int i = images.size() - 1; i >= 0; i--) {
+			ImageBase image = images.get(i);
+			if( !isSameType(image.getImageType(), type) )
+				continue;
+			if( image.width == width && image.height == height ) {
+				bestIndex = i;
+				break;
+			}
+			if( bestIndex == -1 && pixelCapacity(image) >= width*height )
+				bestIndex = i;
+		}
+		if( bestIndex == -1 )
+			return null;
+		return images.remove(bestIndex);
+	}
+
+	static boolean isSameType( ImageType a, ImageType b ) {
+		if( a.getFamily() != b.getFamily() || a.getDataType() != b.getDataType() )
+			return false;
+		return a.getFamily() == ImageType.Family.GRAY || a.getNumBands() == b.getNumBands();
+	}
+
+	/**
+	 * Number of pixels the image can store without declaring more memory
+	 */
+	static int pixelCapacity( ImageBase image ) {
+		if( image instanceof ImageGray ) {
+			return Array.getLength(((ImageGray)image)._getData());
+		} else if( image instanceof ImageInterleaved ) {
+			ImageInterleaved il = (ImageInterleaved)image;
+			return il.numBands == 0 ? 0 : Array.getLength(il._getData())/il.numBands;
+		} else if( image instanceof Planar ) {
+			Planar pl = (Planar)image;
+			return pl.getNumBands() == 0 ? 0 : pixelCapacity(pl.getBand(0));
+		}
+		return 0;
+	}
+
+	/**
+	 * Discards all images in the shared list and in the calling thread's list. Other threads' images are not
+	 * discarded.
+	 */
+	public void clear() {
+		local.get().clear();
+		synchronized (shared) {
+			shared.clear();
+		}
+	}
+
+	/**
+	 * Resets the hit, miss, and eviction counters
+	 */
+	public void resetCounters() {
+		hits.set(0);
+		misses.set(0);
+		evictions.set(0);
+	}
+
+	/**
+	 * Number of images stored in the shared list
+	 */
+	public int getSharedSize() {
+		synchronized (shared) {
+			return shared.size();
+		}
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	public int getMaxShared() {
+		return maxShared;
+	}
+
+	public int getMaxPerThread() {
+		return maxPerThread;
+	}
+}
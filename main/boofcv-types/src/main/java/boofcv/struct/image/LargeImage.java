@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+/**
+ * An image which is too large to be stored in a single {@link ImageBase}, so its pixels are read and written a
+ * rectangular region at a time. Implementations must allow different threads to access different regions at the
+ * same time.
+ *
+ * @author Peter Abeles
+ * @see ImageByteBuffer
+ * @see TileCache
+ */
+public interface LargeImage<T extends ImageBase<T>> {
+	/**
+	 * Copies the pixels inside the region into 'output'
+	 *
+	 * @param x0 Lower x-coordinate, inclusive
+	 * @param y0 Lower y-coordinate, inclusive
+	 * @param x1 Upper x-coordinate, exclusive
+	 * @param y1 Upper y-coordinate, exclusive
+	 * @param output Storage for the region. Reshaped to (x1-x0) by (y1-y0).
+	 */
+	void readRegion( int x0, int y0, int x1, int y1, T output );
+
+	/**
+	 * Copies an image into the region which has its lower extent at (x0,y0)
+	 *
+	 * @param x0 Lower x-coordinate, inclusive
+	 * @param y0 Lower y-coordinate, inclusive
+	 * @param input The pixels being written. Not modified.
+	 */
+	void writeRegion( int x0, int y0, T input );
+
+	int getWidth();
+
+	int getHeight();
+
+	ImageType<T> getImageType();
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Keeps recently used tiles of a {@link LargeImage} in memory. The image is divided into a grid of tiles and a
+ * tile is read from the source the first time a region that overlaps it is requested. When more than the maximum
+ * number of tiles are cached, the least recently used tile is discarded. Useful when the same area is accessed
+ * repeatedly, e.g. overlapping regions or random access into a memory mapped file.
+ * </p>
+ *
+ * <p>
+ * Writes go straight to the source and discard any cached tiles they overlap. Thread safe, including when reads
+ * and writes are mixed. A tile which was read from the source while a write to it was in progress isn't cached.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class TileCache<T extends ImageBase<T>> implements LargeImage<T> {
+	final LargeImage<T> source;
+	final int tileWidth, tileHeight;
+	// number of tiles along each axis
+	final int tilesX, tilesY;
+	// maximum number of tiles that can be cached
+	int maxTiles;
+
+	// The key is the tile's index. In access order so that the eldest is the least recently used
+	final LinkedHashMap<Integer, T> tiles = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry( Map.Entry<Integer, T> eldest ) {
+			return size() > maxTiles;
+		}
+	};
+
+	// Incremented for a tile each time it's written to. Used to detect writes while a tile is being read
+	final int[] generation;
+
+	// statistics on how effective the cache is
+	long hits, misses;
+
+	/**
+	 * @param source The image that's being cached
+	 * @param tileWidth Width of a tile
+	 * @param tileHeight Height of a tile
+	 * @param maxTiles Maximum number of tiles kept in memory
+	 */
+	public TileCache( LargeImage<T> source, int tileWidth, int tileHeight, int maxTiles ) {
+		if( tileWidth <= 0 || tileHeight <= 0 || maxTiles <= 0 )
+			throw new IllegalArgumentException("Tile size and maximum number of tiles must be positive");
+		this.source = source;
+		this.tileWidth = tileWidth;
+		this.tileHeight = tileHeight;
+		this.maxTiles = maxTiles;
+		this.tilesX = (source.getWidth() + tileWidth - 1)/tileWidth;
+		this.tilesY = (source.getHeight() + tileHeight - 1)/tileHeight;
+		this.generation = new int[tilesX*tilesY];
+	}
+
+	/**
+	 * Returns the tile at the specified grid coordinate. Tiles along the right and bottom edges might be smaller.
+	 * The returned image is shared and must not be modified.
+	 *
+	 * @param col Tile column
+	 * @param row Tile row
+	 */
+	public T getTile( int col, int row ) {
+		if( col < 0 || row < 0 || col >= tilesX || row >= tilesY )
+			throw new IllegalArgumentException("Tile is outside the image");
+		int key = row*tilesX + col;
+
+		int expectedGeneration;
+		synchronized (this) {
+			T tile = tiles.get(key);
+			if( tile != null ) {
+				hits++;
+				return tile;
+			}
+			misses++;
+			expectedGeneration = generation[key];
+		}
+
+		// read outside the lock so that other threads aren't blocked. The same tile might be read twice
+		int x0 = col*tileWidth, y0 = row*tileHeight;
+		int x1 = Math.min(x0 + tileWidth, source.getWidth());
+		int y1 = Math.min(y0 + tileHeight, source.getHeight());
+		T tile = source.getImageType().createImage(x1 - x0, y1 - y0);
+		source.readRegion(x0, y0, x1, y1, tile);
+
+		synchronized (this) {
+			// If it was written to while being read then it might be a mix of old and new pixels
+			if( generation[key] != expectedGeneration )
+				return tile;
+			T previous = tiles.putIfAbsent(key, tile);
+			return previous != null ? previous : tile;
+		}
+	}
+
+	@Override
+	public void readRegion( int x0, int y0, int x1, int y1, T output ) {
+		checkRegion(x0, y0, x1, y1);
+		output.reshape(x1 - x0, y1 - y0);
+
+		for (int row = y0/tileHeight; row*tileHeight < y1; row++) {
+			int tileY0 = row*tileHeight;
+			int ya = Math.max(y0, tileY0);
+			int yb = Math.min(y1, tileY0 + tileHeight);
+			for (int col = x0/tileWidth; col*tileWidth < x1; col++) {
+				int tileX0 = col*tileWidth;
+				int xa = Math.max(x0, tileX0);
+				int xb = Math.min(x1, tileX0 + tileWidth);
+
+				T tile = getTile(col, row);
+				T src = tile.subimage(xa - tileX0, ya - tileY0, xb - tileX0, yb - tileY0);
+				output.subimage(xa - x0, ya - y0, xb - x0, yb - y0).setTo(src);
+			}
+		}
+	}
+
+	@Override
+	public void writeRegion( int x0, int y0, T input ) {
+		int x1 = x0 + input.width, y1 = y0 + input.height;
+		checkRegion(x0, y0, x1, y1);
+		source.writeRegion(x0, y0, input);
+
+		synchronized (this) {
+			for (int row = y0/tileHeight; row*tileHeight < y1; row++) {
+				for (int col = x0/tileWidth; col*tileWidth < x1; col++) {
+					int key = row*tilesX + col;
+					generation[key]++;
+					tiles.remove(key);
+				}
+			}
+		}
+	}
+
+	void checkRegion( int x0, int y0, int x1, int y1 ) {
+		if( x0 < 0 || y0 < 0 || x1 > getWidth() || y1 > getHeight() || x1 < x0 || y1 < y0 )
+			throw new IllegalArgumentException("Region is outside the image or has a negative size");
+	}
+
+	/**
+	 * Discards all the cached tiles
+	 */
+	public synchronized void clear() {
+		tiles.clear();
+	}
+
+	/**
+	 * Changes the maximum number of tiles. Tiles are discarded the next time a new tile is added.
+	 */
+	public synchronized void setMaxTiles( int maxTiles ) {
+		if( maxTiles <= 0 )
+			throw new IllegalArgumentException("Must be positive");
+		this.maxTiles = maxTiles;
+	}
+
+	public synchronized int getMaxTiles() {
+		return maxTiles;
+	}
+
+	/**
+	 * Number of tiles which are currently cached
+	 */
+	public synchronized int getCachedTiles() {
+		return tiles.size();
+	}
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	public LargeImage<T> getSource() {
+		return source;
+	}
+
+	public int getTileWidth() {
+		return tileWidth;
+	}
+
+	public int getTileHeight() {
+		return tileHeight;
+	}
+
+	@Override
+	public int getWidth() {
+		return source.getWidth();
+	}
+
+	@Override
+	public int getHeight() {
+		return source.getHeight();
+	}
+
+	@Override
+	public ImageType<T> getImageType() {
+		return source.getImageType();
+	}
+}
@@ -19,8 +19,11 @@
 package boofcv.struct.pyramid;
 
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 
+import javax.annotation.Nullable;
+
 /**
  * <p>
  * Base class for image pyramids.  Provides common functionality and data structures.  The scale
@@ -34,6 +37,11 @@ import boofcv.struct.image.ImageType;
  * to true.
  * </p>
  *
+ * <p>
+ * If an {@link ImagePool} is provided then layers are borrowed from it instead of being declared and returned
+ * to it when the pyramid is resized or {@link #releaseLayers()} is called.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"unchecked"})
@@ -52,6 +60,11 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 
 	ImageType<T> imageType;
 
+	// (Optional) source of layer images
+	protected @Nullable ImagePool pool;
+	// false if the first layer is a reference to an image which wasn't declared by the pyramid
+	boolean ownsFirstLayer;
+
 	/**
 	 * Specifies input image size and behavior of top most layer.
 	 *
@@ -66,6 +79,7 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 	protected ImagePyramidBase( ImagePyramidBase<T> orig ) {
 		this.imageType = orig.imageType;
 		this.saveOriginalReference = orig.saveOriginalReference;
+		this.pool = orig.pool;
 
 		if( orig.layers != null ) {
 			layers = imageType.createArray(orig.layers.length);
@@ -74,6 +88,7 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 					this.layers[i] = orig.layers[i].createSameShape();
 				}
 			}
+			ownsFirstLayer = layers.length > 0 && layers[0] != null;
 		}
 	}
 
@@ -89,6 +104,7 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 		if( bottomWidth == width && bottomHeight == height )
 			return;
 
+		releaseLayers();
 		this.bottomWidth = width;
 		this.bottomHeight = height;
 		layers = imageType.createArray(getNumLayers());
@@ -96,16 +112,38 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 
 		if (scaleFactor == 1) {
 			if (!saveOriginalReference) {
-				layers[0] = imageType.createImage(bottomWidth, bottomHeight);
+				layers[0] = declareLayer(bottomWidth, bottomHeight);
 			}
 		} else {
-			layers[0] = imageType.createImage((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
+			layers[0] = declareLayer((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
 		}
 
 		for (int i = 1; i < layers.length; i++) {
 			scaleFactor = getScale(i);
-			layers[i] = imageType.createImage((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
+			layers[i] = declareLayer((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
 		}
+		ownsFirstLayer = layers[0] != null;
+	}
+
+	private T declareLayer( int width , int height ) {
+		if( pool == null )
+			return imageType.createImage(width, height);
+		return pool.borrow(imageType, width, height);
+	}
+
+	/**
+	 * Returns the layers to the pool, if there is one, and forces the pyramid to be initialized again.
+	 * A reference to the original image is never returned to the pool.
+	 */
+	public void releaseLayers() {
+		if( layers != null && pool != null ) {
+			int start = ownsFirstLayer ? 0 : 1;
+			for (int i = start; i < layers.length; i++) {
+				pool.release(layers[i]);
+			}
+		}
+		layers = null;
+		bottomWidth = bottomHeight = 0;
 	}
 
 	@Override
@@ -145,6 +183,7 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 	public void setFirstLayer(T image) {
 		if( saveOriginalReference ) {
 			layers[0] = image;
+			ownsFirstLayer = false;
 		} else {
 			throw new IllegalArgumentException("Attempting to set the first layer when saveOriginalReference is false");
 		}
@@ -182,4 +221,12 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 	public void setSaveOriginalReference( boolean save ) {
 		this.saveOriginalReference = save;
 	}
+
+	public @Nullable ImagePool getImagePool() {
+		return pool;
+	}
+
+	public void setImagePool( @Nullable ImagePool pool ) {
+		this.pool = pool;
+	}
 }
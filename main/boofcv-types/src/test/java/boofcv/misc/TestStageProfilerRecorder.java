@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.misc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestStageProfilerRecorder {
+	@Test
+	void stage_lookup() {
+		var alg = new StageProfilerRecorder();
+		assertEquals(0, alg.stage("a"));
+		assertEquals(1, alg.stage("b"));
+		assertEquals(0, alg.stage("a"));
+		assertEquals(2, alg.getNumberOfStages());
+		assertEquals("b", alg.getStageName(1));
+	}
+
+	@Test
+	void record() {
+		var alg = new StageProfilerRecorder();
+		int a = alg.stage("a");
+		int b = alg.stage("b");
+		alg.record(a, 10);
+		alg.record(a, 30);
+		alg.record(b, 5);
+
+		assertEquals(2, alg.getCount(a));
+		assertEquals(40, alg.getTotalNano(a));
+		assertEquals(1, alg.getCount(b));
+		assertEquals(5, alg.getTotalNano(b));
+
+		List<long[]> found = new ArrayList<>();
+		alg.export(( name, count, totalNano, minNano, maxNano, histogram ) -> {
+			assertNull(histogram);
+			found.add(new long[]{count, totalNano, minNano, maxNano});
+		});
+		assertEquals(2, found.size());
+		assertArrayEquals(new long[]{2, 40, 10, 30}, found.get(0));
+		assertArrayEquals(new long[]{1, 5, 5, 5}, found.get(1));
+	}
+
+	@Test
+	void histogram() {
+		var alg = new StageProfilerRecorder(true);
+		int a = alg.stage("a");
+		alg.record(a, 1);
+		alg.record(a, 5);
+		alg.record(a, 7);
+		alg.record(a, Long.MAX_VALUE/2);
+
+		alg.export(( name, count, totalNano, minNano, maxNano, histogram ) -> {
+			assertNotNull(histogram);
+			assertEquals(StageProfilerRecorder.HISTOGRAM_BINS, histogram.length);
+			assertEquals(1, histogram[0]);
+			assertEquals(2, histogram[2]);
+			assertEquals(1, histogram[StageProfilerRecorder.HISTOGRAM_BINS - 1]);
+		});
+	}
+
+	@Test
+	void histogramBin() {
+		assertEquals(0, StageProfilerRecorder.histogramBin(0));
+		assertEquals(0, StageProfilerRecorder.histogramBin(1));
+		assertEquals(1, StageProfilerRecorder.histogramBin(2));
+		assertEquals(1, StageProfilerRecorder.histogramBin(3));
+		assertEquals(10, StageProfilerRecorder.histogramBin(1024));
+		assertEquals(StageProfilerRecorder.HISTOGRAM_BINS - 1, StageProfilerRecorder.histogramBin(Long.MAX_VALUE));
+	}
+
+	@Test
+	void reset() {
+		var alg = new StageProfilerRecorder(true);
+		int a = alg.stage("a");
+		alg.record(a, 100);
+		alg.reset();
+
+		assertEquals(1, alg.getNumberOfStages());
+		assertEquals(0, alg.getCount(a));
+		alg.export(( name, count, totalNano, minNano, maxNano, histogram ) -> {
+			assertEquals(0, minNano);
+			assertEquals(0, maxNano);
+			for (long v : histogram) assertEquals(0, v);
+		});
+	}
+
+	@Test
+	void lap() {
+		var alg = new StageProfilerRecorder();
+		int a = alg.stage("a");
+		long time = alg.start();
+		assertTrue(time != 0);
+		long after = alg.lap(a, time);
+		assertTrue(after >= time);
+		assertEquals(1, alg.getCount(a));
+
+		// when disabled the clock isn't read and nothing is recorded
+		alg.setEnabled(false);
+		assertEquals(0, alg.start());
+		assertEquals(0, alg.lap(a, time));
+		assertEquals(1, alg.getCount(a));
+	}
+
+	@Test
+	void none() {
+		assertFalse(StageProfiler.NONE.isEnabled());
+		assertEquals(0, StageProfiler.NONE.start());
+		assertEquals(0, StageProfiler.NONE.lap(StageProfiler.NONE.stage("a"), 0));
+	}
+}
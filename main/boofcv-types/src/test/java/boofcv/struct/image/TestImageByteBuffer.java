@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import boofcv.concurrency.BoofConcurrency;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestImageByteBuffer {
+	Random rand = new Random(234);
+	int width = 15, height = 12;
+
+	/**
+	 * Buffer with padding at the start and end of each row
+	 */
+	@Test
+	void copyTo_U8_padded() {
+		int offset = 7, stride = width + 5;
+		ByteBuffer bb = ByteBuffer.allocateDirect(offset + stride*height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				bb.put(offset + y*stride + x, (byte)(x + y*width));
+			}
+		}
+
+		var alg = new ImageByteBuffer<>(ImageType.SB_U8).wrap(bb, width, height, offset, stride);
+		assertFalse(alg.isViewable());
+		GrayU8 found = alg.copyTo(null);
+		assertEquals(width, found.width);
+		assertEquals(height, found.height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals((x + y*width) & 0xFF, found.get(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Multi-byte types should use the buffer's byte order
+	 */
+	@Test
+	void copyTo_byteOrder() {
+		for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+			int stride = width*4 + 8;
+			ByteBuffer bb = ByteBuffer.allocate(stride*height).order(order);
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					bb.putFloat(y*stride + x*4, x*0.5f - y);
+				}
+			}
+
+			GrayF32 found = new ImageByteBuffer<>(ImageType.SB_F32).wrap(bb, width, height, 0, stride).copyTo(null);
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					assertEquals(x*0.5f - y, found.get(x, y));
+				}
+			}
+		}
+	}
+
+	@Test
+	void copyFrom_interleaved() {
+		var type = ImageType.il(3, InterleavedS16.class);
+		var expected = new InterleavedS16(width, height, 3);
+		for (int i = 0; i < expected.data.length; i++) {
+			expected.data[i] = (short)(rand.nextInt(60000) - 30000);
+		}
+
+		var alg = ImageByteBuffer.allocate(type, width, height);
+		assertTrue(alg.getBuffer().isDirect());
+		alg.copyFrom(expected);
+
+		// sanity check the raw memory
+		assertEquals(expected.getBand(2, 1, 0), alg.getBuffer().getShort(((width + 2)*3)*2));
+
+		InterleavedS16 found = alg.copyTo(null);
+		assertArrayEquals(expected.data, found.data);
+	}
+
+	/**
+	 * A heap buffer with 8-bit pixels shouldn't be copied
+	 */
+	@Test
+	void view() {
+		byte[] array = new byte[2 + width*height];
+		ByteBuffer bb = ByteBuffer.wrap(array);
+		var alg = new ImageByteBuffer<>(ImageType.SB_U8).wrap(bb, width, height, 2, width);
+		assertTrue(alg.isViewable());
+
+		GrayU8 found = alg.view(null);
+		assertSame(array, found.data);
+		assertEquals(2, found.startIndex);
+		assertTrue(found.isSubimage());
+
+		found.set(3, 4, 99);
+		assertEquals(99, array[2 + 4*width + 3]);
+		assertSame(array, alg.toImage(null).data);
+
+		// can't view multi-byte types or read only buffers
+		assertFalse(new ImageByteBuffer<>(ImageType.SB_S16).wrap(bb, 2, 2, 0, 4).isViewable());
+		assertFalse(new ImageByteBuffer<>(ImageType.SB_U8).wrap(bb.asReadOnlyBuffer(), 2, 2, 0, 2).isViewable());
+		assertThrows(IllegalArgumentException.class, () ->
+				new ImageByteBuffer<>(ImageType.SB_U8).wrap(bb.asReadOnlyBuffer(), 2, 2, 0, 2).view(null));
+	}
+
+	@Test
+	void subimage() {
+		var alg = ImageByteBuffer.allocate(ImageType.il(2, InterleavedU8.class), width, height);
+		var expected = new InterleavedU8(width, height, 2);
+		for (int i = 0; i < expected.data.length; i++) {
+			expected.data[i] = (byte)rand.nextInt(256);
+		}
+		alg.copyFrom(expected);
+
+		InterleavedU8 found = alg.subimage(2, 3, 10, 7, null).copyTo(null);
+		assertEquals(8, found.width);
+		assertEquals(4, found.height);
+		for (int y = 0; y < found.height; y++) {
+			for (int x = 0; x < found.width; x++) {
+				for (int band = 0; band < 2; band++) {
+					assertEquals(expected.getBand(x + 2, y + 3, band), found.getBand(x, y, band));
+				}
+			}
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> alg.subimage(2, 3, width + 1, 7, null));
+	}
+
+	@Test
+	void processStrips() {
+		var alg = ImageByteBuffer.allocate(ImageType.SB_U8, width, height);
+		var expected = new GrayU8(width, height);
+		for (int i = 0; i < expected.data.length; i++) {
+			expected.data[i] = (byte)rand.nextInt(256);
+		}
+		alg.copyFrom(expected);
+
+		var found = new GrayU8(width, height);
+		int[] count = new int[1];
+		alg.processStrips(5, null, ( strip, y0, y1 ) -> {
+			assertTrue(y1 - y0 <= 5);
+			assertEquals(y1 - y0, strip.height);
+			found.subimage(0, y0, width, y1).setTo(strip);
+			count[0]++;
+		});
+		assertEquals(3, count[0]);
+		assertArrayEquals(expected.data, found.data);
+	}
+
+	@Test
+	void concurrent() {
+		int width = 400, height = 300;
+		var alg = ImageByteBuffer.allocate(ImageType.SB_S32, width, height);
+		var expected = new GrayS32(width, height);
+		for (int i = 0; i < expected.data.length; i++) {
+			expected.data[i] = rand.nextInt();
+		}
+
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = true;
+			alg.copyFrom(expected);
+			assertArrayEquals(expected.data, alg.copyTo(null).data);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+		}
+	}
+
+	@Test
+	void wrap_errors() {
+		ByteBuffer bb = ByteBuffer.allocate(100);
+		var alg = new ImageByteBuffer<>(ImageType.SB_S16);
+		// stride too small
+		assertThrows(IllegalArgumentException.class, () -> alg.wrap(bb, 10, 2, 0, 10));
+		// not aligned to the element size
+		assertThrows(IllegalArgumentException.class, () -> alg.wrap(bb, 10, 2, 1, 20));
+		// buffer is too small
+		assertThrows(IllegalArgumentException.class, () -> alg.wrap(bb, 10, 6, 0, 20));
+		assertThrows(IllegalArgumentException.class, () -> new ImageByteBuffer<>(ImageType.PL_U8));
+		// wrong image type
+		alg.wrap(bb, 10, 2, 0, 20);
+		assertThrows(IllegalArgumentException.class, () -> ((ImageByteBuffer)alg).copyTo(new GrayU8(1, 1)));
+	}
+}
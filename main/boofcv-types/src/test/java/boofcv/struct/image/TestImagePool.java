@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestImagePool {
+	@Test
+	void borrow_release_exact() {
+		var alg = new ImagePool(10, 2);
+
+		GrayF32 a = alg.borrow(GrayF32.class, 30, 20);
+		assertEquals(30, a.width);
+		assertEquals(20, a.height);
+		assertEquals(0, alg.getHits());
+		assertEquals(1, alg.getMisses());
+
+		alg.release(a);
+		GrayF32 b = alg.borrow(GrayF32.class, 30, 20);
+		assertSame(a, b);
+		assertEquals(1, alg.getHits());
+		assertEquals(1, alg.getMisses());
+	}
+
+	/**
+	 * Images of a different type should never be returned
+	 */
+	@Test
+	void borrow_differentType() {
+		var alg = new ImagePool(10, 2);
+
+		alg.release(new GrayU8(30, 20));
+		alg.release(new Planar<>(GrayF32.class, 30, 20, 2));
+		alg.release(new InterleavedF32(30, 20, 3));
+
+		assertNotNull(alg.borrow(GrayF32.class, 30, 20));
+		Planar<GrayF32> pl = alg.borrow(ImageType.pl(3, GrayF32.class), 30, 20);
+		assertEquals(3, pl.getNumBands());
+		InterleavedF32 il = alg.borrow(ImageType.il(2, InterleavedF32.class), 30, 20);
+		assertEquals(2, il.numBands);
+		assertEquals(0, alg.getHits());
+		assertEquals(3, alg.getMisses());
+
+		// these should match
+		assertEquals(3, alg.borrow(ImageType.il(3, InterleavedF32.class), 30, 20).numBands);
+		assertEquals(2, alg.borrow(ImageType.pl(2, GrayF32.class), 30, 20).getNumBands());
+		assertEquals(2, alg.getHits());
+	}
+
+	/**
+	 * A larger image should be reshaped, a smaller one should not
+	 */
+	@Test
+	void borrow_reshape() {
+		var alg = new ImagePool(10, 0);
+
+		GrayU8 small = new GrayU8(10, 10);
+		GrayU8 large = new GrayU8(40, 30);
+		alg.release(small, large);
+
+		GrayU8 found = alg.borrow(GrayU8.class, 20, 25);
+		assertSame(large, found);
+		assertEquals(20, found.width);
+		assertEquals(25, found.height);
+		assertEquals(40*30, found.data.length);
+
+		// the small image can't store it
+		GrayU8 b = alg.borrow(GrayU8.class, 20, 25);
+		assertNotSame(small, b);
+		assertEquals(1, alg.getMisses());
+
+		// exact match is preferred over a larger image
+		alg.release(found);
+		alg.release(new GrayU8(10, 10));
+		alg.release(new GrayU8(50, 50));
+		assertEquals(10, alg.borrow(GrayU8.class, 10, 10).width);
+		assertEquals(3, alg.getSharedSize());
+	}
+
+	@Test
+	void release_bounded_lru() {
+		var alg = new ImagePool(3, 0);
+
+		List<GrayU8> images = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			images.add(new GrayU8(10 + i, 10));
+			alg.release(images.get(i));
+		}
+		assertEquals(3, alg.getSharedSize());
+		assertEquals(2, alg.getEvictions());
+
+		// least recently returned images were discarded
+		assertNotSame(images.get(0), alg.borrow(GrayU8.class, 10, 10));
+		assertSame(images.get(2), alg.borrow(GrayU8.class, 12, 10));
+	}
+
+	@Test
+	void release_subimage() {
+		var alg = new ImagePool();
+		GrayU8 image = new GrayU8(10, 12);
+		assertThrows(IllegalArgumentException.class, () -> alg.release(image.subimage(0, 0, 5, 5)));
+		// should silently ignore null
+		alg.release((ImageBase)null);
+	}
+
+	/**
+	 * Images are first stored in the thread's list and only shared once it's full
+	 */
+	@Test
+	void perThread() throws InterruptedException {
+		var alg = new ImagePool(10, 2);
+
+		alg.release(new GrayU8(10, 10), new GrayU8(10, 10));
+		assertEquals(0, alg.getSharedSize());
+		alg.release(new GrayU8(10, 10));
+		assertEquals(1, alg.getSharedSize());
+
+		// another thread can only see the shared image
+		var thread = new Thread(() -> {
+			alg.borrow(GrayU8.class, 10, 10);
+			alg.borrow(GrayU8.class, 10, 10);
+		});
+		thread.start();
+		thread.join();
+		assertEquals(1, alg.getHits());
+		assertEquals(1, alg.getMisses());
+
+		// this thread can still borrow its images
+		alg.borrow(GrayU8.class, 10, 10);
+		alg.borrow(GrayU8.class, 10, 10);
+		assertEquals(3, alg.getHits());
+
+		alg.resetCounters();
+		assertEquals(0, alg.getHits());
+		assertEquals(0, alg.getMisses());
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011-2020, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestTileCache {
+	int width = 37, height = 29;
+
+	ImageByteBuffer<GrayU8> createSource() {
+		var source = ImageByteBuffer.allocate(ImageType.SB_U8, width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				source.getBuffer().put(y*width + x, (byte)(x*3 + y*7));
+			}
+		}
+		return source;
+	}
+
+	/**
+	 * Read regions which span several tiles and partial tiles along the image edge
+	 */
+	@Test
+	void readRegion() {
+		var alg = new TileCache<>(createSource(), 10, 8, 100);
+
+		var found = new GrayU8(1, 1);
+		alg.readRegion(5, 3, 37, 29, found);
+		assertEquals(32, found.width);
+		assertEquals(26, found.height);
+		for (int y = 0; y < found.height; y++) {
+			for (int x = 0; x < found.width; x++) {
+				assertEquals(((x + 5)*3 + (y + 3)*7) & 0xFF, found.get(x, y));
+			}
+		}
+
+		// 4x4 tiles were touched and every one was a miss
+		assertEquals(16, alg.getMisses());
+		assertEquals(0, alg.getHits());
+
+		// reading it again should only hit the cache
+		alg.readRegion(5, 3, 37, 29, found);
+		assertEquals(16, alg.getMisses());
+		assertEquals(16, alg.getHits());
+	}
+
+	/**
+	 * Least recently used tiles should be discarded
+	 */
+	@Test
+	void evictLeastRecentlyUsed() {
+		var alg = new TileCache<>(createSource(), 10, 10, 2);
+
+		GrayU8 tile00 = alg.getTile(0, 0);
+		alg.getTile(1, 0);
+		// access it so that (1,0) is now the oldest
+		assertSame(tile00, alg.getTile(0, 0));
+		alg.getTile(2, 0);
+		assertEquals(2, alg.getCachedTiles());
+
+		long misses = alg.getMisses();
+		assertSame(tile00, alg.getTile(0, 0));
+		assertEquals(misses, alg.getMisses());
+		alg.getTile(1, 0);
+		assertEquals(misses + 1, alg.getMisses());
+	}
+
+	/**
+	 * Writing should modify the source and not leave stale tiles behind
+	 */
+	@Test
+	void writeRegion() {
+		var source = createSource();
+		var alg = new TileCache<>(source, 10, 10, 20);
+
+		var found = new GrayU8(1, 1);
+		alg.readRegion(0, 0, width, height, found);
+
+		var patch = new GrayU8(12, 5);
+		for (int i = 0; i < patch.data.length; i++) {
+			patch.data[i] = (byte)200;
+		}
+		alg.writeRegion(8, 9, patch);
+
+		alg.readRegion(0, 0, width, height, found);
+		GrayU8 expected = source.copyTo(null);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				boolean inside = x >= 8 && x < 20 && y >= 9 && y < 14;
+				if( inside )
+					assertEquals(200, expected.get(x, y));
+				assertEquals(expected.get(x, y), found.get(x, y));
+			}
+		}
+	}
+
+	/**
+	 * A write which happens while a tile is being read from the source should prevent it from being cached
+	 */
+	@Test
+	void writeWhileReading() {
+		var source = createSource();
+		var patch = new GrayU8(3, 3);
+		for (int i = 0; i < patch.data.length; i++) {
+			patch.data[i] = (byte)200;
+		}
+
+		// Write to the tile after the source has been read but before the tile is added to the cache
+		class InterruptedSource extends ImageByteBuffer<GrayU8> {
+			TileCache<GrayU8> cache;
+			boolean first = true;
+
+			InterruptedSource() { super(ImageType.SB_U8); }
+
+			@Override
+			public void readRegion( int x0, int y0, int x1, int y1, GrayU8 output ) {
+				super.readRegion(x0, y0, x1, y1, output);
+				if( first ) {
+					first = false;
+					cache.writeRegion(1, 1, patch);
+				}
+			}
+		}
+		var interrupted = new InterruptedSource();
+		interrupted.wrap(source.getBuffer(), width, height, 0, width);
+		var alg = new TileCache<>(interrupted, 10, 10, 20);
+		interrupted.cache = alg;
+
+		GrayU8 stale = alg.getTile(0, 0);
+		assertEquals((3 + 7) & 0xFF, stale.get(1, 1));
+		assertEquals(0, alg.getCachedTiles());
+
+		// it should now read the new pixels
+		assertEquals(200, alg.getTile(0, 0).get(1, 1));
+		assertEquals(1, alg.getCachedTiles());
+	}
+
+	@Test
+	void clear() {
+		var alg = new TileCache<>(createSource(), 10, 10, 20);
+		alg.getTile(1, 1);
+		assertEquals(1, alg.getCachedTiles());
+		alg.clear();
+		assertEquals(0, alg.getCachedTiles());
+	}
+}